@@ -31,7 +31,8 @@ public interface AlertHistoryApi {
 
     @Operation(
             summary = "알림 이력 조회",
-            description = "프로젝트의 알림 이력을 조회합니다. resolvedYN 파라미터로 읽음 여부를 필터링할 수 있습니다.",
+            description = "프로젝트의 알림 이력을 최신순으로 커서 기반 페이지 조회합니다. resolvedYN 파라미터로 읽음 여부를 필터링할 수 있으며, "
+                    + "다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다.",
             security = @SecurityRequirement(name = SwaggerMessages.BEARER_AUTH),
             responses = {
                     @ApiResponse(
@@ -48,24 +49,29 @@ public interface AlertHistoryApi {
                                                               "code": "AL200-3",
                                                               "message": "알림 이력을 성공적으로 조회했습니다.",
                                                               "status": 200,
-                                                              "data": [
-                                                                {
-                                                                  "id": 1,
-                                                                  "alertMessage": "에러 발생 건수가 임계값(10건)을 초과했습니다.",
-                                                                  "alertTime": "2025-11-12T13:25:00",
-                                                                  "resolvedYN": "N",
-                                                                  "logReference": "{\\"logId\\": 12345, \\"traceId\\": \\"abc-123\\", \\"errorCount\\": 15}",
-                                                                  "projectUuid": "9911573f-8a1d-3b96-98b4-5a0def93513b"
-                                                                },
-                                                                {
-                                                                  "id": 2,
-                                                                  "alertMessage": "응답 시간이 임계값(100ms)을 초과했습니다.",
-                                                                  "alertTime": "2025-11-12T14:30:00",
-                                                                  "resolvedYN": "Y",
-                                                                  "logReference": "{\\"logId\\": 12346, \\"traceId\\": \\"def-456\\", \\"latency\\": 150}",
-                                                                  "projectUuid": "9911573f-8a1d-3b96-98b4-5a0def93513b"
-                                                                }
-                                                              ],
+                                                              "data": {
+                                                                "content": [
+                                                                  {
+                                                                    "id": 1,
+                                                                    "alertMessage": "에러 발생 건수가 임계값(10건)을 초과했습니다.",
+                                                                    "alertTime": "2025-11-12T13:25:00",
+                                                                    "resolvedYN": "N",
+                                                                    "logReference": "{\\"logId\\": 12345, \\"traceId\\": \\"abc-123\\", \\"errorCount\\": 15}",
+                                                                    "projectUuid": "9911573f-8a1d-3b96-98b4-5a0def93513b"
+                                                                  },
+                                                                  {
+                                                                    "id": 2,
+                                                                    "alertMessage": "응답 시간이 임계값(100ms)을 초과했습니다.",
+                                                                    "alertTime": "2025-11-12T14:30:00",
+                                                                    "resolvedYN": "Y",
+                                                                    "logReference": "{\\"logId\\": 12346, \\"traceId\\": \\"def-456\\", \\"latency\\": 150}",
+                                                                    "projectUuid": "9911573f-8a1d-3b96-98b4-5a0def93513b"
+                                                                  }
+                                                                ],
+                                                                "nextCursor": "MjAyNS0xMS0xMlQxNDozMDowMHwy",
+                                                                "hasNext": true,
+                                                                "size": 2
+                                                              },
                                                               "timestamp": "2025-11-13T10:30:00Z"
                                                             }
                                                             """
@@ -78,7 +84,12 @@ public interface AlertHistoryApi {
                                                               "code": "AL200-3",
                                                               "message": "알림 이력을 성공적으로 조회했습니다.",
                                                               "status": 200,
-                                                              "data": [],
+                                                              "data": {
+                                                                "content": [],
+                                                                "nextCursor": null,
+                                                                "hasNext": false,
+                                                                "size": 20
+                                                              },
                                                               "timestamp": "2025-11-13T10:30:00Z"
                                                             }
                                                             """
@@ -152,7 +163,11 @@ public interface AlertHistoryApi {
             @Parameter(description = "프로젝트 UUID", required = true, example = "9911573f-8a1d-3b96-98b4-5a0def93513b")
             @RequestParam String projectUuid,
             @Parameter(description = "읽음 여부 필터 (Y: 읽음, N: 읽지 않음, 미입력: 전체)", example = "N")
-            @RequestParam(required = false) String resolvedYN);
+            @RequestParam(required = false) String resolvedYN,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (미입력: 첫 페이지)", example = "MjAyNS0xMS0xMlQxMzoyNTowMHwxMg")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100, 기본값 20)", example = "20")
+            @RequestParam(required = false) Integer size);
 
     @Operation(
             summary = "알림 읽음 처리",
@@ -5,13 +5,13 @@ import static S13P31A306.loglens.domain.alert.constants.AlertSuccessCode.ALERT_M
 import static S13P31A306.loglens.domain.alert.constants.AlertSuccessCode.ALERT_UNREAD_COUNT_RETRIEVED;
 
 import S13P31A306.loglens.domain.alert.controller.AlertHistoryApi;
+import S13P31A306.loglens.domain.alert.dto.AlertHistoryPageResponse;
 import S13P31A306.loglens.domain.alert.dto.AlertHistoryResponse;
 import S13P31A306.loglens.domain.alert.service.AlertHistoryService;
 import S13P31A306.loglens.domain.auth.util.AuthenticationHelper;
 import S13P31A306.loglens.global.dto.response.ApiResponseFactory;
 import S13P31A306.loglens.global.dto.response.BaseResponse;
 import a306.dependency_logger_starter.logging.annotation.NoLogging;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -41,11 +41,13 @@ public class AlertHistoryController implements AlertHistoryApi {
     @Override
     public ResponseEntity<? extends BaseResponse> getAlertHistories(
             @RequestParam String projectUuid,
-            @RequestParam(required = false) String resolvedYN) {
+            @RequestParam(required = false) String resolvedYN,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         Integer userId = authHelper.getCurrentUserId();
-        List<AlertHistoryResponse> responses = alertHistoryService
-                .getAlertHistories(projectUuid, userId, resolvedYN);
-        return ApiResponseFactory.success(ALERT_HISTORIES_RETRIEVED, responses);
+        AlertHistoryPageResponse response = alertHistoryService
+                .getAlertHistories(projectUuid, userId, resolvedYN, cursor, size);
+        return ApiResponseFactory.success(ALERT_HISTORIES_RETRIEVED, response);
     }
 
     @PatchMapping("/{alertId}/read")
@@ -0,0 +1,24 @@
+package S13P31A306.loglens.domain.alert.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 알림 이력 페이지 응답 DTO
+ */
+@Schema(description = "알림 이력 페이지 응답")
+public record AlertHistoryPageResponse(
+        @Schema(description = "알림 이력 목록 (최신순)")
+        List<AlertHistoryResponse> content,
+
+        @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)", example = "MjAyNS0xMS0xMlQxMzoyNTowMHwxMg")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "요청한 페이지 크기", example = "20")
+        int size
+) {
+}
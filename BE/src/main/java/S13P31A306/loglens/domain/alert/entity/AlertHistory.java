@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
  * 알림 이력 엔티티
  */
 @Entity
-@Table(name = "alert_histories")
+@Table(name = "alert_histories", indexes = {
+        @Index(name = "idx_alert_histories_project_time", columnList = "project_id, alert_time, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -23,6 +23,8 @@ public enum AlertErrorCode implements ErrorCode {
     ALERT_CONFIG_ALREADY_EXISTS("AL400-1", "해당 프로젝트에 이미 알림 설정이 존재합니다.", 400),
     INVALID_ALERT_TYPE("AL400-2", "유효하지 않은 알림 타입입니다.", 400),
     INVALID_ACTIVE_YN("AL400-3", "활성화 여부는 'Y' 또는 'N'이어야 합니다.", 400),
+    INVALID_HISTORY_CURSOR("AL400-4", "유효하지 않은 알림 이력 커서입니다.", 400),
+    INVALID_HISTORY_PAGE_SIZE("AL400-5", "알림 이력 페이지 크기는 1 이상 100 이하여야 합니다.", 400),
 
     // 403 Forbidden
     ALERT_ACCESS_DENIED("AL403", "해당 알림에 접근 권한이 없습니다.", 403),
@@ -4,6 +4,7 @@ import S13P31A306.loglens.domain.alert.entity.AlertConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,4 +22,10 @@ public interface AlertConfigRepository extends JpaRepository<AlertConfig, Intege
      * 프로젝트 ID로 알림 설정 존재 여부 확인
      */
     boolean existsByProjectId(Integer projectId);
+
+    /**
+     * 활성화 여부로 알림 설정 목록 조회
+     * 알림 모니터링에서 평가 대상 설정을 한 번에 적재하기 위해 사용
+     */
+    List<AlertConfig> findByActiveYN(String activeYN);
 }
@@ -1,7 +1,10 @@
 package S13P31A306.loglens.domain.alert.repository;
 
 import S13P31A306.loglens.domain.alert.entity.AlertHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -24,6 +27,30 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Inte
     List<AlertHistory> findByProjectIdAndResolvedYNOrderByAlertTimeDesc(
             Integer projectId, String resolvedYN);
 
+    /**
+     * 알림 이력 키셋 페이지 조회 (alertTime, id 내림차순)
+     * 커서(cursorTime, cursorId)가 없으면 첫 페이지, 있으면 커서 다음 항목부터 조회
+     *
+     * @param projectId  프로젝트 ID
+     * @param resolvedYN 읽음 여부 필터 (null이면 전체)
+     * @param cursorTime 이전 페이지 마지막 알림 발생 시간
+     * @param cursorId   이전 페이지 마지막 알림 ID
+     * @param pageable   조회 개수 (offset은 항상 0)
+     */
+    @Query("SELECT a FROM AlertHistory a " +
+            "WHERE a.projectId = :projectId " +
+            "AND (:resolvedYN IS NULL OR a.resolvedYN = :resolvedYN) " +
+            "AND (:cursorTime IS NULL " +
+            "     OR a.alertTime < :cursorTime " +
+            "     OR (a.alertTime = :cursorTime AND a.id < :cursorId)) " +
+            "ORDER BY a.alertTime DESC, a.id DESC")
+    List<AlertHistory> findPageByProjectId(
+            @Param("projectId") Integer projectId,
+            @Param("resolvedYN") String resolvedYN,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
     /**
      * 프로젝트 ID와 읽음 여부로 알림 개수 조회
      */
@@ -35,4 +62,10 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Inte
      */
     List<AlertHistory> findByProjectIdAndAlertTimeAfterOrderByAlertTimeDesc(
             Integer projectId, LocalDateTime afterTime);
+
+    /**
+     * 특정 시간 이후의 전체 프로젝트 알림 이력 조회
+     * 알림 모니터링의 중복 방지 상태를 초기화할 때 사용
+     */
+    List<AlertHistory> findByAlertTimeAfter(LocalDateTime afterTime);
 }
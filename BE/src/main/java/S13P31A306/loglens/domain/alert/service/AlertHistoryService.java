@@ -1,9 +1,9 @@
 package S13P31A306.loglens.domain.alert.service;
 
+import S13P31A306.loglens.domain.alert.dto.AlertHistoryPageResponse;
 import S13P31A306.loglens.domain.alert.dto.AlertHistoryResponse;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 
 /**
  * 알림 이력 서비스 인터페이스
@@ -11,14 +11,18 @@ import java.util.List;
 public interface AlertHistoryService {
 
     /**
-     * 알림 이력 조회
+     * 알림 이력 조회 (키셋 페이지네이션)
+     * 페이지 내 알림들의 관련 로그는 한 번의 OpenSearch multi-search로 함께 조회합니다.
      *
      * @param projectUuid 프로젝트 UUID
      * @param userId      사용자 ID
      * @param resolvedYN  읽음 여부 필터 (null이면 전체 조회)
-     * @return 알림 이력 목록
+     * @param cursor      이전 페이지 응답의 nextCursor (null이면 첫 페이지)
+     * @param size        페이지 크기 (null이면 20)
+     * @return 알림 이력 페이지
      */
-    List<AlertHistoryResponse> getAlertHistories(String projectUuid, Integer userId, String resolvedYN);
+    AlertHistoryPageResponse getAlertHistories(String projectUuid, Integer userId, String resolvedYN,
+                                               String cursor, Integer size);
 
     /**
      * 알림 읽음 처리
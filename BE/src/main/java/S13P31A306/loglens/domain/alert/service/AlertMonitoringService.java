@@ -11,4 +11,10 @@ public interface AlertMonitoringService {
      * 스케줄러에 의해 주기적으로 호출됩니다.
      */
     void checkAndCreateAlerts();
+
+    /**
+     * 메모리에 유지 중인 알림 설정을 무효화합니다.
+     * 알림 설정이 생성/수정되면 다음 모니터링 주기에 다시 적재됩니다.
+     */
+    void invalidateAlertConfigs();
 }
@@ -11,6 +11,7 @@ import S13P31A306.loglens.domain.alert.exception.AlertErrorCode;
 import S13P31A306.loglens.domain.alert.mapper.AlertConfigMapper;
 import S13P31A306.loglens.domain.alert.repository.AlertConfigRepository;
 import S13P31A306.loglens.domain.alert.service.AlertConfigService;
+import S13P31A306.loglens.domain.alert.service.AlertMonitoringService;
 import S13P31A306.loglens.domain.project.entity.Project;
 import S13P31A306.loglens.domain.project.repository.ProjectMemberRepository;
 import S13P31A306.loglens.domain.project.repository.ProjectRepository;
@@ -38,6 +39,7 @@ public class AlertConfigServiceImpl implements AlertConfigService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectService projectService;
     private final AlertConfigMapper alertConfigMapper;
+    private final AlertMonitoringService alertMonitoringService;
 
     @Override
     @Transactional
@@ -74,6 +76,7 @@ public class AlertConfigServiceImpl implements AlertConfigService {
                 .build();
 
         AlertConfig saved = alertConfigRepository.save(alertConfig);
+        alertMonitoringService.invalidateAlertConfigs();
 
         log.info("{} 알림 설정이 생성되었습니다: id={}", LOG_PREFIX, saved.getId());
 
@@ -133,6 +136,7 @@ public class AlertConfigServiceImpl implements AlertConfigService {
 
         // 5. 알림 설정 수정 (부분 업데이트)
         alertConfig.update(request.alertType(), request.thresholdValue(), request.activeYN());
+        alertMonitoringService.invalidateAlertConfigs();
 
         log.info("{} 알림 설정이 수정되었습니다: id={}", LOG_PREFIX, alertConfig.getId());
 
@@ -1,5 +1,6 @@
 package S13P31A306.loglens.domain.alert.service.impl;
 
+import S13P31A306.loglens.domain.alert.dto.AlertHistoryPageResponse;
 import S13P31A306.loglens.domain.alert.dto.AlertHistoryResponse;
 import S13P31A306.loglens.domain.alert.entity.AlertHistory;
 import S13P31A306.loglens.domain.alert.exception.AlertErrorCode;
@@ -7,6 +8,7 @@ import S13P31A306.loglens.domain.alert.mapper.AlertHistoryMapper;
 import S13P31A306.loglens.domain.alert.repository.AlertHistoryRepository;
 import S13P31A306.loglens.domain.alert.service.AlertHistoryService;
 import S13P31A306.loglens.domain.auth.util.AuthenticationHelper;
+import S13P31A306.loglens.domain.log.dto.internal.LogTimeRange;
 import S13P31A306.loglens.domain.log.entity.Log;
 import S13P31A306.loglens.domain.log.mapper.LogMapper;
 import S13P31A306.loglens.domain.log.repository.LogRepository;
@@ -19,17 +21,22 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import static S13P31A306.loglens.domain.project.constants.ProjectErrorCode.PROJECT_NOT_FOUND;
 import static S13P31A306.loglens.global.constants.GlobalErrorCode.FORBIDDEN;
@@ -45,6 +52,9 @@ public class AlertHistoryServiceImpl implements AlertHistoryService {
     private static final String LOG_PREFIX = "[AlertHistoryService]";
     private static final int POLLING_INTERVAL = 5; // 5초 간격으로 새 알림 확인
     private static final int MAX_RELATED_LOGS = 20; // Alert당 최대 관련 로그 개수
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
 
     private final AlertHistoryRepository alertHistoryRepository;
     private final ProjectRepository projectRepository;
@@ -84,8 +94,10 @@ public class AlertHistoryServiceImpl implements AlertHistoryService {
     }
 
     @Override
-    public List<AlertHistoryResponse> getAlertHistories(String projectUuid, Integer userId, String resolvedYN) {
-        log.info("{} 알림 이력 조회 시작: projectUuid={}, resolvedYN={}", LOG_PREFIX, projectUuid, resolvedYN);
+    public AlertHistoryPageResponse getAlertHistories(String projectUuid, Integer userId, String resolvedYN,
+                                                      String cursor, Integer size) {
+        log.info("{} 알림 이력 조회 시작: projectUuid={}, resolvedYN={}, size={}", LOG_PREFIX, projectUuid, resolvedYN,
+                size);
 
         // 1. UUID → ID 변환 및 프로젝트 존재 여부 확인
         Integer projectId = projectService.getProjectIdByUuid(projectUuid);
@@ -99,59 +111,108 @@ public class AlertHistoryServiceImpl implements AlertHistoryService {
         // 2. 사용자의 프로젝트 접근 권한 확인
         validateProjectAccess(projectId, userId);
 
-        // 3. 알림 이력 조회
-        List<AlertHistory> histories;
-        if (resolvedYN != null && !resolvedYN.isBlank()) {
-            histories = alertHistoryRepository
-                    .findByProjectIdAndResolvedYNOrderByAlertTimeDesc(projectId, resolvedYN);
-        } else {
-            histories = alertHistoryRepository
-                    .findByProjectIdOrderByAlertTimeDesc(projectId);
+        // 3. 알림 이력 키셋 페이지 조회 (다음 페이지 확인을 위해 1건 더 조회)
+        int pageSize = resolvePageSize(size);
+        HistoryCursor historyCursor = decodeCursor(cursor);
+        String resolvedFilter = Objects.nonNull(resolvedYN) && !resolvedYN.isBlank() ? resolvedYN : null;
+
+        List<AlertHistory> fetched = alertHistoryRepository.findPageByProjectId(
+                projectId,
+                resolvedFilter,
+                Objects.nonNull(historyCursor) ? historyCursor.alertTime() : null,
+                Objects.nonNull(historyCursor) ? historyCursor.id() : null,
+                PageRequest.of(0, pageSize + 1)
+        );
+        boolean hasNext = fetched.size() > pageSize;
+        List<AlertHistory> histories = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        log.info("{} 알림 이력 조회 완료: count={}, hasNext={}", LOG_PREFIX, histories.size(), hasNext);
+
+        // 4. 페이지 내 모든 alert의 관련 로그를 한 번의 multi-search로 조회 후 alert별로 매핑
+        Map<Integer, LogTimeRange> timeRanges = new LinkedHashMap<>();
+        histories.forEach(alert -> timeRanges.put(alert.getId(), parseLogReference(alert.getLogReference())));
+        Map<LogTimeRange, List<Log>> relatedLogs = findRelatedLogs(projectUuid, timeRanges.values());
+
+        List<AlertHistoryResponse> content = histories.stream()
+                .map(alert -> alertHistoryMapper.toResponseWithLogs(
+                        alert,
+                        projectUuid,
+                        relatedLogs.getOrDefault(timeRanges.get(alert.getId()), List.of()),
+                        logMapper
+                ))
+                .toList();
+
+        String nextCursor = hasNext ? encodeCursor(histories.get(histories.size() - 1)) : null;
+        return new AlertHistoryPageResponse(content, nextCursor, hasNext, pageSize);
+    }
+
+    /**
+     * 관련 ERROR 로그 일괄 조회 (실패 시 모든 alert에 빈 로그 리스트 반환)
+     */
+    private Map<LogTimeRange, List<Log>> findRelatedLogs(String projectUuid, Collection<LogTimeRange> timeRanges) {
+        if (timeRanges.isEmpty()) {
+            return Map.of();
         }
+        try {
+            Map<LogTimeRange, List<Log>> relatedLogs = logRepository.findErrorLogsByTimeRanges(
+                    projectUuid, timeRanges, MAX_RELATED_LOGS);
+            log.debug("{} 관련 로그 일괄 조회 완료: ranges={}", LOG_PREFIX, relatedLogs.size());
+            return relatedLogs;
+        } catch (Exception e) {
+            log.error("{} 관련 로그 일괄 조회 실패: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            return Map.of();
+        }
+    }
 
-        log.info("{} 알림 이력 조회 완료: count={}", LOG_PREFIX, histories.size());
-
-        // 4. 각 alert에 대한 관련 로그 조회 및 매핑
-        return histories.stream()
-                .map(alert -> {
-                    try {
-                        // logReference에서 시간 범위 파싱
-                        LogReferenceData logRef = parseLogReference(alert.getLogReference());
-
-                        // OpenSearch에서 관련 ERROR 로그 조회
-                        List<Log> relatedLogs = logRepository.findErrorLogsByProjectUuidAndTimeRange(
-                                projectUuid,
-                                logRef.startTime(),
-                                logRef.endTime(),
-                                MAX_RELATED_LOGS
-                        );
-
-                        log.debug("{} Alert ID {}에 대한 관련 로그 조회 완료: {}건",
-                                LOG_PREFIX, alert.getId(), relatedLogs.size());
-
-                        // DTO 변환
-                        return alertHistoryMapper.toResponseWithLogs(
-                                alert, projectUuid, relatedLogs, logMapper
-                        );
-
-                    } catch (Exception e) {
-                        log.error("{} 관련 로그 조회 실패: alertId={}", LOG_PREFIX, alert.getId(), e);
-                        // 실패 시 빈 로그 리스트로 반환
-                        return alertHistoryMapper.toResponseWithLogs(
-                                alert, projectUuid, List.of(), logMapper
-                        );
-                    }
-                })
-                .toList();
+    /**
+     * 페이지 크기 검증 및 기본값 적용
+     */
+    private int resolvePageSize(Integer size) {
+        if (Objects.isNull(size)) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("{} 유효하지 않은 페이지 크기: {}", LOG_PREFIX, size);
+            throw new BusinessException(AlertErrorCode.INVALID_HISTORY_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * 커서 인코딩: 마지막 alert의 "alertTime|id"를 URL-safe Base64로 인코딩
+     */
+    private String encodeCursor(AlertHistory last) {
+        String raw = last.getAlertTime() + CURSOR_DELIMITER + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 (없으면 null = 첫 페이지)
+     */
+    private HistoryCursor decodeCursor(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            return new HistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Integer.valueOf(raw.substring(delimiter + 1))
+            );
+        } catch (Exception e) {
+            log.warn("{} 유효하지 않은 커서: {}", LOG_PREFIX, cursor);
+            throw new BusinessException(AlertErrorCode.INVALID_HISTORY_CURSOR);
+        }
     }
 
     /**
      * logReference JSON 파싱 헬퍼 메소드
      */
-    private LogReferenceData parseLogReference(String logReference) {
+    private LogTimeRange parseLogReference(String logReference) {
         try {
             JsonNode node = objectMapper.readTree(logReference);
-            return new LogReferenceData(
+            return new LogTimeRange(
                     LocalDateTime.parse(node.get("startTime").asText()),
                     LocalDateTime.parse(node.get("endTime").asText())
             );
@@ -159,14 +220,14 @@ public class AlertHistoryServiceImpl implements AlertHistoryService {
             log.error("{} logReference 파싱 실패: {}", LOG_PREFIX, logReference, e);
             // 파싱 실패 시 기본값 (최근 10분)
             LocalDateTime now = LocalDateTime.now();
-            return new LogReferenceData(now.minusMinutes(10), now);
+            return new LogTimeRange(now.minusMinutes(10), now);
         }
     }
 
     /**
-     * LogReference 데이터를 담는 내부 record
+     * 알림 이력 키셋 커서 (마지막 alert의 발생 시간, ID)
      */
-    private record LogReferenceData(LocalDateTime startTime, LocalDateTime endTime) {
+    private record HistoryCursor(LocalDateTime alertTime, Integer id) {
     }
 
     @Override
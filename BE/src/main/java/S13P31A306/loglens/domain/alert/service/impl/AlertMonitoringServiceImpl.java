@@ -6,214 +6,385 @@ import S13P31A306.loglens.domain.alert.entity.AlertType;
 import S13P31A306.loglens.domain.alert.repository.AlertConfigRepository;
 import S13P31A306.loglens.domain.alert.repository.AlertHistoryRepository;
 import S13P31A306.loglens.domain.alert.service.AlertMonitoringService;
+import S13P31A306.loglens.domain.log.dto.internal.ProjectAlertMetrics;
 import S13P31A306.loglens.domain.log.repository.LogRepository;
 import S13P31A306.loglens.domain.project.entity.Project;
 import S13P31A306.loglens.domain.project.repository.ProjectRepository;
-import lombok.RequiredArgsConstructor;
+import S13P31A306.loglens.global.scheduler.ProjectBatchExecutor;
+import S13P31A306.loglens.global.scheduler.ProjectBatchOptions;
+import S13P31A306.loglens.global.scheduler.ProjectBatchResult;
+import S13P31A306.loglens.global.scheduler.ProjectShardCoordinator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * 알림 모니터링 서비스 구현체
+ * - 활성화된 알림 설정과 최근 알림 시각을 메모리에 유지
+ * - 평가 대상 프로젝트의 지표(전체/ERROR 로그 수, 평균 응답 시간)를 프로젝트별 terms 집계로 한 번에 조회
+ * - ERROR_THRESHOLD, LATENCY, ERROR_RATE 알림을 한 번의 순회로 평가하고 생성된 알림을 일괄 저장
+ * - 여러 인스턴스 중 이 인스턴스가 담당하는 프로젝트만 평가 (담당이 바뀌면 설정과 최근 알림 시각을 다시 적재)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AlertMonitoringServiceImpl implements AlertMonitoringService {
 
     private static final String LOG_PREFIX = "[AlertMonitoringService]";
     private static final int DEDUP_WINDOW_MINUTES = 5; // 중복 방지 시간 (5분)
-    private static final int ERROR_CHECK_WINDOW_MINUTES = 10; // ERROR 로그 체크 시간 범위 (10분)
+    private static final int ERROR_CHECK_WINDOW_MINUTES = 10; // 로그 체크 시간 범위 (10분)
+    private static final int CONFIG_REFRESH_MINUTES = 1; // 알림 설정 재적재 주기 (1분)
+    private static final int MAX_PROJECTS_PER_REQUEST = 50; // 집계 요청당 프로젝트 수 (인덱스 패턴이 URL에 포함되므로 제한)
+    private static final int MIN_ERROR_RATE_SAMPLE = 10; // 에러율 평가 최소 로그 수 (소량 트래픽 오탐 방지)
+    private static final String BATCH_NAME = "alert-monitoring";
 
     private final ProjectRepository projectRepository;
     private final AlertConfigRepository alertConfigRepository;
     private final AlertHistoryRepository alertHistoryRepository;
     private final LogRepository logRepository;
+    private final ProjectBatchExecutor projectBatchExecutor;
+    private final ProjectShardCoordinator shardCoordinator;
+    private final ProjectBatchOptions batchOptions;
+
+    // 최근 알림 시각 (projectId → alertTime), 중복 알림 방지용
+    private final Map<Integer, LocalDateTime> lastAlertTimes = new ConcurrentHashMap<>();
+
+    private volatile List<MonitoredProject> monitoredProjects = List.of();
+    private volatile LocalDateTime configsLoadedAt;
+    private volatile long configsMembershipVersion = -1;
+
+    public AlertMonitoringServiceImpl(
+            ProjectRepository projectRepository,
+            AlertConfigRepository alertConfigRepository,
+            AlertHistoryRepository alertHistoryRepository,
+            LogRepository logRepository,
+            ProjectBatchExecutor projectBatchExecutor,
+            ProjectShardCoordinator shardCoordinator,
+            @Value("${scheduler.project-batch.alert-monitoring.concurrency:4}") int concurrency,
+            @Value("${scheduler.project-batch.alert-monitoring.project-timeout-seconds:10}") long projectTimeoutSeconds,
+            @Value("${scheduler.project-batch.alert-monitoring.run-timeout-seconds:12}") long runTimeoutSeconds) {
+        this.projectRepository = projectRepository;
+        this.alertConfigRepository = alertConfigRepository;
+        this.alertHistoryRepository = alertHistoryRepository;
+        this.logRepository = logRepository;
+        this.projectBatchExecutor = projectBatchExecutor;
+        this.shardCoordinator = shardCoordinator;
+        this.batchOptions = ProjectBatchOptions.of(concurrency, projectTimeoutSeconds, runTimeoutSeconds);
+    }
 
     @Override
     public void checkAndCreateAlerts() {
         log.info("{} 알림 모니터링 시작", LOG_PREFIX);
 
-        List<Project> projects = projectRepository.findAll();
-        log.debug("{} 대상 프로젝트 개수: {}", LOG_PREFIX, projects.size());
-
-        int alertsCreated = 0;
-        int projectsChecked = 0;
+        List<MonitoredProject> targets = claimTargets(loadMonitoredProjects());
+        if (targets.isEmpty()) {
+            log.info("{} 알림 모니터링 완료: 담당하는 활성 알림 설정 없음", LOG_PREFIX);
+            return;
+        }
 
-        for (Project project : projects) {
+        // 1. 평가 대상 프로젝트 지표를 집계 요청 단위로 조회
+        LocalDateTime endTime = LocalDateTime.now();
+        LocalDateTime startTime = endTime.minusMinutes(ERROR_CHECK_WINDOW_MINUTES);
+        Map<String, ProjectAlertMetrics> metrics = fetchMetrics(targets, startTime, endTime);
+
+        // 2. 한 번의 순회로 모든 알림 타입 평가 (프로젝트에 설정이 여러 개여도 이번 주기 알림은 1건)
+        LocalDateTime dedupWindow = endTime.minusMinutes(DEDUP_WINDOW_MINUTES);
+        List<AlertHistory> alerts = new ArrayList<>();
+        Set<Integer> alertedProjectIds = new HashSet<>();
+        for (MonitoredProject target : targets) {
+            ProjectAlertMetrics projectMetrics = metrics.get(target.projectUuid());
+            if (Objects.isNull(projectMetrics)) {
+                // 집계 실패한 요청에 속한 프로젝트는 이번 주기 평가 생략
+                continue;
+            }
             try {
-                boolean alertCreated = checkProjectAlertsInNewTransaction(project);
-                if (alertCreated) {
-                    alertsCreated++;
+                AlertHistory alert = evaluate(target, projectMetrics, startTime, endTime, dedupWindow, alertedProjectIds);
+                if (Objects.nonNull(alert)) {
+                    alerts.add(alert);
+                    alertedProjectIds.add(target.projectId());
                 }
-                projectsChecked++;
             } catch (Exception e) {
-                log.error("{} 프로젝트 알림 체크 실패: projectId={}, projectUuid={}",
-                        LOG_PREFIX, project.getId(), project.getProjectUuid(), e);
+                log.error("{} 프로젝트 알림 평가 실패: projectId={}, projectUuid={}",
+                        LOG_PREFIX, target.projectId(), target.projectUuid(), e);
             }
         }
 
+        // 3. 생성된 알림 일괄 저장 후 중복 방지 상태 갱신
+        if (!alerts.isEmpty()) {
+            alertHistoryRepository.saveAll(alerts);
+            alerts.forEach(alert -> lastAlertTimes.merge(alert.getProjectId(), alert.getAlertTime(),
+                    (previous, current) -> current.isAfter(previous) ? current : previous));
+        }
+
         log.info("{} 알림 모니터링 완료: 체크된 프로젝트={}, 생성된 알림={}",
-                LOG_PREFIX, projectsChecked, alertsCreated);
+                LOG_PREFIX, targets.size(), alerts.size());
+    }
+
+    @Override
+    public void invalidateAlertConfigs() {
+        configsLoadedAt = null;
+        log.debug("{} 알림 설정 캐시 무효화", LOG_PREFIX);
     }
 
     /**
-     * 프로젝트별 알림 체크 (독립 트랜잭션)
-     * 각 프로젝트마다 새로운 트랜잭션으로 처리하여 한 프로젝트의 실패가 다른 프로젝트에 영향을 주지 않도록 함
+     * 이번 주기에 이 인스턴스가 평가할 대상 (프로젝트 단위로 담당 + 임대 획득)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = false)
-    public boolean checkProjectAlertsInNewTransaction(Project project) {
-        log.debug("{} 프로젝트 알림 체크 시작: projectId={}, projectUuid={}",
-                LOG_PREFIX, project.getId(), project.getProjectUuid());
-
-        // 1. AlertConfig 조회 (activeYN = 'Y'인 것만)
-        Optional<AlertConfig> configOpt = alertConfigRepository.findByProjectId(project.getId());
+    private List<MonitoredProject> claimTargets(List<MonitoredProject> targets) {
+        List<Integer> projectIds = targets.stream()
+                .map(MonitoredProject::projectId)
+                .distinct()
+                .toList();
+        Set<Integer> claimed = Set.copyOf(shardCoordinator.claim(
+                BATCH_NAME, projectIds, String::valueOf, batchOptions.runTimeout()));
+
+        return targets.stream()
+                .filter(target -> claimed.contains(target.projectId()))
+                .toList();
+    }
 
-        if (configOpt.isEmpty()) {
-            log.debug("{} AlertConfig 없음: projectId={}", LOG_PREFIX, project.getId());
-            return false;
+    /**
+     * 활성화된 알림 설정 적재 (캐시가 유효하면 메모리 값 사용)
+     * 재적재 시 최근 알림 이력으로 중복 방지 상태도 함께 동기화
+     * 담당 프로젝트가 재분배되면 이전 담당 인스턴스가 만든 알림을 반영하도록 즉시 재적재
+     */
+    private List<MonitoredProject> loadMonitoredProjects() {
+        LocalDateTime loadedAt = configsLoadedAt;
+        LocalDateTime now = LocalDateTime.now();
+        long membershipVersion = shardCoordinator.getMembershipVersion();
+        if (Objects.nonNull(loadedAt) && loadedAt.plusMinutes(CONFIG_REFRESH_MINUTES).isAfter(now)
+                && configsMembershipVersion == membershipVersion) {
+            return monitoredProjects;
         }
 
-        AlertConfig config = configOpt.get();
+        List<AlertConfig> configs = alertConfigRepository.findByActiveYN("Y");
+        List<Integer> projectIds = configs.stream()
+                .map(AlertConfig::getProjectId)
+                .distinct()
+                .toList();
+        Map<Integer, String> projectUuids = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Project::getProjectUuid));
+
+        List<MonitoredProject> loaded = configs.stream()
+                .filter(config -> projectUuids.containsKey(config.getProjectId()))
+                .map(config -> new MonitoredProject(
+                        config.getProjectId(),
+                        projectUuids.get(config.getProjectId()),
+                        config.getAlertType(),
+                        config.getThresholdValue()))
+                .toList();
+
+        alertHistoryRepository.findByAlertTimeAfter(now.minusMinutes(DEDUP_WINDOW_MINUTES))
+                .forEach(alert -> lastAlertTimes.merge(alert.getProjectId(), alert.getAlertTime(),
+                        (previous, current) -> current.isAfter(previous) ? current : previous));
+
+        monitoredProjects = loaded;
+        configsLoadedAt = now;
+        configsMembershipVersion = membershipVersion;
+        log.debug("{} 알림 설정 적재 완료: 활성 설정 수={}", LOG_PREFIX, loaded.size());
+        return loaded;
+    }
 
-        if (!"Y".equals(config.getActiveYN())) {
-            log.debug("{} AlertConfig 비활성화 상태: projectId={}", LOG_PREFIX, project.getId());
-            return false;
-        }
+    /**
+     * 프로젝트 지표 조회 - MAX_PROJECTS_PER_REQUEST 단위로 집계 요청
+     * 집계 요청들은 ProjectBatchExecutor로 제한된 병렬도로 실행
+     * 로그가 없는 프로젝트는 빈 지표로 채우고, 실패하거나 제한 시간을 넘긴 요청의 프로젝트는 결과에서 제외
+     */
+    private Map<String, ProjectAlertMetrics> fetchMetrics(
+            List<MonitoredProject> targets,
+            LocalDateTime startTime,
+            LocalDateTime endTime) {
 
-        // 2. OpenSearch에서 최근 10분간 ERROR 로그 개수 직접 조회
-        LocalDateTime endTime = LocalDateTime.now();
-        LocalDateTime startTime = endTime.minusMinutes(ERROR_CHECK_WINDOW_MINUTES);
+        List<String> projectUuids = targets.stream()
+                .map(MonitoredProject::projectUuid)
+                .distinct()
+                .toList();
 
-        long errorCount;
-        try {
-            errorCount = logRepository.countErrorLogsByProjectUuidAndTimeRange(
-                    project.getProjectUuid(),
-                    startTime,
-                    endTime
-            );
-            log.debug("{} ERROR 로그 개수 조회 완료: projectId={}, projectUuid={}, errorCount={}, 시간범위=[{} ~ {}]",
-                    LOG_PREFIX, project.getId(), project.getProjectUuid(), errorCount, startTime, endTime);
-        } catch (Exception e) {
-            log.error("{} ERROR 로그 개수 조회 실패: projectId={}, projectUuid={}",
-                    LOG_PREFIX, project.getId(), project.getProjectUuid(), e);
-            return false;
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < projectUuids.size(); from += MAX_PROJECTS_PER_REQUEST) {
+            chunks.add(projectUuids.subList(from, Math.min(from + MAX_PROJECTS_PER_REQUEST, projectUuids.size())));
         }
 
-        // 3. 알림 타입별 처리 (Phase 1: ERROR_THRESHOLD만 구현)
-        if (config.getAlertType() == AlertType.ERROR_THRESHOLD) {
-            return checkErrorThreshold(project, config, (int) errorCount, startTime, endTime);
-        }
+        Map<String, ProjectAlertMetrics> metrics = new ConcurrentHashMap<>();
+        ProjectBatchResult result = projectBatchExecutor.run(
+                BATCH_NAME,
+                chunks,
+                chunk -> chunk.get(0),
+                chunk -> {
+                    Map<String, ProjectAlertMetrics> aggregated =
+                            logRepository.aggregateAlertMetricsByProjects(chunk, startTime, endTime);
+                    chunk.forEach(uuid -> metrics.put(uuid,
+                            aggregated.getOrDefault(uuid, ProjectAlertMetrics.empty(uuid))));
+                    return true;
+                },
+                batchOptions
+        );
 
-        // Phase 2, 3: LATENCY, ERROR_RATE는 추후 구현
-        log.debug("{} 미지원 알림 타입: projectId={}, alertType={}",
-                LOG_PREFIX, project.getId(), config.getAlertType());
-        return false;
+        if (result.failed() + result.timedOut() + result.skipped() > 0) {
+            log.warn("{} 일부 알림 지표 집계 실패: requests={}, failed={}, timedOut={}, skipped={}",
+                    LOG_PREFIX, result.total(), result.failed(), result.timedOut(), result.skipped());
+        }
+        return metrics;
     }
 
     /**
-     * ERROR_THRESHOLD 타입 알림 체크
+     * 알림 타입별 평가 - 조건을 만족하고 중복 방지 시간 밖이면 생성할 알림 반환
+     *
+     * @param alertedProjectIds 이번 주기에 이미 알림이 생성된 프로젝트 (아직 저장 전이라 lastAlertTimes 에 없음)
      */
-    private boolean checkErrorThreshold(
-            Project project,
-            AlertConfig config,
-            int errorCount,
+    private AlertHistory evaluate(
+            MonitoredProject target,
+            ProjectAlertMetrics metrics,
             LocalDateTime startTime,
-            LocalDateTime endTime) {
+            LocalDateTime endTime,
+            LocalDateTime dedupWindow,
+            Set<Integer> alertedProjectIds) {
 
-        int threshold = config.getThresholdValue();
+        if (alertedProjectIds.contains(target.projectId())) {
+            log.debug("{} 중복 알림 방지: projectId={}, 이번 주기에 이미 알림 생성", LOG_PREFIX, target.projectId());
+            return null;
+        }
 
-        log.debug("{} ERROR_THRESHOLD 체크: projectId={}, errorCount={}, threshold={}",
-                LOG_PREFIX, project.getId(), errorCount, threshold);
+        AlertHistory alert = switch (target.alertType()) {
+            case ERROR_THRESHOLD -> checkErrorThreshold(target, metrics, startTime, endTime);
+            case LATENCY -> checkLatency(target, metrics, startTime, endTime);
+            case ERROR_RATE -> checkErrorRate(target, metrics, startTime, endTime);
+        };
 
-        // 임계치 체크
-        if (errorCount < threshold) {
-            log.debug("{} 임계치 미만: projectId={}, errorCount={}, threshold={}",
-                    LOG_PREFIX, project.getId(), errorCount, threshold);
-            return false;
+        if (Objects.isNull(alert)) {
+            return null;
         }
 
-        // 중복 알림 체크 (최근 5분 이내에 동일 알림이 있는지)
-        LocalDateTime dedupWindow = LocalDateTime.now().minusMinutes(DEDUP_WINDOW_MINUTES);
-        List<AlertHistory> recentAlerts = alertHistoryRepository
-                .findByProjectIdAndAlertTimeAfterOrderByAlertTimeDesc(project.getId(), dedupWindow);
-
-        if (!recentAlerts.isEmpty()) {
+        // 중복 알림 체크 (최근 5분 이내에 동일 프로젝트 알림이 있는지)
+        LocalDateTime lastAlertTime = lastAlertTimes.get(target.projectId());
+        if (Objects.nonNull(lastAlertTime) && lastAlertTime.isAfter(dedupWindow)) {
             log.debug("{} 중복 알림 방지: projectId={}, 최근 알림 시간={}",
-                    LOG_PREFIX, project.getId(), recentAlerts.get(0).getAlertTime());
-            return false;
+                    LOG_PREFIX, target.projectId(), lastAlertTime);
+            return null;
         }
 
-        // 알림 생성
-        createErrorThresholdAlert(project, config, errorCount, startTime, endTime);
-        return true;
+        log.info("{} 알림 생성: projectId={}, projectUuid={}, alertType={}, threshold={}, traceId={}",
+                LOG_PREFIX, target.projectId(), target.projectUuid(), target.alertType(),
+                target.threshold(), alert.getTraceId());
+        return alert;
     }
 
     /**
-     * ERROR_THRESHOLD 타입 알림 생성 및 저장
+     * ERROR_THRESHOLD 타입 알림 체크 - 최근 10분간 ERROR 로그 수가 임계값 이상
      */
-    private void createErrorThresholdAlert(
-            Project project,
-            AlertConfig config,
-            int errorCount,
+    private AlertHistory checkErrorThreshold(
+            MonitoredProject target,
+            ProjectAlertMetrics metrics,
             LocalDateTime startTime,
             LocalDateTime endTime) {
 
-        int threshold = config.getThresholdValue();
-
-        // 알림 메시지 생성
+        long errorCount = metrics.errorCount();
+        if (errorCount < target.threshold()) {
+            return null;
+        }
         String message = String.format(
                 "에러 임계값 초과: 최근 10분간 %d건의 에러가 발생했습니다 (임계값: %d건)",
-                errorCount, threshold
+                errorCount, target.threshold()
         );
+        String logReference = String.format(
+                "{\"alertType\":\"ERROR_THRESHOLD\",\"errorCount\":%d,\"threshold\":%d," +
+                "\"period\":\"10min\",\"startTime\":\"%s\",\"endTime\":\"%s\",\"projectUuid\":\"%s\"}",
+                errorCount, target.threshold(),
+                startTime.toString(), endTime.toString(), target.projectUuid()
+        );
+        return buildAlert(target, message, logReference, "ERROR", metrics.latestErrorTraceId());
+    }
 
-        // 대표 TraceId 조회 (가장 최근 ERROR 로그의 traceId)
-        String representativeTraceId = null;
-        try {
-            List<S13P31A306.loglens.domain.log.entity.Log> errorLogs = logRepository.findErrorLogsByProjectUuidAndTimeRange(
-                    project.getProjectUuid(),
-                    startTime,
-                    endTime,
-                    1  // 가장 최근 1개만
-            );
-            if (!errorLogs.isEmpty() && errorLogs.get(0).getTraceId() != null) {
-                representativeTraceId = errorLogs.get(0).getTraceId();
-                log.debug("{} 대표 TraceId 조회 성공: projectId={}, traceId={}",
-                        LOG_PREFIX, project.getId(), representativeTraceId);
-            }
-        } catch (Exception e) {
-            log.warn("{} 대표 TraceId 조회 실패: projectId={}", LOG_PREFIX, project.getId(), e);
-        }
+    /**
+     * LATENCY 타입 알림 체크 - 최근 10분간 평균 응답 시간(ms)이 임계값 이상
+     */
+    private AlertHistory checkLatency(
+            MonitoredProject target,
+            ProjectAlertMetrics metrics,
+            LocalDateTime startTime,
+            LocalDateTime endTime) {
 
-        // logReference JSON 생성
+        Double avgLatency = metrics.avgLatencyMs();
+        if (Objects.isNull(avgLatency) || avgLatency < target.threshold()) {
+            return null;
+        }
+        long roundedLatency = Math.round(avgLatency);
+        String message = String.format(
+                "응답 시간 임계값 초과: 최근 10분간 평균 응답 시간이 %dms입니다 (임계값: %dms)",
+                roundedLatency, target.threshold()
+        );
         String logReference = String.format(
-                "{\"alertType\":\"ERROR_THRESHOLD\",\"errorCount\":%d,\"threshold\":%d," +
+                "{\"alertType\":\"LATENCY\",\"avgLatencyMs\":%d,\"threshold\":%d," +
                 "\"period\":\"10min\",\"startTime\":\"%s\",\"endTime\":\"%s\",\"projectUuid\":\"%s\"}",
-                errorCount, threshold,
-                startTime.toString(), endTime.toString(), project.getProjectUuid()
+                roundedLatency, target.threshold(),
+                startTime.toString(), endTime.toString(), target.projectUuid()
+        );
+        return buildAlert(target, message, logReference, "WARN", metrics.slowestTraceId());
+    }
+
+    /**
+     * ERROR_RATE 타입 알림 체크 - 최근 10분간 에러율(%)이 임계값 이상
+     */
+    private AlertHistory checkErrorRate(
+            MonitoredProject target,
+            ProjectAlertMetrics metrics,
+            LocalDateTime startTime,
+            LocalDateTime endTime) {
+
+        if (metrics.totalCount() < MIN_ERROR_RATE_SAMPLE) {
+            return null;
+        }
+        double errorRate = metrics.errorRate();
+        if (errorRate < target.threshold()) {
+            return null;
+        }
+        String message = String.format(
+                "에러율 임계값 초과: 최근 10분간 에러율이 %.1f%%입니다 (%d/%d건, 임계값: %d%%)",
+                errorRate, metrics.errorCount(), metrics.totalCount(), target.threshold()
         );
+        String logReference = String.format(
+                "{\"alertType\":\"ERROR_RATE\",\"errorRate\":%.2f,\"errorCount\":%d,\"totalCount\":%d," +
+                "\"threshold\":%d,\"period\":\"10min\",\"startTime\":\"%s\",\"endTime\":\"%s\",\"projectUuid\":\"%s\"}",
+                errorRate, metrics.errorCount(), metrics.totalCount(), target.threshold(),
+                startTime.toString(), endTime.toString(), target.projectUuid()
+        );
+        return buildAlert(target, message, logReference, "ERROR", metrics.latestErrorTraceId());
+    }
+
+    private AlertHistory buildAlert(
+            MonitoredProject target,
+            String message,
+            String logReference,
+            String alertLevel,
+            String traceId) {
 
-        // AlertHistory 엔티티 생성
-        AlertHistory alert = AlertHistory.builder()
+        return AlertHistory.builder()
                 .alertMessage(message)
                 .alertTime(LocalDateTime.now())
                 .resolvedYN("N")
                 .logReference(logReference)
-                .alertLevel("ERROR")  // 레벨 설정
-                .traceId(representativeTraceId)  // 대표 TraceId 저장
-                .projectId(project.getId())
+                .alertLevel(alertLevel)
+                .traceId(traceId)  // 대표 TraceId 저장
+                .projectId(target.projectId())
                 .build();
+    }
 
-        // 저장
-        alertHistoryRepository.save(alert);
-
-        log.info("{} 알림 생성 완료: projectId={}, projectUuid={}, errorCount={}, threshold={}, traceId={}",
-                LOG_PREFIX, project.getId(), project.getProjectUuid(), errorCount, threshold, representativeTraceId);
+    /**
+     * 메모리에 유지하는 평가 대상 알림 설정
+     */
+    private record MonitoredProject(
+            Integer projectId,
+            String projectUuid,
+            AlertType alertType,
+            int threshold
+    ) {
     }
 }
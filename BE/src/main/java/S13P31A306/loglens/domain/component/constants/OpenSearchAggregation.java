@@ -22,6 +22,8 @@ public final class OpenSearchAggregation {
             throw new IllegalStateException("Constants class");
         }
 
+        public static final String BACKEND = "backend";
+        public static final String FRONTEND = "frontend";
         public static final String BY_COMPONENT = "by_component";
         public static final String TOTAL_CALLS = "total_calls";
         public static final String ERROR_TRACES = "error_traces";
@@ -0,0 +1,29 @@
+package S13P31A306.loglens.domain.component.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 집계 구간의 프로젝트 트레이스 스케치
+ *
+ * @param components componentName → Backend 컴포넌트 스케치
+ * @param frontend   Frontend 스케치
+ */
+public record ProjectTraceSketches(
+        Map<String, TraceSketches> components,
+        TraceSketches frontend
+) {
+
+    public static ProjectTraceSketches empty() {
+        return new ProjectTraceSketches(new HashMap<>(), TraceSketches.empty());
+    }
+
+    /**
+     * 나누어 조회한 하위 구간 결과를 병합
+     */
+    public void merge(ProjectTraceSketches other) {
+        other.components().forEach((name, sketches) ->
+                components.computeIfAbsent(name, key -> TraceSketches.empty()).merge(sketches));
+        frontend.merge(other.frontend());
+    }
+}
@@ -0,0 +1,35 @@
+package S13P31A306.loglens.domain.component.dto;
+
+import S13P31A306.loglens.global.utils.HyperLogLog;
+
+/**
+ * 전체/ERROR/WARN 트레이스 고유 개수 스케치 묶음
+ *
+ * @param total 전체 트레이스
+ * @param error ERROR 로그가 있는 트레이스
+ * @param warn  WARN 로그가 있는 트레이스
+ */
+public record TraceSketches(
+        HyperLogLog total,
+        HyperLogLog error,
+        HyperLogLog warn
+) {
+
+    public static TraceSketches empty() {
+        return new TraceSketches(new HyperLogLog(), new HyperLogLog(), new HyperLogLog());
+    }
+
+    public void merge(TraceSketches other) {
+        total.merge(other.total());
+        error.merge(other.error());
+        warn.merge(other.warn());
+    }
+
+    public boolean isEmpty() {
+        return total.isEmpty();
+    }
+
+    public MetricsData toMetricsData() {
+        return MetricsData.of((int) total.estimate(), (int) error.estimate(), (int) warn.estimate());
+    }
+}
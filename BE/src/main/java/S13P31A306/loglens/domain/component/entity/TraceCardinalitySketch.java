@@ -0,0 +1,103 @@
+package S13P31A306.loglens.domain.component.entity;
+
+import S13P31A306.loglens.domain.component.dto.TraceSketches;
+import S13P31A306.loglens.global.entity.BaseTimeEntity;
+import S13P31A306.loglens.global.utils.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 컴포넌트별 트레이스 고유 개수 스케치 (전체/ERROR/WARN)
+ * - component_id가 0인 행은 프로젝트 Frontend 트레이스 (ApiEndpoint와 같은 "컴포넌트 없음" 규칙)
+ * - 증분 집계 구간의 스케치를 일(DAY) 버킷과 누적(ALL_TIME) 행에 병합
+ * - 프로젝트 Frontend 누적 행의 aggregated_until이 다음 증분 집계의 시작 시각 (Asia/Seoul 기준)
+ */
+@Entity
+@Table(
+        name = "trace_cardinality_sketches",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_trace_cardinality_sketches_bucket",
+                columnNames = {"project_id", "component_id", "period", "bucket_date"}
+        )
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TraceCardinalitySketch extends BaseTimeEntity {
+
+    public static final int FRONTEND_COMPONENT_ID = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false, columnDefinition = "INT")
+    private Integer projectId;
+
+    @Column(name = "component_id", nullable = false)
+    private Integer componentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 10)
+    private TraceSketchPeriod period;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "total_sketch", nullable = false, length = 8192)
+    private byte[] totalSketch;
+
+    @Column(name = "error_sketch", nullable = false, length = 8192)
+    private byte[] errorSketch;
+
+    @Column(name = "warn_sketch", nullable = false, length = 8192)
+    private byte[] warnSketch;
+
+    @Column(name = "aggregated_until")
+    private LocalDateTime aggregatedUntil;
+
+    public static TraceCardinalitySketch empty(
+            Integer projectId,
+            Integer componentId,
+            TraceSketchPeriod period,
+            LocalDate bucketDate) {
+        byte[] empty = new HyperLogLog().toBytes();
+        return TraceCardinalitySketch.builder()
+                .projectId(projectId)
+                .componentId(componentId)
+                .period(period)
+                .bucketDate(period == TraceSketchPeriod.ALL_TIME ? TraceSketchPeriod.ALL_TIME_BUCKET : bucketDate)
+                .totalSketch(empty)
+                .errorSketch(empty)
+                .warnSketch(empty)
+                .build();
+    }
+
+    public TraceSketches toSketches() {
+        return new TraceSketches(
+                HyperLogLog.fromBytes(totalSketch),
+                HyperLogLog.fromBytes(errorSketch),
+                HyperLogLog.fromBytes(warnSketch)
+        );
+    }
+
+    /**
+     * 구간 스케치 병합
+     */
+    public void merge(TraceSketches window) {
+        TraceSketches merged = toSketches();
+        merged.merge(window);
+        this.totalSketch = merged.total().toBytes();
+        this.errorSketch = merged.error().toBytes();
+        this.warnSketch = merged.warn().toBytes();
+    }
+
+    public void markAggregatedUntil(LocalDateTime aggregatedUntil) {
+        this.aggregatedUntil = aggregatedUntil;
+    }
+
+}
@@ -0,0 +1,23 @@
+package S13P31A306.loglens.domain.component.entity;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트레이스 고유 개수 스케치 보관 단위
+ * DAY는 일별 구간 조회, ALL_TIME은 누적 조회와 증분 집계 기준 시각(프로젝트 행) 보관에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TraceSketchPeriod {
+    DAY("1일"),
+    ALL_TIME("전체");
+
+    /**
+     * ALL_TIME 행의 bucket_date (유니크 키에 NULL을 쓰지 않기 위한 고정값)
+     */
+    public static final LocalDate ALL_TIME_BUCKET = LocalDate.EPOCH;
+
+    private final String description;
+}
@@ -0,0 +1,89 @@
+package S13P31A306.loglens.domain.component.repository;
+
+import S13P31A306.loglens.domain.component.entity.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴포넌트 일괄 변경 레포지토리 (JDBC 배치)
+ * 토폴로지 수집의 변경분(추가/수정/삭제)만 반영하며, 호출 측 트랜잭션에 참여합니다.
+ */
+@Repository
+public class ComponentJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO components (project_id, name, class_type, component_type, package_name, layer, technology, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE components SET class_type = ?, component_type = ?, package_name = ?, layer = ?, technology = ?, "
+                    + "updated_at = ? WHERE id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM components WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ComponentJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${jdbc.bulk-upsert.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void insertAll(Collection<Component> components) {
+        if (components.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, List.copyOf(components), batchSize, (ps, component) -> {
+            ps.setObject(1, component.getProjectId());
+            ps.setString(2, component.getName());
+            ps.setString(3, component.getClassType());
+            ps.setString(4, component.getComponentType().name());
+            ps.setString(5, component.getPackageName());
+            ps.setString(6, Objects.isNull(component.getLayer()) ? null : component.getLayer().name());
+            ps.setString(7, component.getTechnology());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * id가 같은 기존 행의 속성을 components 값으로 갱신
+     *
+     * @param componentsById 기존 컴포넌트 ID → 새 속성 (이름/프로젝트는 변경하지 않음)
+     */
+    public void updateAll(Collection<Map.Entry<Integer, Component>> componentsById) {
+        if (componentsById.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, List.copyOf(componentsById), batchSize, (ps, entry) -> {
+            Component component = entry.getValue();
+            ps.setString(1, component.getClassType());
+            ps.setString(2, component.getComponentType().name());
+            ps.setString(3, component.getPackageName());
+            ps.setString(4, Objects.isNull(component.getLayer()) ? null : component.getLayer().name());
+            ps.setString(5, component.getTechnology());
+            ps.setTimestamp(6, now);
+            ps.setObject(7, entry.getKey());
+        });
+    }
+
+    public void deleteAllById(Collection<Integer> componentIds) {
+        if (componentIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, List.copyOf(componentIds), batchSize,
+                (ps, componentId) -> ps.setObject(1, componentId));
+    }
+}
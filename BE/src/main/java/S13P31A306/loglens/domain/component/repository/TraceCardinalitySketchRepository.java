@@ -0,0 +1,58 @@
+package S13P31A306.loglens.domain.component.repository;
+
+import S13P31A306.loglens.domain.component.entity.TraceCardinalitySketch;
+import S13P31A306.loglens.domain.component.entity.TraceSketchPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TraceCardinalitySketch 엔티티에 대한 데이터 접근 레포지토리
+ */
+public interface TraceCardinalitySketchRepository extends JpaRepository<TraceCardinalitySketch, Long> {
+
+    /**
+     * 단일 스케치 행 조회 (누적 행은 bucketDate에 ALL_TIME_BUCKET 사용)
+     */
+    Optional<TraceCardinalitySketch> findByProjectIdAndComponentIdAndPeriodAndBucketDate(
+            Integer projectId,
+            Integer componentId,
+            TraceSketchPeriod period,
+            LocalDate bucketDate
+    );
+
+    /**
+     * 병합 대상 행 조회 (누적 행 + 구간이 속한 일 버킷)
+     */
+    List<TraceCardinalitySketch> findByProjectIdAndBucketDateIn(Integer projectId, Collection<LocalDate> bucketDates);
+
+    /**
+     * 기간 [startDate, endDate] 일 버킷 조회
+     */
+    @Query("SELECT s FROM TraceCardinalitySketch s " +
+            "WHERE s.projectId = :projectId AND s.componentId = :componentId " +
+            "AND s.period = S13P31A306.loglens.domain.component.entity.TraceSketchPeriod.DAY " +
+            "AND s.bucketDate >= :startDate AND s.bucketDate <= :endDate")
+    List<TraceCardinalitySketch> findDailyByRange(
+            @Param("projectId") Integer projectId,
+            @Param("componentId") Integer componentId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 보관 기간이 지난 일 버킷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM TraceCardinalitySketch s " +
+            "WHERE s.projectId = :projectId " +
+            "AND s.period = S13P31A306.loglens.domain.component.entity.TraceSketchPeriod.DAY " +
+            "AND s.bucketDate < :cutoff")
+    int deleteDailyBefore(@Param("projectId") Integer projectId, @Param("cutoff") LocalDate cutoff);
+}
@@ -11,6 +11,7 @@ public interface ComponentService {
 
     /**
      * 여러 컴포넌트 배치 저장
+     * 현재 프로젝트 컴포넌트와 이름 기준으로 비교하여 변경분만 반영 (기존 컴포넌트 ID 유지)
      */
     void saveAll(ComponentBatchRequest request, Integer projectId);
     List<Component> getProjectComponents(Integer projectId);
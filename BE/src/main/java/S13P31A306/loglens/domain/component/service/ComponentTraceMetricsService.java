@@ -0,0 +1,34 @@
+package S13P31A306.loglens.domain.component.service;
+
+import S13P31A306.loglens.domain.component.dto.MetricsData;
+import S13P31A306.loglens.domain.project.entity.Project;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 컴포넌트/Frontend 트레이스 고유 개수 증분 집계 서비스
+ * 구간별 HyperLogLog 스케치를 일 버킷과 누적 행에 병합하여 누적/기간 고유 트레이스 수를 제공
+ */
+public interface ComponentTraceMetricsService {
+
+    /**
+     * 마지막 집계 시각 이후 구간만 조회하여 스케치를 갱신하고, 실행 끝에 갱신된 대상의 최신 메트릭 스냅샷을 한 번 기록
+     *
+     * @param project 프로젝트
+     * @return 새 트레이스가 반영되었으면 true
+     * @throws IOException OpenSearch 통신 실패 (실패한 구간부터 집계 시각을 진행하지 않음)
+     */
+    boolean aggregateIncremental(Project project) throws IOException;
+
+    /**
+     * 기간 [startDate, endDate] 고유 트레이스 수 (일 버킷 병합)
+     *
+     * @param projectId 프로젝트 ID
+     * @param componentId 컴포넌트 ID (Frontend는 TraceCardinalitySketch.FRONTEND_COMPONENT_ID)
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 고유 트레이스 기준 호출/에러/경고 수
+     */
+    MetricsData countDistinctTraces(Integer projectId, Integer componentId, LocalDate startDate, LocalDate endDate);
+}
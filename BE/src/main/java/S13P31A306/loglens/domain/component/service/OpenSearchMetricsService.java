@@ -1,18 +1,25 @@
 package S13P31A306.loglens.domain.component.service;
 
 import S13P31A306.loglens.domain.component.dto.MetricsData;
-import S13P31A306.loglens.domain.dashboard.dto.FrontendMetricsSummary;
+import S13P31A306.loglens.domain.component.dto.ProjectTraceSketches;
 
-import java.util.Map;
+import java.io.IOException;
+import java.time.LocalDateTime;
 
 public interface OpenSearchMetricsService {
     /**
-     * 특정 프로젝트의 모든 컴포넌트 메트릭을 일괄 조회
+     * 구간 [from, to) 동안의 컴포넌트별/Frontend 고유 trace_id 스케치 수집
+     * 조회 비용은 전체 이력이 아니라 구간의 고유 trace 수에 비례
+     * 최소 구간(1분)에서도 잘리거나 집계가 실패한 부분은 누락 지표만 기록하고 건너뜀
      *
      * @param projectUuid 프로젝트 UUID
-     * @return componentName -> MetricsData 맵
+     * @param from 시작 시각 (포함, Asia/Seoul)
+     * @param to 종료 시각 (미포함, Asia/Seoul)
+     * @return 구간 스케치
+     * @throws IOException OpenSearch 통신 실패 (집계 기준 시각을 진행시키지 않도록 전파)
      */
-    Map<String, MetricsData> getProjectMetrics(String projectUuid);
+    ProjectTraceSketches collectTraceSketches(String projectUuid, LocalDateTime from, LocalDateTime to)
+            throws IOException;
 
     /**
      * 특정 컴포넌트의 메트릭 조회 (필요시 사용)
@@ -22,5 +29,4 @@ public interface OpenSearchMetricsService {
      * @return 메트릭 데이터
      */
     MetricsData getComponentMetrics(String projectUuid, String componentName);
-    FrontendMetricsSummary getFrontendMetrics(String projectUuid);
 }
@@ -0,0 +1,181 @@
+package S13P31A306.loglens.domain.component.service.impl;
+
+import S13P31A306.loglens.domain.component.dto.MetricsData;
+import S13P31A306.loglens.domain.component.dto.ProjectTraceSketches;
+import S13P31A306.loglens.domain.component.dto.TraceSketches;
+import S13P31A306.loglens.domain.component.entity.Component;
+import S13P31A306.loglens.domain.component.entity.ComponentMetrics;
+import S13P31A306.loglens.domain.component.entity.FrontendMetrics;
+import S13P31A306.loglens.domain.component.entity.TraceCardinalitySketch;
+import S13P31A306.loglens.domain.component.entity.TraceSketchPeriod;
+import S13P31A306.loglens.domain.component.repository.ComponentMetricsRepository;
+import S13P31A306.loglens.domain.component.repository.ComponentRepository;
+import S13P31A306.loglens.domain.component.repository.FrontendMetricsRepository;
+import S13P31A306.loglens.domain.component.repository.TraceCardinalitySketchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 컴포넌트 트레이스 스케치 구간 저장 트랜잭션 헬퍼
+ * 구간 스케치 병합과 집계 시각 갱신을 한 트랜잭션으로 처리
+ * (실패 시 집계 시각이 진행되지 않으므로 같은 구간을 다음 실행에서 다시 집계)
+ * 최신 메트릭 스냅샷은 실행당 한 번 saveSnapshots로 기록
+ */
+@Slf4j
+@org.springframework.stereotype.Component
+public class ComponentMetricsTransactionHelper {
+
+    private static final String LOG_PREFIX = "[ComponentMetricsTransactionHelper]";
+
+    private final TraceCardinalitySketchRepository sketchRepository;
+    private final ComponentRepository componentRepository;
+    private final ComponentMetricsRepository componentMetricsRepository;
+    private final FrontendMetricsRepository frontendMetricsRepository;
+    private final long dailyRetentionDays;
+
+    public ComponentMetricsTransactionHelper(
+            TraceCardinalitySketchRepository sketchRepository,
+            ComponentRepository componentRepository,
+            ComponentMetricsRepository componentMetricsRepository,
+            FrontendMetricsRepository frontendMetricsRepository,
+            @Value("${metrics.component.daily-sketch-retention-days:90}") long dailyRetentionDays) {
+        this.sketchRepository = sketchRepository;
+        this.componentRepository = componentRepository;
+        this.componentMetricsRepository = componentMetricsRepository;
+        this.frontendMetricsRepository = frontendMetricsRepository;
+        this.dailyRetentionDays = dailyRetentionDays;
+    }
+
+    /**
+     * 구간 [from, to) 스케치를 일 버킷/누적 행에 병합하고 집계 시각 갱신
+     *
+     * @return 새 트레이스가 반영된 대상 ID (Frontend는 TraceCardinalitySketch.FRONTEND_COMPONENT_ID)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Integer> saveWindow(Integer projectId, LocalDateTime from, LocalDateTime to, ProjectTraceSketches window) {
+        LocalDate day = from.toLocalDate();
+
+        Map<String, TraceCardinalitySketch> rows = sketchRepository
+                .findByProjectIdAndBucketDateIn(projectId, Set.of(TraceSketchPeriod.ALL_TIME_BUCKET, day))
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> rowKey(row.getComponentId(), row.getPeriod()),
+                        Function.identity(),
+                        (first, second) -> first,
+                        HashMap::new));
+
+        // 1. Backend 컴포넌트 (DB에 등록된 컴포넌트만)
+        Map<String, Integer> componentIds = componentRepository.findAllByProjectId(projectId).stream()
+                .collect(Collectors.toMap(Component::getName, Component::getId, (first, second) -> first));
+
+        Set<Integer> touched = new HashSet<>();
+        window.components().forEach((name, sketches) -> {
+            Integer componentId = componentIds.get(name);
+            if (componentId == null || sketches.isEmpty()) {
+                return;
+            }
+            merge(rows, projectId, componentId, day, sketches);
+            touched.add(componentId);
+        });
+
+        // 2. Frontend (프로젝트 누적 행은 구간에 트레이스가 없어도 집계 시각 보관을 위해 항상 유지)
+        TraceCardinalitySketch projectRow = rows.computeIfAbsent(
+                rowKey(TraceCardinalitySketch.FRONTEND_COMPONENT_ID, TraceSketchPeriod.ALL_TIME),
+                key -> TraceCardinalitySketch.empty(projectId, TraceCardinalitySketch.FRONTEND_COMPONENT_ID,
+                        TraceSketchPeriod.ALL_TIME, day));
+        if (!window.frontend().isEmpty()) {
+            merge(rows, projectId, TraceCardinalitySketch.FRONTEND_COMPONENT_ID, day, window.frontend());
+            touched.add(TraceCardinalitySketch.FRONTEND_COMPONENT_ID);
+        }
+        projectRow.markAggregatedUntil(to);
+
+        sketchRepository.saveAll(rows.values());
+
+        // 3. 자정 이후 첫 구간에서 보관 기간이 지난 일 버킷 정리
+        if (from.equals(day.atStartOfDay())) {
+            int deleted = sketchRepository.deleteDailyBefore(projectId, day.minusDays(dailyRetentionDays));
+            log.debug("{} 오래된 일 버킷 삭제: projectId={}, count={}", LOG_PREFIX, projectId, deleted);
+        }
+
+        log.debug("{} 구간 저장: projectId={}, from={}, to={}, 갱신대상={}",
+                LOG_PREFIX, projectId, from, to, touched.size());
+        return touched;
+    }
+
+    /**
+     * 갱신된 대상의 누적 행으로 최신 메트릭 스냅샷 기록 (대상별 1건)
+     *
+     * @param componentIds saveWindow가 반환한 대상 ID 합집합
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveSnapshots(Integer projectId, Set<Integer> componentIds) {
+        LocalDateTime measuredAt = LocalDateTime.now();
+
+        List<ComponentMetrics> snapshots = new ArrayList<>();
+        for (TraceCardinalitySketch allTime : sketchRepository.findByProjectIdAndBucketDateIn(
+                projectId, Set.of(TraceSketchPeriod.ALL_TIME_BUCKET))) {
+            if (allTime.getPeriod() != TraceSketchPeriod.ALL_TIME || !componentIds.contains(allTime.getComponentId())) {
+                continue;
+            }
+
+            MetricsData metrics = allTime.toSketches().toMetricsData();
+            if (allTime.getComponentId() == TraceCardinalitySketch.FRONTEND_COMPONENT_ID) {
+                frontendMetricsRepository.save(FrontendMetrics.of(
+                        projectId,
+                        metrics.totalCalls(),
+                        Math.max(0, metrics.totalCalls() - metrics.errorCount() - metrics.warnCount()),
+                        metrics.warnCount(),
+                        metrics.errorCount()
+                ));
+                continue;
+            }
+            snapshots.add(ComponentMetrics.builder()
+                    .componentId(allTime.getComponentId())
+                    .callCount(metrics.totalCalls())
+                    .errorCount(metrics.errorCount())
+                    .warnCount(metrics.warnCount())
+                    .measuredAt(measuredAt)
+                    .build());
+        }
+        componentMetricsRepository.saveAll(snapshots);
+
+        log.debug("{} 스냅샷 기록: projectId={}, 컴포넌트={}", LOG_PREFIX, projectId, snapshots.size());
+    }
+
+    /**
+     * 대상의 일 버킷과 누적 행에 구간 스케치 병합 (없으면 생성)
+     *
+     * @return 병합된 누적 행
+     */
+    private TraceCardinalitySketch merge(
+            Map<String, TraceCardinalitySketch> rows,
+            Integer projectId,
+            Integer componentId,
+            LocalDate day,
+            TraceSketches sketches) {
+        TraceCardinalitySketch daily = rows.computeIfAbsent(rowKey(componentId, TraceSketchPeriod.DAY),
+                key -> TraceCardinalitySketch.empty(projectId, componentId, TraceSketchPeriod.DAY, day));
+        TraceCardinalitySketch allTime = rows.computeIfAbsent(rowKey(componentId, TraceSketchPeriod.ALL_TIME),
+                key -> TraceCardinalitySketch.empty(projectId, componentId, TraceSketchPeriod.ALL_TIME, day));
+        daily.merge(sketches);
+        allTime.merge(sketches);
+        return allTime;
+    }
+
+    private String rowKey(Integer componentId, TraceSketchPeriod period) {
+        return componentId + "|" + period;
+    }
+}
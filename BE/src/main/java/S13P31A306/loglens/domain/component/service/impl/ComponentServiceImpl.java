@@ -2,16 +2,27 @@ package S13P31A306.loglens.domain.component.service.impl;
 
 import S13P31A306.loglens.domain.component.dto.request.ComponentBatchRequest;
 import S13P31A306.loglens.domain.component.mapper.ComponentMapper;
+import S13P31A306.loglens.domain.component.repository.ComponentJdbcRepository;
 import S13P31A306.loglens.domain.component.repository.ComponentRepository;
 import S13P31A306.loglens.domain.component.service.ComponentService;
+import S13P31A306.loglens.domain.dependency.repository.DependencyGraphJdbcRepository;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
+import S13P31A306.loglens.domain.dependency.service.impl.TopologyIngestHashStore;
+import S13P31A306.loglens.domain.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import S13P31A306.loglens.domain.component.entity.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,23 +32,82 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ComponentServiceImpl implements ComponentService {
 
+    private static final String LOG_PREFIX = "[ComponentService]";
+
     private final ComponentRepository componentRepository;
+    private final ComponentJdbcRepository componentJdbcRepository;
+    private final DependencyGraphJdbcRepository dependencyGraphJdbcRepository;
+    private final ProjectRepository projectRepository;
     private final ComponentMapper componentMapper;
+    private final ProjectTopologyService projectTopologyService;
+    private final TopologyIngestHashStore ingestHashStore;
 
+    /**
+     * 컴포넌트 배치 수집 (이름 기준 변경분 반영)
+     * - 직전과 같은 내용이면 건너뜀
+     * - 프로젝트 행 잠금 후 현재 컴포넌트를 한 번에 조회하여 추가/수정/삭제 대상을 계산하고 JDBC 배치로 반영
+     * - 기존 컴포넌트 ID가 유지되므로 컴포넌트 메트릭/스케치가 수집 후에도 이어짐
+     */
     @Override
     @Transactional
     public void saveAll(final ComponentBatchRequest request, final Integer projectId) {
-        Integer existingCount = componentRepository.countByProjectId(projectId);
-        if (existingCount > 0) {
-            log.info("🗑️ 기존 컴포넌트 삭제 시작: projectId={}, 개수={}", projectId, existingCount);
-            componentRepository.deleteByProjectId(projectId);
-            log.info("✅ 기존 컴포넌트 삭제 완료");
+        // 1. 요청 정규화 (이름이 같으면 처음 항목 사용) 및 내용 해시
+        Map<String, Component> desired = new LinkedHashMap<>();
+        componentMapper.toEntityList(request.components(), projectId)
+                .forEach(component -> desired.putIfAbsent(component.getName(), component));
+
+        String contentHash = TopologyIngestHashStore.hash(desired.values().stream()
+                .sorted(Comparator.comparing(Component::getName))
+                .map(this::contentFields)
+                .toList());
+        if (ingestHashStore.isUnchanged(projectId, TopologyIngestHashStore.COMPONENTS, contentHash)) {
+            log.info("{} 컴포넌트 변경 없음 - 수집 생략: projectId={}, 개수={}", LOG_PREFIX, projectId, desired.size());
+            return;
         }
 
-        List<Component> components = componentMapper.toEntityList(request.components(), projectId);  // ✅ projectId 전달
-        componentRepository.saveAll(components);
+        // 2. 같은 프로젝트의 동시 수집은 순서대로 처리
+        projectRepository.findByIdForUpdate(projectId);
+
+        // 3. 현재 컴포넌트와 비교 (DB에 같은 이름이 여러 개면 ID가 가장 작은 행만 유지)
+        Map<String, Component> current = new HashMap<>();
+        List<Integer> deletes = new ArrayList<>();
+        componentRepository.findAllByProjectId(projectId).stream()
+                .sorted(Comparator.comparing(Component::getId))
+                .forEach(component -> {
+                    if (current.putIfAbsent(component.getName(), component) != null) {
+                        deletes.add(component.getId());
+                    }
+                });
+
+        List<Component> inserts = new ArrayList<>();
+        List<Map.Entry<Integer, Component>> updates = new ArrayList<>();
+        desired.forEach((name, component) -> {
+            Component existing = current.remove(name);
+            if (existing == null) {
+                inserts.add(component);
+            } else if (!contentFields(existing).equals(contentFields(component))) {
+                updates.add(Map.entry(existing.getId(), component));
+            }
+        });
+        current.values().forEach(component -> deletes.add(component.getId()));
+
+        // 4. 변경분 반영 (삭제된 컴포넌트를 가리키는 의존성 관계도 삭제)
+        componentJdbcRepository.insertAll(inserts);
+        componentJdbcRepository.updateAll(updates);
+        componentJdbcRepository.deleteAllById(deletes);
+        dependencyGraphJdbcRepository.deleteAllByComponentIds(projectId, deletes);
 
-        log.info("✅ 배치 저장 완료: {} 개 저장됨", components.size());
+        boolean changed = !inserts.isEmpty() || !updates.isEmpty() || !deletes.isEmpty();
+        if (changed) {
+            projectTopologyService.invalidate(projectId);
+            // 컴포넌트 이름 → ID 해석 결과가 달라지므로 다음 의존성 수집은 해시로 건너뛰지 않음
+            ingestHashStore.forgetAfterCommit(projectId, TopologyIngestHashStore.DEPENDENCIES);
+        }
+        ingestHashStore.rememberAfterCommit(projectId, TopologyIngestHashStore.COMPONENTS, contentHash);
+
+        log.info("{} 컴포넌트 수집 완료: projectId={}, 추가={}, 수정={}, 삭제={}, 유지={}",
+                LOG_PREFIX, projectId, inserts.size(), updates.size(), deletes.size(),
+                desired.size() - inserts.size() - updates.size());
     }
 
     @Override
@@ -55,6 +125,19 @@ public class ComponentServiceImpl implements ComponentService {
                 .collect(Collectors.toMap(Component::getId, component -> component));
     }
 
+    /**
+     * 수집 비교 대상 속성 (이름 포함, ID/시간 제외)
+     */
+    private List<String> contentFields(Component component) {
+        return Arrays.asList(
+                component.getName(),
+                component.getClassType(),
+                Objects.toString(component.getComponentType(), null),
+                component.getPackageName(),
+                Objects.toString(component.getLayer(), null),
+                component.getTechnology());
+    }
+
 //    @Override
 //    public List<Component> findByProjectId(Integer projectId) {
 //        return List.of();
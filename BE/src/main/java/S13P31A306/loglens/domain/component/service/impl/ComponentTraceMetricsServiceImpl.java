@@ -0,0 +1,118 @@
+package S13P31A306.loglens.domain.component.service.impl;
+
+import S13P31A306.loglens.domain.component.dto.MetricsData;
+import S13P31A306.loglens.domain.component.dto.ProjectTraceSketches;
+import S13P31A306.loglens.domain.component.dto.TraceSketches;
+import S13P31A306.loglens.domain.component.entity.TraceCardinalitySketch;
+import S13P31A306.loglens.domain.component.entity.TraceSketchPeriod;
+import S13P31A306.loglens.domain.component.repository.TraceCardinalitySketchRepository;
+import S13P31A306.loglens.domain.component.service.ComponentTraceMetricsService;
+import S13P31A306.loglens.domain.component.service.OpenSearchMetricsService;
+import S13P31A306.loglens.domain.project.entity.Project;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+
+// @formatter:off
+/**
+ * 컴포넌트/Frontend 트레이스 고유 개수 증분 집계 서비스 구현체
+ * - 프로젝트 Frontend 누적 행의 aggregated_until부터 (현재 - 수집 지연)까지를 구간으로 나누어 조회
+ * - 구간은 max-window-minutes 이하이며 자정을 넘지 않음 (일 버킷이 정확히 하루를 담도록)
+ * - 처음 집계하는 프로젝트는 initial-lookback-days 전부터 실행당 max-windows-per-run 구간씩 따라잡음
+ * - OpenSearch 조회는 트랜잭션 밖에서, 구간 저장만 트랜잭션 처리
+ * - 최신 메트릭 스냅샷은 구간마다가 아니라 실행 끝에 갱신된 대상별로 한 번만 기록 (따라잡기 중 스냅샷 행 누적 방지)
+ */
+// @formatter:on
+@Slf4j
+@Service
+public class ComponentTraceMetricsServiceImpl implements ComponentTraceMetricsService {
+
+    private static final String LOG_PREFIX = "[ComponentTraceMetricsService]";
+
+    private final OpenSearchMetricsService openSearchMetricsService;
+    private final ComponentMetricsTransactionHelper transactionHelper;
+    private final TraceCardinalitySketchRepository sketchRepository;
+    private final Duration maxWindow;
+    private final Duration ingestDelay;
+    private final long initialLookbackDays;
+    private final int maxWindowsPerRun;
+
+    public ComponentTraceMetricsServiceImpl(
+            OpenSearchMetricsService openSearchMetricsService,
+            ComponentMetricsTransactionHelper transactionHelper,
+            TraceCardinalitySketchRepository sketchRepository,
+            @Value("${metrics.component.max-window-minutes:60}") long maxWindowMinutes,
+            @Value("${metrics.component.ingest-delay-seconds:60}") long ingestDelaySeconds,
+            @Value("${metrics.component.initial-lookback-days:90}") long initialLookbackDays,
+            @Value("${metrics.component.max-windows-per-run:24}") int maxWindowsPerRun) {
+        this.openSearchMetricsService = openSearchMetricsService;
+        this.transactionHelper = transactionHelper;
+        this.sketchRepository = sketchRepository;
+        this.maxWindow = Duration.ofMinutes(maxWindowMinutes);
+        this.ingestDelay = Duration.ofSeconds(ingestDelaySeconds);
+        this.initialLookbackDays = initialLookbackDays;
+        this.maxWindowsPerRun = Math.max(1, maxWindowsPerRun);
+    }
+
+    @Override
+    public boolean aggregateIncremental(Project project) throws IOException {
+        Integer projectId = project.getId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime limit = now.minus(ingestDelay);
+
+        LocalDateTime from = sketchRepository.findByProjectIdAndComponentIdAndPeriodAndBucketDate(
+                        projectId,
+                        TraceCardinalitySketch.FRONTEND_COMPONENT_ID,
+                        TraceSketchPeriod.ALL_TIME,
+                        TraceSketchPeriod.ALL_TIME_BUCKET)
+                .map(TraceCardinalitySketch::getAggregatedUntil)
+                .orElseGet(() -> now.truncatedTo(ChronoUnit.DAYS).minusDays(initialLookbackDays));
+
+        Set<Integer> touchedComponentIds = new HashSet<>();
+        int windows = 0;
+        try {
+            while (windows < maxWindowsPerRun && from.isBefore(limit) && !Thread.currentThread().isInterrupted()) {
+                LocalDateTime to = min(from.plus(maxWindow), from.toLocalDate().plusDays(1).atStartOfDay(), limit);
+
+                ProjectTraceSketches window = openSearchMetricsService.collectTraceSketches(
+                        project.getProjectUuid(), from, to);
+                touchedComponentIds.addAll(transactionHelper.saveWindow(projectId, from, to, window));
+
+                from = to;
+                windows++;
+            }
+        } finally {
+            // 도중에 실패해도 이미 저장된 구간의 스냅샷은 기록
+            if (!touchedComponentIds.isEmpty()) {
+                transactionHelper.saveSnapshots(projectId, touchedComponentIds);
+            }
+        }
+
+        if (windows > 0) {
+            log.debug("{} 트레이스 증분 집계: projectId={}, 구간수={}, 집계시각={}, 갱신대상={}",
+                    LOG_PREFIX, projectId, windows, from, touchedComponentIds.size());
+        }
+        return !touchedComponentIds.isEmpty();
+    }
+
+    @Override
+    public MetricsData countDistinctTraces(Integer projectId, Integer componentId, LocalDate startDate, LocalDate endDate) {
+        TraceSketches merged = TraceSketches.empty();
+        sketchRepository.findDailyByRange(projectId, componentId, startDate, endDate)
+                .forEach(bucket -> merged.merge(bucket.toSketches()));
+        return merged.toMetricsData();
+    }
+
+    private LocalDateTime min(LocalDateTime first, LocalDateTime second, LocalDateTime third) {
+        LocalDateTime earlier = first.isBefore(second) ? first : second;
+        return earlier.isBefore(third) ? earlier : third;
+    }
+}
@@ -1,8 +1,10 @@
 package S13P31A306.loglens.domain.component.service.impl;
 
+import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.BACKEND;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.BY_COMPONENT;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.ERROR_COUNT;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.ERROR_TRACES;
+import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.FRONTEND;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.TOTAL_CALLS;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.TOTAL_TRACES;
 import static S13P31A306.loglens.domain.component.constants.OpenSearchAggregation.Name.WARN_COUNT;
@@ -13,56 +15,52 @@ import S13P31A306.loglens.domain.component.constants.OpenSearchAggregation;
 import S13P31A306.loglens.domain.component.constants.OpenSearchField;
 import S13P31A306.loglens.domain.component.constants.SourceType;
 import S13P31A306.loglens.domain.component.dto.MetricsData;
+import S13P31A306.loglens.domain.component.dto.ProjectTraceSketches;
+import S13P31A306.loglens.domain.component.dto.TraceSketches;
 import S13P31A306.loglens.domain.component.service.OpenSearchMetricsService;
-import S13P31A306.loglens.domain.dashboard.dto.FrontendMetricsSummary;
+import S13P31A306.loglens.global.utils.HyperLogLog;
 import S13P31A306.loglens.global.utils.OpenSearchUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.Aggregation;
 import org.opensearch.client.opensearch._types.aggregations.StringTermsAggregate;
 import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OpenSearchMetricsServiceImpl implements OpenSearchMetricsService {
 
     private static final String LOG_PREFIX = "[OpenSearchMetricsService]";
-    private final OpenSearchClient openSearchClient;
-
-    @Override
-    public Map<String, MetricsData> getProjectMetrics(String projectUuid) {
-        log.debug("{} 프로젝트 메트릭 조회 시작: projectUuid={}", LOG_PREFIX, projectUuid);
-
-        try {
-            SearchRequest searchRequest = buildProjectMetricsRequest(projectUuid);
-
-            log.debug("{} 🔍 Query built: {}", LOG_PREFIX, searchRequest);
-
-            SearchResponse<Void> response = openSearchClient.search(searchRequest, Void.class);
-
-            log.debug("{} 🔍 Raw aggregations: {}", LOG_PREFIX, response.aggregations().keySet());
-
-            Map<String, MetricsData> metricsMap = parseProjectMetricsResponse(response);
+    private static final String DEFAULT_TIMEZONE = "Asia/Seoul";
+    private static final Duration MIN_SPLIT_WINDOW = Duration.ofMinutes(1);
+    private static final String TRUNCATED_METRIC = "loglens.metrics.trace.truncated";
 
-            log.debug("{} 프로젝트 메트릭 조회 완료: projectUuid={}, components={}",
-                    LOG_PREFIX, projectUuid, metricsMap.size());
-
-            return metricsMap;
-
-        } catch (IOException e) {
-            log.error("{} OpenSearch 조회 실패: projectUuid={}, errorType={}, message={}",
-                    LOG_PREFIX, projectUuid, e.getClass().getSimpleName(), e.getMessage());
-            return new HashMap<>();
-        }
+    private final OpenSearchClient openSearchClient;
+    private final MeterRegistry meterRegistry;
+    private final int maxTracesPerRequest;
+
+    public OpenSearchMetricsServiceImpl(
+            OpenSearchClient openSearchClient,
+            MeterRegistry meterRegistry,
+            @Value("${metrics.component.max-traces-per-request:10000}") int maxTracesPerRequest) {
+        this.openSearchClient = openSearchClient;
+        this.meterRegistry = meterRegistry;
+        this.maxTracesPerRequest = maxTracesPerRequest;
     }
 
     @Override
@@ -95,71 +93,75 @@ public class OpenSearchMetricsServiceImpl implements OpenSearchMetricsService {
     }
 
     @Override
-    public FrontendMetricsSummary getFrontendMetrics(String projectUuid) {
-        log.debug("{} Frontend 메트릭 조회 시작: projectUuid={}", LOG_PREFIX, projectUuid);
-
-        try {
-            SearchRequest searchRequest = buildFrontendMetricsRequest(projectUuid);
-
-            log.debug("{} 🔍 Frontend Query built: {}", LOG_PREFIX, searchRequest);
-
-            SearchResponse<Void> response = openSearchClient.search(searchRequest, Void.class);
-            log.debug("{} 🔍 Raw aggregations: {}", LOG_PREFIX, response.aggregations().keySet());
+    public ProjectTraceSketches collectTraceSketches(String projectUuid, LocalDateTime from, LocalDateTime to)
+            throws IOException {
+        log.debug("{} 트레이스 스케치 수집 시작: projectUuid={}, from={}, to={}", LOG_PREFIX, projectUuid, from, to);
 
-            FrontendMetricsSummary summary = parseFrontendMetricsResponse(response);
+        ProjectTraceSketches result = ProjectTraceSketches.empty();
+        collectTraceSketches(projectUuid, from, to, result);
 
-            log.debug("{} Frontend 메트릭 조회 완료: total={}, error={}, warn={}",
-                    LOG_PREFIX, summary.totalTraces(), summary.totalError(), summary.totalWarn());
+        log.debug("{} 트레이스 스케치 수집 완료: projectUuid={}, components={}",
+                LOG_PREFIX, projectUuid, result.components().size());
+        return result;
+    }
 
-            return summary;
+    // @formatter:off
+    /**
+     * 구간의 고유 trace_id를 조회하여 스케치에 누적 (조회 비용은 구간의 고유 trace 수에 비례)
+     * - terms 집계가 잘리거나(sum_other_doc_count > 0) 버킷 수 제한을 넘으면 구간을 반으로 나누어 다시 조회
+     * - 최소 구간에서도 잘리면 받은 만큼만 반영하고, 실패하면 해당 구간을 건너뜀
+     *   (예외를 던지면 집계 시각이 진행되지 않아 같은 구간에서 계속 멈추므로)
+     *   두 경우 모두 loglens.metrics.trace.truncated{reason=limit|failure} 지표로 기록
+     */
+    // @formatter:on
+    private void collectTraceSketches(
+            String projectUuid, LocalDateTime from, LocalDateTime to, ProjectTraceSketches result) throws IOException {
+
+        boolean splittable = Duration.between(from, to).compareTo(MIN_SPLIT_WINDOW) > 0;
+        LocalDateTime middle = from.plus(Duration.between(from, to).dividedBy(2));
+
+        ProjectTraceSketches window = ProjectTraceSketches.empty();
+        boolean truncated;
+        try {
+            SearchResponse<Void> response = openSearchClient.search(
+                    buildTraceSketchRequest(projectUuid, from, to), Void.class);
+            truncated = parseTraceSketchResponse(response, window);
+        } catch (OpenSearchException e) {
+            if (!splittable) {
+                log.warn("{} 최소 구간 조회 실패 - 구간 건너뜀 (누락): projectUuid={}, from={}, to={}, reason={}",
+                        LOG_PREFIX, projectUuid, from, to, e.getMessage());
+                recordTruncation("failure");
+                return;
+            }
+            log.debug("{} 구간 조회 실패 - 분할 재조회: from={}, to={}, reason={}", LOG_PREFIX, from, to, e.getMessage());
+            truncated = true;
+        }
 
-        } catch (IOException e) {
-            log.error("{} Frontend 메트릭 조회 실패: error={}", LOG_PREFIX, e.getMessage());
-            return FrontendMetricsSummary.empty();
+        if (truncated && splittable) {
+            collectTraceSketches(projectUuid, from, middle, result);
+            collectTraceSketches(projectUuid, middle, to, result);
+            return;
+        }
+        if (truncated) {
+            log.warn("{} 최소 구간에서도 trace_id 집계가 잘렸습니다 (일부 누락): projectUuid={}, from={}, to={}",
+                    LOG_PREFIX, projectUuid, from, to);
+            recordTruncation("limit");
         }
+        result.merge(window);
+    }
+
+    private void recordTruncation(String reason) {
+        Counter.builder(TRUNCATED_METRIC)
+                .description("최소 구간에서 trace_id 집계가 잘리거나 실패하여 일부 누락된 구간 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
     }
 
     // -------------------------------
     // Query Builders
     // -------------------------------
 
-    private SearchRequest buildProjectMetricsRequest(String projectUuid) {
-        Query boolQuery = Query.of(q -> q.bool(b -> b
-                .filter(f -> f.term(t -> t
-                        .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
-                        .value(v -> v.stringValue(projectUuid))))
-                .filter(f -> f.term(t -> t
-                        .field(OpenSearchField.SOURCE_TYPE.getFieldName())
-                        .value(v -> v.stringValue(SourceType.BACKEND.getType()))))
-        ));
-
-        return SearchRequest.of(s -> s
-                .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
-                .size(0)
-                .query(boolQuery)
-                .aggregations(BY_COMPONENT, a -> a
-                        .terms(t -> t
-                                .field(OpenSearchField.COMPONENT_NAME_KEYWORD.getFieldName())
-                                .size(OpenSearchAggregation.MAX_SIZE))
-                        .aggregations(TOTAL_CALLS, sub -> sub
-                                .cardinality(c -> c.field(OpenSearchField.TRACE_ID.getFieldName())))
-                        .aggregations(ERROR_TRACES, sub -> sub
-                                .filter(f -> f.term(
-                                        t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                                .value(v -> v.stringValue(LogLevel.ERROR.getLevel()))))
-                                .aggregations(ERROR_COUNT, subsub -> subsub
-                                        .cardinality(c -> c.field(OpenSearchField.TRACE_ID.getFieldName()))))
-                        .aggregations(WARN_TRACES, sub -> sub
-                                .filter(f -> f.bool(b -> b
-                                        .must(m -> m.term(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                                .value(v -> v.stringValue(LogLevel.WARN.getLevel()))))
-                                        .mustNot(mn -> mn.term(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                                .value(v -> v.stringValue(LogLevel.ERROR.getLevel()))))))
-                                .aggregations(WARN_COUNT, subsub -> subsub
-                                        .cardinality(c -> c.field(OpenSearchField.TRACE_ID.getFieldName())))))
-        );
-    }
-
     private SearchRequest buildComponentMetricsRequest(String projectUuid, String componentName) {
         Query boolQuery = Query.of(q -> q.bool(b -> b
                 .filter(f -> f.term(t -> t
@@ -192,77 +194,63 @@ public class OpenSearchMetricsServiceImpl implements OpenSearchMetricsService {
         );
     }
 
-    private SearchRequest buildFrontendMetricsRequest(String projectUuid) {
-        Query baseQuery = Query.of(q -> q.bool(b -> b
-                .filter(f -> f.term(t -> t.field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
+    private SearchRequest buildTraceSketchRequest(String projectUuid, LocalDateTime from, LocalDateTime to) {
+        Query boolQuery = Query.of(q -> q.bool(b -> b
+                .filter(f -> f.term(t -> t
+                        .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
                         .value(v -> v.stringValue(projectUuid))))
-                .filter(f -> f.term(t -> t.field(OpenSearchField.SOURCE_TYPE.getFieldName())
-                        .value(v -> v.stringValue(SourceType.FRONTEND.getType()))))
+                .filter(f -> f.range(r -> r
+                        .field(OpenSearchField.TIMESTAMP.getFieldName())
+                        .gte(JsonData.of(from.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
+                        .lt(JsonData.of(to.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))))
+                .filter(f -> f.exists(e -> e.field(OpenSearchField.TRACE_ID.getFieldName())))
         ));
 
         return SearchRequest.of(s -> s
                 .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
                 .size(0)
-                .query(baseQuery)
-                .aggregations("total_traces", a -> a
-                        .cardinality(c -> c.field(OpenSearchField.TRACE_ID.getFieldName())))
-                .aggregations("error_traces", a -> a
-                        .filter(f -> f.term(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                .value(v -> v.stringValue(LogLevel.ERROR.getLevel()))))
-                        .aggregations("count", sub -> sub.cardinality(
-                                c -> c.field(OpenSearchField.TRACE_ID.getFieldName()))))
-                .aggregations("warn_traces", a -> a
-                        .filter(f -> f.bool(b -> b
-                                .must(m -> m.term(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                        .value(v -> v.stringValue(LogLevel.WARN.getLevel()))))
-                                .mustNot(mn -> mn.term(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName())
-                                        .value(v -> v.stringValue(LogLevel.ERROR.getLevel()))))))
-                        .aggregations("count", sub -> sub.cardinality(
-                                c -> c.field(OpenSearchField.TRACE_ID.getFieldName()))))
+                .query(boolQuery)
+                .aggregations(BACKEND, a -> a
+                        .filter(f -> f.term(t -> t
+                                .field(OpenSearchField.SOURCE_TYPE.getFieldName())
+                                .value(v -> v.stringValue(SourceType.BACKEND.getType()))))
+                        .aggregations(BY_COMPONENT, sub -> sub
+                                .terms(t -> t
+                                        .field(OpenSearchField.COMPONENT_NAME_KEYWORD.getFieldName())
+                                        .size(OpenSearchAggregation.MAX_SIZE))
+                                .aggregations(TOTAL_CALLS, this::traceIdTerms)
+                                .aggregations(ERROR_TRACES, subsub -> levelFilter(subsub, LogLevel.ERROR)
+                                        .aggregations(ERROR_COUNT, this::traceIdTerms))
+                                .aggregations(WARN_TRACES, subsub -> levelFilter(subsub, LogLevel.WARN)
+                                        .aggregations(WARN_COUNT, this::traceIdTerms))))
+                .aggregations(FRONTEND, a -> a
+                        .filter(f -> f.term(t -> t
+                                .field(OpenSearchField.SOURCE_TYPE.getFieldName())
+                                .value(v -> v.stringValue(SourceType.FRONTEND.getType()))))
+                        .aggregations(TOTAL_TRACES, this::traceIdTerms)
+                        .aggregations(ERROR_TRACES, sub -> levelFilter(sub, LogLevel.ERROR)
+                                .aggregations(ERROR_COUNT, this::traceIdTerms))
+                        .aggregations(WARN_TRACES, sub -> levelFilter(sub, LogLevel.WARN)
+                                .aggregations(WARN_COUNT, this::traceIdTerms)))
         );
     }
 
+    private Aggregation.Builder.ContainerBuilder traceIdTerms(Aggregation.Builder builder) {
+        return builder.terms(t -> t
+                .field(OpenSearchField.TRACE_ID.getFieldName())
+                .size(maxTracesPerRequest));
+    }
+
+    private Aggregation.Builder.ContainerBuilder levelFilter(Aggregation.Builder builder, LogLevel level) {
+        return builder.filter(f -> f.term(t -> t
+                .field(OpenSearchField.LOG_LEVEL.getFieldName())
+                .value(v -> v.stringValue(level.getLevel()))));
+    }
+
     // -------------------------------
     // Aggregation Parsing + Debug Logs
     // -------------------------------
 
-    private Map<String, MetricsData> parseProjectMetricsResponse(SearchResponse<Void> response) {
-        Map<String, MetricsData> metricsMap = new HashMap<>();
-
-        Aggregate byComponentAgg = response.aggregations().get(BY_COMPONENT);
-
-        if (byComponentAgg == null || !byComponentAgg.isSterms()) {
-            log.warn("{} ❗ by_component aggregation 없음 또는 타입 불일치", LOG_PREFIX);
-            return metricsMap;
-        }
-
-        StringTermsAggregate termsAgg = byComponentAgg.sterms();
-
-        log.debug("{} 🔍 Component bucket count = {}", LOG_PREFIX, termsAgg.buckets().array().size());
-
-        for (StringTermsBucket bucket : termsAgg.buckets().array()) {
-
-            log.debug("{} ▶ Component: {}, docCount={}",
-                    LOG_PREFIX, bucket.key(), bucket.docCount());
-
-            bucket.aggregations().forEach((key, agg) ->
-                    log.debug("{}    ├─ subAgg {}: type={}", LOG_PREFIX, key, agg._kind()));
-
-            int totalCalls = extractCardinalityDebug(bucket.aggregations(), TOTAL_CALLS, bucket.key());
-            int errorCount = extractNestedCardinalityDebug(bucket.aggregations(), ERROR_TRACES, ERROR_COUNT,
-                    bucket.key());
-            int warnCount = extractNestedCardinalityDebug(bucket.aggregations(), WARN_TRACES, WARN_COUNT, bucket.key());
-
-            MetricsData metricsData = MetricsData.of(totalCalls, errorCount, warnCount);
-            metricsMap.put(bucket.key(), metricsData);
-
-            log.debug("{} Component Result → {}: calls={}, error={}, warn={}",
-                    LOG_PREFIX, bucket.key(), totalCalls, errorCount, warnCount);
-        }
-
-        return metricsMap;
-    }
-
     private MetricsData parseComponentMetricsResponse(SearchResponse<Void> response) {
         Map<String, Aggregate> aggs = response.aggregations();
 
@@ -273,16 +261,61 @@ public class OpenSearchMetricsServiceImpl implements OpenSearchMetricsService {
         return MetricsData.of(totalCalls, errorCount, warnCount);
     }
 
-    private FrontendMetricsSummary parseFrontendMetricsResponse(SearchResponse<Void> response) {
-        Map<String, Aggregate> aggs = response.aggregations();
+    /**
+     * 구간 응답의 trace_id 버킷을 스케치에 추가
+     *
+     * @return terms 집계가 잘렸으면 true (구간 분할 필요)
+     */
+    private boolean parseTraceSketchResponse(SearchResponse<Void> response, ProjectTraceSketches window) {
+        boolean truncated = false;
+
+        Aggregate backend = response.aggregations().get(BACKEND);
+        if (backend != null && backend.isFilter()) {
+            Aggregate byComponent = backend.filter().aggregations().get(BY_COMPONENT);
+            if (byComponent != null && byComponent.isSterms()) {
+                StringTermsAggregate components = byComponent.sterms();
+                truncated = isTruncated(components);
+                for (StringTermsBucket bucket : components.buckets().array()) {
+                    TraceSketches sketches = window.components()
+                            .computeIfAbsent(bucket.key(), key -> TraceSketches.empty());
+                    truncated |= addTraceIds(bucket.aggregations(), TOTAL_CALLS, sketches);
+                }
+            }
+        }
 
-        int totalTraces = extractCardinalityDebug(aggs, TOTAL_TRACES, "FE");
-        int errorTraces = extractNestedCardinalityDebug(aggs, "error_traces", "count", "FE");
-        int warnTraces = extractNestedCardinalityDebug(aggs, "warn_traces", "count", "FE");
+        Aggregate frontend = response.aggregations().get(FRONTEND);
+        if (frontend != null && frontend.isFilter()) {
+            truncated |= addTraceIds(frontend.filter().aggregations(), TOTAL_TRACES, window.frontend());
+        }
 
-        int infoTraces = totalTraces - errorTraces - warnTraces;
+        return truncated;
+    }
+
+    private boolean addTraceIds(Map<String, Aggregate> aggs, String totalName, TraceSketches sketches) {
+        boolean truncated = addTraceIds(aggs.get(totalName), sketches.total());
+        truncated |= addNestedTraceIds(aggs, ERROR_TRACES, ERROR_COUNT, sketches.error());
+        truncated |= addNestedTraceIds(aggs, WARN_TRACES, WARN_COUNT, sketches.warn());
+        return truncated;
+    }
+
+    private boolean addNestedTraceIds(Map<String, Aggregate> aggs, String filterName, String innerName, HyperLogLog sketch) {
+        Aggregate filter = aggs.get(filterName);
+        if (filter == null || !filter.isFilter()) {
+            return false;
+        }
+        return addTraceIds(filter.filter().aggregations().get(innerName), sketch);
+    }
+
+    private boolean addTraceIds(Aggregate traceIds, HyperLogLog sketch) {
+        if (traceIds == null || !traceIds.isSterms()) {
+            return false;
+        }
+        traceIds.sterms().buckets().array().forEach(bucket -> sketch.add(bucket.key()));
+        return isTruncated(traceIds.sterms());
+    }
 
-        return FrontendMetricsSummary.of(totalTraces, infoTraces, warnTraces, errorTraces);
+    private boolean isTruncated(StringTermsAggregate terms) {
+        return terms.sumOtherDocCount() > 0;
     }
 
     // -------------------------------
@@ -0,0 +1,122 @@
+package S13P31A306.loglens.domain.component.util;
+
+import S13P31A306.loglens.domain.component.entity.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+// @formatter:off
+/**
+ * 로거 이름(FQCN) → 컴포넌트 해석기 (읽기 전용)
+ * - 컴포넌트의 package_name을 '.' 단위로 나눈 트라이를 만들고, 각 패키지 노드에 클래스명 → 컴포넌트를 보관
+ * - 해석은 로거 이름 길이에 비례 (프로젝트 컴포넌트 수와 무관)
+ * - package_name이 없는 컴포넌트는 로거와 매칭할 수 없으므로 제외
+ * - 같은 (패키지, 클래스)가 여러 개면 ID가 가장 작은 컴포넌트로 해석
+ */
+// @formatter:on
+public final class ComponentResolver {
+
+    private static final ComponentResolver EMPTY = new ComponentResolver(new Node());
+
+    private final Node root;
+
+    private ComponentResolver(Node root) {
+        this.root = root;
+    }
+
+    public static ComponentResolver empty() {
+        return EMPTY;
+    }
+
+    public static ComponentResolver of(Collection<Component> components) {
+        Node root = new Node();
+        components.stream()
+                .filter(component -> Objects.nonNull(component.getPackageName())
+                        && !component.getPackageName().isBlank())
+                .sorted(Comparator.comparing(Component::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(component -> {
+                    Node node = root;
+                    for (String segment : component.getPackageName().split("\\.")) {
+                        node = node.children.computeIfAbsent(segment, key -> new Node());
+                    }
+                    node.packageComponents.add(component);
+                    node.classes.putIfAbsent(component.getName(), component);
+                });
+        return new ComponentResolver(root);
+    }
+
+    /**
+     * 로거 이름(패키지.클래스)에 해당하는 컴포넌트
+     */
+    public Optional<Component> resolve(String logger) {
+        if (Objects.isNull(logger)) {
+            return Optional.empty();
+        }
+        int lastDot = logger.lastIndexOf('.');
+        if (lastDot <= 0 || lastDot == logger.length() - 1) {
+            return Optional.empty();
+        }
+        return resolve(logger.substring(0, lastDot), logger.substring(lastDot + 1));
+    }
+
+    /**
+     * (패키지, 클래스)에 해당하는 컴포넌트
+     */
+    public Optional<Component> resolve(String packageName, String className) {
+        if (Objects.isNull(packageName) || Objects.isNull(className)) {
+            return Optional.empty();
+        }
+        Node node = root;
+        int start = 0;
+        while (Objects.nonNull(node) && start <= packageName.length()) {
+            int end = packageName.indexOf('.', start);
+            if (end < 0) {
+                end = packageName.length();
+            }
+            node = node.children.get(packageName.substring(start, end));
+            start = end + 1;
+        }
+        return Objects.isNull(node) ? Optional.empty() : Optional.ofNullable(node.classes.get(className));
+    }
+
+    /**
+     * 패키지가 로거 이름의 (패키지 단위) 접두사인 모든 컴포넌트 (ID 오름차순)
+     * 예: 로거 com.example.user.UserService → 패키지 com.example, com.example.user 의 컴포넌트
+     */
+    public List<Component> findByLoggerPrefix(String logger) {
+        if (Objects.isNull(logger) || logger.isBlank()) {
+            return List.of();
+        }
+        List<Component> matched = new ArrayList<>();
+        Node node = root;
+        int start = 0;
+        while (start <= logger.length()) {
+            int end = logger.indexOf('.', start);
+            if (end < 0) {
+                end = logger.length();
+            }
+            node = node.children.get(logger.substring(start, end));
+            if (Objects.isNull(node)) {
+                break;
+            }
+            matched.addAll(node.packageComponents);
+            start = end + 1;
+        }
+        if (matched.size() > 1) {
+            matched.sort(Comparator.comparing(Component::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        }
+        return matched;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final Map<String, Component> classes = new HashMap<>();
+        private final List<Component> packageComponents = new ArrayList<>();
+    }
+}
@@ -14,6 +14,7 @@ public class DashboardConstants {
     public static final int API_ENDPOINT_MAX_LIMIT = 50;
     public static final int API_ENDPOINT_DEFAULT_LIMIT = 10;
     public static final int API_ENDPOINT_DEFAULT_TIME_RANGE = 1;
+    public static final int API_ENDPOINT_MAX_TIME_RANGE = 90;
 
     public static final int HEATMAP_DEFAULT_DAYS = 7;
     public static final int HEATMAP_MAX_DAYS = 90;
@@ -510,7 +510,7 @@ public interface DashboardApi {
 
     @Operation(
             summary = "API 호출 통계 조회",
-            description = "프로젝트의 API 엔드포인트별 호출 통계를 조회합니다. 엔드포인트별 호출 건수, 평균 응답 시간, 성공률 등을 제공합니다.",
+            description = "프로젝트의 API 엔드포인트별 호출 통계를 조회합니다. 엔드포인트별 호출 건수, 평균 응답 시간, 성공률 등을 제공합니다. 응답 시간 백분위(p50/p95/p99)는 조회 기간(최대 90일) 기준으로 계산합니다.",
             security = @SecurityRequirement(name = "bearerAuth"),
             parameters = {
                     @Parameter(
@@ -526,6 +526,20 @@ public interface DashboardApi {
                             description = "조회할 API 개수 (1~50). 기본값 10",
                             required = false,
                             schema = @Schema(type = "integer", minimum = "1", maximum = "50", example = "10")
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "startTime",
+                            description = "백분위 조회 시작 시간 (ISO 8601 형식). 미입력 시 endTime 기준 -1일",
+                            required = false,
+                            schema = @Schema(type = "string", format = "date-time", example = "2025-10-16T15:30:00")
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "endTime",
+                            description = "백분위 조회 종료 시간 (ISO 8601 형식). 미입력 시 현재 시각 (startTime만 입력 시 startTime 기준 +1일)",
+                            required = false,
+                            schema = @Schema(type = "string", format = "date-time", example = "2025-10-17T15:30:00")
                     )
             },
             responses = {
@@ -554,6 +568,9 @@ public interface DashboardApi {
                                                         "errorCount": 678,
                                                         "errorRate": 1.5,
                                                         "avgResponseTime": 320,
+                                                        "p50ResponseTime": 210.5,
+                                                        "p95ResponseTime": 845.2,
+                                                        "p99ResponseTime": 1520.8,
                                                         "anomalyCount": 12,
                                                         "lastAccessed": "2025-10-17T15:30:00"
                                                       },
@@ -565,6 +582,9 @@ public interface DashboardApi {
                                                         "errorCount": 257,
                                                         "errorRate": 0.8,
                                                         "avgResponseTime": 180,
+                                                        "p50ResponseTime": 150.3,
+                                                        "p95ResponseTime": 402.7,
+                                                        "p99ResponseTime": 690.1,
                                                         "anomalyCount": 3,
                                                         "lastAccessed": "2025-10-17T15:28:00"
                                                       }
@@ -575,6 +595,8 @@ public interface DashboardApi {
                                                       "totalErrors": 1254,
                                                       "overallErrorRate": 1.0,
                                                       "avgResponseTime": 245,
+                                                      "p95ResponseTime": 780.4,
+                                                      "p99ResponseTime": 1405.1,
                                                       "criticalEndpoints": 2
                                                     }
                                                   },
@@ -702,7 +724,9 @@ public interface DashboardApi {
     )
     ResponseEntity<? extends BaseResponse> getApiCallStatistics(
             @ValidUuid @RequestParam String projectUuid,
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime
     );
 
     @Operation(
@@ -101,11 +101,13 @@ public class DashboardController implements DashboardApi {
     @GetMapping("/statistics/api-calls")
     public ResponseEntity<? extends BaseResponse> getApiCallStatistics(
             @ValidUuid @RequestParam String projectUuid,
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime
     ) {
         log.info("{} API 통계 {}개 호출", LOG_PREFIX, limit);
 
-        ApiEndpointResponse response = apiEndpointService.getApiEndpointStatistics(projectUuid, limit);
+        ApiEndpointResponse response = apiEndpointService.getApiEndpointStatistics(projectUuid, limit, startTime, endTime);
         return ApiResponseFactory.success(
                 DashboardSuccessCode.API_STATISTICS_RETRIEVED,
                 response
@@ -1,5 +1,9 @@
 package S13P31A306.loglens.domain.dashboard.dto.opensearch;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 /**
  * API 엔드포인트 통계 DTO (배치 집계용)
  * OpenSearch에서 조회한 API 엔드포인트별 호출 통계를 담는 DTO
@@ -11,6 +15,7 @@ package S13P31A306.loglens.domain.dashboard.dto.opensearch;
  * @param errorCount 에러 발생 수 (4xx, 5xx)
  * @param avgResponseTime 평균 응답 시간 (ms)
  * @param lastAccessedTimestamp 마지막 접근 시간 (epoch millis)
+ * @param latencyBuckets 시(hour) 버킷별 응답 시간 분포, 응답 시간이 없으면 빈 목록
  */
 public record ApiEndpointStats(
         String endpointPath,
@@ -18,6 +23,21 @@ public record ApiEndpointStats(
         long totalRequests,
         long errorCount,
         Double avgResponseTime,
-        Double lastAccessedTimestamp
+        Double lastAccessedTimestamp,
+        List<LatencyBucket> latencyBuckets
 ) {
+
+    /**
+     * 시 버킷 하나의 응답 시간 분포
+     *
+     * @param bucketStart 버킷 시작 시각 (Asia/Seoul)
+     * @param count       버킷의 요청 수
+     * @param percentiles 응답 시간 백분위 (백분위 0~100 → ms)
+     */
+    public record LatencyBucket(
+            LocalDateTime bucketStart,
+            long count,
+            Map<Double, Double> percentiles
+    ) {
+    }
 }
@@ -43,6 +43,15 @@ public record ApiEndpointResponse(
             @Schema(description = "평균 응답시간 (ms)", example = "320")
             BigDecimal avgResponseTime,
 
+            @Schema(description = "조회 기간 응답시간 p50 (ms), 기간 내 데이터가 없으면 null", example = "210.5")
+            BigDecimal p50ResponseTime,
+
+            @Schema(description = "조회 기간 응답시간 p95 (ms), 기간 내 데이터가 없으면 null", example = "845.2")
+            BigDecimal p95ResponseTime,
+
+            @Schema(description = "조회 기간 응답시간 p99 (ms), 기간 내 데이터가 없으면 null", example = "1520.8")
+            BigDecimal p99ResponseTime,
+
             @Schema(description = "이상치 횟수", example = "12")
             Integer anomalyCount,
 
@@ -67,6 +76,12 @@ public record ApiEndpointResponse(
             @Schema(description = "전체 평균 응답시간 (ms)", example = "245")
             BigDecimal avgResponseTime,
 
+            @Schema(description = "조회 기간 전체 응답시간 p95 (ms), 기간 내 데이터가 없으면 null", example = "780.4")
+            BigDecimal p95ResponseTime,
+
+            @Schema(description = "조회 기간 전체 응답시간 p99 (ms), 기간 내 데이터가 없으면 null", example = "1405.1")
+            BigDecimal p99ResponseTime,
+
             @Schema(description = "임계치 초과 엔드포인트 수", example = "2")
             Integer criticalEndpoints
     ) {
@@ -31,16 +31,16 @@ public record DashboardOverviewResponse(
 
     public record Summary(
         @Schema(description = "전체 로그 갯수", example = "24500")
-        Integer totalLogs,
+        Long totalLogs,
 
         @Schema(description = "에러 로그 갯수", example = "5000")
-        Integer errorCount,
+        Long errorCount,
 
         @Schema(description = "경고 로그 갯수", example = "12300")
-        Integer warnCount,
+        Long warnCount,
 
         @Schema(description = "정보 로그 갯수", example = "7200")
-        Integer infoCount,
+        Long infoCount,
 
         @Schema(description = "평균 응답 시간", example = "245")
         Integer avgResponseTime
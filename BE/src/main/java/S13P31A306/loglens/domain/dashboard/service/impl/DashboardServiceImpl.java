@@ -14,23 +14,25 @@ import S13P31A306.loglens.domain.dashboard.service.DashboardService;
 import S13P31A306.loglens.domain.dashboard.validator.DashboardValidator;
 import S13P31A306.loglens.domain.dependency.dto.response.DependencyGraphResponse;
 import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
-import S13P31A306.loglens.domain.dependency.entity.ProjectDatabase;
-import S13P31A306.loglens.domain.dependency.repository.ProjectDatabaseRepository;
-import S13P31A306.loglens.domain.dependency.service.DependencyGraphService;
-import S13P31A306.loglens.domain.project.entity.LogMetrics;
-import S13P31A306.loglens.domain.project.repository.LogMetricsRepository;
+import S13P31A306.loglens.domain.dependency.dto.internal.ProjectTopology;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
+import S13P31A306.loglens.domain.project.service.LogMetricsRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.DEFAULT_TIMEZONE;
 import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.OVERVIEW_DEFAULT_TIME_RANGE;
 
 @Slf4j
@@ -44,9 +46,9 @@ public class DashboardServiceImpl implements DashboardService {
     private final ComponentService componentService;
     private final BackendMetricsService backendMetricsService;
     private final FrontendMetricsService frontendMetricsService;
-    private final DependencyGraphService dependencyGraphService;
-    private final ProjectDatabaseRepository projectDatabaseRepository;
-    private final LogMetricsRepository logMetricsRepository;
+    private final ProjectTopologyService projectTopologyService;
+    private final LogMetricsRollupService logMetricsRollupService;
+    private final LogRepository logRepository;
     private final DashboardValidator validator;
     private final DashboardMapper mapper;
 
@@ -75,28 +77,18 @@ public class DashboardServiceImpl implements DashboardService {
             start = end.minusDays(OVERVIEW_DEFAULT_TIME_RANGE);
         }
 
-        // 로그 수 집계
-        LogMetrics latestMetrics = logMetricsRepository
-                .findTopByProjectIdOrderByAggregatedAtDesc(projectId)
-                .orElse(null);
+        // 로그 수 집계 (요청 기간의 롤업 버킷 합계, 롤업 도입 이전 구간이 포함되면 OpenSearch 집계)
+        // 경계가 압축된 시/일 버킷 안에 있으면 경계 조각만 OpenSearch로 보충
+        LogMetricsRollupSummary metrics = logMetricsRollupService.covers(projectId, start)
+                ? logMetricsRollupService.summarize(projectId, start, end,
+                        (from, to) -> logRepository.summarizeByTimeRange(projectUuid, toUtc(from), toUtc(to)))
+                : logRepository.summarizeByTimeRange(projectUuid, toUtc(start), toUtc(end));
 
-        int totalLogs = 0;
-        int infoLogs = 0;
-        int warnLogs = 0;
-        int errorLogs = 0;
-        int avgResponseTime = 0;
-
-        if (Objects.isNull(latestMetrics)) {
+        if (metrics.totalLogs() == 0) {
             log.warn("{} 대시보드 통계 정보가 없습니다",  LOG_PREFIX);
         } else {
-            totalLogs = latestMetrics.getTotalLogs();
-            infoLogs = latestMetrics.getInfoLogs();
-            warnLogs = latestMetrics.getWarnLogs();
-            errorLogs = latestMetrics.getErrorLogs();
-            avgResponseTime = latestMetrics.getAvgResponseTime();
-
             log.info("{} 대시보드 통계 개요 조회 완료: totalLogs={}, errorLogs={}, avgResponseTime={}",
-                    LOG_PREFIX, totalLogs, errorLogs, avgResponseTime);
+                    LOG_PREFIX, metrics.totalLogs(), metrics.errorLogs(), metrics.avgResponseTime());
         }
 
         return DashboardOverviewResponse.builder()
@@ -106,11 +98,11 @@ public class DashboardServiceImpl implements DashboardService {
                                 end.format(DateTimeFormatter.ISO_DATE_TIME)
                         ))
                 .summary(new DashboardOverviewResponse.Summary(
-                        totalLogs,
-                        errorLogs,
-                        warnLogs,
-                        infoLogs,
-                        avgResponseTime
+                        metrics.totalLogs(),
+                        metrics.errorLogs(),
+                        metrics.warnLogs(),
+                        metrics.infoLogs(),
+                        metrics.avgResponseTime()
                 ))
                 .build();
     }
@@ -118,15 +110,9 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public DatabaseComponentResponse getDatabaseComponents(String projectUuid, UserDetails userDetails) {
         Integer projectId = validator.validateProjectAccess(projectUuid, userDetails);
-        List<ProjectDatabase> databases = projectDatabaseRepository.findByProjectId(projectId);
-
-        List<String> databaseTypes = databases.stream()
-                .map(ProjectDatabase::getDatabaseType)
-                .distinct()
-                .sorted()
-                .toList();
+        ProjectTopology topology = projectTopologyService.getTopology(projectId);
 
-        return new DatabaseComponentResponse(databaseTypes);
+        return new DatabaseComponentResponse(topology.databaseTypes());
     }
 
     @Override
@@ -141,7 +127,6 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    @Cacheable(value = "componentDependencies", key = "#projectUuid + '::' + #componentId")
     public ComponentDependencyResponse getComponentDependencies(
             final String projectUuid,
             final Integer componentId,
@@ -154,34 +139,25 @@ public class DashboardServiceImpl implements DashboardService {
         Integer projectId = validator.validateProjectAccess(projectUuid, userDetails);
         validator.validateComponentAccess(componentId, projectId);
 
-        // 2. 전체 컴포넌트 및 의존성 그래프 조회
-        List<Component> allProjectComponents = componentService.getProjectComponents(projectId);
+        // 2. 프로젝트 토폴로지 인덱스 조회 (컴포넌트 + 의존성 그래프)
+        ProjectTopology topology = projectTopologyService.getTopology(projectId);
 
-        List<DependencyGraph> allDependencies = allProjectComponents.stream()
-                .flatMap(component -> dependencyGraphService
-                        .findAllDependenciesByComponentId(component.getId())
-                        .stream())
-                .distinct()
-                .toList();
-
-        log.debug("{} 전체 그래프 조회: components={}, edges={}",
-                LOG_PREFIX, allProjectComponents.size(), allDependencies.size());
+        log.debug("{} 전체 그래프 조회: components={}, edges={}, version={}",
+                LOG_PREFIX, topology.components().size(), topology.edges().size(), topology.version());
 
         // 3. componentId와 연결된 모든 컴포넌트 ID 찾기 (BFS)
-        Set<Integer> connectedComponentIds = findConnectedComponents(componentId, allDependencies);
+        Set<Integer> connectedComponentIds = topology.connectedComponentIds(componentId);
 
         log.debug("{} 연결된 컴포넌트 ID 목록: {}", LOG_PREFIX, connectedComponentIds);
 
         // 4. 연결된 컴포넌트들만 필터링
-        Map<Integer, Component> componentMap = allProjectComponents.stream()
-                .filter(component -> connectedComponentIds.contains(component.getId()))
+        Map<Integer, Component> componentMap = connectedComponentIds.stream()
+                .map(topology.components()::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toMap(Component::getId, component -> component));
 
         // 5. 연결된 컴포넌트들의 의존성만 필터링 (서브그래프)
-        List<DependencyGraph> connectedDependencies = allDependencies.stream()
-                .filter(dep -> connectedComponentIds.contains(dep.getTo())
-                        && connectedComponentIds.contains(dep.getFrom()))
-                .toList();
+        List<DependencyGraph> connectedDependencies = topology.edgesWithin(connectedComponentIds);
 
         log.debug("{} 필터링된 그래프: components={}, edges={}",
                 LOG_PREFIX, connectedComponentIds.size(), connectedDependencies.size());
@@ -219,61 +195,6 @@ public class DashboardServiceImpl implements DashboardService {
         );
     }
 
-    /**
-     * BFS를 사용하여 주어진 componentId와 연결된 모든 컴포넌트 ID를 찾습니다.
-     * 양방향 탐색 (source → target, target → source)
-     */
-    private Set<Integer> findConnectedComponents(
-            Integer startComponentId,
-            List<DependencyGraph> allDependencies) {
-
-        Set<Integer> connected = new HashSet<>();
-        Queue<Integer> queue = new LinkedList<>();
-
-        queue.offer(startComponentId);
-        connected.add(startComponentId);
-
-        // 양방향 인접 리스트 생성
-        Map<Integer, Set<Integer>> adjacencyMap = buildAdjacencyMap(allDependencies);
-
-        while (!queue.isEmpty()) {
-            Integer currentId = queue.poll();
-
-            // 현재 노드와 연결된 모든 이웃 노드 탐색
-            Set<Integer> neighbors = adjacencyMap.getOrDefault(currentId, Collections.emptySet());
-
-            for (Integer neighborId : neighbors) {
-                 if (!connected.contains(neighborId)) {
-                    connected.add(neighborId);
-                    queue.offer(neighborId);
-                 }
-            }
-        }
-
-        return connected;
-    }
-
-    /**
-     * 양방향 인접 리스트 생성
-     * A → B 관계가 있으면, A의 이웃에 B를 추가하고, B의 이웃에도 A를 추가
-     */
-    private Map<Integer, Set<Integer>> buildAdjacencyMap(List<DependencyGraph> dependencies) {
-        Map<Integer, Set<Integer>> adjacencyMap = new HashMap<>();
-
-        for (DependencyGraph dep : dependencies) {
-            Integer source = dep.getTo();
-            Integer target = dep.getFrom();
-
-            // source → target
-            adjacencyMap.computeIfAbsent(source, k -> new HashSet<>()).add(target);
-
-            // target → source (양방향)
-            adjacencyMap.computeIfAbsent(target, k -> new HashSet<>()).add(source);
-        }
-
-        return adjacencyMap;
-    }
-
     /**
      * 그래프에 연결된 컴포넌트만 필터링
      *
@@ -377,4 +298,9 @@ public class DashboardServiceImpl implements DashboardService {
         );
     }
 
+    private LocalDateTime toUtc(LocalDateTime kst) {
+        return kst.atZone(ZoneId.of(DEFAULT_TIMEZONE))
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+    }
 }
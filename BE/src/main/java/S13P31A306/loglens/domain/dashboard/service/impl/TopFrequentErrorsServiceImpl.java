@@ -4,13 +4,14 @@ import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.E
 import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.ERROR_MAX_DEFAULT_RETRIEVAL_TIME;
 
 import S13P31A306.loglens.domain.component.entity.Component;
-import S13P31A306.loglens.domain.component.repository.ComponentRepository;
+import S13P31A306.loglens.domain.component.util.ComponentResolver;
 import S13P31A306.loglens.domain.dashboard.dto.opensearch.ErrorAggregation;
 import S13P31A306.loglens.domain.dashboard.dto.opensearch.ErrorStatistics;
 import S13P31A306.loglens.domain.dashboard.dto.response.TopFrequentErrorsResponse;
 import S13P31A306.loglens.domain.dashboard.service.TopFrequentErrorsQueryService;
 import S13P31A306.loglens.domain.dashboard.service.TopFrequentErrorsService;
 import S13P31A306.loglens.domain.dashboard.validator.DashboardValidator;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,7 +36,7 @@ public class TopFrequentErrorsServiceImpl implements TopFrequentErrorsService {
 
     private final TopFrequentErrorsQueryService topFrequentErrorsQueryService;
     private final DashboardValidator dashboardValidator;
-    private final ComponentRepository componentRepository;
+    private final ProjectTopologyService projectTopologyService;
 
     /**
      * 자주 발생하는 에러 Top N 조회
@@ -112,8 +113,8 @@ public class TopFrequentErrorsServiceImpl implements TopFrequentErrorsService {
     //@formatter:off
 
     /**
-     * 컴포넌트 매칭: logger 필드를 기반으로 MySQL components 테이블과 매칭
-     * logger가 component의 package_name으로 시작하면 해당 컴포넌트로 매칭
+     * 컴포넌트 매칭: logger 필드를 기반으로 프로젝트 토폴로지 인덱스의 컴포넌트 해석기와 매칭
+     * component의 package_name이 logger의 패키지 단위 접두사이면 해당 컴포넌트로 매칭
      *
      * @param projectId 프로젝트 ID
      * @param errorAggs 에러 집계 결과 리스트
@@ -135,16 +136,13 @@ public class TopFrequentErrorsServiceImpl implements TopFrequentErrorsService {
             return Map.of();
         }
 
-        // MySQL: 프로젝트의 모든 컴포넌트 조회
-        List<Component> allComponents = componentRepository.findAllByProjectId(projectId);
+        // 프로젝트 컴포넌트 해석기 (컴포넌트 수집 시 갱신되는 메모리 인덱스)
+        ComponentResolver resolver = projectTopologyService.getTopology(projectId).resolver();
 
-        // logger → Components 매핑 (logger가 package_name으로 시작하는지 확인)
+        // logger → Components 매핑 (package_name이 logger의 패키지 단위 접두사인지 확인)
         Map<String, List<Component>> loggerToComponents = new HashMap<>();
         for (String logger : loggers) {
-            List<Component> matched = allComponents.stream()
-                    .filter(c -> c.getPackageName() != null && logger.startsWith(c.getPackageName()))
-                    .toList();
-            loggerToComponents.put(logger, matched);
+            loggerToComponents.put(logger, resolver.findByLoggerPrefix(logger));
         }
 
         return loggerToComponents;
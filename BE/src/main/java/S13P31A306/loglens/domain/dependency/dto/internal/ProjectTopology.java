@@ -0,0 +1,104 @@
+package S13P31A306.loglens.domain.dependency.dto.internal;
+
+import S13P31A306.loglens.domain.component.entity.Component;
+import S13P31A306.loglens.domain.component.util.ComponentResolver;
+import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+// @formatter:off
+/**
+ * 프로젝트 토폴로지 스냅샷 (읽기 전용)
+ * - 컴포넌트, 의존성 간선, 양방향 인접 리스트, 데이터베이스 종류를 한 번에 적재
+ * - 로거 이름 → 컴포넌트 해석기도 같은 스냅샷으로 만들어 컴포넌트 수집 시 함께 갱신
+ * - version은 적재 직전의 토폴로지 버전 (수집 시마다 증가)
+ */
+// @formatter:on
+public record ProjectTopology(
+        Integer projectId,
+        long version,
+        Map<Integer, Component> components,
+        List<DependencyGraph> edges,
+        Map<Integer, List<DependencyGraph>> incidentEdges,
+        List<String> databaseTypes,
+        ComponentResolver resolver
+) {
+
+    public static ProjectTopology of(
+            Integer projectId,
+            long version,
+            Collection<Component> components,
+            Collection<DependencyGraph> edges,
+            Collection<String> databaseTypes) {
+        Map<Integer, Component> componentMap = new LinkedHashMap<>();
+        components.forEach(component -> componentMap.put(component.getId(), component));
+
+        Map<Integer, List<DependencyGraph>> incident = new HashMap<>();
+        for (DependencyGraph edge : edges) {
+            incident.computeIfAbsent(edge.getFrom(), k -> new ArrayList<>()).add(edge);
+            if (!edge.getTo().equals(edge.getFrom())) {
+                incident.computeIfAbsent(edge.getTo(), k -> new ArrayList<>()).add(edge);
+            }
+        }
+        incident.replaceAll((id, list) -> List.copyOf(list));
+
+        return new ProjectTopology(
+                projectId,
+                version,
+                Collections.unmodifiableMap(componentMap),
+                List.copyOf(edges),
+                Collections.unmodifiableMap(incident),
+                databaseTypes.stream().distinct().sorted().toList(),
+                ComponentResolver.of(components)
+        );
+    }
+
+    /**
+     * 시작 컴포넌트와 (방향 무관하게) 연결된 모든 컴포넌트 ID (BFS, 시작 컴포넌트 포함)
+     */
+    public Set<Integer> connectedComponentIds(Integer startComponentId) {
+        Set<Integer> connected = new HashSet<>();
+        Queue<Integer> queue = new ArrayDeque<>();
+        connected.add(startComponentId);
+        queue.offer(startComponentId);
+
+        while (!queue.isEmpty()) {
+            Integer currentId = queue.poll();
+            for (DependencyGraph edge : incidentEdges.getOrDefault(currentId, List.of())) {
+                Integer neighborId = edge.getFrom().equals(currentId) ? edge.getTo() : edge.getFrom();
+                if (connected.add(neighborId)) {
+                    queue.offer(neighborId);
+                }
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * 한쪽 끝이라도 주어진 컴포넌트 집합에 속하는 간선
+     */
+    public List<DependencyGraph> edgesTouching(Set<Integer> componentIds) {
+        return edges.stream()
+                .filter(edge -> componentIds.contains(edge.getFrom()) || componentIds.contains(edge.getTo()))
+                .toList();
+    }
+
+    /**
+     * 양 끝이 모두 주어진 컴포넌트 집합에 속하는 간선 (서브그래프)
+     */
+    public List<DependencyGraph> edgesWithin(Set<Integer> componentIds) {
+        return edges.stream()
+                .filter(edge -> componentIds.contains(edge.getFrom()) && componentIds.contains(edge.getTo()))
+                .toList();
+    }
+}
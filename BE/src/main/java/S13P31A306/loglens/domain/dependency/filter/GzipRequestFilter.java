@@ -0,0 +1,198 @@
+package S13P31A306.loglens.domain.dependency.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+// @formatter:off
+/**
+ * Collector API gzip 요청 본문 해제 필터
+ * - 스타터가 Content-Encoding: gzip 으로 보낸 컴포넌트/의존성 요청을 해제해 컨트롤러에 전달
+ * - 해제 후 크기가 제한을 넘으면 요청을 중단 (압축 폭탄 방지)
+ * - Collector API 경로(/api/dependencies/*, /api/components/*)에만 적용
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final String LOG_PREFIX = "[GzipRequestFilter]";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final String GZIP = "gzip";
+
+    private final long maxInflatedBytes;
+
+    public GzipRequestFilter(
+            @Value("${collector.request.max-inflated-bytes:16777216}") long maxInflatedBytes) {
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/dependencies/") && !uri.startsWith("/api/components/")) {
+            return true;
+        }
+        String encoding = request.getHeader(CONTENT_ENCODING_HEADER);
+        return Objects.isNull(encoding) || !GZIP.equalsIgnoreCase(encoding.trim());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        log.debug("{} gzip 요청 본문 해제: uri={}, 압축 크기={}", LOG_PREFIX, request.getRequestURI(), request.getContentLengthLong());
+        filterChain.doFilter(new GzipRequestWrapper(request, maxInflatedBytes), response);
+    }
+
+    /**
+     * 본문을 gzip 해제 스트림으로 바꾸고 Content-Encoding/Content-Length 헤더를 숨기는 요청 래퍼
+     */
+    private static class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final long maxInflatedBytes;
+        private ServletInputStream inputStream;
+
+        GzipRequestWrapper(HttpServletRequest request, long maxInflatedBytes) {
+            super(request);
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (Objects.isNull(inputStream)) {
+                inputStream = new InflatingServletInputStream(
+                        new GZIPInputStream(super.getInputStream()), maxInflatedBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = Objects.isNull(encoding) ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1L;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (isHiddenHeader(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isHiddenHeader(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHiddenHeader(name))
+                    .toList());
+        }
+
+        private boolean isHiddenHeader(String name) {
+            return CONTENT_ENCODING_HEADER.equalsIgnoreCase(name) || "Content-Length".equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * 해제된 바이트 수를 제한하는 ServletInputStream
+     */
+    private static class InflatingServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private final long maxInflatedBytes;
+        private long inflatedBytes;
+        private boolean finished;
+
+        InflatingServletInputStream(InputStream delegate, long maxInflatedBytes) {
+            this.delegate = delegate;
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b < 0) {
+                finished = true;
+                return b;
+            }
+            count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read < 0) {
+                finished = true;
+                return read;
+            }
+            count(read);
+            return read;
+        }
+
+        private void count(int read) throws IOException {
+            inflatedBytes += read;
+            if (inflatedBytes > maxInflatedBytes) {
+                throw new IOException("gzip 요청 본문이 허용 크기를 초과했습니다: " + maxInflatedBytes + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다.");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package S13P31A306.loglens.domain.dependency.repository;
+
+import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 의존성 관계 일괄 변경 레포지토리 (JDBC 배치)
+ * 토폴로지 수집의 변경분(추가/삭제)만 반영하며, 호출 측 트랜잭션에 참여합니다.
+ */
+@Repository
+public class DependencyGraphJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO dependency_graphs (project_id, from_component_id, to_component_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_SQL = "DELETE FROM dependency_graphs WHERE id = ?";
+
+    private static final String DELETE_BY_COMPONENT_SQL =
+            "DELETE FROM dependency_graphs WHERE project_id = ? AND (from_component_id = ? OR to_component_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public DependencyGraphJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${jdbc.bulk-upsert.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void insertAll(Collection<DependencyGraph> dependencies) {
+        if (dependencies.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, List.copyOf(dependencies), batchSize, (ps, dependency) -> {
+            ps.setObject(1, dependency.getProjectId());
+            ps.setObject(2, dependency.getFrom());
+            ps.setObject(3, dependency.getTo());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    public void deleteAllById(Collection<Integer> dependencyIds) {
+        if (dependencyIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, List.copyOf(dependencyIds), batchSize,
+                (ps, dependencyId) -> ps.setObject(1, dependencyId));
+    }
+
+    /**
+     * 삭제된 컴포넌트를 가리키는 의존성 관계 삭제
+     */
+    public void deleteAllByComponentIds(Integer projectId, Collection<Integer> componentIds) {
+        if (componentIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_BY_COMPONENT_SQL, List.copyOf(componentIds), batchSize,
+                (ps, componentId) -> {
+                    ps.setObject(1, projectId);
+                    ps.setObject(2, componentId);
+                    ps.setObject(3, componentId);
+                });
+    }
+}
@@ -12,6 +12,11 @@ public interface DependencyGraphRepository extends JpaRepository<DependencyGraph
     void deleteByProjectId(Integer projectId);
     Integer countByProjectId(Integer projectId);
 
+    /**
+     * 프로젝트의 모든 의존성 조회 (토폴로지 적재)
+     */
+    List<DependencyGraph> findAllByProjectId(Integer projectId);
+
     /**
      * 특정 컴포넌트가 의존하는 대상 조회 (from → to)
      */
@@ -13,7 +13,7 @@ public interface DependencyGraphService {
 
     /**
      * 의존성 그래프 배치 저장
-     * 기존 프로젝트 의존성 삭제 후 새로 저장
+     * 현재 프로젝트 의존성과 비교하여 추가/삭제된 관계만 반영 (같은 내용이면 생략)
      *
      * @param request 배치 저장 요청
      */
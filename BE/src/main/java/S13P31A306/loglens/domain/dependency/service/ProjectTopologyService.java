@@ -0,0 +1,26 @@
+package S13P31A306.loglens.domain.dependency.service;
+
+import S13P31A306.loglens.domain.dependency.dto.internal.ProjectTopology;
+
+/**
+ * 프로젝트 토폴로지 인덱스 Service 인터페이스
+ * 컴포넌트/의존성/데이터베이스를 프로젝트 단위로 메모리에 적재하여 대시보드 그래프 조회에 사용
+ */
+public interface ProjectTopologyService {
+
+    /**
+     * 프로젝트 토폴로지 조회 (버전이 같으면 메모리 인덱스, 다르면 재적재)
+     *
+     * @param projectId 프로젝트 ID
+     * @return 토폴로지 스냅샷
+     */
+    ProjectTopology getTopology(Integer projectId);
+
+    /**
+     * 컴포넌트/의존성 수집 후 토폴로지 무효화
+     * 트랜잭션 안에서 호출하면 커밋 후에 반영
+     *
+     * @param projectId 프로젝트 ID
+     */
+    void invalidate(Integer projectId);
+}
@@ -6,17 +6,26 @@ import S13P31A306.loglens.domain.dependency.dto.request.DependencyGraphBatchRequ
 import S13P31A306.loglens.domain.dependency.dto.request.DependencyRelationRequest;
 import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
 import S13P31A306.loglens.domain.dependency.entity.ProjectDatabase;
+import S13P31A306.loglens.domain.dependency.repository.DependencyGraphJdbcRepository;
 import S13P31A306.loglens.domain.dependency.repository.DependencyGraphRepository;
 import S13P31A306.loglens.domain.dependency.repository.ProjectDatabaseRepository;
 import S13P31A306.loglens.domain.dependency.service.DependencyGraphService;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
+import S13P31A306.loglens.domain.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -28,54 +37,100 @@ import java.util.stream.Stream;
 @Transactional(readOnly = true)
 public class DependencyGraphServiceImpl implements DependencyGraphService {
 
+    private static final String LOG_PREFIX = "[DependencyGraphService]";
+
     private final DependencyGraphRepository dependencyGraphRepository;
+    private final DependencyGraphJdbcRepository dependencyGraphJdbcRepository;
     private final ComponentRepository componentRepository;
     private final ProjectDatabaseRepository projectDatabaseRepository;
-
+    private final ProjectRepository projectRepository;
+    private final ProjectTopologyService projectTopologyService;
+    private final TopologyIngestHashStore ingestHashStore;
+
+    /**
+     * 의존성 관계 배치 수집 (from/to 컴포넌트 기준 변경분 반영)
+     * - 직전과 같은 내용이면 건너뜀
+     * - 프로젝트 행 잠금 후 컴포넌트/현재 관계를 한 번씩 조회하여 추가/삭제 대상을 계산하고 JDBC 배치로 반영
+     */
     @Override
     @Transactional
     public void saveAll(DependencyGraphBatchRequest request, Integer projectId) {
-        Integer existingCount = dependencyGraphRepository.countByProjectId(projectId);
-        if (existingCount > 0) {
-            log.info("🗑️ 기존 의존성 관계 삭제 시작: projectId={}, 개수={}", projectId, existingCount);
-            dependencyGraphRepository.deleteByProjectId(projectId);
-            log.info("✅ 기존 의존성 관계 삭제 완료");
+        List<String> databases = Objects.isNull(request.databases())
+                ? List.of()
+                : request.databases().stream().filter(Objects::nonNull).distinct().toList();
+
+        // 1. 내용 해시 (관계 + 데이터베이스)
+        List<List<String>> records = new ArrayList<>();
+        request.dependencies().stream()
+                .map(relation -> List.of("R", relation.from(), relation.to()))
+                .distinct()
+                .forEach(records::add);
+        databases.stream().map(database -> List.of("D", database)).forEach(records::add);
+        records.sort(Comparator.comparing(Object::toString));
+        String contentHash = TopologyIngestHashStore.hash(records);
+
+        if (ingestHashStore.isUnchanged(projectId, TopologyIngestHashStore.DEPENDENCIES, contentHash)) {
+            log.info("{} 의존성 관계 변경 없음 - 수집 생략: projectId={}, 관계 수={}",
+                    LOG_PREFIX, projectId, request.dependencies().size());
+            return;
         }
 
-        log.info("📊 의존성 관계 저장 시작: projectId={}, 관계 수={}",
-                projectId, request.dependencies().size());
+        // 2. 같은 프로젝트의 동시 수집은 순서대로 처리
+        projectRepository.findByIdForUpdate(projectId);
 
-        int savedCount = 0;
-        int skippedCount = 0;
+        // 3. 컴포넌트 이름 → ID (같은 이름이 여러 개면 ID가 가장 작은 컴포넌트)
+        Map<String, Integer> componentIds = new HashMap<>();
+        componentRepository.findAllByProjectId(projectId).stream()
+                .sorted(Comparator.comparing(Component::getId))
+                .forEach(component -> componentIds.putIfAbsent(component.getName(), component.getId()));
 
+        Set<RelationKey> desired = new LinkedHashSet<>();
+        int skippedCount = 0;
         for (DependencyRelationRequest relation : request.dependencies()) {
-            // ✅ projectId와 name으로 컴포넌트 조회
-            Optional<Component> fromComponent = componentRepository
-                    .findByProjectIdAndName(projectId, relation.from());
-            Optional<Component> toComponent = componentRepository
-                    .findByProjectIdAndName(projectId, relation.to());
-
-            // 둘 다 있으면 저장
-            if (fromComponent.isPresent() && toComponent.isPresent()) {
-                DependencyGraph graph = DependencyGraph.builder()
-                        .projectId(projectId)  // ✅ projectId 설정
-                        .from(fromComponent.get().getId())
-                        .to(toComponent.get().getId())
-                        .build();
-
-                dependencyGraphRepository.save(graph);
-                savedCount++;
-            } else {
-                log.warn("⚠️ 컴포넌트를 찾을 수 없음 (projectId={}): from={}, to={}",
-                        projectId, relation.from(), relation.to());
+            Integer fromId = componentIds.get(relation.from());
+            Integer toId = componentIds.get(relation.to());
+            if (Objects.isNull(fromId) || Objects.isNull(toId)) {
+                log.warn("{} 컴포넌트를 찾을 수 없음 (projectId={}): from={}, to={}",
+                        LOG_PREFIX, projectId, relation.from(), relation.to());
                 skippedCount++;
+                continue;
+            }
+            desired.add(new RelationKey(fromId, toId));
+        }
+
+        // 4. 현재 관계와 비교 (같은 관계가 여러 개면 하나만 유지)
+        Set<RelationKey> kept = new HashSet<>();
+        List<Integer> deletes = new ArrayList<>();
+        for (DependencyGraph existing : dependencyGraphRepository.findAllByProjectId(projectId)) {
+            RelationKey edge = new RelationKey(existing.getFrom(), existing.getTo());
+            if (!desired.contains(edge) || !kept.add(edge)) {
+                deletes.add(existing.getId());
             }
         }
+        List<DependencyGraph> inserts = desired.stream()
+                .filter(edge -> !kept.contains(edge))
+                .map(edge -> DependencyGraph.builder()
+                        .projectId(projectId)
+                        .from(edge.from())
+                        .to(edge.to())
+                        .build())
+                .toList();
+
+        dependencyGraphJdbcRepository.insertAll(inserts);
+        dependencyGraphJdbcRepository.deleteAllById(deletes);
 
-        if (!Objects.isNull(request.databases()) && !request.databases().isEmpty()) saveDatabases(request.databases(), projectId);
+        boolean databasesChanged = !databases.isEmpty() && saveDatabases(databases, projectId);
 
-        log.info("✅ 의존성 관계 저장 완료: {} 개 저장, {} 개 스킵 (projectId={})",
-                savedCount, skippedCount, projectId);
+        if (!inserts.isEmpty() || !deletes.isEmpty() || databasesChanged) {
+            projectTopologyService.invalidate(projectId);
+        }
+        // 컴포넌트를 찾지 못한 관계가 있으면 컴포넌트 수집 후 같은 내용으로 다시 반영할 수 있도록 해시를 남기지 않음
+        if (skippedCount == 0) {
+            ingestHashStore.rememberAfterCommit(projectId, TopologyIngestHashStore.DEPENDENCIES, contentHash);
+        }
+
+        log.info("{} 의존성 관계 수집 완료: projectId={}, 추가={}, 삭제={}, 유지={}, 스킵={}",
+                LOG_PREFIX, projectId, inserts.size(), deletes.size(), kept.size(), skippedCount);
     }
 
     @Override
@@ -88,23 +143,43 @@ public class DependencyGraphServiceImpl implements DependencyGraphService {
         return Stream.concat(downstreamEdges.stream(), upstreamEdges.stream()).toList();
     }
 
-    private void saveDatabases(List<String> databases, Integer projectId) {
-        log.info("💾 데이터베이스 정보 저장 시작");
-
-        // 기존 데이터베이스 정보 삭제
-        projectDatabaseRepository.deleteByProjectId(projectId);
-        log.info("  - 기존 데이터베이스 정보 삭제 완료");
+    /**
+     * 데이터베이스 종류 변경분 반영
+     *
+     * @return 변경이 있었으면 true
+     */
+    private boolean saveDatabases(List<String> databases, Integer projectId) {
+        Set<String> desired = new LinkedHashSet<>(databases);
+
+        List<ProjectDatabase> deletes = new ArrayList<>();
+        Set<String> current = new HashSet<>();
+        for (ProjectDatabase database : projectDatabaseRepository.findByProjectId(projectId)) {
+            if (!desired.contains(database.getDatabaseType()) || !current.add(database.getDatabaseType())) {
+                deletes.add(database);
+            }
+        }
 
-        // 새 데이터베이스 정보 저장
-        List<ProjectDatabase> dbEntities = databases.stream()
-                .distinct()
-                .map(dbType -> ProjectDatabase.builder()
+        List<ProjectDatabase> inserts = desired.stream()
+                .filter(databaseType -> !current.contains(databaseType))
+                .map(databaseType -> ProjectDatabase.builder()
                         .projectId(projectId)
-                        .databaseType(dbType)
+                        .databaseType(databaseType)
                         .build())
                 .toList();
 
-        projectDatabaseRepository.saveAll(dbEntities);
-        log.info("✅ 데이터베이스 정보 {} 개 저장 완료: {}", dbEntities.size(), databases);
+        projectDatabaseRepository.deleteAllInBatch(deletes);
+        projectDatabaseRepository.saveAll(inserts);
+
+        if (!inserts.isEmpty() || !deletes.isEmpty()) {
+            log.info("{} 데이터베이스 정보 반영: projectId={}, 추가={}, 삭제={}",
+                    LOG_PREFIX, projectId, inserts.size(), deletes.size());
+        }
+        return !inserts.isEmpty() || !deletes.isEmpty();
+    }
+
+    /**
+     * 의존성 관계 자연 키 (from → to 컴포넌트 ID)
+     */
+    private record RelationKey(Integer from, Integer to) {
     }
 }
@@ -0,0 +1,142 @@
+package S13P31A306.loglens.domain.dependency.service.impl;
+
+import S13P31A306.loglens.domain.component.repository.ComponentRepository;
+import S13P31A306.loglens.domain.dependency.dto.internal.ProjectTopology;
+import S13P31A306.loglens.domain.dependency.entity.ProjectDatabase;
+import S13P31A306.loglens.domain.dependency.repository.DependencyGraphRepository;
+import S13P31A306.loglens.domain.dependency.repository.ProjectDatabaseRepository;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// @formatter:off
+/**
+ * 프로젝트 토폴로지 인덱스 Service 구현체
+ * - 프로젝트별 컴포넌트/간선을 각각 한 번의 쿼리로 적재하여 메모리에 보관
+ * - 버전은 Redis 카운터(loglens:topology:version:{projectId})로 인스턴스 간 공유
+ *   · 수집 시 커밋 후 카운터를 증가시키고, 조회 시 보관 중인 버전과 다르면 재적재
+ *   · 적재 전에 읽은 버전으로 보관하므로 적재 중 수집이 일어나도 다음 조회에서 재적재됨
+ * - Redis 오류 시에는 이 인스턴스의 무효화와 보관 시간(fallback-max-age-seconds)만으로 판단
+ */
+// @formatter:on
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ProjectTopologyServiceImpl implements ProjectTopologyService {
+
+    private static final String LOG_PREFIX = "[ProjectTopologyService]";
+    private static final String VERSION_KEY_PREFIX = "loglens:topology:version:";
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final ComponentRepository componentRepository;
+    private final DependencyGraphRepository dependencyGraphRepository;
+    private final ProjectDatabaseRepository projectDatabaseRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration fallbackMaxAge;
+
+    private final Map<Integer, CachedTopology> topologies = new ConcurrentHashMap<>();
+
+    public ProjectTopologyServiceImpl(
+            ComponentRepository componentRepository,
+            DependencyGraphRepository dependencyGraphRepository,
+            ProjectDatabaseRepository projectDatabaseRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${topology.index.fallback-max-age-seconds:60}") long fallbackMaxAgeSeconds) {
+        this.componentRepository = componentRepository;
+        this.dependencyGraphRepository = dependencyGraphRepository;
+        this.projectDatabaseRepository = projectDatabaseRepository;
+        this.redisTemplate = redisTemplate;
+        this.fallbackMaxAge = Duration.ofSeconds(fallbackMaxAgeSeconds);
+    }
+
+    @Override
+    public ProjectTopology getTopology(Integer projectId) {
+        long version = currentVersion(projectId);
+        CachedTopology cached = topologies.get(projectId);
+        if (Objects.nonNull(cached) && cached.isValid(version, fallbackMaxAge)) {
+            return cached.topology();
+        }
+
+        ProjectTopology topology = load(projectId, version);
+        topologies.put(projectId, new CachedTopology(topology, System.nanoTime()));
+        return topology;
+    }
+
+    @Override
+    public void invalidate(Integer projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(projectId);
+                }
+            });
+            return;
+        }
+        bumpVersion(projectId);
+    }
+
+    private ProjectTopology load(Integer projectId, long version) {
+        long startNanos = System.nanoTime();
+
+        ProjectTopology topology = ProjectTopology.of(
+                projectId,
+                version,
+                componentRepository.findAllByProjectId(projectId),
+                dependencyGraphRepository.findAllByProjectId(projectId),
+                projectDatabaseRepository.findByProjectId(projectId).stream()
+                        .map(ProjectDatabase::getDatabaseType)
+                        .toList()
+        );
+
+        log.debug("{} 토폴로지 적재: projectId={}, version={}, components={}, edges={}, {}ms",
+                LOG_PREFIX, projectId, version, topology.components().size(), topology.edges().size(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return topology;
+    }
+
+    private long currentVersion(Integer projectId) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + projectId);
+            return Objects.isNull(value) ? 0L : Long.parseLong(value);
+        } catch (Exception e) {
+            log.debug("{} 토폴로지 버전 조회 실패 - 보관 시간으로 판단: projectId={}, {}",
+                    LOG_PREFIX, projectId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private void bumpVersion(Integer projectId) {
+        topologies.remove(projectId);
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + projectId);
+        } catch (Exception e) {
+            log.warn("{} 토폴로지 버전 갱신 실패 - 다른 인스턴스는 보관 시간 후 반영: projectId={}, {}",
+                    LOG_PREFIX, projectId, e.getMessage());
+        }
+        log.debug("{} 토폴로지 무효화: projectId={}", LOG_PREFIX, projectId);
+    }
+
+    /**
+     * 보관 중인 토폴로지와 적재 시각
+     */
+    private record CachedTopology(ProjectTopology topology, long loadedAtNanos) {
+
+        boolean isValid(long version, Duration fallbackMaxAge) {
+            if (version == UNKNOWN_VERSION || topology.version() == UNKNOWN_VERSION) {
+                return System.nanoTime() - loadedAtNanos < fallbackMaxAge.toNanos();
+            }
+            return topology.version() == version;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package S13P31A306.loglens.domain.dependency.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+// @formatter:off
+/**
+ * 토폴로지 수집 내용 해시 저장소
+ * - 마지막으로 반영한 수집 내용의 SHA-256을 Redis(loglens:topology:ingest-hash:{projectId}:{kind})에 보관
+ * - 같은 내용이 다시 수집되면 DB를 읽지 않고 건너뜀 (배포 중 여러 인스턴스가 같은 토폴로지를 보내는 경우)
+ * - 해시는 커밋 후에만 기록하며, Redis 오류 시에는 비교 없이 변경분 반영으로 진행 (반영 자체가 멱등)
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class TopologyIngestHashStore {
+
+    private static final String LOG_PREFIX = "[TopologyIngestHashStore]";
+    private static final String KEY_PREFIX = "loglens:topology:ingest-hash:";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    public static final String COMPONENTS = "components";
+    public static final String DEPENDENCIES = "dependencies";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public TopologyIngestHashStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 정렬된 레코드 목록의 내용 해시 (레코드는 필드 목록, null은 빈 문자열로 취급)
+     */
+    public static String hash(List<List<String>> records) {
+        StringBuilder canonical = new StringBuilder();
+        for (List<String> fields : records) {
+            for (String field : fields) {
+                canonical.append(Objects.toString(field, "")).append(FIELD_SEPARATOR);
+            }
+            canonical.append(RECORD_SEPARATOR);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 마지막으로 반영한 내용과 같은지 여부 (Redis 오류 시 false)
+     */
+    public boolean isUnchanged(Integer projectId, String kind, String contentHash) {
+        try {
+            return contentHash.equals(redisTemplate.opsForValue().get(key(projectId, kind)));
+        } catch (Exception e) {
+            log.debug("{} 수집 해시 조회 실패 - 변경분 비교로 진행: projectId={}, kind={}, {}",
+                    LOG_PREFIX, projectId, kind, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 커밋 후 반영한 내용의 해시 기록
+     */
+    public void rememberAfterCommit(Integer projectId, String kind, String contentHash) {
+        afterCommit(() -> redisTemplate.opsForValue().set(key(projectId, kind), contentHash), projectId, kind);
+    }
+
+    /**
+     * 커밋 후 기록된 해시 삭제 (다른 수집으로 반영 결과가 달라질 수 있는 경우)
+     */
+    public void forgetAfterCommit(Integer projectId, String kind) {
+        afterCommit(() -> redisTemplate.delete(key(projectId, kind)), projectId, kind);
+    }
+
+    private void afterCommit(Runnable action, Integer projectId, String kind) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("{} 수집 해시 갱신 실패: projectId={}, kind={}, {}",
+                        LOG_PREFIX, projectId, kind, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+            return;
+        }
+        safeAction.run();
+    }
+
+    private String key(Integer projectId, String kind) {
+        return KEY_PREFIX + projectId + ":" + kind;
+    }
+}
@@ -1,11 +1,11 @@
 package S13P31A306.loglens.domain.flow.service.impl;
 
 import S13P31A306.loglens.domain.component.entity.Component;
-import S13P31A306.loglens.domain.component.repository.ComponentRepository;
+import S13P31A306.loglens.domain.component.util.ComponentResolver;
+import S13P31A306.loglens.domain.dependency.dto.internal.ProjectTopology;
 import S13P31A306.loglens.domain.dependency.dto.response.DependencyGraphResponse;
 import S13P31A306.loglens.domain.dependency.dto.response.Edge;
-import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
-import S13P31A306.loglens.domain.dependency.repository.DependencyGraphRepository;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
 import S13P31A306.loglens.domain.flow.dto.response.*;
 import S13P31A306.loglens.domain.flow.service.FlowService;
 import S13P31A306.loglens.domain.log.constants.LogErrorCode;
@@ -34,8 +34,7 @@ public class FlowServiceImpl implements FlowService {
     private static final String UNKNOWN_COMPONENT = "Unknown Component";
 
     private final LogService logService;
-    private final ComponentRepository componentRepository;
-    private final DependencyGraphRepository dependencyGraphRepository;
+    private final ProjectTopologyService projectTopologyService;
     private final ProjectService projectService;
 
     @Override
@@ -89,7 +88,10 @@ public class FlowServiceImpl implements FlowService {
             throw new BusinessException(LogErrorCode.LOG_NOT_FOUND);
         }
 
-        List<TimelineEntry> timeline = buildTimeline(logs, projectUuid);
+        // 컴포넌트 해석과 의존성 그래프는 프로젝트 토폴로지 인덱스 사용 (로그 건별 DB 조회 없음)
+        ProjectTopology topology = projectTopologyService.getTopology(projectService.getProjectIdByUuid(projectUuid));
+
+        List<TimelineEntry> timeline = buildTimeline(logs, topology.resolver());
 
         List<FlowComponentInfo> components = timeline.stream()
                 .map(entry -> new FlowComponentInfo(entry.componentId(), entry.componentName(), entry.layer()))
@@ -101,7 +103,7 @@ public class FlowServiceImpl implements FlowService {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
-        DependencyGraphResponse graph = buildDependencyGraph(componentIds, projectUuid);
+        DependencyGraphResponse graph = buildDependencyGraph(componentIds, topology);
         FlowSummary summary = buildSummary(logs);
 
         log.info("{} Trace 흐름 조회 완료: traceId={}, timeline 개수={}, component 개수={}",
@@ -110,7 +112,7 @@ public class FlowServiceImpl implements FlowService {
         return new TraceFlowResponse(traceId, projectUuid, summary, timeline, components, graph);
     }
 
-    private List<TimelineEntry> buildTimeline(List<LogResponse> logs, String projectUuid) {
+    private List<TimelineEntry> buildTimeline(List<LogResponse> logs, ComponentResolver resolver) {
         List<TimelineEntry> timeline = new ArrayList<>();
 
         Integer currentComponentId = null;
@@ -120,7 +122,7 @@ public class FlowServiceImpl implements FlowService {
         int sequence = 1;
 
         for (LogResponse logResponse : logs) {
-            FlowComponentInfo componentInfo = extractComponentInfo(logResponse.getLogger(), projectUuid);
+            FlowComponentInfo componentInfo = extractComponentInfo(logResponse.getLogger(), resolver);
 
             // Filter 제외
             if ("Other".equals(componentInfo.layer())) {
@@ -158,50 +160,31 @@ public class FlowServiceImpl implements FlowService {
         return new TimelineEntry(sequence, componentId, componentName, layer, startTime, endTime, duration, new ArrayList<>(logs));
     }
 
-    private FlowComponentInfo extractComponentInfo(String logger, String projectUuid) {
+    private FlowComponentInfo extractComponentInfo(String logger, ComponentResolver resolver) {
         if (logger == null || logger.isEmpty()) {
             return new FlowComponentInfo(null, UNKNOWN_COMPONENT, null);
         }
 
-        try {
-            Integer projectId = projectService.getProjectIdByUuid(projectUuid);
-
-            int lastDot = logger.lastIndexOf('.');
-            if (lastDot == -1) {
-                return new FlowComponentInfo(null, UNKNOWN_COMPONENT, null);
-            }
-
-            String packageName = logger.substring(0, lastDot);
-            String className = logger.substring(lastDot + 1);
-
-            Optional<Component> componentOpt = componentRepository.findByProjectIdAndPackageNameAndName(projectId, packageName, className);
+        Optional<Component> componentOpt = resolver.resolve(logger);
 
-            if (componentOpt.isPresent()) {
-                Component component = componentOpt.get();
-                return new FlowComponentInfo(component.getId(), component.getName(), component.getLayer() != null ? component.getLayer().name() : null);
-            } else {
-                return new FlowComponentInfo(null, UNKNOWN_COMPONENT, null);
-            }
-        } catch (Exception e) {
-            log.error("{} Component 정보 추출 실패: logger={}", LOG_PREFIX, logger, e);
+        if (componentOpt.isPresent()) {
+            Component component = componentOpt.get();
+            return new FlowComponentInfo(component.getId(), component.getName(), component.getLayer() != null ? component.getLayer().name() : null);
+        } else {
             return new FlowComponentInfo(null, UNKNOWN_COMPONENT, null);
         }
     }
 
-    private DependencyGraphResponse buildDependencyGraph(Set<Integer> componentIds, String projectUuid) {
+    private DependencyGraphResponse buildDependencyGraph(Set<Integer> componentIds, ProjectTopology topology) {
         if (componentIds.isEmpty()) {
             return new DependencyGraphResponse(List.of());
         }
 
-        try {
-            Integer projectId = projectService.getProjectIdByUuid(projectUuid);
-            List<DependencyGraph> dependencies = dependencyGraphRepository.findAllByProjectIdAndComponentIds(projectId, componentIds);
-            List<Edge> edges = dependencies.stream().map(dep -> new Edge(dep.getFrom(), dep.getTo())).distinct().toList();
-            return new DependencyGraphResponse(edges);
-        } catch (Exception e) {
-            log.error("{} Dependency graph 조회 실패: projectUuid={}", LOG_PREFIX, projectUuid, e);
-            return new DependencyGraphResponse(List.of());
-        }
+        List<Edge> edges = topology.edgesTouching(componentIds).stream()
+                .map(dep -> new Edge(dep.getFrom(), dep.getTo()))
+                .distinct()
+                .toList();
+        return new DependencyGraphResponse(edges);
     }
 
     private FlowSummary buildSummary(List<LogResponse> logs) {
@@ -0,0 +1,22 @@
+package S13P31A306.loglens.domain.log.constants;
+
+/**
+ * 로그 목록 조회 시 전체 건수 집계 방식
+ */
+public enum LogCountMode {
+
+    /**
+     * 첫 페이지에서만 정확한 건수를 집계하고, 이후 페이지는 커서에 담긴 값을 재사용
+     */
+    EXACT_FIRST_PAGE,
+
+    /**
+     * 임계값까지만 집계하고, 초과 시 하한값(gte)으로 반환
+     */
+    LOWER_BOUND,
+
+    /**
+     * 목록 조회에서는 집계하지 않고, 별도의 건수 조회 API에서 캐시된 값으로 제공
+     */
+    SEPARATE
+}
@@ -18,12 +18,20 @@ public enum LogErrorCode implements ErrorCode {
     INVALID_SOURCE_TYPE("LG400-16", "로그 출처는 FE, BE, INFRA 중 하나여야 합니다.", 400),
     INVALID_SORT("LG400-17", "정렬 기준이 유효하지 않습니다.", 400),
     CURSOR_ENCODING_FAILED("LG400-18", "커서 인코딩에 실패했습니다.", 400),
+    INVALID_EXPORT_FORMAT("LG400-19", "내보내기 형식은 NDJSON, CSV 중 하나여야 합니다.", 400),
+    INVALID_EXPORT_LIMIT("LG400-20", "내보내기 최대 건수는 1 이상이어야 합니다.", 400),
 
     // 403 Forbidden
     PROJECT_FORBIDDEN("LG403-01", "해당 프로젝트에 대한 접근 권한이 없습니다.", 403),
 
     // 404 Not Found
-    LOG_NOT_FOUND("LG404-01", "로그를 찾을 수 없습니다.", 404);
+    LOG_NOT_FOUND("LG404-01", "로그를 찾을 수 없습니다.", 404),
+
+    // 429 Too Many Requests
+    EXPORT_TOO_MANY_REQUESTS("LG429-01", "진행 중인 로그 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", 429),
+
+    // 500 Internal Server Error
+    EXPORT_INTERRUPTED("LG500-01", "로그 조회 중 오류가 발생하여 내보내기가 중단되었습니다.", 500);
 
     private final String code;
     private final String message;
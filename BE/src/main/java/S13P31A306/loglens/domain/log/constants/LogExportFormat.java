@@ -0,0 +1,36 @@
+package S13P31A306.loglens.domain.log.constants;
+
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LogExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 문자열로부터 LogExportFormat을 찾습니다.
+     *
+     * @param value 형식 문자열
+     * @return 일치하는 LogExportFormat, 없으면 null
+     */
+    public static LogExportFormat fromString(String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        for (LogExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package S13P31A306.loglens.domain.log.constants;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 조회 시 OpenSearch _source 프로젝션 프로필
+ * 화면에서 사용하지 않는 대용량 필드(log_vector, ai_analysis 등)를 응답에서 제외하기 위해 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LogProjection {
+
+    /**
+     * 로그 목록 / 실시간 스트림 - LogResponse에 필요한 필드만 포함
+     * 로그 상세 모달이 목록 행의 logDetails를 그대로 표시하므로 log_details는 유지
+     * (상세 조회 API는 AI 분석을 수행하므로 모달을 열 때마다 호출하지 않음)
+     */
+    LIST(
+            List.of(
+                    "log_id", "project_uuid", "timestamp", "requester_ip",
+                    "service_name", "logger", "source_type", "layer",
+                    "log_level", "level", "message", "comment",
+                    "class_name", "method_name", "thread_name", "component_name",
+                    "trace_id", "traceId", "duration", "log_details"
+            ),
+            List.of()
+    ),
+
+    /**
+     * Trace 로그 조회 / 알림 관련 로그 - log_details는 유지하고 분석용 필드 제외
+     */
+    TRACE(
+            List.of(),
+            List.of("log_vector", "ai_analysis", "stacktrace")
+    ),
+
+    /**
+     * 로그 내보내기 - 스택 트레이스와 log_details는 유지하고 분석용 필드 제외
+     */
+    EXPORT(
+            List.of(),
+            List.of("log_vector", "ai_analysis")
+    ),
+
+    /**
+     * 로그 상세 조회 - 임베딩 벡터만 제외
+     */
+    DETAIL(
+            List.of(),
+            List.of("log_vector")
+    );
+
+    private final List<String> includes;
+    private final List<String> excludes;
+}
@@ -11,7 +11,8 @@ public enum LogSuccessCode implements SuccessCode {
 
     LOGS_READ_SUCCESS("LG200-2", "로그 목록을 성공적으로 조회했습니다.", HttpStatus.OK.value()),
     TRACE_LOGS_READ_SUCCESS("LG200-3", "TraceID로 로그를 성공적으로 조회했습니다.", HttpStatus.OK.value()),
-    LOG_DETAIL_READ_SUCCESS("LG200-4", "로그 상세 정보를 성공적으로 조회했습니다.", HttpStatus.OK.value());
+    LOG_DETAIL_READ_SUCCESS("LG200-4", "로그 상세 정보를 성공적으로 조회했습니다.", HttpStatus.OK.value()),
+    LOG_COUNT_READ_SUCCESS("LG200-5", "로그 건수를 성공적으로 조회했습니다.", HttpStatus.OK.value());
 
     private final String code;
     private final String message;
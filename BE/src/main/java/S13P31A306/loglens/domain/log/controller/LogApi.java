@@ -1,5 +1,6 @@
 package S13P31A306.loglens.domain.log.controller;
 
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogStreamRequest;
 import S13P31A306.loglens.global.config.swagger.annotation.ApiInternalServerError;
@@ -14,7 +15,9 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -263,6 +266,157 @@ public interface LogApi {
     )
     ResponseEntity<? extends BaseResponse> getLogs(@ParameterObject @ModelAttribute LogSearchRequest request);
 
+    @Operation(
+            summary = "로그 건수 조회",
+            description = """
+                    로그 목록 조회와 같은 필터 조건으로 전체 로그 수를 조회합니다.
+                    - 커서, 정렬, 페이지 크기 파라미터는 무시됩니다.
+                    - 같은 필터 조건의 건수는 일정 시간 동안 캐시되어 재사용됩니다.
+                    - 목록 조회의 건수 집계 방식이 SEPARATE인 경우 이 API로 전체 건수를 표시합니다.
+                    """,
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "Authorization", description = "Bearer {access_token}", required = true, schema = @Schema(type = "string"))
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "로그 건수 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "LogCountSuccess",
+                                            value = """
+                                                    {
+                                                      "code": "LG200-5",
+                                                      "message": "로그 건수를 성공적으로 조회했습니다.",
+                                                      "status": 200,
+                                                      "data": {
+                                                        "totalCount": 128734,
+                                                        "exact": true
+                                                      },
+                                                      "timestamp": "2025-11-13T06:52:48.010Z"
+                                                    }
+                                                    """
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "프로젝트 접근 권한 없음",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "ProjectForbidden",
+                                            value = """
+                                                    {
+                                                      "code": "LG403-01",
+                                                      "message": "해당 프로젝트에 대한 접근 권한이 없습니다.",
+                                                      "status": 403,
+                                                      "timestamp": "2025-11-03T15:04:00Z"
+                                                    }
+                                                    """
+                                    )
+                            )
+                    )
+            }
+    )
+    ResponseEntity<? extends BaseResponse> countLogs(@ParameterObject @ModelAttribute LogSearchRequest request);
+
+    @Operation(
+            summary = "로그 내보내기 (NDJSON/CSV)",
+            description = """
+                    로그 목록 조회와 같은 필터 조건으로 로그를 파일로 내보냅니다.
+                    - 결과를 메모리에 모으지 않고 배치 단위로 조회하여 응답에 바로 스트리밍합니다.
+                    - `format`: `NDJSON`(기본값, 한 줄에 로그 하나) 또는 `CSV`
+                    - `gzip=true`이면 gzip으로 압축하여 전송합니다.
+                    - `limit`을 지정하지 않거나 서버 상한을 넘으면 서버 상한까지만 내보냅니다.
+                    - 기본 정렬은 `TIMESTAMP,ASC`입니다.
+                    """,
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "Authorization", description = "Bearer {access_token}", required = true, schema = @Schema(type = "string"))
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "로그 내보내기 성공 (첨부 파일)",
+                            content = {
+                                    @Content(
+                                            mediaType = "application/x-ndjson",
+                                            examples = @ExampleObject(
+                                                    name = "NdjsonExample",
+                                                    value = """
+                                                            {"id":"abc123xyz789","timestamp":"2025-11-12T20:00:01.123","log_level":"ERROR","source_type":"BE","message":"NullPointerException occurred","trace_id":"trace-abc-123"}
+                                                            {"id":"abc123xyz790","timestamp":"2025-11-12T20:00:02.456","log_level":"INFO","source_type":"BE","message":"Request completed","trace_id":"trace-abc-124"}
+                                                            """
+                                            )
+                                    ),
+                                    @Content(mediaType = "text/csv"),
+                                    @Content(mediaType = "application/gzip")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "입력값 유효성 검증 실패",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "InvalidExportFormat",
+                                            value = """
+                                                    {
+                                                      "code": "LG400-19",
+                                                      "message": "내보내기 형식은 NDJSON, CSV 중 하나여야 합니다.",
+                                                      "status": 400,
+                                                      "timestamp": "2025-11-13T06:52:48.010Z"
+                                                    }
+                                                    """
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "프로젝트 접근 권한 없음",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "ProjectForbidden",
+                                            value = """
+                                                    {
+                                                      "code": "LG403-01",
+                                                      "message": "해당 프로젝트에 대한 접근 권한이 없습니다.",
+                                                      "status": 403,
+                                                      "timestamp": "2025-11-03T15:04:00Z"
+                                                    }
+                                                    """
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "동시 내보내기 수 초과",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "ExportTooManyRequests",
+                                            value = """
+                                                    {
+                                                      "code": "LG429-01",
+                                                      "message": "진행 중인 로그 내보내기가 많습니다. 잠시 후 다시 시도해주세요.",
+                                                      "status": 429,
+                                                      "timestamp": "2025-11-13T06:52:48.010Z"
+                                                    }
+                                                    """
+                                    )
+                            )
+                    )
+            }
+    )
+    void exportLogs(@ParameterObject @ModelAttribute LogExportRequest request, HttpServletResponse response)
+            throws IOException;
+
     @Operation(
             summary = "로그 상세 조회 (AI 분석만 포함)",
             description = """
@@ -2,8 +2,10 @@ package S13P31A306.loglens.domain.log.controller.impl;
 
 import S13P31A306.loglens.domain.log.constants.LogSuccessCode;
 import S13P31A306.loglens.domain.log.controller.LogApi;
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogStreamRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogCountResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogDetailResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogPageResponse;
 import S13P31A306.loglens.domain.log.dto.response.TraceLogResponse;
@@ -11,7 +13,9 @@ import S13P31A306.loglens.domain.log.service.LogService;
 import S13P31A306.loglens.domain.log.validator.LogValidator;
 import S13P31A306.loglens.global.dto.response.ApiResponseFactory;
 import S13P31A306.loglens.global.dto.response.BaseResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +49,22 @@ public class LogController implements LogApi {
         }
     }
 
+    @Override
+    @GetMapping("/count")
+    public ResponseEntity<? extends BaseResponse> countLogs(@ModelAttribute LogSearchRequest request) {
+        logValidator.validate(request);
+        LogCountResponse response = logService.countLogs(request);
+        return ApiResponseFactory.success(LogSuccessCode.LOG_COUNT_READ_SUCCESS, response);
+    }
+
+    @Override
+    @GetMapping("/export")
+    public void exportLogs(@ModelAttribute LogExportRequest request, HttpServletResponse response)
+            throws IOException {
+        logValidator.validateExport(request);
+        logService.exportLogs(request, response);
+    }
+
     @Override
     @GetMapping("/{logId}")
     public ResponseEntity<? extends BaseResponse> getLogDetail(
@@ -3,5 +3,41 @@ package S13P31A306.loglens.domain.log.dto.internal;
 import S13P31A306.loglens.domain.log.entity.Log;
 import java.util.List;
 
-public record LogSearchResult(List<Log> logs, boolean hasNext, Object[] sortValues) {
+/**
+ * 커서 기반 로그 조회 결과
+ *
+ * @param sortValues      다음 페이지 커서에 사용할 정렬 값 (현재 페이지 마지막 로그)
+ * @param totalCount      전체 건수 (집계하지 않았으면 null)
+ * @param totalCountExact 전체 건수가 정확한 값인지 여부 (false면 하한값)
+ * @param hasPrev         이전 페이지 존재 여부
+ * @param prevSortValues  이전 페이지 커서에 사용할 정렬 값 (현재 페이지 첫 로그)
+ * @param pitId           조회에 사용한 Point-in-Time ID (PIT 없이 조회했으면 null)
+ */
+public record LogSearchResult(
+        List<Log> logs,
+        boolean hasNext,
+        Object[] sortValues,
+        Long totalCount,
+        boolean totalCountExact,
+        boolean hasPrev,
+        Object[] prevSortValues,
+        String pitId
+) {
+
+    public LogSearchResult(List<Log> logs, boolean hasNext, Object[] sortValues) {
+        this(logs, hasNext, sortValues, null, false, false, null, null);
+    }
+
+    public LogSearchResult(List<Log> logs, boolean hasNext, Object[] sortValues,
+                           Long totalCount, boolean totalCountExact) {
+        this(logs, hasNext, sortValues, totalCount, totalCountExact, false, null, null);
+    }
+
+    /**
+     * PIT ID만 바꾼 결과 (첫 페이지 조회 후 다음 페이지용 PIT를 생성한 경우)
+     */
+    public LogSearchResult withPitId(String pitId) {
+        return new LogSearchResult(logs, hasNext, sortValues, totalCount, totalCountExact, hasPrev, prevSortValues,
+                pitId);
+    }
 }
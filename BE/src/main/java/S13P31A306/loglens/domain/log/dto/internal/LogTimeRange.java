@@ -0,0 +1,16 @@
+package S13P31A306.loglens.domain.log.dto.internal;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그 조회 시간 범위
+ * 여러 시간 범위의 로그를 한 번의 multi-search로 조회할 때 범위별 결과를 구분하는 키로 사용
+ *
+ * @param startTime 시작 시간 (포함)
+ * @param endTime   종료 시간 (포함)
+ */
+public record LogTimeRange(
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
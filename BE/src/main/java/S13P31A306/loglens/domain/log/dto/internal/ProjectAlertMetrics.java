@@ -0,0 +1,33 @@
+package S13P31A306.loglens.domain.log.dto.internal;
+
+/**
+ * 알림 평가용 프로젝트별 로그 집계 결과
+ * 여러 프로젝트를 한 번의 terms 집계로 조회한 결과를 프로젝트 단위로 담는 내부 DTO
+ *
+ * @param projectUuid          프로젝트 UUID
+ * @param totalCount           시간 범위 내 전체 로그 수
+ * @param errorCount           시간 범위 내 ERROR 로그 수
+ * @param avgLatencyMs         평균 응답 시간 (duration이 있는 로그 기준, 없으면 null)
+ * @param latestErrorTraceId   가장 최근 ERROR 로그의 traceId
+ * @param slowestTraceId       가장 느린 로그의 traceId
+ */
+public record ProjectAlertMetrics(
+        String projectUuid,
+        long totalCount,
+        long errorCount,
+        Double avgLatencyMs,
+        String latestErrorTraceId,
+        String slowestTraceId
+) {
+
+    public static ProjectAlertMetrics empty(String projectUuid) {
+        return new ProjectAlertMetrics(projectUuid, 0, 0, null, null, null);
+    }
+
+    /**
+     * 에러율 (%) - 로그가 없으면 0
+     */
+    public double errorRate() {
+        return totalCount == 0 ? 0.0 : errorCount * 100.0 / totalCount;
+    }
+}
@@ -0,0 +1,88 @@
+package S13P31A306.loglens.domain.log.dto.request;
+
+import S13P31A306.loglens.domain.log.constants.LogExportFormat;
+import S13P31A306.loglens.global.annotation.Sensitive;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+// @formatter:off
+/**
+ * 로그 내보내기 요청 DTO
+ * - 로그 목록 조회와 같은 필터 조건 + 파일 형식/압축/최대 건수
+ * - 커서, 페이지 크기는 사용하지 않음
+ */
+// @formatter:on
+@Data
+@Builder
+public class LogExportRequest {
+
+    @Sensitive
+    @Schema(description = "프로젝트 UUID", example = "9911573f-8a1d-3b96-98b4-5a0def93513b", required = true)
+    private String projectUuid;
+
+    @Schema(description = "검색 시작 시간", example = "2025-11-12T20:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startTime;
+
+    @Schema(description = "검색 종료 시간", example = "2025-11-12T21:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endTime;
+
+    @Schema(description = "로그 레벨 필터", example = "[\"ERROR\", \"WARN\"]")
+    private List<String> logLevel;
+
+    @Schema(description = "소스 타입 필터", example = "[\"BE\"]")
+    private List<String> sourceType;
+
+    @Schema(description = "검색 키워드", example = "NullPointerException")
+    private String keyword;
+
+    @Schema(description = "Trace ID", example = "3bfd962b-4583-4d75-92b9-adffea8412cd")
+    private String traceId;
+
+    @Schema(description = "정렬 옵션 (필드,방향)", example = "TIMESTAMP,ASC", defaultValue = "TIMESTAMP,ASC")
+    private String sort;
+
+    @Schema(description = "파일 형식 (NDJSON, CSV)", example = "NDJSON", defaultValue = "NDJSON")
+    private String format;
+
+    @Schema(description = "gzip 압축 여부", example = "true", defaultValue = "false")
+    private Boolean gzip;
+
+    @Schema(description = "최대 내보내기 건수 (서버 상한을 넘으면 상한 적용)", example = "100000")
+    private Integer limit;
+
+    /**
+     * LogExportRequest를 LogSearchRequest로 변환 sort가 없으면 TIMESTAMP,ASC 적용
+     */
+    public LogSearchRequest toLogSearchRequest() {
+        return LogSearchRequest.builder()
+                .projectUuid(this.projectUuid)
+                .startTime(this.startTime)
+                .endTime(this.endTime)
+                .logLevel(this.logLevel)
+                .sourceType(this.sourceType)
+                .keyword(this.keyword)
+                .traceId(this.traceId)
+                .sort(Objects.nonNull(this.sort) && !this.sort.isBlank() ? this.sort : "TIMESTAMP,ASC")
+                .build();
+    }
+
+    /**
+     * 파일 형식 (지정하지 않으면 NDJSON, 잘못된 값이면 null)
+     */
+    public LogExportFormat resolveFormat() {
+        return Objects.isNull(this.format) || this.format.isBlank()
+                ? LogExportFormat.NDJSON
+                : LogExportFormat.fromString(this.format.trim());
+    }
+
+    public boolean isGzip() {
+        return Boolean.TRUE.equals(this.gzip);
+    }
+}
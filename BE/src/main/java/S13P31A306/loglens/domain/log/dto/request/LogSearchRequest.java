@@ -30,6 +30,10 @@ public class LogSearchRequest {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime endTime;
 
+    @Schema(description = "이동할 타임스탬프 (지정 시 커서 위치 대신 해당 시각부터 조회, 커서의 PIT는 유지)", example = "2025-11-12T20:14:08")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime seekTimestamp;
+
     @Schema(description = "로그 레벨 필터", example = "[\"INFO\"]")
     private List<String> logLevel;
 
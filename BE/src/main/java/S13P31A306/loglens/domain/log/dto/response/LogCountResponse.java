@@ -0,0 +1,16 @@
+package S13P31A306.loglens.domain.log.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LogCountResponse {
+
+    @Schema(description = "검색 조건에 해당하는 전체 로그 수", example = "128734")
+    private long totalCount;
+
+    @Schema(description = "정확한 값 여부 (false면 하한값)", example = "true")
+    private boolean exact;
+}
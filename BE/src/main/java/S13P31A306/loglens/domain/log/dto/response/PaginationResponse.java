@@ -15,6 +15,18 @@ public class PaginationResponse {
     @Schema(description = "다음 페이지 존재 여부", example = "true")
     private boolean hasNext;
 
+    @Schema(description = "이전 페이지 커서", example = "eyJzb3J0IjpbMTcwNTMxMjgwMDAwMCwiYWJjMTIzIl0sImRpciI6IlBSRVYifQ==")
+    private String prevCursor;
+
+    @Schema(description = "이전 페이지 존재 여부", example = "false")
+    private boolean hasPrev;
+
     @Schema(description = "페이지 크기", example = "50")
     private Integer size;
+
+    @Schema(description = "전체 로그 수 (집계 방식에 따라 생략될 수 있음)", example = "128734", nullable = true)
+    private Long totalCount;
+
+    @Schema(description = "전체 로그 수가 정확한 값인지 여부 (false면 하한값)", example = "true", nullable = true)
+    private Boolean totalCountExact;
 }
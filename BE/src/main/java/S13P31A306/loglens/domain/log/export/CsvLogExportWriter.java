@@ -0,0 +1,93 @@
+package S13P31A306.loglens.domain.log.export;
+
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.global.constants.ErrorCode;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+// @formatter:off
+/**
+ * CSV 출력기 (RFC 4180)
+ * - 쉼표, 큰따옴표, 줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀
+ * - log_details 등 중첩 필드는 제외하고 평면 필드만 출력
+ * - 도중 중단 시 마지막 줄에 "# export_error: ..." 주석 줄 출력
+ */
+// @formatter:on
+@RequiredArgsConstructor
+public class CsvLogExportWriter implements LogExportWriter {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("timestamp", Log::getTimestamp),
+            new Column("log_id", Log::getLogId),
+            new Column("trace_id", Log::getTraceId),
+            new Column("log_level", Log::getLogLevel),
+            new Column("source_type", Log::getSourceType),
+            new Column("service_name", Log::getServiceName),
+            new Column("component_name", Log::getComponentName),
+            new Column("layer", Log::getLayer),
+            new Column("logger", Log::getLogger),
+            new Column("class_name", Log::getClassName),
+            new Column("method_name", Log::getMethodName),
+            new Column("thread_name", Log::getThreadName),
+            new Column("requester_ip", Log::getRequesterIp),
+            new Column("duration", Log::getDuration),
+            new Column("message", Log::getMessage),
+            new Column("stacktrace", Log::getStackTrace)
+    );
+
+    private final Writer out;
+
+    @Override
+    public void writeHeader() throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(COLUMNS.get(i).name());
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void write(List<Log> logs) throws IOException {
+        for (Log logEntity : logs) {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object value = COLUMNS.get(i).extractor().apply(logEntity);
+                if (Objects.nonNull(value)) {
+                    writeEscaped(value.toString());
+                }
+            }
+            out.write("\r\n");
+        }
+        out.flush();
+    }
+
+    @Override
+    public void writeError(ErrorCode errorCode, long writtenRows) throws IOException {
+        out.write("# export_error: code=" + errorCode.getCode() + ", rows=" + writtenRows
+                + ", message=" + errorCode.getMessage() + "\r\n");
+        out.flush();
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private record Column(String name, Function<Log, Object> extractor) {
+    }
+}
@@ -0,0 +1,31 @@
+package S13P31A306.loglens.domain.log.export;
+
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.global.constants.ErrorCode;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 로그 내보내기 행 단위 출력기
+ * 배치 단위로 전달된 로그를 즉시 출력 스트림에 쓰고 보관하지 않습니다.
+ */
+public interface LogExportWriter {
+
+    /**
+     * 파일 시작 부분 출력 (CSV 헤더 등)
+     */
+    void writeHeader() throws IOException;
+
+    /**
+     * 로그 배치 출력
+     */
+    void write(List<Log> logs) throws IOException;
+
+    /**
+     * 도중 중단 표시 줄 출력 (응답이 이미 200으로 시작되어 상태 코드로 알릴 수 없으므로 파일 끝에 기록)
+     *
+     * @param errorCode   중단 사유
+     * @param writtenRows 중단 전까지 출력한 건수
+     */
+    void writeError(ErrorCode errorCode, long writtenRows) throws IOException;
+}
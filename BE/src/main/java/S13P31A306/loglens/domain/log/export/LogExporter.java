@@ -0,0 +1,161 @@
+package S13P31A306.loglens.domain.log.export;
+
+import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.domain.log.constants.LogExportFormat;
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import S13P31A306.loglens.global.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 로그 내보내기 (NDJSON/CSV, 선택적 gzip)
+ * - PIT + search_after로 배치 단위 조회 후 즉시 응답 스트림에 쓰고 버림 (메모리 사용량은 배치 크기에 비례)
+ * - 응답 스트림 쓰기가 블로킹되면 다음 배치 조회도 멈추므로 클라이언트 수신 속도가 곧 조회 속도 (backpressure)
+ * - 클라이언트 연결이 끊기면 쓰기 IOException으로 조회를 중단하고 PIT를 종료
+ * - 조회가 도중에 실패하면 응답은 이미 200으로 시작되었으므로 마지막 줄에 오류 표시를 남기고 종료
+ *   (잘린 파일이 정상 파일처럼 보이지 않도록, 형식은 각 LogExportWriter.writeError 참고)
+ * - 서버 상한(max-rows)과 동시 내보내기 수(max-concurrent)로 부하 제한
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class LogExporter {
+
+    private static final String LOG_PREFIX = "[LogExporter]";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final LogRepository logRepository;
+    private final ObjectWriter ndjsonWriter;
+    private final int batchSize;
+    private final int maxRows;
+    private final Semaphore permits;
+
+    public LogExporter(
+            LogRepository logRepository,
+            ObjectMapper objectMapper,
+            @Value("${log.export.batch-size:1000}") int batchSize,
+            @Value("${log.export.max-rows:1000000}") int maxRows,
+            @Value("${log.export.max-concurrent:4}") int maxConcurrent) {
+        this.logRepository = logRepository;
+        this.ndjsonWriter = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writer();
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 로그 내보내기 - 응답 헤더 설정 후 조회 결과를 응답 스트림에 직접 기록
+     *
+     * @param request  내보내기 요청 (검증 완료된 요청)
+     * @param response 서블릿 응답
+     */
+    public void export(LogExportRequest request, HttpServletResponse response) throws IOException {
+        if (!permits.tryAcquire()) {
+            log.warn("{} 동시 내보내기 수 초과: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
+            throw new BusinessException(LogErrorCode.EXPORT_TOO_MANY_REQUESTS);
+        }
+
+        try {
+            LogExportFormat format = request.resolveFormat();
+            int rowLimit = resolveRowLimit(request.getLimit());
+            applyHeaders(response, format, request.isGzip());
+
+            long written = write(request, format, rowLimit, response.getOutputStream());
+            log.info("{} 로그 내보내기 완료: projectUuid={}, format={}, gzip={}, rows={}",
+                    LOG_PREFIX, request.getProjectUuid(), format, request.isGzip(), written);
+        } catch (UncheckedIOException e) {
+            // 응답 스트림 쓰기 실패 = 클라이언트 연결 종료, 조회는 이미 중단됨
+            log.info("{} 클라이언트 연결 종료로 내보내기 중단: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
+            log.debug("{} 연결 종료 상세", LOG_PREFIX, e.getCause());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long write(LogExportRequest request, LogExportFormat format, int rowLimit, OutputStream responseStream)
+            throws IOException {
+        OutputStream out = request.isGzip()
+                ? new GZIPOutputStream(responseStream, BUFFER_SIZE)
+                : new BufferedOutputStream(responseStream, BUFFER_SIZE);
+
+        try (out) {
+            LogExportWriter writer = createWriter(format, out);
+            writer.writeHeader();
+
+            long[] written = {0};
+            try {
+                logRepository.scan(
+                        request.getProjectUuid(),
+                        request.toLogSearchRequest(),
+                        LogProjection.EXPORT,
+                        Math.min(batchSize, rowLimit),
+                        batch -> {
+                            int remaining = (int) (rowLimit - written[0]);
+                            List<Log> rows = batch.size() > remaining ? batch.subList(0, remaining) : batch;
+                            try {
+                                writer.write(rows);
+                                out.flush();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                            written[0] += rows.size();
+                            return written[0] < rowLimit && !Thread.currentThread().isInterrupted();
+                        });
+            } catch (UncheckedIOException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                log.error("{} 조회 실패로 내보내기 중단: projectUuid={}, rows={}",
+                        LOG_PREFIX, request.getProjectUuid(), written[0], e);
+                writer.writeError(LogErrorCode.EXPORT_INTERRUPTED, written[0]);
+            }
+            return written[0];
+        }
+    }
+
+    private LogExportWriter createWriter(LogExportFormat format, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new NdjsonLogExportWriter(out, ndjsonWriter);
+            case CSV -> new CsvLogExportWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        };
+    }
+
+    private int resolveRowLimit(Integer limit) {
+        return Objects.isNull(limit) ? maxRows : Math.min(limit, maxRows);
+    }
+
+    private void applyHeaders(HttpServletResponse response, LogExportFormat format, boolean gzip) {
+        String fileName = "logs-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + "." + format.getExtension()
+                + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType());
+        if (!gzip) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+}
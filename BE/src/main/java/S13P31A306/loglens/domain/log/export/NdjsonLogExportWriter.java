@@ -0,0 +1,48 @@
+package S13P31A306.loglens.domain.log.export;
+
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.global.constants.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * NDJSON 출력기 - 로그 한 건당 OpenSearch 문서 필드명(snake_case)의 JSON 한 줄
+ * 도중 중단 시 마지막 줄에 {"export_error": {...}} 출력
+ */
+@RequiredArgsConstructor
+public class NdjsonLogExportWriter implements LogExportWriter {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final OutputStream out;
+    private final ObjectWriter objectWriter;
+
+    @Override
+    public void writeHeader() {
+        // NDJSON은 헤더 없음
+    }
+
+    @Override
+    public void write(List<Log> logs) throws IOException {
+        for (Log logEntity : logs) {
+            out.write(objectWriter.writeValueAsBytes(logEntity));
+            out.write(NEW_LINE);
+        }
+    }
+
+    @Override
+    public void writeError(ErrorCode errorCode, long writtenRows) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("code", errorCode.getCode());
+        error.put("message", errorCode.getMessage());
+        error.put("rows", writtenRows);
+
+        out.write(objectWriter.writeValueAsBytes(Map.of("export_error", error)));
+        out.write(NEW_LINE);
+    }
+}
@@ -0,0 +1,52 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+// @formatter:off
+/**
+ * 로그 건수 캐시 키
+ * - 같은 프로젝트 + 같은 필터 조건이면 커서/정렬/페이지 크기와 무관하게 같은 건수를 공유
+ * - 레벨/소스 타입은 대문자 변환 + 중복 제거 + 정렬, 키워드는 trim 후 비교
+ */
+// @formatter:on
+public record LogCountKey(
+        String projectUuid,
+        List<String> logLevels,
+        List<String> sourceTypes,
+        String keyword,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+
+    public static LogCountKey from(LogSearchRequest request) {
+        String keyword = Objects.nonNull(request.getKeyword()) && !request.getKeyword().isBlank()
+                ? request.getKeyword().trim()
+                : null;
+        return new LogCountKey(
+                request.getProjectUuid(),
+                normalize(request.getLogLevel()),
+                normalize(request.getSourceType()),
+                keyword,
+                request.getStartTime(),
+                request.getEndTime()
+        );
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (Objects.isNull(values) || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
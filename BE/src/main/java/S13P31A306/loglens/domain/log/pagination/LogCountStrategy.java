@@ -0,0 +1,137 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+import S13P31A306.loglens.domain.log.constants.LogCountMode;
+import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 로그 목록 조회의 전체 건수 집계 전략
+ * - EXACT_FIRST_PAGE: 첫 페이지에서만 정확히 집계하고 커서에 담아 이후 페이지에서 재사용
+ * - LOWER_BOUND: 임계값까지만 집계하여 초과 시 하한값 반환
+ * - SEPARATE: 목록 조회에서는 집계하지 않고 건수 조회 API에서 캐시된 값 제공
+ * 정확히 집계된 건수는 모드와 관계없이 필터 조건별로 캐시하여 건수 조회 API에서 재사용
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class LogCountStrategy {
+
+    private static final String LOG_PREFIX = "[LogCountStrategy]";
+    private static final int MAX_CACHE_ENTRIES = 10_000;
+
+    private final Map<LogCountKey, CachedCount> countCache = new ConcurrentHashMap<>();
+
+    private final LogRepository logRepository;
+    private final LogCountMode mode;
+    private final int lowerBoundThreshold;
+    private final Duration cacheTtl;
+
+    public LogCountStrategy(
+            LogRepository logRepository,
+            @Value("${log.pagination.count-mode:EXACT_FIRST_PAGE}") LogCountMode mode,
+            @Value("${log.pagination.lower-bound-threshold:10000}") int lowerBoundThreshold,
+            @Value("${log.pagination.count-cache-ttl-seconds:30}") long cacheTtlSeconds) {
+        this.logRepository = logRepository;
+        this.mode = mode;
+        this.lowerBoundThreshold = lowerBoundThreshold;
+        this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+    }
+
+    /**
+     * 목록 조회 시 OpenSearch track_total_hits 값 결정
+     *
+     * @param cursor 요청 커서 (첫 페이지면 null)
+     * @return 0이면 집계하지 않음, Integer.MAX_VALUE면 정확히 집계, 그 외에는 해당 값까지 집계
+     */
+    public int trackTotalHitsUpTo(LogCursor cursor) {
+        return switch (mode) {
+            case EXACT_FIRST_PAGE -> Objects.isNull(cursor) || Objects.isNull(cursor.totalCount())
+                    ? Integer.MAX_VALUE
+                    : 0;
+            case LOWER_BOUND -> lowerBoundThreshold;
+            case SEPARATE -> 0;
+        };
+    }
+
+    /**
+     * 목록 응답에 포함할 전체 건수 결정
+     *
+     * @param request 로그 검색 요청
+     * @param cursor  요청 커서 (첫 페이지면 null)
+     * @param result  검색 결과
+     * @return 전체 건수 (SEPARATE 모드이거나 집계하지 않았으면 null)
+     */
+    public LogTotalCount resolve(LogSearchRequest request, LogCursor cursor, LogSearchResult result) {
+        if (mode == LogCountMode.SEPARATE) {
+            return null;
+        }
+        if (mode == LogCountMode.EXACT_FIRST_PAGE
+                && Objects.nonNull(cursor) && Objects.nonNull(cursor.totalCount())) {
+            return new LogTotalCount(cursor.totalCount(), true);
+        }
+        if (Objects.isNull(result.totalCount())) {
+            return null;
+        }
+        if (result.totalCountExact()) {
+            cache(LogCountKey.from(request), result.totalCount());
+        }
+        return new LogTotalCount(result.totalCount(), result.totalCountExact());
+    }
+
+    /**
+     * 다음 페이지 커서에 담을 전체 건수 (EXACT_FIRST_PAGE 모드에서만 전달)
+     */
+    public Long carryOver(LogTotalCount totalCount) {
+        if (mode != LogCountMode.EXACT_FIRST_PAGE || Objects.isNull(totalCount) || !totalCount.exact()) {
+            return null;
+        }
+        return totalCount.value();
+    }
+
+    /**
+     * 필터 조건별 정확한 건수 조회 (캐시 유효 시 캐시 값 반환)
+     *
+     * @param request 로그 검색 요청
+     * @return 전체 건수
+     */
+    public LogTotalCount count(LogSearchRequest request) {
+        LogCountKey key = LogCountKey.from(request);
+        CachedCount cached = countCache.get(key);
+        if (Objects.nonNull(cached) && !cached.isExpired(Instant.now())) {
+            log.debug("{} 캐시된 건수 사용: key={}, count={}", LOG_PREFIX, key, cached.count());
+            return new LogTotalCount(cached.count(), true);
+        }
+
+        long count = logRepository.countLogs(request.getProjectUuid(), request);
+        cache(key, count);
+        log.debug("{} 건수 집계 완료: key={}, count={}", LOG_PREFIX, key, count);
+        return new LogTotalCount(count, true);
+    }
+
+    private void cache(LogCountKey key, long count) {
+        Instant now = Instant.now();
+        if (countCache.size() >= MAX_CACHE_ENTRIES) {
+            countCache.values().removeIf(entry -> entry.isExpired(now));
+        }
+        if (countCache.size() < MAX_CACHE_ENTRIES) {
+            countCache.put(key, new CachedCount(count, now.plus(cacheTtl)));
+        }
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+/**
+ * 로그 목록 페이지네이션 커서
+ *
+ * @param sort       search_after에 사용할 정렬 값
+ * @param totalCount 첫 페이지에서 집계한 전체 건수 (EXACT_FIRST_PAGE 모드에서만 사용, 없으면 null)
+ * @param pitId      조회에 사용 중인 Point-in-Time ID (없으면 null)
+ * @param direction  커서 이동 방향 (이전 형식의 커서는 NEXT)
+ */
+public record LogCursor(
+        Object[] sort,
+        Long totalCount,
+        String pitId,
+        LogCursorDirection direction
+) {
+
+    public LogCursor(Object[] sort, Long totalCount) {
+        this(sort, totalCount, null, LogCursorDirection.NEXT);
+    }
+
+    public boolean isPrevious() {
+        return direction == LogCursorDirection.PREV;
+    }
+}
@@ -0,0 +1,96 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.global.exception.BusinessException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 로그 페이지네이션 커서 인코더/디코더
+ * - 커서 형식: Base64({"sort":[...],"total":N,"pit":"...","dir":"NEXT|PREV"})
+ * - 이전 형식(Base64([...]), 정렬 값 배열만 포함)도 디코딩 지원
+ */
+// @formatter:on
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogCursorCodec {
+
+    private static final String LOG_PREFIX = "[LogCursorCodec]";
+    private static final String SORT_FIELD = "sort";
+    private static final String TOTAL_FIELD = "total";
+    private static final String PIT_FIELD = "pit";
+    private static final String DIRECTION_FIELD = "dir";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 커서 인코딩
+     *
+     * @param cursor 커서 (null이면 null 반환)
+     * @return Base64로 인코딩된 커서 문자열
+     */
+    public String encode(LogCursor cursor) {
+        if (Objects.isNull(cursor) || Objects.isNull(cursor.sort())) {
+            return null;
+        }
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.set(SORT_FIELD, objectMapper.valueToTree(cursor.sort()));
+            if (Objects.nonNull(cursor.totalCount())) {
+                node.put(TOTAL_FIELD, cursor.totalCount());
+            }
+            if (Objects.nonNull(cursor.pitId())) {
+                node.put(PIT_FIELD, cursor.pitId());
+            }
+            if (cursor.isPrevious()) {
+                node.put(DIRECTION_FIELD, LogCursorDirection.PREV.name());
+            }
+            return Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (Exception e) {
+            log.error("{} 커서 인코딩 실패: sortValues={}", LOG_PREFIX, cursor.sort(), e);
+            throw new BusinessException(LogErrorCode.CURSOR_ENCODING_FAILED, null, e);
+        }
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @param cursor Base64 커서 문자열
+     * @return 디코딩된 커서 (커서가 비어 있으면 null)
+     */
+    public LogCursor decode(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(Base64.getDecoder().decode(cursor));
+            if (node.isArray()) {
+                return new LogCursor(objectMapper.treeToValue(node, Object[].class), null);
+            }
+            JsonNode sort = node.get(SORT_FIELD);
+            if (Objects.isNull(sort) || !sort.isArray()) {
+                throw new IllegalArgumentException("sort 값이 없습니다.");
+            }
+            JsonNode total = node.get(TOTAL_FIELD);
+            JsonNode pit = node.get(PIT_FIELD);
+            JsonNode direction = node.get(DIRECTION_FIELD);
+            return new LogCursor(
+                    objectMapper.treeToValue(sort, Object[].class),
+                    Objects.nonNull(total) && total.canConvertToLong() ? total.asLong() : null,
+                    Objects.nonNull(pit) && pit.isTextual() ? pit.asText() : null,
+                    Objects.nonNull(direction) ? LogCursorDirection.valueOf(direction.asText()) : LogCursorDirection.NEXT
+            );
+        } catch (Exception e) {
+            log.warn("{} 커서 디코딩 실패: cursor={}", LOG_PREFIX, cursor, e);
+            throw new BusinessException(LogErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+/**
+ * 커서 이동 방향
+ */
+public enum LogCursorDirection {
+
+    /**
+     * 커서 위치 이후 페이지 (요청 정렬 순서대로 search_after)
+     */
+    NEXT,
+
+    /**
+     * 커서 위치 이전 페이지 (정렬 순서를 뒤집어 search_after 후 결과를 다시 뒤집음)
+     */
+    PREV
+}
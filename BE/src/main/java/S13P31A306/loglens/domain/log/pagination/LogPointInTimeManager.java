@@ -0,0 +1,135 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+import S13P31A306.loglens.global.utils.OpenSearchUtils;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 로그 목록 페이지네이션용 OpenSearch Point-in-Time 관리
+ * - 첫 페이지(또는 타임스탬프 이동) 조회 결과에 이동할 페이지가 있을 때만 프로젝트 인덱스 패턴에 PIT 생성
+ *   (다음 페이지를 요청하지 않는 대시보드 새로고침 등은 PIT를 만들지 않음)
+ * - 페이지 조회마다 keep-alive가 갱신되며, 마지막 사용 이후 keep-alive가 지난 PIT는 주기적으로 명시적 종료
+ * - 이 인스턴스가 생성하지 않은 PIT는 추적하지 않으며 OpenSearch keep-alive 만료로 정리됨
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class LogPointInTimeManager {
+
+    private static final String LOG_PREFIX = "[LogPointInTimeManager]";
+
+    private final Map<String, Instant> lastAccess = new ConcurrentHashMap<>();
+
+    private final OpenSearchClient openSearchClient;
+    private final Duration keepAlive;
+    private final String keepAliveExpression;
+
+    public LogPointInTimeManager(
+            OpenSearchClient openSearchClient,
+            @Value("${log.pagination.pit-keep-alive-minutes:2}") long keepAliveMinutes) {
+        this.openSearchClient = openSearchClient;
+        this.keepAlive = Duration.ofMinutes(keepAliveMinutes);
+        this.keepAliveExpression = keepAliveMinutes + "m";
+    }
+
+    /**
+     * PIT 생성
+     *
+     * @param projectUuid 프로젝트 UUID
+     * @return PIT ID (생성 실패 시 null, 호출 측은 인덱스 직접 조회로 폴백)
+     */
+    public String open(String projectUuid) {
+        try {
+            String pitId = openSearchClient.createPit(CreatePitRequest.of(r -> r
+                    .targetIndexes(List.of(OpenSearchUtils.getProjectIndexPattern(projectUuid)))
+                    .keepAlive(Time.of(t -> t.time(keepAliveExpression)))
+            )).pitId();
+            touch(pitId);
+            log.debug("{} PIT 생성: projectUuid={}", LOG_PREFIX, projectUuid);
+            return pitId;
+        } catch (Exception e) {
+            log.warn("{} PIT 생성 실패, PIT 없이 조회: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            return null;
+        }
+    }
+
+    /**
+     * 검색 요청에 지정할 keep-alive 표현식 (예: "2m")
+     */
+    public String keepAliveExpression() {
+        return keepAliveExpression;
+    }
+
+    /**
+     * PIT 사용 기록 - 검색 응답으로 받은 PIT ID가 바뀌었으면 이전 ID는 추적에서 제외
+     */
+    public void renewed(String previousPitId, String pitId) {
+        if (Objects.nonNull(previousPitId) && !previousPitId.equals(pitId)) {
+            lastAccess.remove(previousPitId);
+        }
+        touch(pitId);
+    }
+
+    /**
+     * 사용이 끝난 PIT 즉시 종료 (keep-alive 만료를 기다리지 않음)
+     */
+    public void release(String pitId) {
+        expired(pitId);
+    }
+
+    /**
+     * 만료된 PIT 추적 해제 후 종료 시도 (이미 OpenSearch에서 만료되었어도 무시)
+     */
+    public void expired(String pitId) {
+        if (Objects.isNull(pitId)) {
+            return;
+        }
+        lastAccess.remove(pitId);
+        close(List.of(pitId));
+    }
+
+    /**
+     * 마지막 사용 이후 keep-alive가 지난 PIT 종료
+     */
+    @Scheduled(fixedDelayString = "${log.pagination.pit-cleanup-interval-ms:60000}")
+    public void closeIdle() {
+        Instant threshold = Instant.now().minus(keepAlive);
+        List<String> idle = lastAccess.entrySet().stream()
+                .filter(entry -> entry.getValue().isBefore(threshold))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (idle.isEmpty()) {
+            return;
+        }
+        idle.forEach(lastAccess::remove);
+        close(idle);
+        log.debug("{} 유휴 PIT 종료: count={}", LOG_PREFIX, idle.size());
+    }
+
+    private void touch(String pitId) {
+        if (Objects.nonNull(pitId)) {
+            lastAccess.put(pitId, Instant.now());
+        }
+    }
+
+    private void close(List<String> pitIds) {
+        try {
+            openSearchClient.deletePit(DeletePitRequest.of(r -> r.pitId(pitIds)));
+        } catch (Exception e) {
+            log.debug("{} PIT 종료 실패 (이미 만료된 PIT일 수 있음): count={}", LOG_PREFIX, pitIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+/**
+ * 로그 전체 건수
+ *
+ * @param value 건수
+ * @param exact 정확한 값 여부 (false면 하한값)
+ */
+public record LogTotalCount(
+        long value,
+        boolean exact
+) {
+}
@@ -1,24 +1,91 @@
 package S13P31A306.loglens.domain.log.repository;
 
+import S13P31A306.loglens.domain.log.constants.LogProjection;
 import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.internal.LogTimeRange;
+import S13P31A306.loglens.domain.log.dto.internal.ProjectAlertMetrics;
 import S13P31A306.loglens.domain.log.dto.internal.TraceLogSearchResult;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
 import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.pagination.LogCursor;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
 import S13P31A306.loglens.domain.statistics.dto.internal.LogTrendAggregation;
 import S13P31A306.loglens.domain.statistics.dto.internal.TrafficAggregation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 public interface LogRepository {
 
-    LogSearchResult findWithCursor(String projectUuid, LogSearchRequest request);
+    /**
+     * 커서 기반 로그 목록 조회
+     * 다음 페이지가 없어도 sortValues/prevSortValues에 마지막/첫 로그의 정렬 값을 담아 반환합니다.
+     *
+     * @param projectUuid        프로젝트 UUID
+     * @param request            검색 조건
+     * @param projection         _source 프로젝션 프로필
+     * @param trackTotalHitsUpTo 전체 건수 집계 상한 (0이면 집계하지 않음, Integer.MAX_VALUE면 정확히 집계)
+     * @return 로그 목록, 다음 커서 정보 및 전체 건수
+     */
+    LogSearchResult findWithCursor(String projectUuid, LogSearchRequest request, LogProjection projection,
+                                   int trackTotalHitsUpTo);
+
+    /**
+     * Point-in-Time 기반 양방향 커서 페이지 조회
+     * 커서의 PIT를 재사용하여 페이지 이동 중 새로 적재된 로그로 결과가 밀리지 않으며,
+     * PIT가 만료되었으면 PIT 없이 같은 정렬 위치에서 다시 조회합니다.
+     * 커서에 PIT가 없으면 인덱스 패턴으로 조회하고, 이동할 페이지가 있을 때만 새 PIT를 생성하여 결과에 담습니다.
+     *
+     * @param projectUuid        프로젝트 UUID
+     * @param request            검색 조건 (seekTimestamp가 있으면 커서 위치 대신 해당 시각부터 조회)
+     * @param cursor             디코딩된 커서 (첫 페이지면 null)
+     * @param projection         _source 프로젝션 프로필
+     * @param trackTotalHitsUpTo 전체 건수 집계 상한 (0이면 집계하지 않음, Integer.MAX_VALUE면 정확히 집계)
+     * @return 로그 목록, 이전/다음 커서 정보, 전체 건수 및 PIT ID
+     */
+    LogSearchResult findPage(String projectUuid, LogSearchRequest request, LogCursor cursor,
+                             LogProjection projection, int trackTotalHitsUpTo);
+
+    /**
+     * Point-in-Time 기반 순차 스캔 (내보내기용)
+     * 검색 조건에 맞는 로그를 정렬 순서대로 batchSize씩 조회하여 핸들러에 전달하며,
+     * 핸들러가 false를 반환하거나 결과가 끝나면 중단하고 PIT를 종료합니다.
+     *
+     * @param projectUuid  프로젝트 UUID
+     * @param request      검색 조건 (커서, 페이지 크기는 사용하지 않음)
+     * @param projection   _source 프로젝션 프로필
+     * @param batchSize    배치당 조회 건수
+     * @param batchHandler 배치 처리 핸들러 (계속 조회하려면 true)
+     * @return 조회된 로그 수
+     */
+    long scan(String projectUuid, LogSearchRequest request, LogProjection projection, int batchSize,
+              Predicate<List<Log>> batchHandler);
 
-    TraceLogSearchResult findByTraceId(String projectUuid, LogSearchRequest request);
+    /**
+     * Trace ID 기반 로그 조회 (요약 정보 포함)
+     *
+     * @param projectUuid 프로젝트 UUID
+     * @param request     검색 조건
+     * @param projection  _source 프로젝션 프로필
+     * @return Trace 로그 목록 및 요약 정보
+     */
+    TraceLogSearchResult findByTraceId(String projectUuid, LogSearchRequest request, LogProjection projection);
 
     /**
-     * 로그 ID로 단일 로그 조회
+     * 검색 조건에 해당하는 전체 로그 수 조회 (count API 사용)
+     *
+     * @param projectUuid 프로젝트 UUID
+     * @param request     검색 조건 (커서/정렬/크기는 무시)
+     * @return 전체 로그 수
+     */
+    long countLogs(String projectUuid, LogSearchRequest request);
+
+    /**
+     * 로그 ID로 단일 로그 조회 (DETAIL 프로젝션 적용)
      *
      * @param logId       로그 ID
      * @param projectUuid 프로젝트 UUID
@@ -49,9 +116,24 @@ public interface LogRepository {
             LocalDateTime endTime
     );
 
+    /**
+     * 여러 프로젝트의 알림 평가 지표를 한 번의 집계 요청으로 조회
+     * 프로젝트별 terms 집계 하위에 전체/ERROR 로그 수, 평균 응답 시간, 대표 traceId를 함께 집계
+     *
+     * @param projectUuids 프로젝트 UUID 목록
+     * @param startTime    조회 시작 시간
+     * @param endTime      조회 종료 시간
+     * @return 프로젝트 UUID별 집계 결과 (로그가 없는 프로젝트는 포함되지 않음)
+     */
+    Map<String, ProjectAlertMetrics> aggregateAlertMetricsByProjects(
+            List<String> projectUuids,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    );
+
     /**
      * Alert 발생 시간 범위 내의 ERROR 로그 목록 조회
-     * Alert 도메인에서 알림 발생 원인 로그를 조회하기 위해 사용
+     * Alert 도메인에서 알림 발생 원인 로그를 조회하기 위해 사용 (TRACE 프로젝션 적용)
      *
      * @param projectUuid 프로젝트 UUID
      * @param startTime   조회 시작 시간
@@ -66,6 +148,21 @@ public interface LogRepository {
             int limit
     );
 
+    /**
+     * 여러 시간 범위의 ERROR 로그 목록 일괄 조회
+     * 알림 이력 페이지의 관련 로그를 한 번의 multi-search 요청으로 조회하기 위해 사용 (TRACE 프로젝션 적용)
+     *
+     * @param projectUuid 프로젝트 UUID
+     * @param timeRanges  조회할 시간 범위 목록 (중복 범위는 한 번만 조회)
+     * @param limit       범위당 최대 조회 개수
+     * @return 시간 범위별 ERROR 로그 목록 (개별 조회 실패 시 빈 목록)
+     */
+    Map<LogTimeRange, List<Log>> findErrorLogsByTimeRanges(
+            String projectUuid,
+            Collection<LogTimeRange> timeRanges,
+            int limit
+    );
+
     /**
      * 시간 범위별 로그 추이 집계
      * Statistics 도메인에서 로그 발생 추이 그래프를 위해 사용
@@ -99,4 +196,19 @@ public interface LogRepository {
             LocalDateTime endTime,
             String interval
     );
+
+    /**
+     * 시간 범위 [startTime, endTime) 로그 합계 집계
+     * 롤업 버킷이 없는 기간(롤업 도입 이전)의 대시보드 개요를 위해 사용
+     *
+     * @param projectUuid 프로젝트 UUID
+     * @param startTime   조회 시작 시간 (UTC, 포함)
+     * @param endTime     조회 종료 시간 (UTC, 미포함)
+     * @return 레벨/출처별 로그 수와 응답 시간 합 (롤업 합계와 동일한 형태)
+     */
+    LogMetricsRollupSummary summarizeByTimeRange(
+            String projectUuid,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    );
 }
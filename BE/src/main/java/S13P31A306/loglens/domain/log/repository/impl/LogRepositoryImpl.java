@@ -1,13 +1,19 @@
 package S13P31A306.loglens.domain.log.repository.impl;
 
 import S13P31A306.loglens.domain.component.constants.OpenSearchField;
-import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.domain.log.constants.LogProjection;
 import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.internal.LogTimeRange;
+import S13P31A306.loglens.domain.log.dto.internal.ProjectAlertMetrics;
 import S13P31A306.loglens.domain.log.dto.internal.TraceLogSearchResult;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
 import S13P31A306.loglens.domain.log.dto.response.LogSummaryResponse;
 import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.pagination.LogCursor;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.pagination.LogPointInTimeManager;
 import S13P31A306.loglens.domain.log.repository.LogRepository;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
 import S13P31A306.loglens.domain.statistics.dto.internal.LogTrendAggregation;
 import S13P31A306.loglens.domain.statistics.dto.internal.TrafficAggregation;
 import S13P31A306.loglens.global.constants.GlobalErrorCode;
@@ -22,17 +28,20 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.Time;
@@ -42,9 +51,17 @@ import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
 import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.TermsQueryField;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.opensearch.core.msearch.RequestItem;
 import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.SourceConfig;
+import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
@@ -56,13 +73,18 @@ public class LogRepositoryImpl implements LogRepository {
 
     private final OpenSearchClient openSearchClient;
     private final ObjectMapper objectMapper;
+    private final LogCursorCodec logCursorCodec;
+    private final LogPointInTimeManager logPointInTimeManager;
     private static final String TIMESTAMP_FIELD = "timestamp";
     private static final String ID_FIELD = "_id";
     private static final int MAX_TRACE_LOGS = 1000;
+    private static final String ALERT_TRACE_ID_FIELD = "trace_id";
 
     @Override
-    public LogSearchResult findWithCursor(String projectUuid, LogSearchRequest request) {
-        log.debug("{} OpenSearch에서 커서 기반 로그 조회 시작: projectUuid={}, request={}", LOG_PREFIX, projectUuid, request);
+    public LogSearchResult findWithCursor(String projectUuid, LogSearchRequest request, LogProjection projection,
+                                          int trackTotalHitsUpTo) {
+        log.debug("{} OpenSearch에서 커서 기반 로그 조회 시작: projectUuid={}, request={}, projection={}, trackTotalHitsUpTo={}",
+                LOG_PREFIX, projectUuid, request, projection, trackTotalHitsUpTo);
         int requestSize = request.getSize();
         int querySize = requestSize + 1;
 
@@ -74,7 +96,7 @@ public class LogRepositoryImpl implements LogRepository {
 
         // 3. SearchRequest 빌드
         SearchRequest searchRequest = buildSearchRequestWithCursor(projectUuid, query, sortOptions, querySize,
-                request.getCursor());
+                request.getCursor(), projection, trackTotalHitsUpTo);
 
         // 4. OpenSearch 쿼리 실행
         try {
@@ -93,7 +115,7 @@ public class LogRepositoryImpl implements LogRepository {
 
             log.debug("{} OpenSearch에 검색 요청 실행", LOG_PREFIX);
             SearchResponse<Log> response = openSearchClient.search(searchRequest, Log.class);
-            log.debug("{} OpenSearch 응답 수신: {} hits", LOG_PREFIX, response.hits().total().value());
+            log.debug("{} OpenSearch 응답 수신: {} hits", LOG_PREFIX, response.hits().hits().size());
 
             // 5. 응답 처리
             LogSearchResult result = processSearchResponse(response, requestSize);
@@ -106,14 +128,117 @@ public class LogRepositoryImpl implements LogRepository {
     }
 
     @Override
-    public TraceLogSearchResult findByTraceId(String projectUuid, LogSearchRequest request) {
-        log.debug("{} OpenSearch에서 Trace ID 기반 로그 조회 시작: projectUuid={}, request={}", LOG_PREFIX, projectUuid, request);
+    public LogSearchResult findPage(String projectUuid, LogSearchRequest request, LogCursor cursor,
+                                    LogProjection projection, int trackTotalHitsUpTo) {
+        log.debug("{} OpenSearch에서 PIT 기반 페이지 조회 시작: projectUuid={}, request={}, direction={}",
+                LOG_PREFIX, projectUuid, request, Objects.nonNull(cursor) ? cursor.direction() : null);
+        int requestSize = request.getSize();
+
+        // 1. 조회 방향 및 search_after 위치 결정 (seekTimestamp가 있으면 커서 위치보다 우선)
+        boolean seek = Objects.nonNull(request.getSeekTimestamp());
+        boolean previous = !seek && Objects.nonNull(cursor) && cursor.isPrevious();
+        boolean positioned = seek || Objects.nonNull(cursor);
+        SortOrder requestedOrder = resolveSortOrder(request);
+        SortOrder queryOrder = previous ? reverse(requestedOrder) : requestedOrder;
+        List<FieldValue> searchAfter = seek
+                ? seekSearchAfter(request.getSeekTimestamp(), requestedOrder)
+                : Objects.nonNull(cursor) ? toFieldValues(cursor.sort()) : List.of();
+
+        // 2. 검색 쿼리 생성 (커서의 PIT 재사용, 없으면 인덱스 패턴으로 조회)
+        Query query = buildSearchQuery(projectUuid, request);
+        String pitId = Objects.nonNull(cursor) ? cursor.pitId() : null;
+
+        // 3. OpenSearch 쿼리 실행 (PIT 만료 시 PIT 없이 한 번 재시도)
+        try {
+            SearchResponse<Log> response;
+            try {
+                response = searchPage(projectUuid, query, queryOrder, requestSize + 1, searchAfter, pitId,
+                        projection, trackTotalHitsUpTo);
+            } catch (OpenSearchException e) {
+                if (Objects.isNull(pitId) || !isPitExpired(e)) {
+                    throw e;
+                }
+                log.info("{} PIT 만료, PIT 없이 재조회: projectUuid={}", LOG_PREFIX, projectUuid);
+                logPointInTimeManager.expired(pitId);
+                pitId = null;
+                response = searchPage(projectUuid, query, queryOrder, requestSize + 1, searchAfter, null,
+                        projection, trackTotalHitsUpTo);
+            }
+
+            String renewedPitId = Objects.nonNull(pitId) && Objects.nonNull(response.pitId())
+                    ? response.pitId()
+                    : pitId;
+            if (Objects.nonNull(renewedPitId)) {
+                logPointInTimeManager.renewed(pitId, renewedPitId);
+            }
+
+            // 4. 응답 처리
+            LogSearchResult result = processPageResponse(response, requestSize, previous, positioned, renewedPitId);
+
+            // 5. 이동할 페이지가 있을 때만 PIT 생성 (다음 페이지를 요청하지 않는 첫 페이지 조회는 PIT를 만들지 않음)
+            if (Objects.isNull(renewedPitId) && (result.hasNext() || result.hasPrev())) {
+                result = result.withPitId(logPointInTimeManager.open(projectUuid));
+            }
+            log.debug("{} PIT 기반 페이지 조회 완료: {} logs, hasPrev={}, hasNext={}",
+                    LOG_PREFIX, result.logs().size(), result.hasPrev(), result.hasNext());
+            return result;
+        } catch (IOException e) {
+            log.error("{} OpenSearch findPage 중 에러 발생", LOG_PREFIX, e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        }
+    }
+
+    @Override
+    public long scan(String projectUuid, LogSearchRequest request, LogProjection projection, int batchSize,
+                     Predicate<List<Log>> batchHandler) {
+        log.debug("{} OpenSearch PIT 기반 순차 스캔 시작: projectUuid={}, request={}, batchSize={}",
+                LOG_PREFIX, projectUuid, request, batchSize);
+        Query query = buildSearchQuery(projectUuid, request);
+        SortOrder sortOrder = resolveSortOrder(request);
+        String pitId = logPointInTimeManager.open(projectUuid);
+        List<FieldValue> searchAfter = List.of();
+        long scanned = 0;
+
+        try {
+            while (true) {
+                SearchResponse<Log> response = searchPage(projectUuid, query, sortOrder, batchSize, searchAfter,
+                        pitId, projection, 0);
+                if (Objects.nonNull(response.pitId())) {
+                    logPointInTimeManager.renewed(pitId, response.pitId());
+                    pitId = response.pitId();
+                }
+
+                List<Hit<Log>> hits = response.hits().hits();
+                if (hits.isEmpty()) {
+                    break;
+                }
+                List<Log> batch = extractLogsFromHits(hits);
+                scanned += batch.size();
+                if (!batchHandler.test(batch) || hits.size() < batchSize) {
+                    break;
+                }
+                searchAfter = hits.get(hits.size() - 1).sort();
+            }
+            log.debug("{} 순차 스캔 완료: projectUuid={}, scanned={}", LOG_PREFIX, projectUuid, scanned);
+            return scanned;
+        } catch (IOException e) {
+            log.error("{} OpenSearch scan 중 에러 발생: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        } finally {
+            logPointInTimeManager.release(pitId);
+        }
+    }
+
+    @Override
+    public TraceLogSearchResult findByTraceId(String projectUuid, LogSearchRequest request, LogProjection projection) {
+        log.debug("{} OpenSearch에서 Trace ID 기반 로그 조회 시작: projectUuid={}, request={}, projection={}",
+                LOG_PREFIX, projectUuid, request, projection);
 
         // 1. 검색 쿼리 생성
         Query query = buildSearchQuery(projectUuid, request);
 
         // 2. SearchRequest 빌드 (Aggregation 포함)
-        SearchRequest searchRequest = buildTraceSearchRequest(projectUuid, query);
+        SearchRequest searchRequest = buildTraceSearchRequest(projectUuid, query, projection);
 
         // ============================================================
         // 🔍 상세 디버깅 로그 시작
@@ -252,6 +377,7 @@ public class LogRepositoryImpl implements LogRepository {
                     .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
                     .query(query)
                     .size(1)
+                    .source(toSourceConfig(LogProjection.DETAIL))
                     .build();
 
             SearchResponse<Log> response = openSearchClient.search(searchRequest, Log.class);
@@ -278,6 +404,25 @@ public class LogRepositoryImpl implements LogRepository {
         }
     }
 
+    @Override
+    public long countLogs(String projectUuid, LogSearchRequest request) {
+        log.debug("{} OpenSearch에서 로그 건수 조회: projectUuid={}, request={}", LOG_PREFIX, projectUuid, request);
+
+        try {
+            CountRequest countRequest = new CountRequest.Builder()
+                    .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
+                    .query(buildSearchQuery(projectUuid, request))
+                    .build();
+
+            long count = openSearchClient.count(countRequest).count();
+            log.debug("{} 로그 건수 조회 완료: projectUuid={}, count={}", LOG_PREFIX, projectUuid, count);
+            return count;
+        } catch (IOException e) {
+            log.error("{} OpenSearch countLogs 중 에러 발생: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        }
+    }
+
     @Override
     public boolean existsByProjectUuid(String projectUuid) {
         log.debug("{} 프로젝트 UUID로 로그 존재 확인: projectUuid={}", LOG_PREFIX, projectUuid);
@@ -320,26 +465,101 @@ public class LogRepositoryImpl implements LogRepository {
      * 정렬 옵션 생성
      */
     private List<SortOptions> buildSortOptions(LogSearchRequest request) {
-        String[] sortParams = request.getSort().split(",");
-        SortOrder sortOrder = "asc".equalsIgnoreCase(sortParams[1]) ? SortOrder.Asc : SortOrder.Desc;
+        return buildSortOptions(resolveSortOrder(request));
+    }
 
+    private List<SortOptions> buildSortOptions(SortOrder sortOrder) {
         return List.of(
                 SortOptions.of(s -> s.field(f -> f.field(TIMESTAMP_FIELD).order(sortOrder))),
                 SortOptions.of(s -> s.field(f -> f.field(ID_FIELD).order(sortOrder)))
         );
     }
 
+    /**
+     * 요청의 정렬 방향 추출 (필드,방향)
+     */
+    private SortOrder resolveSortOrder(LogSearchRequest request) {
+        String[] sortParams = request.getSort().split(",");
+        return "asc".equalsIgnoreCase(sortParams[1]) ? SortOrder.Asc : SortOrder.Desc;
+    }
+
+    private SortOrder reverse(SortOrder sortOrder) {
+        return sortOrder == SortOrder.Asc ? SortOrder.Desc : SortOrder.Asc;
+    }
+
+    /**
+     * 타임스탬프 이동용 search_after 값 생성
+     * DESC는 해당 시각 이하, ASC는 해당 시각 이상의 로그부터 조회되도록 경계값과 _id 최소/최대값 사용
+     */
+    private List<FieldValue> seekSearchAfter(LocalDateTime seekTimestamp, SortOrder sortOrder) {
+        long epochMillis = seekTimestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return sortOrder == SortOrder.Desc
+                ? List.of(FieldValue.of(String.valueOf(epochMillis + 1)), FieldValue.of(""))
+                : List.of(FieldValue.of(String.valueOf(epochMillis - 1)), FieldValue.of("\uffff"));
+    }
+
+    /**
+     * PIT 기반 페이지 검색 실행 (PIT 생성에 실패했으면 인덱스 패턴으로 직접 조회)
+     */
+    private SearchResponse<Log> searchPage(String projectUuid, Query query, SortOrder sortOrder, int size,
+                                           List<FieldValue> searchAfter, String pitId, LogProjection projection,
+                                           int trackTotalHitsUpTo) throws IOException {
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .query(query)
+                .size(size)
+                .sort(buildSortOptions(sortOrder))
+                .source(toSourceConfig(projection))
+                .trackScores(false);  // 정렬 조회이므로 _score 계산 불필요
+
+        if (Objects.nonNull(pitId)) {
+            builder.pit(p -> p.id(pitId).keepAlive(logPointInTimeManager.keepAliveExpression()));
+        } else {
+            builder.index(OpenSearchUtils.getProjectIndexPattern(projectUuid));
+        }
+        applyTrackTotalHits(builder, trackTotalHitsUpTo);
+        if (!searchAfter.isEmpty()) {
+            builder.searchAfter(searchAfter);
+        }
+
+        return openSearchClient.search(builder.build(), Log.class);
+    }
+
+    /**
+     * PIT 만료/미존재 오류 여부
+     */
+    private boolean isPitExpired(OpenSearchException e) {
+        String message = e.getMessage();
+        return e.status() == 404
+                || (Objects.nonNull(message) && message.contains("No search context found"));
+    }
+
+    /**
+     * 전체 건수 집계 범위: 0이면 생략, MAX_VALUE면 정확히 집계, 그 외에는 상한까지만 집계
+     */
+    private void applyTrackTotalHits(SearchRequest.Builder builder, int trackTotalHitsUpTo) {
+        if (trackTotalHitsUpTo <= 0) {
+            builder.trackTotalHits(t -> t.enabled(false));
+        } else if (trackTotalHitsUpTo == Integer.MAX_VALUE) {
+            builder.trackTotalHits(t -> t.enabled(true));
+        } else {
+            builder.trackTotalHits(t -> t.count(trackTotalHitsUpTo));
+        }
+    }
+
     /**
      * 커서 기반 페이지네이션 SearchRequest 생성
      */
     private SearchRequest buildSearchRequestWithCursor(String projectUuid, Query query, List<SortOptions> sortOptions,
-                                                       int size, String cursor) {
+                                                       int size, String cursor, LogProjection projection,
+                                                       int trackTotalHitsUpTo) {
         SearchRequest.Builder builder = new SearchRequest.Builder()
                 .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
                 .query(query)
                 .size(size)
                 .sort(sortOptions)
-                .trackTotalHits(t -> t.enabled(true));  // 10,000건 제한 해제
+                .source(toSourceConfig(projection))
+                .trackScores(false);  // 정렬 조회이므로 _score 계산 불필요
+        applyTrackTotalHits(builder, trackTotalHitsUpTo);
 
         if (Objects.nonNull(cursor) && !cursor.isEmpty()) {
             List<FieldValue> searchAfterValues = convertCursorToFieldValues(cursor);
@@ -352,12 +572,14 @@ public class LogRepositoryImpl implements LogRepository {
     /**
      * TraceId 조회용 SearchRequest 생성 (Aggregation 포함)
      */
-    private SearchRequest buildTraceSearchRequest(String projectUuid, Query query) {
+    private SearchRequest buildTraceSearchRequest(String projectUuid, Query query, LogProjection projection) {
         return new SearchRequest.Builder()
                 .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
                 .query(query)
                 .size(MAX_TRACE_LOGS)
                 .sort(s -> s.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Asc)))
+                .source(toSourceConfig(projection))
+                .trackScores(false)  // 정렬 조회이므로 _score 계산 불필요
                 .trackTotalHits(t -> t.enabled(true))  // 10,000건 제한 해제
                 .aggregations("min_timestamp", a -> a.min(m -> m.field(TIMESTAMP_FIELD)))
                 .aggregations("max_timestamp", a -> a.max(m -> m.field(TIMESTAMP_FIELD)))
@@ -365,6 +587,15 @@ public class LogRepositoryImpl implements LogRepository {
                 .build();
     }
 
+    /**
+     * 프로젝션 프로필을 _source 필터로 변환
+     */
+    private SourceConfig toSourceConfig(LogProjection projection) {
+        return SourceConfig.of(s -> s.filter(f -> f
+                .includes(projection.getIncludes())
+                .excludes(projection.getExcludes())));
+    }
+
     // ============================================================
     // Response Processing Methods
     // ============================================================
@@ -378,18 +609,63 @@ public class LogRepositoryImpl implements LogRepository {
         List<Log> logs = extractLogsFromHits(hits);
 
         boolean hasNext = logs.size() > requestSize;
-        Object[] nextSortValues = null;
-
         if (hasNext) {
             logs.remove(requestSize);
-            nextSortValues = extractSortValues(hits.get(requestSize - 1));
         }
 
-        LogSearchResult result = new LogSearchResult(logs, hasNext, nextSortValues);
+        // 마지막 페이지여도 첫/마지막 로그의 정렬 값을 반환하여 호출자가 이어서 조회할 수 있도록 함
+        int returnedHits = Math.min(hits.size(), requestSize);
+        Object[] nextSortValues = returnedHits == 0 ? null : extractSortValues(hits.get(returnedHits - 1));
+        Object[] prevSortValues = returnedHits == 0 ? null : extractSortValues(hits.get(0));
+
+        TotalHits total = response.hits().total();
+        LogSearchResult result = new LogSearchResult(
+                logs,
+                hasNext,
+                nextSortValues,
+                Objects.isNull(total) ? null : total.value(),
+                Objects.nonNull(total) && total.relation() == TotalHitsRelation.Eq,
+                false,
+                prevSortValues,
+                null
+        );
         log.debug("{} 검색 응답 처리 완료: {} logs, hasNext={}", LOG_PREFIX, result.logs().size(), result.hasNext());
         return result;
     }
 
+    /**
+     * PIT 페이지 검색 응답을 LogSearchResult로 변환
+     * 이전 페이지 조회는 역순으로 검색했으므로 결과를 다시 뒤집어 요청 정렬 순서로 반환
+     */
+    private LogSearchResult processPageResponse(SearchResponse<Log> response, int requestSize, boolean previous,
+                                                boolean positioned, String pitId) {
+        List<Hit<Log>> hits = response.hits().hits();
+        boolean hasMore = hits.size() > requestSize;
+        List<Hit<Log>> pageHits = new ArrayList<>(hasMore ? hits.subList(0, requestSize) : hits);
+        if (previous) {
+            Collections.reverse(pageHits);
+        }
+
+        List<Log> logs = extractLogsFromHits(pageHits);
+        boolean empty = pageHits.isEmpty();
+        boolean hasNext = previous ? !empty : hasMore;
+        boolean hasPrev = previous ? hasMore : positioned && !empty;
+        Object[] nextSortValues = empty ? null : extractSortValues(pageHits.get(pageHits.size() - 1));
+        Object[] prevSortValues = empty ? null : extractSortValues(pageHits.get(0));
+
+        TotalHits total = response.hits().total();
+        return new LogSearchResult(
+                logs,
+                hasNext,
+                nextSortValues,
+                Objects.nonNull(total) ? total.value() : null,
+                Objects.nonNull(total) && total.relation() == TotalHitsRelation.Eq,
+                hasPrev,
+                prevSortValues,
+                pitId
+        );
+    }
+
     /**
      * Hit 목록에서 Log 엔티티 추출
      */
@@ -509,32 +785,21 @@ public class LogRepositoryImpl implements LogRepository {
      * 커서를 FieldValue 리스트로 변환
      */
     private List<FieldValue> convertCursorToFieldValues(String cursor) {
-        Object[] searchAfterValues = decodeCursor(cursor);
-        if (Objects.isNull(searchAfterValues)) {
+        LogCursor decoded = logCursorCodec.decode(cursor);
+        if (Objects.isNull(decoded)) {
             return List.of();
         }
-        return Arrays.stream(searchAfterValues)
-                .map(String::valueOf)
-                .map(FieldValue::of)
-                .collect(Collectors.toList());
+        return toFieldValues(decoded.sort());
     }
 
     /**
-     * 커서 디코딩
+     * 정렬 값을 search_after용 FieldValue 리스트로 변환
      */
-    private Object[] decodeCursor(String cursor) {
-        log.debug("{} 커서 디코딩 시작", LOG_PREFIX);
-        if (Objects.isNull(cursor) || cursor.isEmpty()) {
-            return null;
-        }
-        try {
-            Object[] decoded = objectMapper.readValue(Base64.getDecoder().decode(cursor), Object[].class);
-            log.debug("{} 커서 디코딩 완료", LOG_PREFIX);
-            return decoded;
-        } catch (Exception e) {
-            log.warn("{} 커서 디코딩 실패: cursor={}", LOG_PREFIX, cursor, e);
-            throw new BusinessException(LogErrorCode.INVALID_CURSOR);
-        }
+    private List<FieldValue> toFieldValues(Object[] sortValues) {
+        return Arrays.stream(sortValues)
+                .map(String::valueOf)
+                .map(FieldValue::of)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -702,24 +967,28 @@ public class LogRepositoryImpl implements LogRepository {
     }
 
     @Override
-    public List<Log> findErrorLogsByProjectUuidAndTimeRange(
-            String projectUuid,
+    public Map<String, ProjectAlertMetrics> aggregateAlertMetricsByProjects(
+            List<String> projectUuids,
             LocalDateTime startTime,
-            LocalDateTime endTime,
-            int limit) {
+            LocalDateTime endTime) {
 
-        log.debug("{} Alert용 ERROR 로그 목록 조회: projectUuid={}, startTime={}, endTime={}, limit={}",
-                LOG_PREFIX, projectUuid, startTime, endTime, limit);
+        log.debug("{} 프로젝트별 알림 지표 집계: projects={}, startTime={}, endTime={}",
+                LOG_PREFIX, projectUuids.size(), startTime, endTime);
+
+        if (projectUuids.isEmpty()) {
+            return Map.of();
+        }
 
         try {
-            // 1. Bool Query 생성: project_uuid + log_level=ERROR + timestamp 범위
+            List<FieldValue> uuidValues = projectUuids.stream()
+                    .map(FieldValue::of)
+                    .toList();
+
+            // 1. Bool Query 생성: project_uuid IN (...) + timestamp 범위
             Query query = Query.of(q -> q.bool(b -> b
-                    .filter(f -> f.term(t -> t
+                    .filter(f -> f.terms(t -> t
                             .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
-                            .value(FieldValue.of(projectUuid))))
-                    .filter(f -> f.term(t -> t
-                            .field(OpenSearchField.LOG_LEVEL.getFieldName())
-                            .value(FieldValue.of("ERROR"))))
+                            .terms(new TermsQueryField.Builder().value(uuidValues).build())))
                     .filter(f -> f.range(r -> r
                             .field(TIMESTAMP_FIELD)
                             .gte(JsonData.of(startTime.atOffset(ZoneOffset.UTC).toString()))
@@ -727,6 +996,108 @@ public class LogRepositoryImpl implements LogRepository {
                     ))
             ));
 
+            // 2. SearchRequest 생성: 프로젝트별 terms 집계 + 하위 집계 (size=0, 집계만 수행)
+            SearchRequest searchRequest = SearchRequest.of(s -> s
+                    .index(projectUuids.stream().map(OpenSearchUtils::getProjectIndexPattern).toList())
+                    .query(query)
+                    .size(0)
+                    .aggregations("by_project", a -> a
+                            .terms(t -> t
+                                    .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
+                                    .size(projectUuids.size()))
+                            .aggregations("errors", sub -> sub
+                                    .filter(f -> f.term(t -> t
+                                            .field(OpenSearchField.LOG_LEVEL.getFieldName())
+                                            .value(FieldValue.of("ERROR"))))
+                                    .aggregations("latest_error", top -> top
+                                            .topHits(th -> th
+                                                    .size(1)
+                                                    .sort(so -> so.field(f -> f
+                                                            .field(TIMESTAMP_FIELD)
+                                                            .order(SortOrder.Desc)))
+                                                    .source(src -> src.filter(f -> f
+                                                            .includes(List.of(ALERT_TRACE_ID_FIELD)))))))
+                            .aggregations("avg_latency", sub -> sub
+                                    .avg(avg -> avg.field(OpenSearchField.DURATION.getFieldName())))
+                            .aggregations("slowest", sub -> sub
+                                    .topHits(th -> th
+                                            .size(1)
+                                            .sort(so -> so.field(f -> f
+                                                    .field(OpenSearchField.DURATION.getFieldName())
+                                                    .order(SortOrder.Desc)))
+                                            .source(src -> src.filter(f -> f
+                                                    .includes(List.of(ALERT_TRACE_ID_FIELD)))))))
+            );
+
+            // 3. OpenSearch 쿼리 실행
+            SearchResponse<Void> response = openSearchClient.search(searchRequest, Void.class);
+
+            // 4. 버킷별 결과 파싱
+            Map<String, ProjectAlertMetrics> metrics = new HashMap<>();
+            Aggregate byProject = response.aggregations().get("by_project");
+            if (Objects.isNull(byProject)) {
+                return metrics;
+            }
+
+            for (StringTermsBucket bucket : byProject.sterms().buckets().array()) {
+                Map<String, Aggregate> aggs = bucket.aggregations();
+                Aggregate errors = aggs.get("errors");
+                long errorCount = errors.filter().docCount();
+
+                metrics.put(bucket.key(), new ProjectAlertMetrics(
+                        bucket.key(),
+                        bucket.docCount(),
+                        errorCount,
+                        aggs.get("avg_latency").avg().value(),
+                        extractTopHitTraceId(errors.filter().aggregations().get("latest_error")),
+                        extractTopHitTraceId(aggs.get("slowest"))
+                ));
+            }
+
+            log.debug("{} 프로젝트별 알림 지표 집계 완료: 요청 프로젝트={}, 로그 있는 프로젝트={}",
+                    LOG_PREFIX, projectUuids.size(), metrics.size());
+
+            return metrics;
+
+        } catch (IOException e) {
+            log.error("{} 프로젝트별 알림 지표 집계 실패: projects={}", LOG_PREFIX, projectUuids.size(), e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        }
+    }
+
+    /**
+     * top_hits 집계의 첫 번째 문서에서 traceId 추출
+     */
+    private String extractTopHitTraceId(Aggregate topHits) {
+        if (Objects.isNull(topHits) || topHits.topHits().hits().hits().isEmpty()) {
+            return null;
+        }
+        JsonData source = topHits.topHits().hits().hits().get(0).source();
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        try {
+            return source.toJson().asJsonObject().getString(ALERT_TRACE_ID_FIELD, null);
+        } catch (Exception e) {
+            log.warn("{} traceId 추출 실패", LOG_PREFIX, e);
+            return null;
+        }
+    }
+
+    @Override
+    public List<Log> findErrorLogsByProjectUuidAndTimeRange(
+            String projectUuid,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int limit) {
+
+        log.debug("{} Alert용 ERROR 로그 목록 조회: projectUuid={}, startTime={}, endTime={}, limit={}",
+                LOG_PREFIX, projectUuid, startTime, endTime, limit);
+
+        try {
+            // 1. Bool Query 생성: project_uuid + log_level=ERROR + timestamp 범위
+            Query query = buildErrorLogsQuery(projectUuid, startTime, endTime);
+
             // 2. SearchRequest 생성 (최신순 정렬)
             SearchRequest searchRequest = SearchRequest.of(s -> s
                     .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
@@ -736,6 +1107,7 @@ public class LogRepositoryImpl implements LogRepository {
                             .field(TIMESTAMP_FIELD)
                             .order(SortOrder.Desc)
                     ))
+                    .source(toSourceConfig(LogProjection.TRACE))
             );
 
             // 3. OpenSearch 쿼리 실행
@@ -758,6 +1130,92 @@ public class LogRepositoryImpl implements LogRepository {
         }
     }
 
+    @Override
+    public Map<LogTimeRange, List<Log>> findErrorLogsByTimeRanges(
+            String projectUuid,
+            Collection<LogTimeRange> timeRanges,
+            int limit) {
+
+        // 같은 시간 범위는 한 번만 조회
+        List<LogTimeRange> ranges = timeRanges.stream().distinct().toList();
+        if (ranges.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("{} Alert용 ERROR 로그 일괄 조회: projectUuid={}, ranges={}, limit={}",
+                LOG_PREFIX, projectUuid, ranges.size(), limit);
+
+        try {
+            // 1. 시간 범위별 검색을 하나의 _msearch 요청으로 구성 (최신순 정렬)
+            String index = OpenSearchUtils.getProjectIndexPattern(projectUuid);
+            SourceConfig sourceConfig = toSourceConfig(LogProjection.TRACE);
+            List<RequestItem> searches = ranges.stream()
+                    .map(range -> RequestItem.of(r -> r
+                            .header(h -> h.index(index))
+                            .body(b -> b
+                                    .query(buildErrorLogsQuery(projectUuid, range.startTime(), range.endTime()))
+                                    .size(limit)
+                                    .sort(so -> so.field(f -> f
+                                            .field(TIMESTAMP_FIELD)
+                                            .order(SortOrder.Desc)
+                                    ))
+                                    .source(sourceConfig)
+                                    .trackTotalHits(t -> t.enabled(false))
+                            )))
+                    .toList();
+
+            // 2. OpenSearch 쿼리 실행 (한 번의 왕복)
+            MsearchResponse<Log> response = openSearchClient.msearch(
+                    MsearchRequest.of(m -> m.searches(searches)), Log.class);
+
+            // 3. 응답은 요청 순서와 같으므로 범위별로 재조립 (개별 실패는 빈 목록)
+            Map<LogTimeRange, List<Log>> result = new HashMap<>();
+            List<MultiSearchResponseItem<Log>> items = response.responses();
+            for (int i = 0; i < ranges.size(); i++) {
+                LogTimeRange range = ranges.get(i);
+                MultiSearchResponseItem<Log> item = i < items.size() ? items.get(i) : null;
+                if (Objects.isNull(item) || !item.isResult()) {
+                    log.warn("{} Alert용 ERROR 로그 일괄 조회 중 일부 실패: projectUuid={}, range={}, reason={}",
+                            LOG_PREFIX, projectUuid, range,
+                            Objects.nonNull(item) && item.isFailure() ? item.failure().error().reason() : null);
+                    result.put(range, List.of());
+                    continue;
+                }
+                result.put(range, item.result().hits().hits().stream()
+                        .map(Hit::source)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+            }
+
+            log.debug("{} Alert용 ERROR 로그 일괄 조회 완료: projectUuid={}, ranges={}",
+                    LOG_PREFIX, projectUuid, ranges.size());
+            return result;
+
+        } catch (IOException e) {
+            log.error("{} Alert용 ERROR 로그 일괄 조회 실패: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        }
+    }
+
+    /**
+     * Alert용 ERROR 로그 쿼리: project_uuid + log_level=ERROR + timestamp 범위
+     */
+    private Query buildErrorLogsQuery(String projectUuid, LocalDateTime startTime, LocalDateTime endTime) {
+        return Query.of(q -> q.bool(b -> b
+                .filter(f -> f.term(t -> t
+                        .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
+                        .value(FieldValue.of(projectUuid))))
+                .filter(f -> f.term(t -> t
+                        .field(OpenSearchField.LOG_LEVEL.getFieldName())
+                        .value(FieldValue.of("ERROR"))))
+                .filter(f -> f.range(r -> r
+                        .field(TIMESTAMP_FIELD)
+                        .gte(JsonData.of(startTime.atOffset(ZoneOffset.UTC).toString()))
+                        .lte(JsonData.of(endTime.atOffset(ZoneOffset.UTC).toString()))
+                ))
+        ));
+    }
+
     @Override
     public List<LogTrendAggregation> aggregateLogTrendByTimeRange(
             String projectUuid,
@@ -1005,4 +1463,64 @@ public class LogRepositoryImpl implements LogRepository {
 
         return counts;
     }
+
+    @Override
+    public LogMetricsRollupSummary summarizeByTimeRange(
+            String projectUuid,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        log.debug("{} 로그 합계 집계: projectUuid={}, start(UTC)={}, end(UTC)={}",
+                LOG_PREFIX, projectUuid, startTime, endTime);
+
+        try {
+            SearchRequest searchRequest = SearchRequest.of(s -> s
+                    .index(OpenSearchUtils.getProjectIndexPattern(projectUuid))
+                    .size(0)
+                    .trackTotalHits(t -> t.enabled(true))
+                    .query(q -> q.bool(b -> b
+                            .filter(f -> f.term(t -> t
+                                    .field(OpenSearchField.PROJECT_UUID_KEYWORD.getFieldName())
+                                    .value(FieldValue.of(projectUuid))
+                            ))
+                            .filter(f -> f.range(r -> r
+                                    .field(TIMESTAMP_FIELD)
+                                    .gte(JsonData.of(startTime.atOffset(ZoneOffset.UTC).toString()))
+                                    .lt(JsonData.of(endTime.atOffset(ZoneOffset.UTC).toString()))
+                            ))
+                    ))
+                    .aggregations("by_level", a -> a
+                            .terms(t -> t.field(OpenSearchField.LOG_LEVEL.getFieldName()))
+                    )
+                    .aggregations("by_source_type", a -> a
+                            .terms(t -> t.field(OpenSearchField.SOURCE_TYPE.getFieldName()))
+                    )
+                    .aggregations("sum_response_time", a -> a
+                            .sum(sum -> sum.field(OpenSearchField.DURATION.getFieldName()))
+                    )
+            );
+
+            SearchResponse<Void> response = openSearchClient.search(searchRequest, Void.class);
+
+            Map<String, Aggregate> aggs = response.aggregations();
+            Map<String, Integer> levelCounts = parseLevelCountsForTrend(aggs.get("by_level"));
+            Map<String, Integer> sourceTypeCounts = parseSourceTypeCounts(aggs.get("by_source_type"));
+            Aggregate sumAgg = aggs.get("sum_response_time");
+            Double sumResponseTime = Objects.nonNull(sumAgg) && sumAgg.isSum() ? sumAgg.sum().value() : null;
+
+            return new LogMetricsRollupSummary(
+                    Objects.nonNull(response.hits().total()) ? response.hits().total().value() : 0L,
+                    (long) levelCounts.getOrDefault("ERROR", 0),
+                    (long) levelCounts.getOrDefault("WARN", 0),
+                    (long) levelCounts.getOrDefault("INFO", 0),
+                    (long) sourceTypeCounts.getOrDefault("FE", 0),
+                    (long) sourceTypeCounts.getOrDefault("BE", 0),
+                    Objects.nonNull(sumResponseTime) && !sumResponseTime.isNaN() ? sumResponseTime.longValue() : 0L
+            );
+
+        } catch (IOException e) {
+            log.error("{} 로그 합계 집계 중 오류 발생: projectUuid={}", LOG_PREFIX, projectUuid, e);
+            throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED, null, e);
+        }
+    }
 }
@@ -1,9 +1,13 @@
 package S13P31A306.loglens.domain.log.service;
 
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogCountResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogDetailResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogPageResponse;
 import S13P31A306.loglens.domain.log.dto.response.TraceLogResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
@@ -19,6 +23,14 @@ public interface LogService {
      */
     LogPageResponse getLogs(LogSearchRequest request);
 
+    /**
+     * 검색 조건에 해당하는 전체 로그 수 조회 필터 조건별로 캐시된 값을 우선 사용합니다.
+     *
+     * @param request 로그 검색 조건 (커서/정렬/크기는 무시)
+     * @return 전체 로그 수
+     */
+    LogCountResponse countLogs(LogSearchRequest request);
+
     /**
      * Trace ID로 로그 조회
      *
@@ -37,10 +49,18 @@ public interface LogService {
     LogDetailResponse getLogDetail(Long logId, String projectUuid);
 
     /**
-     * 실시간 로그 스트리밍 (SSE) 5초 간격으로 새로운 로그를 조회하여 클라이언트에 전송합니다.
+     * 실시간 로그 스트리밍 (SSE) 같은 프로젝트/필터의 구독자는 하나의 폴러를 공유하며, 5초 간격으로 조회된 새로운 로그를 모든 구독자에게 전송합니다.
      *
      * @param request 로그 검색 조건
      * @return SseEmitter 객체
      */
     SseEmitter streamLogs(LogSearchRequest request);
+
+    /**
+     * 로그 내보내기 (NDJSON/CSV, 선택적 gzip) 검색 조건에 맞는 로그를 배치 단위로 조회하여 응답 스트림에 바로 기록합니다.
+     *
+     * @param request  로그 내보내기 요청
+     * @param response 서블릿 응답
+     */
+    void exportLogs(LogExportRequest request, HttpServletResponse response) throws IOException;
 }
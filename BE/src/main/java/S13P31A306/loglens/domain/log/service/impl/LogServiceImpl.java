@@ -1,34 +1,39 @@
 package S13P31A306.loglens.domain.log.service.impl;
 
 import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.domain.log.constants.LogProjection;
 import S13P31A306.loglens.domain.log.dto.ai.AiAnalysisDto;
 import S13P31A306.loglens.domain.log.dto.ai.AiAnalysisResponse;
 import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
 import S13P31A306.loglens.domain.log.dto.internal.TraceLogSearchResult;
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogCountResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogDetailResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogPageResponse;
 import S13P31A306.loglens.domain.log.dto.response.LogResponse;
 import S13P31A306.loglens.domain.log.dto.response.PaginationResponse;
 import S13P31A306.loglens.domain.log.dto.response.TraceLogResponse;
 import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.export.LogExporter;
 import S13P31A306.loglens.domain.log.mapper.LogMapper;
+import S13P31A306.loglens.domain.log.pagination.LogCountStrategy;
+import S13P31A306.loglens.domain.log.pagination.LogCursor;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.pagination.LogCursorDirection;
+import S13P31A306.loglens.domain.log.pagination.LogTotalCount;
 import S13P31A306.loglens.domain.log.repository.LogRepository;
 import S13P31A306.loglens.domain.log.service.LogService;
+import S13P31A306.loglens.domain.log.stream.LogTailHub;
 import S13P31A306.loglens.global.client.AiServiceClient;
 import S13P31A306.loglens.global.exception.BusinessException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.LocalDateTime;
-import java.util.Base64;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,15 +45,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class LogServiceImpl implements LogService {
 
     private static final String LOG_PREFIX = "[LogService]";
-    private static final long POLLING_INTERVAL = 5; // 5초
-    private static final int MAX_IDLE_POLLS = 3; // 빈 응답 3회 후 폴링 주기 감소 시작
 
     private final LogRepository logRepository;
     private final LogMapper logMapper;
-    private final ObjectMapper objectMapper; // For cursor encoding/decoding
+    private final ObjectMapper objectMapper;
     private final AiServiceClient aiServiceClient;
-    private final ScheduledExecutorService sseScheduler;
-    private final long sseTimeout;
+    private final LogTailHub logTailHub;
+    private final LogCursorCodec logCursorCodec;
+    private final LogCountStrategy logCountStrategy;
+    private final LogExporter logExporter;
 
     @Override
     public LogPageResponse getLogs(LogSearchRequest request) {
@@ -57,17 +62,19 @@ public class LogServiceImpl implements LogService {
         // 기본값 설정
         applyDefaults(request);
 
-        LogSearchResult result = searchLogs(request.getProjectUuid(), request);
+        LogCursor cursor = logCursorCodec.decode(request.getCursor());
+        LogSearchResult result = searchLogs(request.getProjectUuid(), request, cursor);
+        LogTotalCount totalCount = logCountStrategy.resolve(request, cursor, result);
         List<LogResponse> logResponses = mapToLogResponses(result);
-        PaginationResponse pagination = createPaginationResponse(result);
+        PaginationResponse pagination = createPaginationResponse(result, totalCount);
 
         LogPageResponse response = LogPageResponse.builder()
                 .logs(logResponses)
                 .pagination(pagination)
                 .build();
 
-        log.info("{} 로그 목록 조회 완료: 조회된 로그 수={}, hasNext={}",
-                LOG_PREFIX, logResponses.size(), result.hasNext());
+        log.info("{} 로그 목록 조회 완료: 조회된 로그 수={}, hasPrev={}, hasNext={}",
+                LOG_PREFIX, logResponses.size(), result.hasPrev(), result.hasNext());
 
         return response;
     }
@@ -96,9 +103,23 @@ public class LogServiceImpl implements LogService {
         return response;
     }
 
-    private LogSearchResult searchLogs(String projectUuid, LogSearchRequest request) {
+    @Override
+    public LogCountResponse countLogs(LogSearchRequest request) {
+        log.info("{} 로그 건수 조회 시작: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
+
+        LogTotalCount totalCount = logCountStrategy.count(request);
+
+        log.info("{} 로그 건수 조회 완료: totalCount={}", LOG_PREFIX, totalCount.value());
+        return LogCountResponse.builder()
+                .totalCount(totalCount.value())
+                .exact(totalCount.exact())
+                .build();
+    }
+
+    private LogSearchResult searchLogs(String projectUuid, LogSearchRequest request, LogCursor cursor) {
         log.debug("{} OpenSearch에서 로그 조회: projectUuid={}", LOG_PREFIX, projectUuid);
-        LogSearchResult result = logRepository.findWithCursor(projectUuid, request);
+        LogSearchResult result = logRepository.findPage(projectUuid, request, cursor, LogProjection.LIST,
+                logCountStrategy.trackTotalHitsUpTo(cursor));
         if (Objects.isNull(result)) {
             return new LogSearchResult(Collections.emptyList(), false, null);
         }
@@ -109,7 +130,7 @@ public class LogServiceImpl implements LogService {
     private TraceLogSearchResult searchLogsByTraceId(String projectUuid, LogSearchRequest request) {
         log.debug("{} OpenSearch에서 Trace ID로 로그 조회: projectUuid={}, traceId={}", LOG_PREFIX, projectUuid,
                 request.getTraceId());
-        TraceLogSearchResult result = logRepository.findByTraceId(projectUuid, request);
+        TraceLogSearchResult result = logRepository.findByTraceId(projectUuid, request, LogProjection.TRACE);
         if (Objects.isNull(result) || Objects.isNull(result.logs())) {
             return new TraceLogSearchResult(Collections.emptyList(), null);
         }
@@ -129,35 +150,27 @@ public class LogServiceImpl implements LogService {
                 .toList();
     }
 
-    private PaginationResponse createPaginationResponse(LogSearchResult result) {
-        String nextCursor = result.hasNext() ? encodeCursor(result.sortValues()) : null;
+    private PaginationResponse createPaginationResponse(LogSearchResult result, LogTotalCount totalCount) {
+        Long carriedTotal = logCountStrategy.carryOver(totalCount);
+        String nextCursor = result.hasNext()
+                ? logCursorCodec.encode(new LogCursor(
+                        result.sortValues(), carriedTotal, result.pitId(), LogCursorDirection.NEXT))
+                : null;
+        String prevCursor = result.hasPrev()
+                ? logCursorCodec.encode(new LogCursor(
+                        result.prevSortValues(), carriedTotal, result.pitId(), LogCursorDirection.PREV))
+                : null;
         return PaginationResponse.builder()
                 .hasNext(result.hasNext())
                 .nextCursor(nextCursor)
+                .hasPrev(result.hasPrev())
+                .prevCursor(prevCursor)
                 .size(result.logs().size())
+                .totalCount(Objects.nonNull(totalCount) ? totalCount.value() : null)
+                .totalCountExact(Objects.nonNull(totalCount) ? totalCount.exact() : null)
                 .build();
     }
 
-    /**
-     * 커서 인코딩 (페이지네이션용)
-     *
-     * @param sortValues OpenSearch의 sort 값
-     * @return Base64로 인코딩된 커서 문자열
-     */
-    private String encodeCursor(Object[] sortValues) {
-        if (Objects.isNull(sortValues)) {
-            return null;
-        }
-        try {
-            String encoded = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(sortValues));
-            log.debug("{} 커서 인코딩 완료", LOG_PREFIX);
-            return encoded;
-        } catch (Exception e) {
-            log.error("{} 커서 인코딩 실패: sortValues={}", LOG_PREFIX, sortValues, e);
-            throw new BusinessException(LogErrorCode.CURSOR_ENCODING_FAILED, null, e);
-        }
-    }
-
     @Override
     public LogDetailResponse getLogDetail(Long logId, String projectUuid) {
         log.info("{} 로그 상세 조회 시작: logId={}, projectUuid={}", LOG_PREFIX, logId, projectUuid);
@@ -222,108 +235,14 @@ public class LogServiceImpl implements LogService {
     @Override
     public SseEmitter streamLogs(LogSearchRequest request) {
         log.info("{} 실시간 로그 스트리밍 시작: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
-
-        SseEmitter emitter = new SseEmitter(sseTimeout);
-
-        // AtomicReference를 사용하여 thread-safe하게 변수 관리
-        AtomicReference<LocalDateTime> lastTimestamp = new AtomicReference<>(request.getStartTime());
-        AtomicReference<ScheduledFuture<?>> scheduledFutureHolder = new AtomicReference<>();
-        AtomicInteger emptyPollCount = new AtomicInteger(0); // 빈 응답 카운터 (OpenSearch 부하 관리용)
-
-        scheduledFutureHolder.set(sseScheduler.scheduleAtFixedRate(() -> {
-            try {
-                // OpenSearch 부하 관리: 빈 응답이 일정 횟수 이상이면 스킵
-                int emptyCount = emptyPollCount.get();
-                if (emptyCount >= MAX_IDLE_POLLS && emptyCount % 2 != 0) {
-                    // 3회 이상 빈 응답 후, 홀수 번째는 스킵하여 폴링 주기를 실질적으로 2배로 늘림
-                    emptyPollCount.incrementAndGet();
-                    emitter.send(SseEmitter.event()
-                            .name("heartbeat")
-                            .data("No new logs"));
-                    log.debug("{} OpenSearch 부하 감소를 위한 폴링 스킵 (emptyCount: {})", LOG_PREFIX, emptyCount);
-                    return;
-                }
-
-                // 검색 조건 복사 및 시작 시간 업데이트
-                LogSearchRequest pollingRequest = createPollingRequest(request, lastTimestamp.get());
-
-                // 새로운 로그 조회
-                LogSearchResult result = searchLogs(pollingRequest.getProjectUuid(), pollingRequest);
-
-                if (!result.logs().isEmpty()) {
-                    List<LogResponse> logResponses = mapToLogResponses(result);
-
-                    // SSE로 데이터 전송
-                    emitter.send(SseEmitter.event()
-                            .name("log-update")
-                            .data(logResponses));
-
-                    // 마지막 timestamp 업데이트 (중복 방지를 위해 1 나노초 추가)
-                    if (!logResponses.isEmpty()) {
-                        LocalDateTime lastLogTime = logResponses.getLast().getTimestamp();
-                        lastTimestamp.set(lastLogTime.plusNanos(1));
-                    }
-
-                    // 빈 응답 카운터 리셋
-                    emptyPollCount.set(0);
-
-                    log.debug("{} 새로운 로그 전송: 개수={}", LOG_PREFIX, logResponses.size());
-                } else {
-                    // 빈 응답 카운터 증가
-                    emptyPollCount.incrementAndGet();
-
-                    // heartbeat 전송 (연결 유지)
-                    emitter.send(SseEmitter.event()
-                            .name("heartbeat")
-                            .data("No new logs"));
-                    log.debug("{} Heartbeat 전송 (빈 응답 카운트: {})", LOG_PREFIX, emptyPollCount.get());
-                }
-            } catch (Exception e) {
-                // 모든 예외에서 스케줄러 정리 (메모리 누수 방지)
-                cleanupScheduler(scheduledFutureHolder.get());
-
-                if (e instanceof java.io.IOException) {
-                    log.debug("{} 클라이언트 연결 종료됨", LOG_PREFIX);
-                    emitter.complete();
-                } else {
-                    log.error("{} 로그 스트리밍 중 오류 발생", LOG_PREFIX, e);
-                    emitter.completeWithError(e);
-                }
-            }
-        }, 0, POLLING_INTERVAL, TimeUnit.SECONDS));
-
-        // 연결 종료 시 스케줄러 정리
-        emitter.onCompletion(() -> {
-            cleanupScheduler(scheduledFutureHolder.get());
-            log.info("{} SSE 연결 정상 종료: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
-        });
-
-        emitter.onTimeout(() -> {
-            cleanupScheduler(scheduledFutureHolder.get());
-            log.info("{} SSE 연결 타임아웃: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
-            emitter.complete();
-        });
-
-        emitter.onError((e) -> {
-            cleanupScheduler(scheduledFutureHolder.get());
-            // IOException은 클라이언트가 연결을 끊은 정상적인 상황
-            if (e instanceof java.io.IOException) {
-                log.debug("{} SSE 클라이언트 연결 종료: projectUuid={}", LOG_PREFIX, request.getProjectUuid());
-            } else {
-                log.error("{} SSE 연결 오류: projectUuid={}", LOG_PREFIX, request.getProjectUuid(), e);
-            }
-        });
-
-        return emitter;
+        return logTailHub.subscribe(request);
     }
 
-    /**
-     * 스케줄러 정리 헬퍼 메서드 (중복 코드 제거)
-     */
-    private void cleanupScheduler(ScheduledFuture<?> future) {
-        if (Objects.nonNull(future) && !future.isCancelled()) {
-            future.cancel(true);
-        }
+    @Override
+    public void exportLogs(LogExportRequest request, HttpServletResponse response) throws IOException {
+        log.info("{} 로그 내보내기 시작: projectUuid={}, format={}, gzip={}, limit={}",
+                LOG_PREFIX, request.getProjectUuid(), request.resolveFormat(), request.isGzip(), request.getLimit());
+        logExporter.export(request, response);
     }
 
     /**
@@ -339,29 +258,4 @@ public class LogServiceImpl implements LogService {
             request.setSort("TIMESTAMP,DESC");
         }
     }
-
-    /**
-     * 폴링용 검색 요청 생성 마지막 조회 시간 이후의 로그만 조회하도록 설정
-     */
-    private LogSearchRequest createPollingRequest(LogSearchRequest original, LocalDateTime lastTimestamp) {
-        LogSearchRequest pollingRequest = LogSearchRequest.builder()
-                .projectUuid(original.getProjectUuid())
-                .size(original.getSize())
-                .logLevel(original.getLogLevel())
-                .sourceType(original.getSourceType())
-                .keyword(original.getKeyword())
-                .sort(original.getSort())
-                .build();
-
-        // 마지막 조회 시간 이후의 로그만 조회
-        if (Objects.nonNull(lastTimestamp)) {
-            pollingRequest.setStartTime(lastTimestamp);
-        } else if (Objects.nonNull(original.getStartTime())) {
-            pollingRequest.setStartTime(original.getStartTime());
-        }
-
-        pollingRequest.setEndTime(original.getEndTime());
-
-        return pollingRequest;
-    }
 }
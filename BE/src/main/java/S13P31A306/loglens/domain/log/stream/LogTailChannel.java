@@ -0,0 +1,179 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import S13P31A306.loglens.domain.log.dto.response.LogResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+// @formatter:off
+/**
+ * (프로젝트, 필터) 단위의 공유 폴링 채널
+ * - 폴러는 채널당 하나만 실행되며 조회 결과를 배치로 적재
+ * - 배치는 누적 로그 오프셋을 가지며, 구독자는 자신의 오프셋 이후 배치만 전달받음
+ * - 최근 backlogCapacity개의 배치만 보관하고, 그보다 뒤처진 구독자는 건너뛴 로그 수를 통보받음
+ * - 조회 위치는 마지막으로 적재한 로그의 (timestamp, _id) 정렬 값으로 관리하여 같은 시각의 로그도 누락되지 않음
+ */
+// @formatter:on
+class LogTailChannel {
+
+    private static final int MAX_IDLE_POLLS = 3; // 빈 응답 3회 후 폴링 주기 감소 시작
+
+    private final LogTailKey key;
+    private final int backlogCapacity;
+    private final Set<LogTailSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Batch> history = new ArrayDeque<>();
+
+    private List<LogResponse> latestLogs = List.of();
+    private Object[] searchAfter;
+    private long offset;
+    private int emptyPollCount;
+    private ScheduledFuture<?> poller;
+    private volatile boolean closed;
+
+    LogTailChannel(LogTailKey key, int backlogCapacity) {
+        this.key = key;
+        this.backlogCapacity = backlogCapacity;
+    }
+
+    LogTailKey key() {
+        return key;
+    }
+
+    void start(ScheduledFuture<?> poller) {
+        this.poller = poller;
+    }
+
+    /**
+     * 채널 종료: 폴러 취소 후 더 이상 배치를 적재하지 않음
+     */
+    void stop() {
+        closed = true;
+        if (Objects.nonNull(poller) && !poller.isCancelled()) {
+            poller.cancel(false);
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 구독자 등록 - 현재 오프셋부터 수신하며, 직전까지의 최신 로그를 초기 화면용으로 전달
+     */
+    synchronized void join(LogTailSubscriber subscriber) {
+        subscriber.join(offset, latestLogs);
+        subscribers.add(subscriber);
+    }
+
+    void leave(LogTailSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    Collection<LogTailSubscriber> subscribers() {
+        return subscribers;
+    }
+
+    /**
+     * 다음 조회 시작 위치 (아직 적재한 로그가 없으면 null)
+     */
+    synchronized Object[] searchAfter() {
+        return searchAfter;
+    }
+
+    /**
+     * OpenSearch 부하 관리: 빈 응답이 일정 횟수 이상이면 홀수 번째 폴링을 스킵하여 주기를 실질적으로 2배로 늘림
+     */
+    synchronized boolean shouldSkipPoll() {
+        if (emptyPollCount >= MAX_IDLE_POLLS && emptyPollCount % 2 != 0) {
+            emptyPollCount++;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void recordEmptyPoll() {
+        emptyPollCount++;
+    }
+
+    /**
+     * 새 로그 배치 적재
+     *
+     * @param logs        적재할 로그 (최신 로그가 앞)
+     * @param searchAfter 적재한 로그 중 가장 최신 로그의 정렬 값 (다음 조회 시작 위치)
+     */
+    synchronized void publish(List<LogResponse> logs, Object[] searchAfter) {
+        history.addLast(new Batch(offset, logs));
+        offset += logs.size();
+        while (history.size() > backlogCapacity) {
+            history.removeFirst();
+        }
+
+        List<LogResponse> merged = new ArrayList<>(logs);
+        for (LogResponse previous : latestLogs) {
+            if (merged.size() >= key.size()) {
+                break;
+            }
+            merged.add(previous);
+        }
+        latestLogs = List.copyOf(merged);
+
+        if (Objects.nonNull(searchAfter)) {
+            this.searchAfter = searchAfter;
+        }
+        emptyPollCount = 0;
+    }
+
+    synchronized boolean hasBacklog(long cursor) {
+        return cursor < offset;
+    }
+
+    /**
+     * cursor 이후 적재된 배치를 최신 순으로 병합하여 반환
+     */
+    synchronized Backlog backlogSince(long cursor) {
+        if (cursor >= offset) {
+            return Backlog.EMPTY;
+        }
+
+        List<LogResponse> logs = new ArrayList<>();
+        long oldestOffset = offset;
+        Iterator<Batch> newestFirst = history.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Batch batch = newestFirst.next();
+            if (batch.offset() < cursor) {
+                break;
+            }
+            logs.addAll(batch.logs());
+            oldestOffset = batch.offset();
+        }
+        return new Backlog(logs, Math.max(0, oldestOffset - cursor), offset);
+    }
+
+    private record Batch(long offset, List<LogResponse> logs) {
+    }
+
+    /**
+     * @param logs       전달할 로그 (최신 순)
+     * @param skipped    backlog 보관 한도를 넘겨 건너뛴 로그 수
+     * @param nextCursor 전달 완료 후 구독자 오프셋
+     */
+    record Backlog(List<LogResponse> logs, long skipped, long nextCursor) {
+
+        static final Backlog EMPTY = new Backlog(List.of(), 0, 0);
+
+        boolean isEmpty() {
+            return logs.isEmpty() && skipped == 0;
+        }
+    }
+}
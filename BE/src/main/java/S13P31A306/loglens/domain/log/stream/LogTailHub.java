@@ -0,0 +1,317 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogResponse;
+import S13P31A306.loglens.domain.log.mapper.LogMapper;
+import S13P31A306.loglens.domain.log.pagination.LogCursor;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// @formatter:off
+/**
+ * 실시간 로그 스트리밍(SSE) 허브
+ * - (프로젝트, 정규화된 필터) 조합마다 폴러 하나만 실행하여 OpenSearch 조회 수를 시청자 수가 아닌 필터 수에 비례하게 유지
+ * - 첫 폴링은 최신 로그 size건을 가져오고, 이후에는 마지막 로그 다음부터 오래된 순으로 search_after 페이지 조회
+ * - 한 주기에 size건보다 많이 적재되어도 짧은 페이지가 나올 때까지 이어서 조회하며,
+ *   주기당 페이지 상한에 도달하면 전달한 위치에서 멈추고 나머지는 다음 주기에 이어서 전달
+ * - 조회된 로그 배치는 모든 구독자에게 팬아웃되며, 구독자별 오프셋으로 중복/누락 없이 전달
+ * - 전송이 느린 구독자는 폴러를 막지 않고 건너뛰며, 밀린 배치를 다음 전송 때 backlog로 한 번에 전달
+ * - 마지막 구독자가 떠나면 폴러를 중지하고 채널을 제거
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class LogTailHub {
+
+    private static final String LOG_PREFIX = "[LogTailHub]";
+    private static final String EVENT_LOG_UPDATE = "log-update";
+    private static final String EVENT_LOG_GAP = "log-gap";
+    private static final String EVENT_HEARTBEAT = "heartbeat";
+
+    private final Map<LogTailKey, LogTailChannel> channels = new ConcurrentHashMap<>();
+
+    private final LogRepository logRepository;
+    private final LogMapper logMapper;
+    private final LogCursorCodec logCursorCodec;
+    private final ScheduledExecutorService sseScheduler;
+    private final long sseTimeout;
+    private final long pollingInterval;
+    private final int backlogCapacity;
+    private final int maxPagesPerPoll;
+
+    public LogTailHub(
+            LogRepository logRepository,
+            LogMapper logMapper,
+            LogCursorCodec logCursorCodec,
+            @Qualifier("sseScheduler") ScheduledExecutorService sseScheduler,
+            @Qualifier("sseTimeout") long sseTimeout,
+            @Value("${sse.log-tail.polling-interval-seconds:5}") long pollingInterval,
+            @Value("${sse.log-tail.backlog-batches:20}") int backlogCapacity,
+            @Value("${sse.log-tail.max-pages-per-poll:10}") int maxPagesPerPoll) {
+        this.logRepository = logRepository;
+        this.logMapper = logMapper;
+        this.logCursorCodec = logCursorCodec;
+        this.sseScheduler = sseScheduler;
+        this.sseTimeout = sseTimeout;
+        this.pollingInterval = pollingInterval;
+        this.backlogCapacity = backlogCapacity;
+        this.maxPagesPerPoll = maxPagesPerPoll;
+    }
+
+    /**
+     * 라이브 테일 구독
+     *
+     * @param request 로그 검색 조건 (프로젝트, 레벨, 소스 타입, 키워드, 크기만 사용)
+     * @return SseEmitter 객체
+     */
+    public SseEmitter subscribe(LogSearchRequest request) {
+        LogTailKey key = LogTailKey.from(request);
+        SseEmitter emitter = new SseEmitter(sseTimeout);
+        LogTailSubscriber subscriber = new LogTailSubscriber(emitter);
+
+        emitter.onCompletion(() -> {
+            unsubscribe(key, subscriber);
+            log.info("{} SSE 연결 정상 종료: projectUuid={}", LOG_PREFIX, key.projectUuid());
+        });
+
+        emitter.onTimeout(() -> {
+            unsubscribe(key, subscriber);
+            log.info("{} SSE 연결 타임아웃: projectUuid={}", LOG_PREFIX, key.projectUuid());
+            emitter.complete();
+        });
+
+        emitter.onError((e) -> {
+            unsubscribe(key, subscriber);
+            // IOException은 클라이언트가 연결을 끊은 정상적인 상황
+            if (e instanceof IOException) {
+                log.debug("{} SSE 클라이언트 연결 종료: projectUuid={}", LOG_PREFIX, key.projectUuid());
+            } else {
+                log.error("{} SSE 연결 오류: projectUuid={}", LOG_PREFIX, key.projectUuid(), e);
+            }
+        });
+
+        LogTailChannel channel = channels.compute(key, (k, existing) -> {
+            LogTailChannel target = existing;
+            if (Objects.isNull(target)) {
+                target = new LogTailChannel(k, backlogCapacity);
+                LogTailChannel created = target;
+                created.start(sseScheduler.scheduleAtFixedRate(
+                        () -> poll(created), 0, pollingInterval, TimeUnit.SECONDS));
+                log.info("{} 폴러 시작: key={}", LOG_PREFIX, k);
+            }
+            target.join(subscriber);
+            return target;
+        });
+
+        // 이미 실행 중인 채널에 합류한 경우 직전 최신 로그를 바로 전달
+        deliver(channel, subscriber);
+
+        log.info("{} 구독 등록: projectUuid={}, subscribers={}, channels={}",
+                LOG_PREFIX, key.projectUuid(), channel.subscribers().size(), channels.size());
+        return emitter;
+    }
+
+    /**
+     * 현재 실행 중인 폴러(채널) 수
+     */
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    private void unsubscribe(LogTailKey key, LogTailSubscriber subscriber) {
+        if (!subscriber.close()) {
+            return;
+        }
+        channels.computeIfPresent(key, (k, channel) -> {
+            channel.leave(subscriber);
+            if (channel.hasSubscribers()) {
+                return channel;
+            }
+            channel.stop();
+            log.info("{} 마지막 구독자 종료로 폴러 중지: key={}", LOG_PREFIX, k);
+            return null;
+        });
+    }
+
+    /**
+     * 채널 폴링 - 채널당 하나의 스케줄 태스크에서만 호출되므로 동시에 실행되지 않음
+     */
+    private void poll(LogTailChannel channel) {
+        if (channel.isClosed()) {
+            return;
+        }
+        try {
+            if (channel.shouldSkipPoll()) {
+                log.debug("{} OpenSearch 부하 감소를 위한 폴링 스킵: key={}", LOG_PREFIX, channel.key());
+                broadcastHeartbeat(channel);
+                return;
+            }
+
+            List<LogResponse> logResponses = Objects.isNull(channel.searchAfter())
+                    ? bootstrap(channel)
+                    : fetchSinceLast(channel);
+            if (logResponses.isEmpty()) {
+                channel.recordEmptyPoll();
+                broadcastHeartbeat(channel);
+                return;
+            }
+
+            log.debug("{} 새로운 로그 적재: key={}, 개수={}, 구독자 수={}",
+                    LOG_PREFIX, channel.key(), logResponses.size(), channel.subscribers().size());
+            for (LogTailSubscriber subscriber : channel.subscribers()) {
+                deliver(channel, subscriber);
+            }
+        } catch (Exception e) {
+            // 스케줄 태스크가 예외로 중단되지 않도록 로그만 남기고 다음 주기에 재시도
+            log.error("{} 로그 폴링 중 오류 발생: key={}", LOG_PREFIX, channel.key(), e);
+        }
+    }
+
+    /**
+     * 첫 폴링 - 최신 로그 size건을 적재하고 가장 최신 로그를 다음 조회 시작 위치로 사용
+     */
+    private List<LogResponse> bootstrap(LogTailChannel channel) {
+        LogTailKey key = channel.key();
+        LogSearchResult result = logRepository.findWithCursor(
+                key.projectUuid(), key.toBootstrapRequest(), LogProjection.LIST, 0);
+        if (Objects.isNull(result) || result.logs().isEmpty()) {
+            return List.of();
+        }
+
+        List<LogResponse> logResponses = result.logs().stream()
+                .map(logMapper::toLogResponse)
+                .toList();
+        channel.publish(logResponses, result.prevSortValues());
+        return logResponses;
+    }
+
+    /**
+     * 이후 폴링 - 마지막으로 적재한 로그 다음부터 오래된 순으로 짧은 페이지가 나올 때까지 조회
+     * 페이지 상한에 도달하면 마지막으로 적재한 로그에서 멈추고, 남은 로그는 다음 주기에 같은 위치부터 이어서 조회
+     */
+    private List<LogResponse> fetchSinceLast(LogTailChannel channel) {
+        LogTailKey key = channel.key();
+        Object[] searchAfter = channel.searchAfter();
+        List<LogResponse> logResponses = new ArrayList<>();
+        boolean caughtUp = false;
+
+        for (int page = 0; page < maxPagesPerPoll; page++) {
+            String cursor = logCursorCodec.encode(new LogCursor(searchAfter, null));
+            LogSearchResult result = logRepository.findWithCursor(
+                    key.projectUuid(), key.toPollingRequest(cursor), LogProjection.LIST, 0);
+            if (Objects.isNull(result) || result.logs().isEmpty()) {
+                caughtUp = true;
+                break;
+            }
+
+            result.logs().stream()
+                    .map(logMapper::toLogResponse)
+                    .forEach(logResponses::add);
+            searchAfter = result.sortValues();
+            if (!result.hasNext()) {
+                caughtUp = true;
+                break;
+            }
+        }
+
+        if (logResponses.isEmpty()) {
+            return List.of();
+        }
+        if (!caughtUp) {
+            log.warn("{} 주기당 페이지 상한 도달, 남은 로그는 다음 주기에 이어서 전달: key={}, 적재={}",
+                    LOG_PREFIX, key, logResponses.size());
+        }
+
+        // 오래된 순으로 조회했으므로 구독자 전달 형식(최신 로그가 앞)에 맞게 뒤집어 적재
+        List<LogResponse> newestFirst = new ArrayList<>(logResponses);
+        Collections.reverse(newestFirst);
+        channel.publish(newestFirst, searchAfter);
+        return newestFirst;
+    }
+
+    private void broadcastHeartbeat(LogTailChannel channel) {
+        for (LogTailSubscriber subscriber : channel.subscribers()) {
+            subscriber.requestHeartbeat();
+            deliver(channel, subscriber);
+        }
+    }
+
+    /**
+     * 구독자 전송 예약 - 이미 전송 중인 구독자는 건너뛰고, 밀린 배치는 현재 전송이 끝난 뒤 이어서 전달
+     */
+    private void deliver(LogTailChannel channel, LogTailSubscriber subscriber) {
+        if (!subscriber.tryAcquire()) {
+            return;
+        }
+        try {
+            sseScheduler.execute(() -> drain(channel, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.release();
+            log.warn("{} 전송 태스크 등록 실패: key={}", LOG_PREFIX, channel.key());
+        }
+    }
+
+    private void drain(LogTailChannel channel, LogTailSubscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            List<LogResponse> initialLogs = subscriber.takeInitialLogs();
+            if (Objects.nonNull(initialLogs)) {
+                emitter.send(SseEmitter.event()
+                        .name(EVENT_LOG_UPDATE)
+                        .data(initialLogs));
+            }
+
+            LogTailChannel.Backlog backlog = channel.backlogSince(subscriber.cursor());
+            if (!backlog.isEmpty()) {
+                if (backlog.skipped() > 0) {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_LOG_GAP)
+                            .data(Map.of("skippedLogs", backlog.skipped())));
+                    log.debug("{} 느린 구독자 backlog 초과로 로그 건너뜀: key={}, skipped={}",
+                            LOG_PREFIX, channel.key(), backlog.skipped());
+                }
+                if (!backlog.logs().isEmpty()) {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_LOG_UPDATE)
+                            .data(backlog.logs()));
+                }
+                subscriber.advance(backlog.nextCursor());
+                subscriber.clearHeartbeat();
+            } else if (subscriber.consumeHeartbeat()) {
+                // heartbeat 전송 (연결 유지)
+                emitter.send(SseEmitter.event()
+                        .name(EVENT_HEARTBEAT)
+                        .data("No new logs"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("{} 클라이언트 연결 종료됨: key={}", LOG_PREFIX, channel.key());
+            unsubscribe(channel.key(), subscriber);
+            emitter.complete();
+            return;
+        } finally {
+            subscriber.release();
+        }
+
+        // 전송 중 새로 적재된 배치가 있으면 이어서 전달
+        if (channel.hasBacklog(subscriber.cursor())) {
+            deliver(channel, subscriber);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+// @formatter:off
+/**
+ * 실시간 로그 스트림 공유 키
+ * - 같은 프로젝트 + 같은 필터 조건의 구독자는 하나의 폴러를 공유
+ * - 레벨/소스 타입은 대문자 변환 + 중복 제거 + 정렬, 키워드는 trim 후 비교
+ * - 라이브 테일은 항상 최신 로그부터 조회하므로 startTime/endTime/cursor는 키에 포함하지 않음
+ */
+// @formatter:on
+public record LogTailKey(
+        String projectUuid,
+        List<String> logLevels,
+        List<String> sourceTypes,
+        String keyword,
+        int size
+) {
+
+    private static final String BOOTSTRAP_SORT = "TIMESTAMP,DESC";
+    private static final String POLLING_SORT = "TIMESTAMP,ASC";
+    private static final int DEFAULT_SIZE = 100;
+
+    public static LogTailKey from(LogSearchRequest request) {
+        String keyword = Objects.nonNull(request.getKeyword()) && !request.getKeyword().isBlank()
+                ? request.getKeyword().trim()
+                : null;
+        return new LogTailKey(
+                request.getProjectUuid(),
+                normalize(request.getLogLevel()),
+                normalize(request.getSourceType()),
+                keyword,
+                Objects.nonNull(request.getSize()) ? request.getSize() : DEFAULT_SIZE
+        );
+    }
+
+    /**
+     * 첫 폴링용 검색 요청 생성 - 최신 로그 size건을 초기 화면과 이후 조회 시작 위치로 사용
+     */
+    public LogSearchRequest toBootstrapRequest() {
+        return baseRequest()
+                .sort(BOOTSTRAP_SORT)
+                .build();
+    }
+
+    /**
+     * 폴링용 검색 요청 생성 - 마지막으로 전달한 로그 이후부터 오래된 순으로 조회
+     *
+     * @param cursor 마지막으로 전달한 로그의 (timestamp, _id) 정렬 값을 인코딩한 커서
+     */
+    public LogSearchRequest toPollingRequest(String cursor) {
+        return baseRequest()
+                .sort(POLLING_SORT)
+                .cursor(cursor)
+                .build();
+    }
+
+    private LogSearchRequest.LogSearchRequestBuilder baseRequest() {
+        return LogSearchRequest.builder()
+                .projectUuid(projectUuid)
+                .size(size)
+                .logLevel(logLevels.isEmpty() ? null : logLevels)
+                .sourceType(sourceTypes.isEmpty() ? null : sourceTypes)
+                .keyword(keyword);
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (Objects.isNull(values) || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
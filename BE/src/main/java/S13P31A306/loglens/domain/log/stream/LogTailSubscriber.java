@@ -0,0 +1,80 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import S13P31A306.loglens.domain.log.dto.response.LogResponse;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// @formatter:off
+/**
+ * 라이브 테일 구독자
+ * - cursor: 이 구독자에게 전달 완료된 채널 로그 오프셋
+ * - sending: 전송 중인 구독자는 폴러가 건너뛰고, 밀린 배치는 다음 전송 때 backlog로 한 번에 전달
+ */
+// @formatter:on
+class LogTailSubscriber {
+
+    private final SseEmitter emitter;
+    private final AtomicBoolean sending = new AtomicBoolean(false);
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean(false);
+    private volatile long cursor;
+    private volatile List<LogResponse> initialLogs;
+    private volatile boolean closed;
+
+    LogTailSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    void join(long cursor, List<LogResponse> initialLogs) {
+        this.cursor = cursor;
+        this.initialLogs = initialLogs.isEmpty() ? null : initialLogs;
+    }
+
+    void advance(long cursor) {
+        this.cursor = cursor;
+    }
+
+    List<LogResponse> takeInitialLogs() {
+        List<LogResponse> logs = initialLogs;
+        initialLogs = null;
+        return logs;
+    }
+
+    boolean tryAcquire() {
+        return !closed && sending.compareAndSet(false, true);
+    }
+
+    void release() {
+        sending.set(false);
+    }
+
+    void requestHeartbeat() {
+        heartbeatPending.set(true);
+    }
+
+    void clearHeartbeat() {
+        heartbeatPending.set(false);
+    }
+
+    boolean consumeHeartbeat() {
+        return heartbeatPending.getAndSet(false);
+    }
+
+    boolean close() {
+        boolean wasOpen = !closed;
+        closed = true;
+        return wasOpen;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+}
@@ -3,6 +3,7 @@ package S13P31A306.loglens.domain.log.validator;
 import S13P31A306.loglens.domain.log.constants.LogErrorCode;
 import S13P31A306.loglens.domain.log.constants.SortDirection;
 import S13P31A306.loglens.domain.log.constants.SortField;
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
 import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
 import S13P31A306.loglens.domain.log.entity.LogLevel;
 import S13P31A306.loglens.domain.log.entity.SourceType;
@@ -44,6 +45,26 @@ public class LogValidator {
         log.debug("{} 로그 검색 요청 검증 완료", LOG_PREFIX);
     }
 
+    /**
+     * 로그 내보내기 요청 유효성 검증 (검색 조건 + 파일 형식/최대 건수)
+     *
+     * @param request 로그 내보내기 요청 객체
+     */
+    public void validateExport(LogExportRequest request) {
+        log.debug("{} 로그 내보내기 요청 검증 시작", LOG_PREFIX);
+        validate(request.toLogSearchRequest());
+
+        if (Objects.isNull(request.resolveFormat())) {
+            log.warn("{} 유효하지 않은 내보내기 형식: {}", LOG_PREFIX, request.getFormat());
+            throw new BusinessException(LogErrorCode.INVALID_EXPORT_FORMAT);
+        }
+        if (Objects.nonNull(request.getLimit()) && request.getLimit() < MIN_SIZE) {
+            log.warn("{} 유효하지 않은 내보내기 최대 건수: {}", LOG_PREFIX, request.getLimit());
+            throw new BusinessException(LogErrorCode.INVALID_EXPORT_LIMIT);
+        }
+        log.debug("{} 로그 내보내기 요청 검증 완료", LOG_PREFIX);
+    }
+
     /**
      * 프로젝트 UUID 검증 및 멤버십 확인
      *
@@ -4,5 +4,6 @@ public class LogMetricsConstants {
 
     public static final int AGGREGATION_INTERVAL_MINUTES = 10;
     public static final String LOG_METRICS_AGGREGATION_CRON = "30 */5 * * * *";
+    public static final String LOG_METRICS_ROLLUP_COMPACTION_CRON = "0 7 * * * *";
 
 }
@@ -0,0 +1,22 @@
+package S13P31A306.loglens.domain.project.dto.internal;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 간격으로 다시 묶은 롤업 버킷 (bucketStart는 Asia/Seoul 기준)
+ */
+public record LogMetricsRollupBucket(
+        LocalDateTime bucketStart,
+        long totalLogs,
+        long errorLogs,
+        long warnLogs,
+        long infoLogs,
+        long feLogs,
+        long beLogs,
+        long sumResponseTime
+) {
+
+    public static LogMetricsRollupBucket empty(LocalDateTime bucketStart) {
+        return new LogMetricsRollupBucket(bucketStart, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,42 @@
+package S13P31A306.loglens.domain.project.dto.internal;
+
+/**
+ * 기간 내 롤업 버킷 합계
+ * 롤업 리포지토리의 JPQL 생성자 표현식 결과를 담는 내부 DTO
+ */
+public record LogMetricsRollupSummary(
+        Long totalLogs,
+        Long errorLogs,
+        Long warnLogs,
+        Long infoLogs,
+        Long feLogs,
+        Long beLogs,
+        Long sumResponseTime
+) {
+
+    public static LogMetricsRollupSummary empty() {
+        return new LogMetricsRollupSummary(0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * 두 기간 합계를 더함 (롤업 구간 + OpenSearch로 보충한 경계 구간)
+     */
+    public LogMetricsRollupSummary plus(LogMetricsRollupSummary other) {
+        return new LogMetricsRollupSummary(
+                totalLogs + other.totalLogs(),
+                errorLogs + other.errorLogs(),
+                warnLogs + other.warnLogs(),
+                infoLogs + other.infoLogs(),
+                feLogs + other.feLogs(),
+                beLogs + other.beLogs(),
+                sumResponseTime + other.sumResponseTime()
+        );
+    }
+
+    /**
+     * 평균 응답 시간 (ms)
+     */
+    public int avgResponseTime() {
+        return totalLogs > 0 ? (int) (sumResponseTime / totalLogs) : 0;
+    }
+}
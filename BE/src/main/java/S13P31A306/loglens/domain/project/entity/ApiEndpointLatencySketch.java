@@ -0,0 +1,96 @@
+package S13P31A306.loglens.domain.project.entity;
+
+import S13P31A306.loglens.domain.project.util.LatencySketch;
+import S13P31A306.loglens.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔드포인트별 시간 버킷 응답 시간 분포 스케치
+ * - 배치 집계가 시 버킷에 스케치를 병합, 압축 스케줄러가 오래된 시 버킷을 일 버킷으로 이동
+ * - 조회 시 기간 내 버킷을 병합하여 p50/p95/p99 계산
+ * - bucket_start는 집계와 동일하게 Asia/Seoul 기준 시각
+ */
+@Entity
+@Table(
+        name = "api_endpoint_latency_sketches",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_api_endpoint_latency_sketches_bucket",
+                columnNames = {"project_id", "endpoint_path", "http_method", "granularity", "bucket_start"}
+        ),
+        indexes = @Index(name = "idx_api_endpoint_latency_sketches_project_bucket", columnList = "project_id, bucket_start")
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ApiEndpointLatencySketch extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false, columnDefinition = "TINYINT")
+    private Integer projectId;
+
+    @Column(name = "endpoint_path", nullable = false, length = 100)
+    private String endpointPath;
+
+    @Column(name = "http_method", nullable = false, length = 10)
+    private String httpMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount;
+
+    @Column(name = "sketch", nullable = false, length = 8192)
+    private byte[] sketch;
+
+    public static ApiEndpointLatencySketch of(
+            Integer projectId,
+            String endpointPath,
+            String httpMethod,
+            RollupGranularity granularity,
+            LocalDateTime bucketStart,
+            LatencySketch sketch) {
+        return ApiEndpointLatencySketch.builder()
+                .projectId(projectId)
+                .endpointPath(endpointPath)
+                .httpMethod(httpMethod)
+                .granularity(granularity)
+                .bucketStart(granularity.truncate(bucketStart))
+                .requestCount(sketch.getCount())
+                .sketch(sketch.toBytes())
+                .build();
+    }
+
+    public LatencySketch toSketch() {
+        return LatencySketch.fromBytes(sketch);
+    }
+
+    /**
+     * 같은 버킷에 집계된 스케치(또는 하위 버킷 스케치)를 병합
+     */
+    public void merge(LatencySketch other) {
+        LatencySketch merged = toSketch();
+        merged.merge(other);
+        this.sketch = merged.toBytes();
+        this.requestCount = merged.getCount();
+    }
+
+    /**
+     * 버킷 식별 키 (엔드포인트/메서드/단위/시작 시각)
+     */
+    public String bucketKey() {
+        return httpMethod + ":" + endpointPath + "|" + granularity + "|" + bucketStart;
+    }
+
+}
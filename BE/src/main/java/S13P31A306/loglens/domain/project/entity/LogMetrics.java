@@ -25,17 +25,17 @@ public class LogMetrics extends BaseTimeEntity {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
-    @Column(name = "total_logs", nullable = false, columnDefinition = "INT DEFAULT 0")
-    private Integer totalLogs;
+    @Column(name = "total_logs", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long totalLogs;
 
-    @Column(name = "error_logs", nullable = false, columnDefinition = "INT DEFAULT 0")
-    private Integer errorLogs;
+    @Column(name = "error_logs", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long errorLogs;
 
-    @Column(name = "warn_logs", nullable = false, columnDefinition = "INT DEFAULT 0")
-    private Integer warnLogs;
+    @Column(name = "warn_logs", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long warnLogs;
 
-    @Column(name = "info_logs", nullable = false, columnDefinition = "INT DEFAULT 0")
-    private Integer infoLogs;
+    @Column(name = "info_logs", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long infoLogs;
 
     @Column(name = "sum_response_time", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
     private Long sumResponseTime;
@@ -47,8 +47,8 @@ public class LogMetrics extends BaseTimeEntity {
     private LocalDateTime aggregatedAt;
 
     @Builder
-    public LogMetrics(Integer id, Project project, Integer totalLogs, Integer errorLogs,
-                      Integer warnLogs, Integer infoLogs, Long sumResponseTime, Integer avgResponseTime, LocalDateTime aggregatedAt) {
+    public LogMetrics(Integer id, Project project, Long totalLogs, Long errorLogs,
+                      Long warnLogs, Long infoLogs, Long sumResponseTime, Integer avgResponseTime, LocalDateTime aggregatedAt) {
         this.id = id;
         this.project = project;
         this.totalLogs = totalLogs;
@@ -61,10 +61,10 @@ public class LogMetrics extends BaseTimeEntity {
     }
 
     public void updateMetrics(
-            Integer totalLogs,
-            Integer errorLogs,
-            Integer warnLogs,
-            Integer infoLogs,
+            Long totalLogs,
+            Long errorLogs,
+            Long warnLogs,
+            Long infoLogs,
             Long sumResponseTime,
             Integer avgResponseTime,
             LocalDateTime aggregatedAt
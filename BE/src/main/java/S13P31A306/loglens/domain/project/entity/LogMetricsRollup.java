@@ -0,0 +1,97 @@
+package S13P31A306.loglens.domain.project.entity;
+
+import S13P31A306.loglens.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 버킷 단위 로그 메트릭 롤업
+ * - 배치 집계가 1분(또는 따라잡기 구간은 1시간/1일) 버킷에 증분을 더함
+ * - 압축 스케줄러가 오래된 버킷을 상위 단위 버킷으로 옮김 (각 로그는 항상 한 버킷에만 존재)
+ * - bucket_start는 집계와 동일하게 Asia/Seoul 기준 시각
+ */
+@Entity
+@Table(
+        name = "log_metrics_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_log_metrics_rollups_bucket",
+                columnNames = {"project_id", "granularity", "bucket_start"}
+        ),
+        indexes = @Index(name = "idx_log_metrics_rollups_project_bucket", columnList = "project_id, bucket_start")
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LogMetricsRollup extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "total_logs", nullable = false)
+    private Long totalLogs;
+
+    @Column(name = "error_logs", nullable = false)
+    private Long errorLogs;
+
+    @Column(name = "warn_logs", nullable = false)
+    private Long warnLogs;
+
+    @Column(name = "info_logs", nullable = false)
+    private Long infoLogs;
+
+    @Column(name = "fe_logs", nullable = false)
+    private Long feLogs;
+
+    @Column(name = "be_logs", nullable = false)
+    private Long beLogs;
+
+    @Column(name = "sum_response_time", nullable = false)
+    private Long sumResponseTime;
+
+    /**
+     * 같은 버킷에 집계된 증분(또는 하위 버킷)을 더함
+     */
+    public void add(LogMetricsRollup other) {
+        this.totalLogs += other.getTotalLogs();
+        this.errorLogs += other.getErrorLogs();
+        this.warnLogs += other.getWarnLogs();
+        this.infoLogs += other.getInfoLogs();
+        this.feLogs += other.getFeLogs();
+        this.beLogs += other.getBeLogs();
+        this.sumResponseTime += other.getSumResponseTime();
+    }
+
+    /**
+     * 하위 버킷을 상위 단위의 빈 버킷으로 복사 (압축 시 시작값)
+     */
+    public LogMetricsRollup toCoarser(RollupGranularity target) {
+        return LogMetricsRollup.builder()
+                .project(project)
+                .granularity(target)
+                .bucketStart(target.truncate(bucketStart))
+                .totalLogs(totalLogs)
+                .errorLogs(errorLogs)
+                .warnLogs(warnLogs)
+                .infoLogs(infoLogs)
+                .feLogs(feLogs)
+                .beLogs(beLogs)
+                .sumResponseTime(sumResponseTime)
+                .build();
+    }
+
+}
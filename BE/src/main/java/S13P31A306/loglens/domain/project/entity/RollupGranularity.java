@@ -0,0 +1,46 @@
+package S13P31A306.loglens.domain.project.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 메트릭 롤업 버킷 단위 Enum
+ * MINUTE → HOUR → DAY 순서로 압축(compaction)됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+    MINUTE("1분", ChronoUnit.MINUTES),
+    HOUR("1시간", ChronoUnit.HOURS),
+    DAY("1일", ChronoUnit.DAYS);
+
+    private final String description;
+    private final ChronoUnit unit;
+
+    /**
+     * 주어진 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * bucketStart에 시작한 버킷의 종료 시각 (미포함)
+     */
+    public LocalDateTime end(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * 압축 대상이 되는 한 단계 상위 단위 (DAY는 없음)
+     */
+    public RollupGranularity coarser() {
+        return switch (this) {
+            case MINUTE -> HOUR;
+            case HOUR -> DAY;
+            case DAY -> null;
+        };
+    }
+}
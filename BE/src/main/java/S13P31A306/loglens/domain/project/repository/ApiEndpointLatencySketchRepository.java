@@ -0,0 +1,59 @@
+package S13P31A306.loglens.domain.project.repository;
+
+import S13P31A306.loglens.domain.project.entity.ApiEndpointLatencySketch;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ApiEndpointLatencySketch 엔티티에 대한 데이터 접근 레포지토리
+ * 스케치 병합 저장, 압축, 기간 조회에 사용합니다.
+ */
+public interface ApiEndpointLatencySketchRepository extends JpaRepository<ApiEndpointLatencySketch, Long> {
+
+    /**
+     * 병합 대상 버킷 조회 (같은 단위의 지정 시작 시각 버킷)
+     */
+    List<ApiEndpointLatencySketch> findByProjectIdAndGranularityAndBucketStartIn(
+            Integer projectId,
+            RollupGranularity granularity,
+            Collection<LocalDateTime> bucketStarts
+    );
+
+    /**
+     * 압축 대상 버킷 조회 (cutoff 이전에 시작한 버킷)
+     */
+    List<ApiEndpointLatencySketch> findByProjectIdAndGranularityAndBucketStartBefore(
+            Integer projectId,
+            RollupGranularity granularity,
+            LocalDateTime cutoff
+    );
+
+    /**
+     * 압축 대상 버킷이 있는 프로젝트 ID 목록
+     */
+    @Query("SELECT DISTINCT s.projectId FROM ApiEndpointLatencySketch s " +
+            "WHERE s.granularity = :granularity AND s.bucketStart < :cutoff")
+    List<Integer> findProjectIdsWithBucketsBefore(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    /**
+     * 기간 [start, end) 내에 시작한 모든 단위의 버킷 조회
+     * 각 요청은 한 단위의 버킷에만 존재하므로 단위 구분 없이 병합 가능
+     */
+    @Query("SELECT s FROM ApiEndpointLatencySketch s " +
+            "WHERE s.projectId = :projectId AND s.bucketStart >= :start AND s.bucketStart < :end")
+    List<ApiEndpointLatencySketch> findByProjectIdAndRange(
+            @Param("projectId") Integer projectId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+}
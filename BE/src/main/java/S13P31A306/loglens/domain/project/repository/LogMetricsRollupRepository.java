@@ -0,0 +1,103 @@
+package S13P31A306.loglens.domain.project.repository;
+
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
+import S13P31A306.loglens.domain.project.entity.LogMetricsRollup;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LogMetricsRollup 엔티티에 대한 데이터 접근 레포지토리
+ * 분/시/일 단위 롤업 버킷의 압축, 기간 조회에 사용합니다. (증분 저장은 BulkUpsertExecutor)
+ */
+public interface LogMetricsRollupRepository extends JpaRepository<LogMetricsRollup, Long> {
+
+    /**
+     * 압축 대상 버킷 조회 (cutoff 이전에 시작한 버킷)
+     *
+     * @param projectId 프로젝트 ID
+     * @param granularity 버킷 단위
+     * @param cutoff 기준 시각 (미포함)
+     * @return 압축 대상 버킷 목록
+     */
+    List<LogMetricsRollup> findByProjectIdAndGranularityAndBucketStartBefore(
+            Integer projectId,
+            RollupGranularity granularity,
+            LocalDateTime cutoff
+    );
+
+    /**
+     * 압축 대상 버킷이 있는 프로젝트 ID 목록
+     */
+    @Query("SELECT DISTINCT r.project.id FROM LogMetricsRollup r " +
+            "WHERE r.granularity = :granularity AND r.bucketStart < :cutoff")
+    List<Integer> findProjectIdsWithBucketsBefore(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    /**
+     * 기간 [start, end) 내에 시작한 모든 단위의 버킷 합계
+     * 각 로그는 한 단위의 버킷에만 존재하므로 단위 구분 없이 합산
+     * 경계에 걸친 압축 버킷은 시작 시각 기준으로 통째로 포함/제외되므로, 경계 보정은 서비스에서 처리
+     *
+     * @param projectId 프로젝트 ID
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @return 기간 합계 (데이터가 없으면 0)
+     */
+    @Query("SELECT new S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary(" +
+            "COALESCE(SUM(r.totalLogs), 0L), COALESCE(SUM(r.errorLogs), 0L), " +
+            "COALESCE(SUM(r.warnLogs), 0L), COALESCE(SUM(r.infoLogs), 0L), " +
+            "COALESCE(SUM(r.feLogs), 0L), COALESCE(SUM(r.beLogs), 0L), " +
+            "COALESCE(SUM(r.sumResponseTime), 0L)) " +
+            "FROM LogMetricsRollup r " +
+            "WHERE r.project.id = :projectId AND r.bucketStart >= :start AND r.bucketStart < :end")
+    LogMetricsRollupSummary summarizeByProjectIdAndRange(
+            @Param("projectId") Integer projectId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * 기간 (from, to) 안에 시작한 지정 단위 버킷 조회 (경계에 걸친 압축 버킷 탐색용)
+     *
+     * @param projectId 프로젝트 ID
+     * @param granularities 조회할 버킷 단위
+     * @param from 시작 시각 (미포함)
+     * @param to 종료 시각 (미포함)
+     * @return 버킷 목록
+     */
+    @Query("SELECT r FROM LogMetricsRollup r " +
+            "WHERE r.project.id = :projectId AND r.granularity IN :granularities " +
+            "AND r.bucketStart > :from AND r.bucketStart < :to")
+    List<LogMetricsRollup> findByProjectIdAndGranularitiesStartedBetween(
+            @Param("projectId") Integer projectId,
+            @Param("granularities") List<RollupGranularity> granularities,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 프로젝트의 가장 이른 버킷 시작 시각 (롤업이 없으면 null)
+     */
+    @Query("SELECT MIN(r.bucketStart) FROM LogMetricsRollup r WHERE r.project.id = :projectId")
+    LocalDateTime findFirstBucketStart(@Param("projectId") Integer projectId);
+
+    /**
+     * 기간 [start, end) 내에 시작한 모든 단위의 버킷 조회 (시작 시각 오름차순)
+     */
+    @Query("SELECT r FROM LogMetricsRollup r " +
+            "WHERE r.project.id = :projectId AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "ORDER BY r.bucketStart ASC")
+    List<LogMetricsRollup> findByProjectIdAndRange(
+            @Param("projectId") Integer projectId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+}
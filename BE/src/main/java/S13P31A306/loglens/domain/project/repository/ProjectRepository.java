@@ -1,9 +1,11 @@
 package S13P31A306.loglens.domain.project.repository;
 
 import S13P31A306.loglens.domain.project.entity.Project;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -41,4 +43,15 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
      * @return Optional<Project> 조회된 프로젝트
      */
     Optional<Project> findByProjectUuid(String projectUuid);
+
+    /**
+     * 프로젝트 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 여러 인스턴스가 같은 프로젝트의 토폴로지를 동시에 수집할 때 순서대로 처리하기 위해 사용
+     *
+     * @param projectId 프로젝트 ID
+     * @return Optional<Project> 잠금을 획득한 프로젝트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findByIdForUpdate(@Param("projectId") Integer projectId);
 }
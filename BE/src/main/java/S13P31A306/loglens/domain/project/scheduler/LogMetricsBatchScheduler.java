@@ -8,8 +8,12 @@ import S13P31A306.loglens.domain.project.repository.ProjectRepository;
 import S13P31A306.loglens.domain.project.service.ApiEndpointService;
 import S13P31A306.loglens.domain.project.service.LogMetricsTransactionalService;
 import S13P31A306.loglens.domain.project.service.ApiEndpointTransactionalService;
-import lombok.RequiredArgsConstructor;
+import S13P31A306.loglens.global.scheduler.ProjectBatchExecutor;
+import S13P31A306.loglens.global.scheduler.ProjectBatchOptions;
+import S13P31A306.loglens.global.scheduler.ProjectBatchResult;
+import S13P31A306.loglens.global.scheduler.ProjectShardCoordinator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -22,10 +26,10 @@ import static S13P31A306.loglens.domain.project.constants.LogMetricsConstants.LO
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LogMetricsBatchScheduler {
 
     private static final String LOG_PREFIX = "[LogMetricsBatchScheduler]";
+    private static final String BATCH_NAME = "log-metrics";
 
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
@@ -33,7 +37,28 @@ public class LogMetricsBatchScheduler {
     private final LogMetricsRepository logMetricsRepository;
     private final LogMetricsTransactionalService logMetricsTransactionalService;
     private final ApiEndpointTransactionalService apiEndpointTransactionalService;
-
+    private final ProjectBatchExecutor projectBatchExecutor;
+    private final ProjectShardCoordinator shardCoordinator;
+    private final ProjectBatchOptions batchOptions;
+
+    public LogMetricsBatchScheduler(
+            ProjectRepository projectRepository,
+            LogMetricsRepository logMetricsRepository,
+            LogMetricsTransactionalService logMetricsTransactionalService,
+            ApiEndpointTransactionalService apiEndpointTransactionalService,
+            ProjectBatchExecutor projectBatchExecutor,
+            ProjectShardCoordinator shardCoordinator,
+            @Value("${scheduler.project-batch.log-metrics.concurrency:8}") int concurrency,
+            @Value("${scheduler.project-batch.log-metrics.project-timeout-seconds:60}") long projectTimeoutSeconds,
+            @Value("${scheduler.project-batch.log-metrics.run-timeout-seconds:240}") long runTimeoutSeconds) {
+        this.projectRepository = projectRepository;
+        this.logMetricsRepository = logMetricsRepository;
+        this.logMetricsTransactionalService = logMetricsTransactionalService;
+        this.apiEndpointTransactionalService = apiEndpointTransactionalService;
+        this.projectBatchExecutor = projectBatchExecutor;
+        this.shardCoordinator = shardCoordinator;
+        this.batchOptions = ProjectBatchOptions.of(concurrency, projectTimeoutSeconds, runTimeoutSeconds);
+    }
 
     @Scheduled(cron = LOG_METRICS_AGGREGATION_CRON)
     public void aggregateAllProjectsMetrics() {
@@ -45,38 +70,42 @@ public class LogMetricsBatchScheduler {
 
         try {
             log.info("{} 전체 프로젝트 메트릭 배치 집계 시작", LOG_PREFIX);
-            long startTime = System.currentTimeMillis();
-
-            List<Project> projects = projectRepository.findAll();
-            int successCount = 0;
-            int skipCount = 0;
-            int failCount = 0;
-
-            for (Project project : projects) {
-                try {
-                    boolean aggregated = aggregateProjectIncremental(project);
-                    if (aggregated) {
-                        successCount++;
-                        // LogMetrics 집계 성공 시 API 엔드포인트 메트릭도 집계
-                        aggregateApiEndpointMetrics(project);
-                    } else {
-                        skipCount++;
-                    }
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("{} 프로젝트 집계 실패: projectId={}", LOG_PREFIX, project.getId(), e);
-                }
-            }
-
-            long elapsed = System.currentTimeMillis() - startTime;
-            log.info("{} 배치 집계 완료 - 전체: {}, 성공: {}, 스킵: {}, 실패: {}, 소요시간: {}ms",
-                    LOG_PREFIX, projects.size(), successCount, skipCount, failCount, elapsed);
+
+            // 여러 인스턴스 중 이 인스턴스가 담당하는 프로젝트만 처리
+            List<Project> projects = shardCoordinator.claim(
+                    BATCH_NAME,
+                    projectRepository.findAll(),
+                    project -> String.valueOf(project.getId()),
+                    batchOptions.runTimeout()
+            );
+            ProjectBatchResult result = projectBatchExecutor.run(
+                    BATCH_NAME,
+                    projects,
+                    project -> String.valueOf(project.getId()),
+                    this::aggregateProject,
+                    batchOptions
+            );
+
+            log.info("{} 배치 집계 완료 - 전체: {}, 성공: {}, 스킵: {}, 실패: {}, 시간초과: {}, 미처리: {}, 소요시간: {}ms",
+                    LOG_PREFIX, result.total(), result.succeeded(), result.idle(), result.failed(),
+                    result.timedOut(), result.skipped(), result.elapsedMs());
 
         } finally {
             isRunning.set(false);
         }
     }
 
+    /**
+     * 프로젝트 단위 집계 - LogMetrics 집계 성공 시 API 엔드포인트 메트릭도 집계
+     */
+    private boolean aggregateProject(Project project) {
+        boolean aggregated = aggregateProjectIncremental(project);
+        if (aggregated) {
+            aggregateApiEndpointMetrics(project);
+        }
+        return aggregated;
+    }
+
     private boolean aggregateProjectIncremental(Project project) {
         LogMetrics previous = logMetricsRepository
                 .findTopByProjectIdOrderByAggregatedAtDesc(project.getId())
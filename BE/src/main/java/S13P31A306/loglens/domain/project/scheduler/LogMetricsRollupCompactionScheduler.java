@@ -0,0 +1,135 @@
+package S13P31A306.loglens.domain.project.scheduler;
+
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import S13P31A306.loglens.domain.project.repository.ApiEndpointLatencySketchRepository;
+import S13P31A306.loglens.domain.project.repository.LogMetricsRollupRepository;
+import S13P31A306.loglens.domain.project.service.impl.ApiEndpointLatencyTransactionHelper;
+import S13P31A306.loglens.domain.project.service.impl.LogMetricsTransactionHelper;
+import S13P31A306.loglens.global.scheduler.ProjectBatchExecutor;
+import S13P31A306.loglens.global.scheduler.ProjectBatchOptions;
+import S13P31A306.loglens.global.scheduler.ProjectBatchResult;
+import S13P31A306.loglens.global.scheduler.ProjectShardCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static S13P31A306.loglens.domain.project.constants.LogMetricsConstants.LOG_METRICS_ROLLUP_COMPACTION_CRON;
+
+/**
+ * 로그 메트릭 롤업 압축 스케줄러
+ * - 보관 기간이 지난 분 버킷 → 시 버킷, 시 버킷 → 일 버킷으로 이동
+ * - 엔드포인트 응답 시간 스케치도 같은 기준으로 시 버킷 → 일 버킷으로 이동
+ * - 압축 기준 시각은 상위 단위 경계에 맞춰 항상 온전한 시/일 단위로 이동
+ */
+@Slf4j
+@Component
+public class LogMetricsRollupCompactionScheduler {
+
+    private static final String LOG_PREFIX = "[LogMetricsRollupCompactionScheduler]";
+    private static final String BATCH_NAME = "log-metrics-rollup";
+
+    private final AtomicBoolean isRunning = new AtomicBoolean(false);
+
+    private final LogMetricsRollupRepository logMetricsRollupRepository;
+    private final LogMetricsTransactionHelper transactionHelper;
+    private final ApiEndpointLatencySketchRepository latencySketchRepository;
+    private final ApiEndpointLatencyTransactionHelper latencyTransactionHelper;
+    private final ProjectBatchExecutor projectBatchExecutor;
+    private final ProjectShardCoordinator shardCoordinator;
+    private final ProjectBatchOptions batchOptions;
+    private final long minuteRetentionHours;
+    private final long hourRetentionDays;
+
+    public LogMetricsRollupCompactionScheduler(
+            LogMetricsRollupRepository logMetricsRollupRepository,
+            LogMetricsTransactionHelper transactionHelper,
+            ApiEndpointLatencySketchRepository latencySketchRepository,
+            ApiEndpointLatencyTransactionHelper latencyTransactionHelper,
+            ProjectBatchExecutor projectBatchExecutor,
+            ProjectShardCoordinator shardCoordinator,
+            @Value("${log-metrics.rollup.minute-retention-hours:6}") long minuteRetentionHours,
+            @Value("${log-metrics.rollup.hour-retention-days:7}") long hourRetentionDays,
+            @Value("${scheduler.project-batch.log-metrics-rollup.concurrency:4}") int concurrency,
+            @Value("${scheduler.project-batch.log-metrics-rollup.project-timeout-seconds:60}") long projectTimeoutSeconds,
+            @Value("${scheduler.project-batch.log-metrics-rollup.run-timeout-seconds:600}") long runTimeoutSeconds) {
+        this.logMetricsRollupRepository = logMetricsRollupRepository;
+        this.transactionHelper = transactionHelper;
+        this.latencySketchRepository = latencySketchRepository;
+        this.latencyTransactionHelper = latencyTransactionHelper;
+        this.projectBatchExecutor = projectBatchExecutor;
+        this.shardCoordinator = shardCoordinator;
+        this.minuteRetentionHours = minuteRetentionHours;
+        this.hourRetentionDays = hourRetentionDays;
+        this.batchOptions = ProjectBatchOptions.of(concurrency, projectTimeoutSeconds, runTimeoutSeconds);
+    }
+
+    @Scheduled(cron = LOG_METRICS_ROLLUP_COMPACTION_CRON)
+    public void compactRollups() {
+        if (!isRunning.compareAndSet(false, true)) {
+            log.warn("{} 이전 압축이 아직 실행 중입니다. 스킵합니다.", LOG_PREFIX);
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime minuteCutoff = now.truncatedTo(ChronoUnit.HOURS).minusHours(minuteRetentionHours);
+            LocalDateTime hourCutoff = now.truncatedTo(ChronoUnit.DAYS).minusDays(hourRetentionDays);
+
+            TreeSet<Integer> projectIds = new TreeSet<>();
+            projectIds.addAll(logMetricsRollupRepository
+                    .findProjectIdsWithBucketsBefore(RollupGranularity.MINUTE, minuteCutoff));
+            projectIds.addAll(logMetricsRollupRepository
+                    .findProjectIdsWithBucketsBefore(RollupGranularity.HOUR, hourCutoff));
+            projectIds.addAll(latencySketchRepository
+                    .findProjectIdsWithBucketsBefore(RollupGranularity.HOUR, hourCutoff));
+
+            // 여러 인스턴스 중 이 인스턴스가 담당하는 프로젝트만 처리
+            List<Integer> claimed = shardCoordinator.claim(
+                    BATCH_NAME,
+                    List.copyOf(projectIds),
+                    String::valueOf,
+                    batchOptions.runTimeout()
+            );
+
+            if (claimed.isEmpty()) {
+                log.debug("{} 압축 대상 없음", LOG_PREFIX);
+                return;
+            }
+
+            log.info("{} 롤업 압축 시작: 대상 프로젝트={}, 분→시 기준={}, 시→일 기준={}",
+                    LOG_PREFIX, claimed.size(), minuteCutoff, hourCutoff);
+
+            ProjectBatchResult result = projectBatchExecutor.run(
+                    BATCH_NAME,
+                    claimed,
+                    String::valueOf,
+                    projectId -> compactProject(projectId, minuteCutoff, hourCutoff),
+                    batchOptions
+            );
+
+            log.info("{} 롤업 압축 완료 - 전체: {}, 성공: {}, 스킵: {}, 실패: {}, 시간초과: {}, 미처리: {}, 소요시간: {}ms",
+                    LOG_PREFIX, result.total(), result.succeeded(), result.idle(), result.failed(),
+                    result.timedOut(), result.skipped(), result.elapsedMs());
+
+        } finally {
+            isRunning.set(false);
+        }
+    }
+
+    /**
+     * 프로젝트 단위 압축 - 분→시를 먼저 수행해야 새로 만든 시 버킷도 같은 회차에 일 버킷 대상이 됨
+     */
+    private boolean compactProject(Integer projectId, LocalDateTime minuteCutoff, LocalDateTime hourCutoff) {
+        int minuteBuckets = transactionHelper.compactRollups(projectId, RollupGranularity.MINUTE, minuteCutoff);
+        int hourBuckets = transactionHelper.compactRollups(projectId, RollupGranularity.HOUR, hourCutoff);
+        int sketchBuckets = latencyTransactionHelper.compactSketches(projectId, RollupGranularity.HOUR, hourCutoff);
+        return minuteBuckets + hourBuckets + sketchBuckets > 0;
+    }
+}
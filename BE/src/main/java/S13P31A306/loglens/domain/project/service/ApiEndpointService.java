@@ -10,10 +10,13 @@ public interface ApiEndpointService {
     /**
      * 프로젝트의 API 엔드포인트 통계 조회 (Dashboard용)
      * DB에 저장된 데이터를 조회하여 응답
+     * 응답 시간 백분위(p50/p95/p99)는 기간 내 시간 버킷 스케치를 병합하여 계산
      */
     ApiEndpointResponse getApiEndpointStatistics(
             String projectUuid,
-            Integer limit
+            Integer limit,
+            String startTime,
+            String endTime
     );
 
 }
@@ -0,0 +1,66 @@
+package S13P31A306.loglens.domain.project.service;
+
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupBucket;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 로그 메트릭 롤업 조회 서비스
+ * 분/시/일 롤업 버킷만으로 임의 기간의 통계를 계산합니다. (OpenSearch 조회 없음)
+ * 롤업은 도입 이후 집계분만 있으므로, 호출 측은 covers()로 확인 후 범위 밖이면 OpenSearch 집계를 사용합니다.
+ * 모든 시각은 집계와 동일하게 Asia/Seoul 기준입니다.
+ */
+public interface LogMetricsRollupService {
+
+    /**
+     * start 이후 구간을 롤업만으로 계산할 수 있는지 여부
+     * 프로젝트의 첫 롤업 버킷보다 이른 시각부터 조회하면 롤업 도입 이전 로그가 빠지므로 false
+     *
+     * @param projectId 프로젝트 ID
+     * @param start 조회 시작 시각
+     * @return 첫 롤업 버킷이 start 이전(포함)에 있으면 true
+     */
+    boolean covers(Integer projectId, LocalDateTime start);
+
+    /**
+     * 기간 [start, end) 합계
+     * 경계가 압축된 버킷(시/일) 안에 있으면 롤업은 그 버킷 경계까지 안쪽 구간만 합산하고,
+     * 바깥 조각은 edgeSummarizer(호출 측의 OpenSearch 집계)로 보충합니다.
+     * 두 경계가 같은 압축 버킷 안에 있으면 전체를 edgeSummarizer로 계산합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @param edgeSummarizer 경계 조각 [from, to) 합계 계산 (Asia/Seoul 기준 시각을 받음)
+     * @return 기간 합계
+     */
+    LogMetricsRollupSummary summarize(
+            Integer projectId,
+            LocalDateTime start,
+            LocalDateTime end,
+            BiFunction<LocalDateTime, LocalDateTime, LogMetricsRollupSummary> edgeSummarizer
+    );
+
+    /**
+     * 기간 [start, end)를 interval 간격 버킷으로 다시 묶어 반환
+     * 버킷은 자정 기준으로 정렬되며, 데이터가 있는 첫/마지막 버킷 사이의 빈 버킷은 0으로 채웁니다.
+     * (OpenSearch date_histogram min_doc_count=0과 동일)
+     *
+     * @param projectId 프로젝트 ID
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @param interval 버킷 간격 (1분 이상)
+     * @return 시작 시각 오름차순 버킷 목록 (데이터가 없으면 빈 목록)
+     */
+    List<LogMetricsRollupBucket> aggregateBuckets(
+            Integer projectId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Duration interval
+    );
+
+}
@@ -0,0 +1,101 @@
+package S13P31A306.loglens.domain.project.service.impl;
+
+import S13P31A306.loglens.domain.project.entity.ApiEndpointLatencySketch;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import S13P31A306.loglens.domain.project.repository.ApiEndpointLatencySketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 엔드포인트 응답 시간 스케치 저장/압축 트랜잭션 헬퍼
+ * 스케치는 DB 연산으로 병합할 수 없으므로 버킷을 읽어 애플리케이션에서 병합 후 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiEndpointLatencyTransactionHelper {
+
+    private static final String LOG_PREFIX = "[ApiEndpointLatencyTransactionHelper]";
+
+    private final ApiEndpointLatencySketchRepository latencySketchRepository;
+
+    /**
+     * 증분 스케치를 기존 버킷에 병합 (없으면 새 버킷 생성)
+     *
+     * @return 저장된 버킷 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int mergeSketches(Integer projectId, RollupGranularity granularity, List<ApiEndpointLatencySketch> increments) {
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        Set<LocalDateTime> bucketStarts = increments.stream()
+                .map(ApiEndpointLatencySketch::getBucketStart)
+                .collect(Collectors.toSet());
+
+        Map<String, ApiEndpointLatencySketch> buckets = latencySketchRepository
+                .findByProjectIdAndGranularityAndBucketStartIn(projectId, granularity, bucketStarts)
+                .stream()
+                .collect(Collectors.toMap(ApiEndpointLatencySketch::bucketKey, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+
+        for (ApiEndpointLatencySketch increment : increments) {
+            buckets.merge(increment.bucketKey(), increment, (existing, added) -> {
+                existing.merge(added.toSketch());
+                return existing;
+            });
+        }
+
+        latencySketchRepository.saveAll(buckets.values());
+        return buckets.size();
+    }
+
+    /**
+     * cutoff 이전 버킷을 상위 단위 버킷으로 이동 (병합과 삭제가 한 트랜잭션)
+     *
+     * @return 압축(삭제)된 하위 버킷 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int compactSketches(Integer projectId, RollupGranularity source, LocalDateTime cutoff) {
+        RollupGranularity target = source.coarser();
+        if (target == null) {
+            return 0;
+        }
+
+        List<ApiEndpointLatencySketch> sourceBuckets = latencySketchRepository
+                .findByProjectIdAndGranularityAndBucketStartBefore(projectId, source, cutoff);
+        if (sourceBuckets.isEmpty()) {
+            return 0;
+        }
+
+        List<ApiEndpointLatencySketch> moved = sourceBuckets.stream()
+                .map(bucket -> ApiEndpointLatencySketch.of(
+                        projectId,
+                        bucket.getEndpointPath(),
+                        bucket.getHttpMethod(),
+                        target,
+                        bucket.getBucketStart(),
+                        bucket.toSketch()))
+                .toList();
+
+        latencySketchRepository.deleteAllInBatch(sourceBuckets);
+        mergeSketches(projectId, target, moved);
+
+        log.debug("{} 스케치 압축: projectId={}, {} -> {}, 하위버킷={}",
+                LOG_PREFIX, projectId, source, target, sourceBuckets.size());
+        return sourceBuckets.size();
+    }
+
+}
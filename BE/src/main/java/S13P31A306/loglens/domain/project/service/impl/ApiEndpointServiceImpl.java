@@ -3,8 +3,11 @@ package S13P31A306.loglens.domain.project.service.impl;
 import S13P31A306.loglens.domain.dashboard.dto.response.ApiEndpointResponse;
 import S13P31A306.loglens.domain.dashboard.validator.DashboardValidator;
 import S13P31A306.loglens.domain.project.entity.ApiEndpoint;
+import S13P31A306.loglens.domain.project.entity.ApiEndpointLatencySketch;
+import S13P31A306.loglens.domain.project.repository.ApiEndpointLatencySketchRepository;
 import S13P31A306.loglens.domain.project.repository.ApiEndpointRepository;
 import S13P31A306.loglens.domain.project.service.ApiEndpointService;
+import S13P31A306.loglens.domain.project.util.LatencySketch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,11 +15,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.API_ENDPOINT_DEFAULT_TIME_RANGE;
+import static S13P31A306.loglens.domain.dashboard.constants.DashboardConstants.API_ENDPOINT_MAX_TIME_RANGE;
 
 /**
  * API 엔드포인트 서비스 구현체
  * DB에 저장된 API 엔드포인트 통계를 조회
+ * 응답 시간 백분위는 조회 기간 내 시간 버킷 스케치를 병합하여 계산
  */
 @Slf4j
 @Service
@@ -27,25 +38,53 @@ public class ApiEndpointServiceImpl implements ApiEndpointService {
     private static final String LOG_PREFIX = "[ApiEndpointService]";
 
     private final ApiEndpointRepository apiEndpointsRepository;
+    private final ApiEndpointLatencySketchRepository latencySketchRepository;
     private final DashboardValidator dashboardValidator;
 
     @Override
-    public ApiEndpointResponse getApiEndpointStatistics(String projectUuid, Integer limit) {
+    public ApiEndpointResponse getApiEndpointStatistics(String projectUuid, Integer limit, String startTime, String endTime) {
         log.info("{} API 통계 조회 시작: projectUuid={}, limit={}", LOG_PREFIX, projectUuid, limit);
 
         Integer projectId = dashboardValidator.validateProjectAccess(projectUuid);
 
         limit = dashboardValidator.validateApiEndpointLimit(limit);
 
+        // 백분위 조회 기간 파싱 및 기본값 설정
+        LocalDateTime parsedEnd = dashboardValidator.validateAndParseTime(endTime);
+        LocalDateTime parsedStart = dashboardValidator.validateAndParseTime(startTime);
+
+        LocalDateTime end;
+        if (parsedEnd != null) {
+            end = parsedEnd;
+        } else if (parsedStart != null) {
+            end = parsedStart.plusDays(API_ENDPOINT_DEFAULT_TIME_RANGE);
+        } else {
+            end = LocalDateTime.now();
+        }
+        LocalDateTime start = parsedStart != null ? parsedStart : end.minusDays(API_ENDPOINT_DEFAULT_TIME_RANGE);
+
+        dashboardValidator.validateTimeRange(start, end, API_ENDPOINT_MAX_TIME_RANGE);
+
         // DB에서 조회
         List<ApiEndpoint> endpoints = apiEndpointsRepository
                 .findTopByProjectIdOrderByTotalRequests(projectId, limit);
 
+        // 기간 내 스케치를 엔드포인트별/전체로 병합
+        Map<String, LatencySketch> sketchesByEndpoint = new HashMap<>();
+        LatencySketch overallSketch = new LatencySketch();
+        for (ApiEndpointLatencySketch bucket : latencySketchRepository.findByProjectIdAndRange(projectId, start, end)) {
+            LatencySketch sketch = bucket.toSketch();
+            sketchesByEndpoint.computeIfAbsent(endpointKey(bucket.getHttpMethod(), bucket.getEndpointPath()),
+                    key -> new LatencySketch()).merge(sketch);
+            overallSketch.merge(sketch);
+        }
+
         List<ApiEndpointResponse.EndpointStats> endpointStatsList = endpoints.stream()
-                .map(this::toEndpointStats)
+                .map(endpoint -> toEndpointStats(endpoint,
+                        sketchesByEndpoint.get(endpointKey(endpoint.getHttpMethod(), endpoint.getEndpointPath()))))
                 .toList();
 
-        ApiEndpointResponse.Summary summary = calculateSummary(projectId);
+        ApiEndpointResponse.Summary summary = calculateSummary(projectId, overallSketch);
 
         log.info("{} API 통계 조회 성공: projectUuid={}, limit={}", LOG_PREFIX, projectUuid, limit);
 
@@ -56,7 +95,7 @@ public class ApiEndpointServiceImpl implements ApiEndpointService {
         );
     }
 
-    private ApiEndpointResponse.EndpointStats toEndpointStats(ApiEndpoint endpoint) {
+    private ApiEndpointResponse.EndpointStats toEndpointStats(ApiEndpoint endpoint, LatencySketch sketch) {
         BigDecimal errorRate = calculateErrorRate(endpoint.getErrorCount(), endpoint.getTotalRequests());
 
         return new ApiEndpointResponse.EndpointStats(
@@ -67,12 +106,15 @@ public class ApiEndpointServiceImpl implements ApiEndpointService {
                 endpoint.getErrorCount(),
                 errorRate,
                 endpoint.getAvgResponseTime(),
+                toResponseTime(sketch, 0.50),
+                toResponseTime(sketch, 0.95),
+                toResponseTime(sketch, 0.99),
                 endpoint.getAnomalyCount(),
                 endpoint.getLastAccessed()
         );
     }
 
-    private ApiEndpointResponse.Summary calculateSummary(Integer projectId) {
+    private ApiEndpointResponse.Summary calculateSummary(Integer projectId, LatencySketch overallSketch) {
         long totalEndpoints = apiEndpointsRepository.countByProjectId(projectId);
         Long totalRequests = apiEndpointsRepository.sumTotalRequestsByProjectId(projectId);
         Long totalErrors = apiEndpointsRepository.sumErrorCountByProjectId(projectId);
@@ -87,10 +129,27 @@ public class ApiEndpointServiceImpl implements ApiEndpointService {
                 totalErrors,
                 overallErrorRate,
                 BigDecimal.valueOf(avgResponseTime).setScale(2, RoundingMode.HALF_UP),
+                toResponseTime(overallSketch, 0.95),
+                toResponseTime(overallSketch, 0.99),
                 (int) criticalEndpoints
         );
     }
 
+    /**
+     * 스케치의 분위수를 ms 단위로 변환 (기간 내 데이터가 없으면 null)
+     */
+    private BigDecimal toResponseTime(LatencySketch sketch, double quantile) {
+        if (Objects.isNull(sketch)) {
+            return null;
+        }
+        Double value = sketch.quantile(quantile);
+        return Objects.isNull(value) ? null : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private String endpointKey(String httpMethod, String endpointPath) {
+        return httpMethod + ":" + endpointPath;
+    }
+
     private BigDecimal calculateErrorRate(int errorCount, int totalRequests) {
         if (totalRequests == 0) {
             return BigDecimal.ZERO;
@@ -2,14 +2,20 @@ package S13P31A306.loglens.domain.project.service.impl;
 
 import S13P31A306.loglens.domain.dashboard.dto.opensearch.ApiEndpointStats;
 import S13P31A306.loglens.domain.project.entity.ApiEndpoint;
+import S13P31A306.loglens.domain.project.entity.ApiEndpointLatencySketch;
 import S13P31A306.loglens.domain.project.entity.Project;
-import S13P31A306.loglens.domain.project.repository.ApiEndpointRepository;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
 import S13P31A306.loglens.domain.project.service.ApiEndpointTransactionalService;
+import S13P31A306.loglens.domain.project.util.LatencySketch;
+import S13P31A306.loglens.global.jdbc.BulkUpsertExecutor;
+import S13P31A306.loglens.global.jdbc.BulkUpsertSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.CalendarInterval;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.json.JsonData;
@@ -23,6 +29,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.*;
 
 /**
@@ -37,8 +44,53 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
     private static final String LOG_PREFIX = "[ApiEndpointTransactionalService]";
     private static final String DEFAULT_TIMEZONE = "Asia/Seoul";
 
+    /**
+     * 응답 시간 분포 근사에 사용할 백분위 (꼬리 구간을 촘촘하게)
+     */
+    private static final List<Double> LATENCY_PERCENTS = List.of(
+            0.0, 1.0, 5.0, 10.0, 20.0, 30.0, 40.0, 50.0, 60.0, 70.0, 80.0, 90.0, 95.0, 98.0, 99.0, 99.5, 99.9, 100.0);
+
+    /**
+     * (project_id, endpoint_path, http_method) 기준 UPSERT
+     * 평균 응답 시간은 요청 수 가중 평균 (MySQL은 왼쪽부터 갱신하므로 total_requests 누적 전에 계산됨)
+     * 이번 구간 요청 수가 0이면 기존 평균 유지 (0으로 나누기 방지)
+     */
+    static final BulkUpsertSpec<ApiEndpoint> ENDPOINT_UPSERT = BulkUpsertSpec.<ApiEndpoint>builder("api_endpoints")
+            .key("project_id", ApiEndpoint::getProjectId)
+            .key("endpoint_path", ApiEndpoint::getEndpointPath)
+            .key("http_method", ApiEndpoint::getHttpMethod)
+            .expression("avg_response_time", ApiEndpoint::getAvgResponseTime,
+                    "CASE WHEN {new.total_requests} = 0 THEN {avg_response_time}"
+                            + " ELSE ROUND(({avg_response_time} * {total_requests}"
+                            + " + {new.avg_response_time} * {new.total_requests})"
+                            + " / ({total_requests} + {new.total_requests}), 2) END")
+            .add("total_requests", ApiEndpoint::getTotalRequests)
+            .add("error_count", ApiEndpoint::getErrorCount)
+            .replace("last_accessed", ApiEndpoint::getLastAccessed)
+            .insertOnly("anomaly_count", ApiEndpoint::getAnomalyCount)
+            .insertOnly("component_id", ApiEndpoint::getComponentId)
+            .auditColumns()
+            .build();
+
+    /**
+     * 응답 시간 집계가 없는 구간용 UPSERT - 기존 평균 응답 시간 유지 (신규 행만 0으로 저장)
+     */
+    static final BulkUpsertSpec<ApiEndpoint> ENDPOINT_UPSERT_WITHOUT_LATENCY = BulkUpsertSpec.<ApiEndpoint>builder("api_endpoints")
+            .key("project_id", ApiEndpoint::getProjectId)
+            .key("endpoint_path", ApiEndpoint::getEndpointPath)
+            .key("http_method", ApiEndpoint::getHttpMethod)
+            .insertOnly("avg_response_time", ApiEndpoint::getAvgResponseTime)
+            .add("total_requests", ApiEndpoint::getTotalRequests)
+            .add("error_count", ApiEndpoint::getErrorCount)
+            .replace("last_accessed", ApiEndpoint::getLastAccessed)
+            .insertOnly("anomaly_count", ApiEndpoint::getAnomalyCount)
+            .insertOnly("component_id", ApiEndpoint::getComponentId)
+            .auditColumns()
+            .build();
+
     private final OpenSearchClient openSearchClient;
-    private final ApiEndpointRepository apiEndpointRepository;
+    private final BulkUpsertExecutor bulkUpsertExecutor;
+    private final ApiEndpointLatencyTransactionHelper latencyTransactionHelper;
 
     @Override
     public void aggregateApiEndpointMetrics(
@@ -65,6 +117,7 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
 
             // 3. DB에 저장 (독립 트랜잭션)
             saveApiEndpointMetrics(project.getId(), statsMap);
+            saveLatencySketches(project.getId(), statsMap);
 
             long elapsed = System.currentTimeMillis() - startTime;
             log.info("{} API 엔드포인트 메트릭 집계 완료: projectId={}, count={}, 소요시간={}ms",
@@ -130,6 +183,22 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
                                                 .field("timestamp")
                                         )
                                 )
+                                // 스케치는 시 버킷 단위로 저장하므로 구간이 시 경계를 넘으면 나눠서 집계
+                                .aggregations("latency_by_hour", subsub -> subsub
+                                        .dateHistogram(dh -> dh
+                                                .field("timestamp")
+                                                .calendarInterval(CalendarInterval.Hour)
+                                                .timeZone(DEFAULT_TIMEZONE)
+                                                .minDocCount(1)
+                                                .format("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+                                        )
+                                        .aggregations("response_time_percentiles", p -> p
+                                                .percentiles(pc -> pc
+                                                        .field("log_details.execution_time")
+                                                        .percents(LATENCY_PERCENTS)
+                                                )
+                                        )
+                                )
                         )
                 )
         );
@@ -183,6 +252,10 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
                         maxTimestamp = maxAgg.max().value();
                     }
 
+                    // 시 버킷별 response_time_percentiles 안전하게 추출
+                    List<ApiEndpointStats.LatencyBucket> latencyBuckets =
+                            parseLatencyBuckets(methodBucket.aggregations().get("latency_by_hour"));
+
                     String key = method + ":" + uri;
                     statsMap.put(key, new ApiEndpointStats(
                             uri,
@@ -190,7 +263,8 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
                             totalRequests,
                             errorCount,
                             avgResponseTime,
-                            maxTimestamp
+                            maxTimestamp,
+                            latencyBuckets
                     ));
 
                     log.debug("{} 파싱 완료: {}:{}, requests={}, errors={}",
@@ -206,57 +280,138 @@ public class ApiEndpointTransactionalServiceImpl implements ApiEndpointTransacti
         return statsMap;
     }
 
+    /**
+     * latency_by_hour 버킷 → 시 버킷별 응답 시간 분포 (bucketStart는 Asia/Seoul 기준)
+     */
+    private List<ApiEndpointStats.LatencyBucket> parseLatencyBuckets(Aggregate latencyByHour) {
+        if (Objects.isNull(latencyByHour) || !latencyByHour.isDateHistogram()) {
+            return List.of();
+        }
+
+        List<ApiEndpointStats.LatencyBucket> buckets = new ArrayList<>();
+        for (DateHistogramBucket bucket : latencyByHour.dateHistogram().buckets().array()) {
+            Aggregate percentilesAgg = bucket.aggregations().get("response_time_percentiles");
+            if (Objects.isNull(bucket.keyAsString()) || Objects.isNull(percentilesAgg)
+                    || !percentilesAgg.isTdigestPercentiles()) {
+                continue;
+            }
+
+            Map<Double, Double> percentiles = parsePercentiles(percentilesAgg.tdigestPercentiles().values().keyed());
+            if (percentiles.isEmpty()) {
+                continue;
+            }
+
+            LocalDateTime bucketStart = ZonedDateTime.parse(bucket.keyAsString())
+                    .withZoneSameInstant(ZoneId.of(DEFAULT_TIMEZONE))
+                    .toLocalDateTime();
+            buckets.add(new ApiEndpointStats.LatencyBucket(bucketStart, bucket.docCount(), percentiles));
+        }
+        return buckets;
+    }
+
+    /**
+     * keyed 백분위 응답 ("50.0" → "123.4") 파싱, 값이 없는(null/NaN) 백분위는 제외
+     */
+    private Map<Double, Double> parsePercentiles(Map<String, String> keyed) {
+        if (Objects.isNull(keyed) || keyed.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Double, Double> percentiles = new TreeMap<>();
+        keyed.forEach((percent, value) -> {
+            try {
+                double parsed = Double.parseDouble(value);
+                if (!Double.isNaN(parsed)) {
+                    percentiles.put(Double.parseDouble(percent), parsed);
+                }
+            } catch (NullPointerException | NumberFormatException e) {
+                log.trace("{} 백분위 값 없음: percent={}, value={}", LOG_PREFIX, percent, value);
+            }
+        });
+        return percentiles;
+    }
+
+    /**
+     * 엔드포인트 통계 일괄 UPSERT (JDBC 배치 한 번)
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     protected void saveApiEndpointMetrics(Integer projectId, Map<String, ApiEndpointStats> statsMap) {
-        int savedCount = 0;
-        int updatedCount = 0;
-
+        List<ApiEndpoint> withLatency = new ArrayList<>();
+        List<ApiEndpoint> withoutLatency = new ArrayList<>();
         for (ApiEndpointStats stats : statsMap.values()) {
-            LocalTime lastAccessed = stats.lastAccessedTimestamp() != null
-                    ? LocalDateTime.ofInstant(
-                    Instant.ofEpochMilli(stats.lastAccessedTimestamp().longValue()),
-                    ZoneId.of(DEFAULT_TIMEZONE)
-            ).toLocalTime()
-                    : null;
-
-            Optional<ApiEndpoint> existing = apiEndpointRepository
-                    .findByProjectIdAndEndpointPathAndHttpMethod(
-                            projectId,
-                            stats.endpointPath(),
-                            stats.httpMethod()
-                    );
-
-            if (existing.isPresent()) {
-                ApiEndpoint entity = existing.get();
-                entity.updateMetrics(
-                        (int) stats.totalRequests(),
-                        (int) stats.errorCount(),
-                        stats.avgResponseTime(),
-                        lastAccessed
-                );
-                updatedCount++;
+            ApiEndpoint endpoint = toApiEndpoint(projectId, stats);
+            if (Objects.nonNull(stats.avgResponseTime()) && stats.totalRequests() > 0) {
+                withLatency.add(endpoint);
             } else {
-                ApiEndpoint endpoint = ApiEndpoint.builder()
-                        .projectId(projectId)
-                        .endpointPath(stats.endpointPath())
-                        .httpMethod(stats.httpMethod())
-                        .totalRequests((int) stats.totalRequests())
-                        .errorCount((int) stats.errorCount())
-                        .avgResponseTime(stats.avgResponseTime() != null
-                                ? BigDecimal.valueOf(stats.avgResponseTime()).setScale(2, RoundingMode.HALF_UP)
-                                : BigDecimal.ZERO)
-                        .anomalyCount(0)
-                        .lastAccessed(lastAccessed)
-                        .componentId(0)
-                        .build();
-
-                apiEndpointRepository.save(endpoint);
-                savedCount++;
+                withoutLatency.add(endpoint);
+            }
+        }
+
+        int upserted = bulkUpsertExecutor.upsert(ENDPOINT_UPSERT, withLatency)
+                + bulkUpsertExecutor.upsert(ENDPOINT_UPSERT_WITHOUT_LATENCY, withoutLatency);
+
+        log.info("{} API 엔드포인트 메트릭 저장 완료: projectId={}, count={}",
+                LOG_PREFIX, projectId, upserted);
+    }
+
+    /**
+     * 시 버킷별 백분위로 근사한 응답 시간 스케치를 해당 시 버킷에 병합
+     * (구간이 시 경계를 넘으면 각 시 버킷에 그 시간대의 요청만 반영)
+     * 스케치 저장 실패가 엔드포인트 통계 저장에 영향을 주지 않도록 별도 처리
+     */
+    private void saveLatencySketches(Integer projectId, Map<String, ApiEndpointStats> statsMap) {
+        List<ApiEndpointLatencySketch> increments = new ArrayList<>();
+        for (ApiEndpointStats stats : statsMap.values()) {
+            for (ApiEndpointStats.LatencyBucket bucket : stats.latencyBuckets()) {
+                LatencySketch sketch = new LatencySketch();
+                sketch.addPercentiles(bucket.percentiles(), bucket.count());
+                if (sketch.isEmpty()) {
+                    continue;
+                }
+                increments.add(ApiEndpointLatencySketch.of(
+                        projectId,
+                        stats.endpointPath(),
+                        stats.httpMethod(),
+                        RollupGranularity.HOUR,
+                        bucket.bucketStart(),
+                        sketch
+                ));
             }
         }
 
-        log.info("{} API 엔드포인트 메트릭 저장 완료: projectId={}, 신규={}, 업데이트={}",
-                LOG_PREFIX, projectId, savedCount, updatedCount);
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        try {
+            int saved = latencyTransactionHelper.mergeSketches(projectId, RollupGranularity.HOUR, increments);
+            log.debug("{} 응답 시간 스케치 저장 완료: projectId={}, count={}", LOG_PREFIX, projectId, saved);
+        } catch (Exception e) {
+            log.error("{} 응답 시간 스케치 저장 실패: projectId={}", LOG_PREFIX, projectId, e);
+        }
+    }
+
+    private ApiEndpoint toApiEndpoint(Integer projectId, ApiEndpointStats stats) {
+        LocalTime lastAccessed = stats.lastAccessedTimestamp() != null
+                ? LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(stats.lastAccessedTimestamp().longValue()),
+                ZoneId.of(DEFAULT_TIMEZONE)
+        ).toLocalTime()
+                : null;
+
+        return ApiEndpoint.builder()
+                .projectId(projectId)
+                .endpointPath(stats.endpointPath())
+                .httpMethod(stats.httpMethod())
+                .totalRequests((int) stats.totalRequests())
+                .errorCount((int) stats.errorCount())
+                .avgResponseTime(stats.avgResponseTime() != null
+                        ? BigDecimal.valueOf(stats.avgResponseTime()).setScale(2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .anomalyCount(0)
+                .lastAccessed(lastAccessed)
+                .componentId(0)
+                .build();
     }
 
     private String getProjectIndexPattern(String projectUuid) {
@@ -0,0 +1,165 @@
+package S13P31A306.loglens.domain.project.service.impl;
+
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupBucket;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
+import S13P31A306.loglens.domain.project.entity.LogMetricsRollup;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import S13P31A306.loglens.domain.project.repository.LogMetricsRollupRepository;
+import S13P31A306.loglens.domain.project.service.LogMetricsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+/**
+ * 로그 메트릭 롤업 조회 서비스 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LogMetricsRollupServiceImpl implements LogMetricsRollupService {
+
+    private static final String LOG_PREFIX = "[LogMetricsRollupService]";
+    private static final LocalDateTime ALIGN_BASE = LocalDate.EPOCH.atStartOfDay();
+    private static final List<RollupGranularity> COMPACTED_GRANULARITIES =
+            List.of(RollupGranularity.HOUR, RollupGranularity.DAY);
+
+    private final LogMetricsRollupRepository logMetricsRollupRepository;
+
+    @Override
+    public boolean covers(Integer projectId, LocalDateTime start) {
+        LocalDateTime firstBucketStart = logMetricsRollupRepository.findFirstBucketStart(projectId);
+        boolean covered = Objects.nonNull(firstBucketStart) && !start.isBefore(firstBucketStart);
+
+        if (!covered) {
+            log.debug("{} 롤업 범위 밖 조회: projectId={}, start={}, firstBucketStart={}",
+                    LOG_PREFIX, projectId, start, firstBucketStart);
+        }
+        return covered;
+    }
+
+    @Override
+    public LogMetricsRollupSummary summarize(
+            Integer projectId,
+            LocalDateTime start,
+            LocalDateTime end,
+            BiFunction<LocalDateTime, LocalDateTime, LogMetricsRollupSummary> edgeSummarizer) {
+
+        if (!start.isBefore(end)) {
+            return LogMetricsRollupSummary.empty();
+        }
+
+        // 1. 경계에 걸친 압축 버킷이 있으면 롤업 합산 구간을 그 버킷 경계까지 안쪽으로 좁힘
+        LocalDateTime exactStart = findCompactedBucketContaining(projectId, start)
+                .map(rollup -> rollup.getGranularity().end(rollup.getBucketStart()))
+                .orElse(start);
+        LocalDateTime exactEnd = findCompactedBucketContaining(projectId, end)
+                .map(LogMetricsRollup::getBucketStart)
+                .orElse(end);
+
+        // 2. 두 경계가 같은 압축 버킷 안에 있으면 롤업으로 나눌 수 없으므로 전체를 보충 집계
+        if (!exactStart.isBefore(exactEnd)) {
+            log.debug("{} 압축 버킷 내부 기간, 전체 보충 집계: projectId={}, {} ~ {}", LOG_PREFIX, projectId, start, end);
+            return edgeSummarizer.apply(start, end);
+        }
+
+        LogMetricsRollupSummary summary = logMetricsRollupRepository
+                .summarizeByProjectIdAndRange(projectId, exactStart, exactEnd);
+        if (Objects.isNull(summary)) {
+            summary = LogMetricsRollupSummary.empty();
+        }
+
+        // 3. 좁힌 바깥 조각 보충
+        if (exactStart.isAfter(start)) {
+            summary = summary.plus(edgeSummarizer.apply(start, exactStart));
+        }
+        if (exactEnd.isBefore(end)) {
+            summary = summary.plus(edgeSummarizer.apply(exactEnd, end));
+        }
+
+        log.debug("{} 기간 합계 조회: projectId={}, {} ~ {}, 롤업 구간={} ~ {}, totalLogs={}",
+                LOG_PREFIX, projectId, start, end, exactStart, exactEnd, summary.totalLogs());
+
+        return summary;
+    }
+
+    @Override
+    public List<LogMetricsRollupBucket> aggregateBuckets(
+            Integer projectId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Duration interval) {
+
+        long intervalMinutes = interval.toMinutes();
+        if (intervalMinutes < 1 || !start.isBefore(end)) {
+            return List.of();
+        }
+
+        List<LogMetricsRollup> rollups = logMetricsRollupRepository.findByProjectIdAndRange(projectId, start, end);
+
+        // 버킷 시작 시각 → [total, error, warn, info, fe, be, sumResponseTime]
+        TreeMap<LocalDateTime, long[]> slots = new TreeMap<>();
+        for (LogMetricsRollup rollup : rollups) {
+            long[] sums = slots.computeIfAbsent(alignToSlot(rollup.getBucketStart(), intervalMinutes), k -> new long[7]);
+            sums[0] += rollup.getTotalLogs();
+            sums[1] += rollup.getErrorLogs();
+            sums[2] += rollup.getWarnLogs();
+            sums[3] += rollup.getInfoLogs();
+            sums[4] += rollup.getFeLogs();
+            sums[5] += rollup.getBeLogs();
+            sums[6] += rollup.getSumResponseTime();
+        }
+
+        if (slots.isEmpty()) {
+            log.debug("{} 버킷 조회 결과 없음: projectId={}, {} ~ {}", LOG_PREFIX, projectId, start, end);
+            return List.of();
+        }
+
+        List<LogMetricsRollupBucket> buckets = new ArrayList<>();
+        for (LocalDateTime slot = slots.firstKey(); !slot.isAfter(slots.lastKey()); slot = slot.plusMinutes(intervalMinutes)) {
+            long[] sums = slots.get(slot);
+            buckets.add(Objects.isNull(sums)
+                    ? LogMetricsRollupBucket.empty(slot)
+                    : new LogMetricsRollupBucket(slot, sums[0], sums[1], sums[2], sums[3], sums[4], sums[5], sums[6]));
+        }
+
+        log.debug("{} 버킷 조회: projectId={}, {} ~ {}, interval={}m, 롤업={}건, 버킷={}개",
+                LOG_PREFIX, projectId, start, end, intervalMinutes, rollups.size(), buckets.size());
+
+        return buckets;
+    }
+
+    /**
+     * time을 내부(시작 시각 제외)에 포함하는 압축 버킷(시/일) 조회
+     * 버킷 시작 시각과 정확히 같으면 버킷 경계이므로 걸친 버킷이 아님
+     */
+    private Optional<LogMetricsRollup> findCompactedBucketContaining(Integer projectId, LocalDateTime time) {
+        return logMetricsRollupRepository.findByProjectIdAndGranularitiesStartedBetween(
+                        projectId, COMPACTED_GRANULARITIES, time.minusDays(1), time)
+                .stream()
+                .filter(rollup -> rollup.getGranularity().end(rollup.getBucketStart()).isAfter(time))
+                .min(Comparator.comparing(LogMetricsRollup::getBucketStart));
+    }
+
+    /**
+     * 자정(1970-01-01T00:00) 기준으로 interval 간격 슬롯 시작 시각 계산
+     */
+    private LocalDateTime alignToSlot(LocalDateTime time, long intervalMinutes) {
+        long minutes = ChronoUnit.MINUTES.between(ALIGN_BASE, time);
+        return ALIGN_BASE.plusMinutes(Math.floorDiv(minutes, intervalMinutes) * intervalMinutes);
+    }
+
+}
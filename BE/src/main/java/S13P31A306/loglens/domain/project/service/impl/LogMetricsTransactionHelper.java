@@ -2,15 +2,22 @@ package S13P31A306.loglens.domain.project.service.impl;
 
 import S13P31A306.loglens.domain.project.entity.HeatmapMetrics;
 import S13P31A306.loglens.domain.project.entity.LogMetrics;
-import S13P31A306.loglens.domain.project.repository.HeatmapMetricsRepository;
+import S13P31A306.loglens.domain.project.entity.LogMetricsRollup;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
 import S13P31A306.loglens.domain.project.repository.LogMetricsRepository;
+import S13P31A306.loglens.domain.project.repository.LogMetricsRollupRepository;
+import S13P31A306.loglens.global.jdbc.BulkUpsertExecutor;
+import S13P31A306.loglens.global.jdbc.BulkUpsertSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -20,14 +27,51 @@ public class LogMetricsTransactionHelper {
 
     private static final String LOG_PREFIX = "[LogMetricsTransactionHelper]";
 
+    /**
+     * (project_id, date, hour) 기준 히트맵 셀 UPSERT - 건수는 누적
+     */
+    private static final BulkUpsertSpec<HeatmapMetrics> HEATMAP_UPSERT = BulkUpsertSpec.<HeatmapMetrics>builder("heatmap_metrics")
+            .key("project_id", heatmap -> heatmap.getProject().getId())
+            .key("date", HeatmapMetrics::getDate)
+            .key("`hour`", HeatmapMetrics::getHour)
+            .add("total_count", HeatmapMetrics::getTotalCount)
+            .add("error_count", HeatmapMetrics::getErrorCount)
+            .add("warn_count", HeatmapMetrics::getWarnCount)
+            .add("info_count", HeatmapMetrics::getInfoCount)
+            .replace("aggregated_at", HeatmapMetrics::getAggregatedAt)
+            .auditColumns()
+            .build();
+
+    /**
+     * (project_id, granularity, bucket_start) 기준 롤업 버킷 UPSERT - 건수/응답 시간 합은 누적
+     */
+    private static final BulkUpsertSpec<LogMetricsRollup> ROLLUP_UPSERT = BulkUpsertSpec.<LogMetricsRollup>builder("log_metrics_rollups")
+            .key("project_id", rollup -> rollup.getProject().getId())
+            .key("granularity", rollup -> rollup.getGranularity().name())
+            .key("bucket_start", LogMetricsRollup::getBucketStart)
+            .add("total_logs", LogMetricsRollup::getTotalLogs)
+            .add("error_logs", LogMetricsRollup::getErrorLogs)
+            .add("warn_logs", LogMetricsRollup::getWarnLogs)
+            .add("info_logs", LogMetricsRollup::getInfoLogs)
+            .add("fe_logs", LogMetricsRollup::getFeLogs)
+            .add("be_logs", LogMetricsRollup::getBeLogs)
+            .add("sum_response_time", LogMetricsRollup::getSumResponseTime)
+            .auditColumns()
+            .build();
+
     private final LogMetricsRepository logMetricsRepository;
-    private final HeatmapMetricsRepository heatmapMetricsRepository;
+    private final LogMetricsRollupRepository logMetricsRollupRepository;
+    private final BulkUpsertExecutor bulkUpsertExecutor;
 
     /**
-     * LogMetrics 저장 (독립 트랜잭션)
+     * LogMetrics + 롤업 버킷 증분 저장 (독립 트랜잭션)
+     * LogMetrics.aggregatedAt이 다음 증분 구간의 시작점이므로,
+     * 롤업 증분과 함께 커밋되어야 같은 구간이 두 번 더해지지 않음
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveLogMetrics(LogMetrics logMetrics) {
+    public void saveLogMetrics(LogMetrics logMetrics, List<LogMetricsRollup> rollups) {
+        addRollups(rollups);
+
         Optional<LogMetrics> existing = logMetricsRepository
                 .findTopByProjectIdOrderByAggregatedAtDesc(logMetrics.getProject().getId());
 
@@ -52,39 +96,60 @@ public class LogMetricsTransactionHelper {
     }
 
     /**
-     * HeatmapMetrics 저장 (독립 트랜잭션)
+     * HeatmapMetrics 저장 (독립 트랜잭션, 일괄 UPSERT)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveHeatmapMetrics(List<HeatmapMetrics> heatmapMetrics) {
-        int savedCount = 0;
-        int updatedCount = 0;
-
-        for (HeatmapMetrics heatmap : heatmapMetrics) {
-            Optional<HeatmapMetrics> existing = heatmapMetricsRepository
-                    .findByProjectIdAndDateAndHour(
-                            heatmap.getProject().getId(),
-                            heatmap.getDate(),
-                            heatmap.getHour()
-                    );
-
-            if (existing.isPresent()) {
-                HeatmapMetrics entity = existing.get();
-                entity.updateMetrics(
-                        entity.getTotalCount() + heatmap.getTotalCount(),
-                        entity.getErrorCount() + heatmap.getErrorCount(),
-                        entity.getWarnCount() + heatmap.getWarnCount(),
-                        entity.getInfoCount() + heatmap.getInfoCount(),
-                        heatmap.getAggregatedAt()
-                );
-                updatedCount++;
-            } else {
-                heatmapMetricsRepository.save(heatmap);
-                savedCount++;
-            }
+        int upserted = bulkUpsertExecutor.upsert(HEATMAP_UPSERT, heatmapMetrics);
+
+        log.info("{} HeatmapMetrics 저장 완료: {} cells", LOG_PREFIX, upserted);
+    }
+
+    /**
+     * 롤업 버킷 압축 (독립 트랜잭션)
+     * cutoff 이전에 시작한 source 단위 버킷을 상위 단위 버킷에 더하고 삭제
+     * 더하기와 삭제가 한 트랜잭션이므로 압축 도중 실패해도 중복/누락이 없음
+     *
+     * @return 압축(삭제)된 하위 버킷 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int compactRollups(Integer projectId, RollupGranularity source, LocalDateTime cutoff) {
+        RollupGranularity target = source.coarser();
+        if (target == null) {
+            return 0;
+        }
+
+        List<LogMetricsRollup> sourceBuckets = logMetricsRollupRepository
+                .findByProjectIdAndGranularityAndBucketStartBefore(projectId, source, cutoff);
+        if (sourceBuckets.isEmpty()) {
+            return 0;
+        }
+
+        List<LogMetricsRollup> merged = sourceBuckets.stream()
+                .map(bucket -> bucket.toCoarser(target))
+                .toList();
+        addRollups(merged);
+        logMetricsRollupRepository.deleteAllInBatch(sourceBuckets);
+
+        log.debug("{} 롤업 압축: projectId={}, {} -> {}, 하위버킷={}",
+                LOG_PREFIX, projectId, source, target, sourceBuckets.size());
+        return sourceBuckets.size();
+    }
+
+    /**
+     * 같은 단위/시작 시각의 버킷끼리 합친 뒤 기존 버킷에 누적 UPSERT
+     * (압축 시 여러 하위 버킷이 같은 상위 버킷으로 모이므로 행 수를 먼저 줄임)
+     */
+    private void addRollups(List<LogMetricsRollup> rollups) {
+        Map<String, LogMetricsRollup> merged = new LinkedHashMap<>();
+        for (LogMetricsRollup rollup : rollups) {
+            merged.merge(rollup.getGranularity() + "|" + rollup.getBucketStart(), rollup, (existing, added) -> {
+                existing.add(added);
+                return existing;
+            });
         }
 
-        log.info("{} HeatmapMetrics 저장 완료: 신규={}, 업데이트={}",
-                LOG_PREFIX, savedCount, updatedCount);
+        bulkUpsertExecutor.upsert(ROLLUP_UPSERT, merged.values());
     }
 
 }
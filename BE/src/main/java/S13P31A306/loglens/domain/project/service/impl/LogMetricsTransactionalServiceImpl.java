@@ -2,18 +2,23 @@ package S13P31A306.loglens.domain.project.service.impl;
 
 import S13P31A306.loglens.domain.project.entity.HeatmapMetrics;
 import S13P31A306.loglens.domain.project.entity.LogMetrics;
+import S13P31A306.loglens.domain.project.entity.LogMetricsRollup;
 import S13P31A306.loglens.domain.project.entity.Project;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
 import S13P31A306.loglens.domain.project.service.LogMetricsTransactionalService;
 import S13P31A306.loglens.global.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
-import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.CalendarInterval;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
 import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.CountRequest;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.json.JsonData;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
@@ -21,17 +26,38 @@ import java.util.*;
 
 import static S13P31A306.loglens.global.constants.GlobalErrorCode.OPENSEARCH_OPERATION_FAILED;
 
+/**
+ * 프로젝트 로그 메트릭 증분 집계
+ * - LogMetrics(레벨별 건수, 응답 시간 합), HeatmapMetrics(시간대별 레벨 건수),
+ *   LogMetricsRollup(분 단위 버킷)을 같은 필터의 한 번의 검색 요청으로 집계
+ * - 진단용 쿼리는 log-metrics.debug-query=true일 때만 실행
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LogMetricsTransactionalServiceImpl implements LogMetricsTransactionalService {
 
     private static final String LOG_PREFIX = "[LogMetricsTransactionalService]";
     private static final String DEFAULT_TIMEZONE = "Asia/Seoul";
-    private static final int HEATMAP_AGGREGATION_SIZE = 200;
+    private static final int LEVEL_TERMS_SIZE = 10;
 
     private final OpenSearchClient openSearchClient;
     private final LogMetricsTransactionHelper transactionHelper;
+    private final boolean debugQueryEnabled;
+    private final Duration minuteRollupWindow;
+    private final Duration hourRollupWindow;
+
+    public LogMetricsTransactionalServiceImpl(
+            OpenSearchClient openSearchClient,
+            LogMetricsTransactionHelper transactionHelper,
+            @Value("${log-metrics.debug-query:false}") boolean debugQueryEnabled,
+            @Value("${log-metrics.rollup.minute-window-hours:6}") long minuteWindowHours,
+            @Value("${log-metrics.rollup.hour-window-days:31}") long hourWindowDays) {
+        this.openSearchClient = openSearchClient;
+        this.transactionHelper = transactionHelper;
+        this.debugQueryEnabled = debugQueryEnabled;
+        this.minuteRollupWindow = Duration.ofHours(minuteWindowHours);
+        this.hourRollupWindow = Duration.ofDays(hourWindowDays);
+    }
 
 
     @Override
@@ -46,23 +72,22 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
         try {
             String indexPattern = getProjectIndexPattern(project.getProjectUuid());
 
-            // 🔍 디버깅: 쿼리 테스트
-            debugLogMetricsQuery(indexPattern, from, to);
-
-            // 1. LogMetrics 집계
-            SearchRequest logMetricsRequest = buildLogMetricsRequest(indexPattern, from, to);
-            SearchResponse<Void> logMetricsResponse = openSearchClient.search(logMetricsRequest, Void.class);
-            LogMetrics metrics = calculateCumulativeMetrics(logMetricsResponse, project, to, previous);
-
-            // 2. HeatmapMetrics 집계
-            SearchRequest heatmapRequest = buildHeatmapRequest(indexPattern, from, to, project.getId());
-            SearchResponse<Void> heatmapResponse = openSearchClient.search(heatmapRequest, Void.class);
+            // 진단용 쿼리 (명시적으로 켠 경우에만)
+            if (debugQueryEnabled) {
+                debugLogMetricsQuery(indexPattern, from, to);
+            }
 
-            log.info("{} HeatmapMetrics aggregation response received", LOG_PREFIX);
+            // 1. LogMetrics + HeatmapMetrics + 롤업 통합 집계 (한 번의 검색)
+            RollupGranularity rollupGranularity = resolveRollupGranularity(from, to);
+            SearchRequest metricsRequest = buildCombinedMetricsRequest(indexPattern, from, to, rollupGranularity);
+            SearchResponse<Void> metricsResponse = openSearchClient.search(metricsRequest, Void.class);
 
-            List<HeatmapMetrics> heatmapMetrics = calculateHeatmapMetrics(heatmapResponse, project, to);
+            // 2. 응답에서 각각 계산
+            LogMetrics metrics = calculateCumulativeMetrics(metricsResponse, project, to, previous);
+            List<HeatmapMetrics> heatmapMetrics = calculateHeatmapMetrics(metricsResponse, project, to);
+            List<LogMetricsRollup> rollups = calculateRollups(metricsResponse, project, rollupGranularity);
 
-            log.info("{} Calculated {} heatmap cells", LOG_PREFIX, heatmapMetrics.size());
+            log.debug("{} Calculated {} heatmap cells", LOG_PREFIX, heatmapMetrics.size());
 
             // 3. 독립적으로 저장
             boolean logMetricsSuccess = false;
@@ -81,12 +106,13 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
                 heatmapMetricsSuccess = true;
             }
 
-            // LogMetrics 저장
+            // LogMetrics + 롤업 저장 (같은 트랜잭션)
             if (metrics.getTotalLogs() > 0) {
                 try {
-                    transactionHelper.saveLogMetrics(metrics);
+                    transactionHelper.saveLogMetrics(metrics, rollups);
                     logMetricsSuccess = true;
-                    log.info("{} ✅ LogMetrics 저장 성공: totalLogs={}", LOG_PREFIX, metrics.getTotalLogs());
+                    log.info("{} ✅ LogMetrics 저장 성공: totalLogs={}, 롤업버킷={}({})",
+                            LOG_PREFIX, metrics.getTotalLogs(), rollups.size(), rollupGranularity);
                 } catch (Exception e) {
                     log.error("{} ❌ LogMetrics 저장 실패: projectId={}, totalLogs={}",
                             LOG_PREFIX, project.getId(), metrics.getTotalLogs(), e);
@@ -111,121 +137,123 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
     }
 
     /**
-     * OpenSearch 쿼리 직접 테스트 (디버깅용)
+     * OpenSearch 쿼리 직접 테스트 (디버깅용, log-metrics.debug-query=true일 때만 실행)
      */
     private void debugLogMetricsQuery(String indexPattern, LocalDateTime from, LocalDateTime to) {
         try {
-            log.info("{} ===== OpenSearch 쿼리 디버깅 =====", LOG_PREFIX);
-            log.info("{} Index: {}", LOG_PREFIX, indexPattern);
-            log.info("{} From: {}", LOG_PREFIX, from);
-            log.info("{} To: {}", LOG_PREFIX, to);
+            log.debug("{} ===== OpenSearch 쿼리 디버깅 =====", LOG_PREFIX);
+            log.debug("{} Index: {}, From: {}, To: {}", LOG_PREFIX, indexPattern, from, to);
 
             // 간단한 count 쿼리로 데이터 존재 확인
-            SearchRequest countRequest = SearchRequest.of(s -> s
+            CountRequest countRequest = CountRequest.of(c -> c
                     .index(indexPattern)
-                    .size(0)
-                    .trackTotalHits(t -> t.enabled(true))  // 10,000건 제한 해제
-                    .query(q -> q
-                            .range(r -> r
-                                    .field("timestamp")
-                                    .gte(JsonData.of(from.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
-                                    .lt(JsonData.of(to.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
-                            )
-                    )
+                    .query(buildTimeRangeQuery(from, to))
             );
 
-            log.info("{} 쿼리 완", LOG_PREFIX);
-
-            SearchResponse<Void> countResponse = openSearchClient.search(countRequest, Void.class);
-            long totalHits = countResponse.hits().total().value();
-            log.info("{} 해당 기간 총 문서 수: {}", LOG_PREFIX, totalHits);
+            long totalHits = openSearchClient.count(countRequest).count();
+            log.debug("{} 해당 기간 총 문서 수: {}", LOG_PREFIX, totalHits);
 
             if (totalHits == 0) {
-                log.warn("{} ⚠️ 해당 기간에 데이터가 없습니다!", LOG_PREFIX);
-                return;
+                log.debug("{} 해당 기간에 데이터가 없습니다", LOG_PREFIX);
             }
 
-            // 실제 집계 쿼리 테스트
-            SearchRequest testRequest = buildLogMetricsRequest(indexPattern, from, to);
-            SearchResponse<Void> testResponse = openSearchClient.search(testRequest, Void.class);
-
-            log.info("{} Aggregations 응답: {}", LOG_PREFIX,
-                    testResponse.aggregations() != null ? testResponse.aggregations().keySet() : "null");
-
         } catch (Exception e) {
             log.error("{} 쿼리 디버깅 실패", LOG_PREFIX, e);
         }
     }
 
-    private SearchRequest buildLogMetricsRequest(String indexPattern, LocalDateTime from, LocalDateTime to) {
+    /**
+     * 증분 구간 길이에 따른 롤업 버킷 단위
+     * 평소(5분 주기)에는 분 단위, 장시간 밀린 구간은 버킷 수를 줄이기 위해 시/일 단위로 바로 기록
+     */
+    private RollupGranularity resolveRollupGranularity(LocalDateTime from, LocalDateTime to) {
+        Duration window = Duration.between(from, to);
+        if (window.compareTo(minuteRollupWindow) <= 0) {
+            return RollupGranularity.MINUTE;
+        }
+        if (window.compareTo(hourRollupWindow) <= 0) {
+            return RollupGranularity.HOUR;
+        }
+        return RollupGranularity.DAY;
+    }
+
+    /**
+     * 통합 집계 요청
+     * - hits.total: 전체 로그 수 (정확히 집계)
+     * - by_level: 레벨별 건수
+     * - sum_response_time: 응답 시간 합
+     * - by_hour: 시간대별(1시간) 레벨 건수 (히트맵)
+     * - by_rollup: 롤업 버킷별 레벨/출처별 건수와 응답 시간 합
+     */
+    private SearchRequest buildCombinedMetricsRequest(
+            String indexPattern,
+            LocalDateTime from,
+            LocalDateTime to,
+            RollupGranularity rollupGranularity) {
         return SearchRequest.of(s -> s
                 .index(indexPattern)
                 .size(0)
-                .query(q -> q
-                        .range(r -> r
-                                .field("timestamp")
-                                .gte(JsonData.of(from.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
-                                .lt(JsonData.of(to.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
-                        )
-                )
-                .aggregations("total_logs", a -> a
-                        .valueCount(v -> v.field("_id"))
-                )
-                .aggregations("error_logs", a -> a
-                        .filter(f -> f
-                                .term(t -> t.field("log_level").value(FieldValue.of("ERROR")))
-                        )
-                        .aggregations("count", sub -> sub
-                                .valueCount(v -> v.field("_id"))
-                        )
-                )
-                .aggregations("warn_logs", a -> a
-                        .filter(f -> f
-                                .term(t -> t.field("log_level").value(FieldValue.of("WARN")))
-                        )
-                        .aggregations("count", sub -> sub
-                                .valueCount(v -> v.field("_id"))
-                        )
-                )
-                .aggregations("info_logs", a -> a
-                        .filter(f -> f
-                                .term(t -> t.field("log_level").value(FieldValue.of("INFO")))
-                        )
-                        .aggregations("count", sub -> sub
-                                .valueCount(v -> v.field("_id"))
-                        )
+                .trackTotalHits(t -> t.enabled(true))
+                .query(buildTimeRangeQuery(from, to))
+                .aggregations("by_level", a -> a
+                        .terms(t -> t.field("log_level").size(LEVEL_TERMS_SIZE))
                 )
                 .aggregations("sum_response_time", a -> a
                         .sum(sum -> sum.field("duration"))
                 )
-        );
-    }
-
-    private SearchRequest buildHeatmapRequest(String indexPattern, LocalDateTime from, LocalDateTime to, Integer projectId) {
-        return SearchRequest.of(s -> s
-                .index(indexPattern)
-                .size(0)
-                .query(q -> q
-                        .range(r -> r
+                .aggregations("by_hour", a -> a
+                        .dateHistogram(dh -> dh
                                 .field("timestamp")
-                                .gte(JsonData.of(from.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
-                                .lt(JsonData.of(to.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
+                                .fixedInterval(fi -> fi.time("1h"))
+                                .timeZone(DEFAULT_TIMEZONE)
+                                .format("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+                        )
+                        .aggregations("by_level", agg -> agg
+                                .terms(t -> t.field("log_level").size(LEVEL_TERMS_SIZE))
                         )
                 )
-                .aggregations("by_hour", a -> a
+                .aggregations("by_rollup", a -> a
                         .dateHistogram(dh -> dh
                                 .field("timestamp")
-                                .fixedInterval(fi -> fi.time("1h"))
+                                .calendarInterval(toCalendarInterval(rollupGranularity))
                                 .timeZone(DEFAULT_TIMEZONE)
+                                .minDocCount(1)
                                 .format("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
                         )
                         .aggregations("by_level", agg -> agg
-                                .terms(t -> t.field("log_level"))
+                                .terms(t -> t.field("log_level").size(LEVEL_TERMS_SIZE))
+                        )
+                        .aggregations("by_source_type", agg -> agg
+                                .terms(t -> t.field("source_type").size(LEVEL_TERMS_SIZE))
+                        )
+                        .aggregations("sum_response_time", agg -> agg
+                                .sum(sum -> sum.field("duration"))
                         )
                 )
         );
     }
 
+    private CalendarInterval toCalendarInterval(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> CalendarInterval.Minute;
+            case HOUR -> CalendarInterval.Hour;
+            case DAY -> CalendarInterval.Day;
+        };
+    }
+
+    /**
+     * 집계 구간 필터 [from, to)
+     */
+    private Query buildTimeRangeQuery(LocalDateTime from, LocalDateTime to) {
+        return Query.of(q -> q
+                .range(r -> r
+                        .field("timestamp")
+                        .gte(JsonData.of(from.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
+                        .lt(JsonData.of(to.atZone(ZoneId.of(DEFAULT_TIMEZONE)).toInstant().toString()))
+                )
+        );
+    }
+
     private List<HeatmapMetrics> calculateHeatmapMetrics(
             SearchResponse<Void> response,
             Project project,
@@ -245,7 +273,7 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
         }
 
         var buckets = byHour.dateHistogram().buckets().array();
-        log.info("{} Processing {} buckets from date_histogram", LOG_PREFIX, buckets.size());
+        log.debug("{} Processing {} buckets from date_histogram", LOG_PREFIX, buckets.size());
 
         for (var bucket : buckets) {
             try {
@@ -261,25 +289,16 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
 
                 int totalCount = (int) bucket.docCount();
 
-                Map<String, Integer> levelCounts = new HashMap<>();
-                Aggregate byLevel = bucket.aggregations().get("by_level");
-
-                if (byLevel != null && byLevel.sterms() != null) {
-                    for (var levelBucket : byLevel.sterms().buckets().array()) {
-                        String level = levelBucket.key();
-                        int count = (int) levelBucket.docCount();
-                        levelCounts.put(level, count);
-                    }
-                }
+                Map<String, Long> levelCounts = extractLevelCounts(bucket.aggregations().get("by_level"));
 
                 HeatmapMetrics heatmap = HeatmapMetrics.builder()
                         .project(project)
                         .date(date)
                         .hour(hour)
                         .totalCount(totalCount)
-                        .errorCount(levelCounts.getOrDefault("ERROR", 0))
-                        .warnCount(levelCounts.getOrDefault("WARN", 0))
-                        .infoCount(levelCounts.getOrDefault("INFO", 0))
+                        .errorCount(levelCounts.getOrDefault("ERROR", 0L).intValue())
+                        .warnCount(levelCounts.getOrDefault("WARN", 0L).intValue())
+                        .infoCount(levelCounts.getOrDefault("INFO", 0L).intValue())
                         .aggregatedAt(aggregatedAt)
                         .build();
 
@@ -296,7 +315,55 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
             }
         }
 
-        log.info("{} Successfully created {} HeatmapMetrics", LOG_PREFIX, result.size());
+        log.debug("{} Successfully created {} HeatmapMetrics", LOG_PREFIX, result.size());
+        return result;
+    }
+
+    /**
+     * by_rollup 버킷 → 롤업 증분 (bucket_start는 Asia/Seoul 기준)
+     */
+    private List<LogMetricsRollup> calculateRollups(
+            SearchResponse<Void> response,
+            Project project,
+            RollupGranularity granularity) {
+
+        List<LogMetricsRollup> result = new ArrayList<>();
+
+        Aggregate byRollup = response.aggregations().get("by_rollup");
+        if (Objects.isNull(byRollup) || !byRollup.isDateHistogram()) {
+            log.warn("{} by_rollup aggregation not found", LOG_PREFIX);
+            return result;
+        }
+
+        for (DateHistogramBucket bucket : byRollup.dateHistogram().buckets().array()) {
+            String keyAsString = bucket.keyAsString();
+            if (keyAsString == null) {
+                log.warn("{} keyAsString is null for rollup bucket, key: {}", LOG_PREFIX, bucket.key());
+                continue;
+            }
+
+            LocalDateTime bucketStart = ZonedDateTime.parse(keyAsString)
+                    .withZoneSameInstant(ZoneId.of(DEFAULT_TIMEZONE))
+                    .toLocalDateTime();
+            Map<String, Aggregate> subAggs = bucket.aggregations();
+            Map<String, Long> levelCounts = extractLevelCounts(subAggs.get("by_level"));
+            Map<String, Long> sourceTypeCounts = extractLevelCounts(subAggs.get("by_source_type"));
+
+            result.add(LogMetricsRollup.builder()
+                    .project(project)
+                    .granularity(granularity)
+                    .bucketStart(granularity.truncate(bucketStart))
+                    .totalLogs(bucket.docCount())
+                    .errorLogs(levelCounts.getOrDefault("ERROR", 0L))
+                    .warnLogs(levelCounts.getOrDefault("WARN", 0L))
+                    .infoLogs(levelCounts.getOrDefault("INFO", 0L))
+                    .feLogs(sourceTypeCounts.getOrDefault("FE", 0L))
+                    .beLogs(sourceTypeCounts.getOrDefault("BE", 0L))
+                    .sumResponseTime(extractSumValue(subAggs))
+                    .build());
+        }
+
+        log.debug("{} Created {} rollup buckets ({})", LOG_PREFIX, result.size(), granularity);
         return result;
     }
 
@@ -313,27 +380,14 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
 
         Map<String, Aggregate> aggs = response.aggregations();
 
-        // 🔍 디버깅: aggregation 전체 구조 확인
-        log.info("{} ===== Aggregation 디버깅 시작 =====", LOG_PREFIX);
-        log.info("{} Aggregations null 여부: {}", LOG_PREFIX, aggs == null);
-        if (aggs != null) {
-            log.info("{} Aggregations 개수: {}", LOG_PREFIX, aggs.size());
-            log.info("{} Aggregations keys: {}", LOG_PREFIX, aggs.keySet());
-
-            aggs.forEach((key, agg) -> {
-                log.info("{} Aggregation[{}] - isValueCount: {}, isFilter: {}, isSum: {}",
-                        LOG_PREFIX, key, agg.isValueCount(), agg.isFilter(), agg.isSum());
-            });
-        }
-        log.info("{} ===== Aggregation 디버깅 끝 =====", LOG_PREFIX);
-
-        long incrementalTotal = extractValueCount(aggs, "total_logs");
-        long incrementalErrors = extractNestedValueCount(aggs, "error_logs");
-        long incrementalWarns = extractNestedValueCount(aggs, "warn_logs");
-        long incrementalInfos = extractNestedValueCount(aggs, "info_logs");
+        long incrementalTotal = Objects.nonNull(response.hits().total()) ? response.hits().total().value() : 0L;
+        Map<String, Long> levelCounts = extractLevelCounts(aggs.get("by_level"));
+        long incrementalErrors = levelCounts.getOrDefault("ERROR", 0L);
+        long incrementalWarns = levelCounts.getOrDefault("WARN", 0L);
+        long incrementalInfos = levelCounts.getOrDefault("INFO", 0L);
         long incrementalSumResponseTime = extractSumValue(aggs);
 
-        log.info("{} 추출된 값들 - total: {}, error: {}, warn: {}, info: {}, sumResponseTime: {}",
+        log.debug("{} 추출된 값들 - total: {}, error: {}, warn: {}, info: {}, sumResponseTime: {}",
                 LOG_PREFIX, incrementalTotal, incrementalErrors, incrementalWarns,
                 incrementalInfos, incrementalSumResponseTime);
 
@@ -349,36 +403,26 @@ public class LogMetricsTransactionalServiceImpl implements LogMetricsTransaction
 
         return LogMetrics.builder()
                 .project(project)
-                .totalLogs((int) newTotalLogs)
-                .errorLogs((int) newErrorLogs)
-                .warnLogs((int) newWarnLogs)
-                .infoLogs((int) newInfoLogs)
+                .totalLogs(newTotalLogs)
+                .errorLogs(newErrorLogs)
+                .warnLogs(newWarnLogs)
+                .infoLogs(newInfoLogs)
                 .sumResponseTime(newSumResponseTime)
                 .avgResponseTime(newAvgResponseTime)
                 .aggregatedAt(aggregatedAt)
                 .build();
     }
 
-    private long extractValueCount(Map<String, Aggregate> aggregations, String aggName) {
-        Aggregate agg = aggregations.get(aggName);
-        if (agg != null && agg.isValueCount()) {
-            Double value = agg.valueCount().value();
-            if (value != null && !value.isNaN()) {
-                return value.longValue();
-            }
+    private Map<String, Long> extractLevelCounts(Aggregate byLevel) {
+        Map<String, Long> levelCounts = new HashMap<>();
+        if (Objects.isNull(byLevel) || !byLevel.isSterms()) {
+            log.warn("{} by_level aggregation not found or invalid type", LOG_PREFIX);
+            return levelCounts;
         }
-        log.warn("{} {} aggregation not found or invalid type", LOG_PREFIX, aggName);
-        return 0L;
-    }
-
-    private long extractNestedValueCount(Map<String, Aggregate> aggregations, String filterName) {
-        Aggregate filterAgg = aggregations.get(filterName);
-        if (filterAgg != null && filterAgg.isFilter()) {
-            Map<String, Aggregate> subAggs = filterAgg.filter().aggregations();
-            return extractValueCount(subAggs, "count");
+        for (StringTermsBucket bucket : byLevel.sterms().buckets().array()) {
+            levelCounts.put(bucket.key(), bucket.docCount());
         }
-        log.warn("{} {} filter aggregation not found", LOG_PREFIX, filterName);
-        return 0L;
+        return levelCounts;
     }
 
     private long extractSumValue(Map<String, Aggregate> aggregations) {
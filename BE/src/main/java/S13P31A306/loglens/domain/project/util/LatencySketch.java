@@ -0,0 +1,202 @@
+package S13P31A306.loglens.domain.project.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// @formatter:off
+/**
+ * 병합 가능한 응답 시간 분포 스케치 (로그 스케일 버킷, 상대 오차 1%)
+ * - 값 v는 ceil(log_γ(v)) 버킷에 누적 (γ = (1+α)/(1-α), α = 0.01)
+ * - 같은 α의 스케치끼리는 버킷 건수를 더하는 것만으로 정확히 병합되므로
+ *   시간 버킷별로 저장해 두고 임의 기간을 조회 시점에 합칠 수 있음
+ * - 직렬화: [버전][0 이하 건수][버킷 수][(인덱스 차이, 건수) ...] 가변 길이 정수 인코딩
+ */
+// @formatter:on
+public final class LatencySketch {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final double MIN_INDEXABLE_VALUE = 1e-3;
+
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    /**
+     * 값 하나를 weight건으로 추가
+     */
+    public void add(double value, long weight) {
+        if (weight <= 0 || Double.isNaN(value)) {
+            return;
+        }
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount += weight;
+        } else {
+            bins.merge(indexOf(value), weight, Long::sum);
+        }
+        count += weight;
+    }
+
+    /**
+     * 다른 스케치의 건수를 더함
+     */
+    public void merge(LatencySketch other) {
+        if (Objects.isNull(other)) {
+            return;
+        }
+        other.bins.forEach((index, binCount) -> bins.merge(index, binCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * OpenSearch percentiles 집계 결과(백분위 → 값)로부터 totalCount건의 분포를 근사하여 추가
+     * 인접한 두 백분위 사이 건수를 두 값의 중간값에 배치 (누적 반올림으로 총 건수는 정확히 유지)
+     *
+     * @param percentiles 백분위(0~100) → 응답 시간, 0과 100(최소/최대)을 포함하는 것을 권장
+     * @param totalCount  구간의 전체 건수
+     */
+    public void addPercentiles(Map<Double, Double> percentiles, long totalCount) {
+        TreeMap<Double, Double> knots = new TreeMap<>();
+        percentiles.forEach((percent, value) -> {
+            if (Objects.nonNull(percent) && Objects.nonNull(value) && !value.isNaN()) {
+                knots.put(Math.max(0.0, Math.min(100.0, percent)), value);
+            }
+        });
+        if (knots.isEmpty() || totalCount <= 0) {
+            return;
+        }
+        if (knots.size() == 1) {
+            add(knots.firstEntry().getValue(), totalCount);
+            return;
+        }
+
+        // 0~100 구간 바깥쪽은 가장 가까운 값으로 채움
+        knots.putIfAbsent(0.0, knots.firstEntry().getValue());
+        knots.putIfAbsent(100.0, knots.lastEntry().getValue());
+
+        Map.Entry<Double, Double> previous = null;
+        long assigned = 0;
+        for (Map.Entry<Double, Double> knot : knots.entrySet()) {
+            if (previous != null) {
+                long cumulative = Math.round(knot.getKey() / 100.0 * totalCount);
+                long weight = cumulative - assigned;
+                add((previous.getValue() + knot.getValue()) / 2.0, weight);
+                assigned = cumulative;
+            }
+            previous = knot;
+        }
+    }
+
+    /**
+     * 분위수 값 (q: 0~1), 비어 있으면 null
+     */
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(Math.max(0.0, Math.min(1.0, q)) * (count - 1));
+        if (rank < zeroCount) {
+            return 0.0;
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (seen > rank) {
+                return valueOf(bin.getKey());
+            }
+        }
+        return valueOf(bins.lastKey());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + bins.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, zeroCount);
+        writeVarLong(out, bins.size());
+        int previousIndex = 0;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            writeVarLong(out, zigZag(bin.getKey() - previousIndex));
+            writeVarLong(out, bin.getValue());
+            previousIndex = bin.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    public static LatencySketch fromBytes(byte[] bytes) {
+        LatencySketch sketch = new LatencySketch();
+        if (Objects.isNull(bytes) || bytes.length == 0) {
+            return sketch;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스케치 형식입니다: " + version);
+        }
+
+        sketch.zeroCount = readVarLong(buffer);
+        sketch.count = sketch.zeroCount;
+        long binCount = readVarLong(buffer);
+        int index = 0;
+        for (long i = 0; i < binCount; i++) {
+            index += (int) unZigZag(readVarLong(buffer));
+            long value = readVarLong(buffer);
+            sketch.bins.put(index, value);
+            sketch.count += value;
+        }
+        return sketch;
+    }
+
+    private static int indexOf(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    /**
+     * 버킷 대표값 - 버킷 경계 (γ^(i-1), γ^i]의 상대 오차 α 이내 값
+     */
+    private static double valueOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+}
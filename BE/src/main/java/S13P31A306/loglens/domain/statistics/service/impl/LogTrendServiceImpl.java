@@ -1,16 +1,21 @@
 package S13P31A306.loglens.domain.statistics.service.impl;
 
+import static S13P31A306.loglens.domain.statistics.constants.StatisticsConstants.DEFAULT_TIMEZONE;
 import static S13P31A306.loglens.domain.statistics.constants.StatisticsConstants.INTERVAL_HOURS;
 import static S13P31A306.loglens.domain.statistics.constants.StatisticsConstants.TREND_HOURS;
 
 import S13P31A306.loglens.domain.log.repository.LogRepository;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupBucket;
 import S13P31A306.loglens.domain.project.entity.Project;
+import S13P31A306.loglens.domain.project.service.LogMetricsRollupService;
 import S13P31A306.loglens.domain.statistics.dto.internal.LogTrendAggregation;
 import S13P31A306.loglens.domain.statistics.dto.response.LogTrendResponse;
 import S13P31A306.loglens.domain.statistics.mapper.LogTrendMapper;
 import S13P31A306.loglens.domain.statistics.service.LogTrendService;
 import S13P31A306.loglens.domain.statistics.validator.StatisticsValidator;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -28,6 +33,7 @@ public class LogTrendServiceImpl implements LogTrendService {
 
     private static final String LOG_PREFIX = "[LogTrendService]";
 
+    private final LogMetricsRollupService logMetricsRollupService;
     private final LogRepository logRepository;
     private final LogTrendMapper logTrendMapper;
     private final StatisticsValidator statisticsValidator;
@@ -46,13 +52,26 @@ public class LogTrendServiceImpl implements LogTrendService {
 
         log.debug("{} 조회 기간 (UTC): {} ~ {}", LOG_PREFIX, startTimeUtc, endTimeUtc);
 
-        // 3. OpenSearch 집계 조회
-        List<LogTrendAggregation> aggregations = logRepository.aggregateLogTrendByTimeRange(
-                projectUuid,
-                startTimeUtc,
-                endTimeUtc,
-                INTERVAL_HOURS + "h"
-        );
+        // 3. 롤업 버킷 조회 (롤업은 KST 기준이므로 범위를 변환, 결과 버킷 시각도 KST)
+        //    롤업 도입 이전 구간이 포함되면 OpenSearch 집계로 조회
+        List<LogTrendAggregation> aggregations;
+        if (logMetricsRollupService.covers(project.getId(), toKst(startTimeUtc))) {
+            aggregations = logMetricsRollupService.aggregateBuckets(
+                            project.getId(),
+                            toKst(startTimeUtc),
+                            toKst(endTimeUtc),
+                            Duration.ofHours(INTERVAL_HOURS)
+                    ).stream()
+                    .map(this::toAggregation)
+                    .toList();
+        } else {
+            aggregations = logRepository.aggregateLogTrendByTimeRange(
+                    projectUuid,
+                    startTimeUtc,
+                    endTimeUtc,
+                    INTERVAL_HOURS + "h"
+            );
+        }
 
         log.debug("{} 집계 결과: {}개 데이터 포인트", LOG_PREFIX, aggregations.size());
 
@@ -66,4 +85,27 @@ public class LogTrendServiceImpl implements LogTrendService {
 
         return response;
     }
+
+    private LogTrendAggregation toAggregation(LogMetricsRollupBucket bucket) {
+        return new LogTrendAggregation(
+                bucket.bucketStart(),
+                toCount(bucket.totalLogs()),
+                toCount(bucket.infoLogs()),
+                toCount(bucket.warnLogs()),
+                toCount(bucket.errorLogs())
+        );
+    }
+
+    private LocalDateTime toKst(LocalDateTime utc) {
+        return utc.atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.of(DEFAULT_TIMEZONE))
+                .toLocalDateTime();
+    }
+
+    /**
+     * 응답 DTO는 int이므로 구간 건수가 int 범위를 넘으면 최대값으로 제한
+     */
+    private int toCount(long count) {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
 }
@@ -0,0 +1,99 @@
+package S13P31A306.loglens.global.jdbc;
+
+import S13P31A306.loglens.global.jdbc.BulkUpsertSpec.Column;
+import S13P31A306.loglens.global.jdbc.BulkUpsertSpec.Mode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터베이스별 UPSERT SQL 생성
+ * - MYSQL: INSERT ... ON DUPLICATE KEY UPDATE (운영)
+ * - H2: MERGE INTO ... USING (VALUES ...) (개발/테스트, MODE=MySQL)
+ * 바인딩 순서는 두 방언 모두 spec.columns() 순서와 같음
+ */
+public enum BulkUpsertDialect {
+
+    MYSQL {
+        @Override
+        public <T> String render(BulkUpsertSpec<T> spec) {
+            List<String> updates = new ArrayList<>();
+            spec.columns(Mode.EXPRESSION).forEach(column -> updates.add(column.name() + " = "
+                    + renderExpression(column.expression(), name -> name, name -> "VALUES(" + name + ")")));
+            spec.columns(Mode.ADD).forEach(column -> updates.add(
+                    column.name() + " = " + column.name() + " + VALUES(" + column.name() + ")"));
+            spec.columns(Mode.REPLACE).forEach(column -> updates.add(
+                    column.name() + " = VALUES(" + column.name() + ")"));
+
+            return "INSERT INTO " + spec.table() + " (" + columnList(spec.columns(), "") + ")"
+                    + " VALUES (" + placeholders(spec.columns().size()) + ")"
+                    + " ON DUPLICATE KEY UPDATE " + String.join(", ", updates);
+        }
+    },
+
+    H2 {
+        @Override
+        public <T> String render(BulkUpsertSpec<T> spec) {
+            String on = spec.columns(Mode.KEY).stream()
+                    .map(column -> "t." + column.name() + " = s." + column.name())
+                    .collect(Collectors.joining(" AND "));
+
+            List<String> updates = new ArrayList<>();
+            spec.columns(Mode.EXPRESSION).forEach(column -> updates.add(column.name() + " = "
+                    + renderExpression(column.expression(), name -> "t." + name, name -> "s." + name)));
+            spec.columns(Mode.ADD).forEach(column -> updates.add(
+                    column.name() + " = t." + column.name() + " + s." + column.name()));
+            spec.columns(Mode.REPLACE).forEach(column -> updates.add(
+                    column.name() + " = s." + column.name()));
+
+            return "MERGE INTO " + spec.table() + " t"
+                    + " USING (VALUES (" + placeholders(spec.columns().size()) + "))"
+                    + " s (" + columnList(spec.columns(), "") + ")"
+                    + " ON " + on
+                    + (updates.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + String.join(", ", updates))
+                    + " WHEN NOT MATCHED THEN INSERT (" + columnList(spec.columns(), "") + ")"
+                    + " VALUES (" + columnList(spec.columns(), "s.") + ")";
+        }
+    };
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(new\\.)?([^}]+)}");
+
+    public abstract <T> String render(BulkUpsertSpec<T> spec);
+
+    /**
+     * JDBC DatabaseMetaData의 제품명으로 방언 선택 (MySQL/MariaDB 외에는 H2로 간주)
+     */
+    public static BulkUpsertDialect fromProductName(String productName) {
+        String name = productName == null ? "" : productName.toLowerCase();
+        return name.contains("mysql") || name.contains("mariadb") ? MYSQL : H2;
+    }
+
+    private static String renderExpression(
+            String expression,
+            UnaryOperator<String> current,
+            UnaryOperator<String> incoming) {
+        Matcher matcher = PLACEHOLDER.matcher(expression);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(2);
+            String replacement = matcher.group(1) != null ? incoming.apply(name) : current.apply(name);
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static <T> String columnList(List<Column<T>> columns, String prefix) {
+        return columns.stream()
+                .map(column -> prefix + column.name())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
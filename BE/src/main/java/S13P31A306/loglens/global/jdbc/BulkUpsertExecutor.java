@@ -0,0 +1,87 @@
+package S13P31A306.loglens.global.jdbc;
+
+import S13P31A306.loglens.global.jdbc.BulkUpsertSpec.Column;
+import java.sql.DatabaseMetaData;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 자연 키 기반 일괄 UPSERT 실행기
+ * - 행마다 SELECT 후 INSERT/UPDATE 하던 경로를 JDBC 배치 한 번으로 대체
+ * - MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE로 실행
+ * - JdbcTemplate을 사용하므로 호출 측 @Transactional(JPA 트랜잭션)에 그대로 참여
+ * - MySQL에서 다중 행 INSERT로 합쳐지려면 접속 URL에 rewriteBatchedStatements=true 필요
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class BulkUpsertExecutor {
+
+    private static final String LOG_PREFIX = "[BulkUpsertExecutor]";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final Map<BulkUpsertSpec<?>, String> sqlCache = new ConcurrentHashMap<>();
+
+    private volatile BulkUpsertDialect dialect;
+
+    public BulkUpsertExecutor(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            @Value("${jdbc.bulk-upsert.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * rows를 batch-size 단위 JDBC 배치로 UPSERT
+     * 같은 키가 rows 안에 중복되면 순서대로 누적/덮어쓰기 됨
+     *
+     * @return 처리한 행 수
+     */
+    public <T> int upsert(BulkUpsertSpec<T> spec, Collection<T> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        String sql = sqlCache.computeIfAbsent(spec, key -> resolveDialect().render(spec));
+        List<Column<T>> columns = spec.columns();
+
+        jdbcTemplate.batchUpdate(sql, List.copyOf(rows), batchSize, (ps, row) -> {
+            for (int i = 0; i < columns.size(); i++) {
+                ps.setObject(i + 1, columns.get(i).extractor().apply(row));
+            }
+        });
+
+        log.debug("{} UPSERT 완료: table={}, rows={}", LOG_PREFIX, spec.table(), rows.size());
+        return rows.size();
+    }
+
+    private BulkUpsertDialect resolveDialect() {
+        BulkUpsertDialect resolved = dialect;
+        if (resolved == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(
+                        dataSource, DatabaseMetaData::getDatabaseProductName);
+                resolved = BulkUpsertDialect.fromProductName(productName);
+                log.info("{} UPSERT 방언 결정: product={}, dialect={}", LOG_PREFIX, productName, resolved);
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException("데이터베이스 종류를 확인할 수 없습니다", e);
+            }
+            dialect = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,103 @@
+package S13P31A306.loglens.global.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// @formatter:off
+/**
+ * 자연 키 기반 일괄 UPSERT 정의
+ * - key: 유니크 제약 컬럼 (충돌 판정 기준)
+ * - add: 기존 값에 더하는 카운터 컬럼
+ * - replace: 새 값으로 덮어쓰는 컬럼
+ * - insertOnly: 신규 행에만 쓰는 컬럼
+ * - expression: 직접 작성한 갱신식. {col}은 기존 값, {new.col}은 이번에 넣으려던 값
+ *   (MySQL은 갱신식을 왼쪽부터 적용하므로 expression이 add/replace보다 먼저 적용됨)
+ * 컬럼명은 SQL에 그대로 들어가므로 예약어는 백틱으로 감싸서 전달 (예: `hour`)
+ */
+// @formatter:on
+public final class BulkUpsertSpec<T> {
+
+    /**
+     * 충돌 시 컬럼 처리 방식
+     */
+    public enum Mode { KEY, ADD, REPLACE, INSERT_ONLY, EXPRESSION }
+
+    public record Column<T>(String name, Mode mode, Function<T, Object> extractor, String expression) {
+    }
+
+    private final String table;
+    private final List<Column<T>> columns;
+
+    private BulkUpsertSpec(String table, List<Column<T>> columns) {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+    }
+
+    public static <T> Builder<T> builder(String table) {
+        return new Builder<>(table);
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public List<Column<T>> columns() {
+        return columns;
+    }
+
+    public List<Column<T>> columns(Mode mode) {
+        return columns.stream().filter(column -> column.mode() == mode).toList();
+    }
+
+    public static final class Builder<T> {
+
+        private final String table;
+        private final List<Column<T>> columns = new ArrayList<>();
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        public Builder<T> key(String column, Function<T, Object> extractor) {
+            return column(column, Mode.KEY, extractor, null);
+        }
+
+        public Builder<T> add(String column, Function<T, Object> extractor) {
+            return column(column, Mode.ADD, extractor, null);
+        }
+
+        public Builder<T> replace(String column, Function<T, Object> extractor) {
+            return column(column, Mode.REPLACE, extractor, null);
+        }
+
+        public Builder<T> insertOnly(String column, Function<T, Object> extractor) {
+            return column(column, Mode.INSERT_ONLY, extractor, null);
+        }
+
+        public Builder<T> expression(String column, Function<T, Object> extractor, String expression) {
+            return column(column, Mode.EXPRESSION, extractor, expression);
+        }
+
+        /**
+         * BaseTimeEntity 컬럼 (JDBC 경로는 JPA Auditing을 거치지 않으므로 실행 시각으로 채움)
+         */
+        public Builder<T> auditColumns() {
+            insertOnly("created_at", row -> LocalDateTime.now());
+            return replace("updated_at", row -> LocalDateTime.now());
+        }
+
+        private Builder<T> column(String column, Mode mode, Function<T, Object> extractor, String expression) {
+            columns.add(new Column<>(column, mode, extractor, expression));
+            return this;
+        }
+
+        public BulkUpsertSpec<T> build() {
+            if (columns.stream().noneMatch(column -> column.mode() == Mode.KEY)) {
+                throw new IllegalStateException("UPSERT 키 컬럼이 없습니다: " + table);
+            }
+            return new BulkUpsertSpec<>(table, columns);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package S13P31A306.loglens.global.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 메트릭/알림 스케줄러 공용 프로젝트 배치 실행기
+ * - 스케줄러(batchName)별 전용 스레드 풀(크기 = concurrency)에서 실행하여 다른 스케줄러의 작업 때문에 대기하지 않음
+ * - 대상별 제한 시간은 작업 스레드가 실제로 시작할 때부터 측정하며, 넘기면 인터럽트하여
+ *   느린 프로젝트가 나머지 프로젝트를 막지 않도록 함 (작업이 끝나면 제한 시간 타이머도 취소)
+ *   (동시 실행 슬롯은 작업이 실제로 끝날 때 반환하므로 인터럽트를 무시하는 작업이 있어도 concurrency를 넘지 않음)
+ * - 실행 제한 시간 안에 시작하지 못한 대상은 건너뛰고, 다음 실행에서 가장 먼저 처리 (마지막 처리 시작 시각 오름차순)
+ *   처리 시각 기록은 이번 실행 대상에 없는 key(삭제되었거나 다른 인스턴스로 넘어간 프로젝트)를 제거하여 크기를 제한
+ * - 실행 시간, 대상별 처리 결과를 Micrometer 지표로 기록
+ *   · loglens.scheduler.batch.duration{batch}
+ *   · loglens.scheduler.batch.projects{batch, outcome=success|idle|failure|timeout|skipped}
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class ProjectBatchExecutor {
+
+    private static final String LOG_PREFIX = "[ProjectBatchExecutor]";
+    private static final String THREAD_NAME_PREFIX = "project-batch-";
+    private static final String DURATION_METRIC = "loglens.scheduler.batch.duration";
+    private static final String PROJECTS_METRIC = "loglens.scheduler.batch.projects";
+
+    // batchName → 전용 작업 스레드 풀
+    private final Map<String, ExecutorService> workers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timeoutWatcher;
+    private final MeterRegistry meterRegistry;
+
+    // batchName → (대상 key → 마지막 처리 시작 시각)
+    private final Map<String, Map<String, Instant>> lastProcessed = new ConcurrentHashMap<>();
+
+    public ProjectBatchExecutor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutWatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, THREAD_NAME_PREFIX + "timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 대상 목록을 제한된 병렬도로 처리하고, 모든 대상이 끝날 때까지 대기
+     *
+     * @param batchName 스케줄러 이름 (지표 태그, 처리 순서 기록 단위)
+     * @param items     처리 대상 목록
+     * @param keyMapper 대상 식별 키 (처리 순서 기록용)
+     * @param task      대상별 작업
+     * @param options   동시 실행 수 및 제한 시간
+     * @return 실행 결과
+     */
+    public <T> ProjectBatchResult run(
+            String batchName,
+            List<T> items,
+            Function<T, String> keyMapper,
+            ProjectBatchTask<T> task,
+            ProjectBatchOptions options) {
+
+        long startNanos = System.nanoTime();
+        Instant runDeadline = Instant.now().plus(options.runTimeout());
+        Map<String, Instant> history = lastProcessed.computeIfAbsent(batchName, name -> new ConcurrentHashMap<>());
+        Semaphore slots = new Semaphore(options.concurrency());
+        ExecutorService batchWorkers = workers.computeIfAbsent(batchName,
+                name -> Executors.newFixedThreadPool(options.concurrency(), new BatchThreadFactory(name)));
+        long projectTimeoutMs = options.projectTimeout().toMillis();
+
+        // 0. 이번 실행 대상에 없는 key 기록 제거
+        Set<String> keys = items.stream().map(keyMapper).collect(Collectors.toSet());
+        history.keySet().retainAll(keys);
+
+        // 1. 공정 순서: 한 번도 처리되지 않았거나 가장 오래전에 처리된 대상부터
+        List<T> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparing(item -> history.getOrDefault(keyMapper.apply(item), Instant.EPOCH)));
+
+        // 2. 동시 실행 수 안에서 순서대로 시작 (실행 제한 시간을 넘기면 나머지는 건너뜀)
+        List<FutureTask<Boolean>> started = new ArrayList<>();
+        int skipped = 0;
+        for (T item : ordered) {
+            if (!acquire(slots, runDeadline)) {
+                skipped = ordered.size() - started.size();
+                break;
+            }
+            String key = keyMapper.apply(item);
+            // 슬롯은 작업 스레드가 작업을 마칠 때 반환 (cancel 시점에 반환하면 인터럽트를 무시한 작업과 다음 작업이 겹침)
+            // 시작 전에 취소된 작업은 done()에서 반환
+            // 처리 시각과 제한 시간은 작업 스레드가 실제로 시작할 때 기록하여, 대기 중 취소된 대상이 처리된 것으로 남지 않도록 함
+            AtomicBoolean claimed = new AtomicBoolean();
+            AtomicReference<FutureTask<Boolean>> self = new AtomicReference<>();
+            FutureTask<Boolean> future = new FutureTask<>(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return false;
+                }
+                history.put(key, Instant.now());
+                ScheduledFuture<?> watchdog = timeoutWatcher.schedule(() -> self.get().cancel(true),
+                        projectTimeoutMs, TimeUnit.MILLISECONDS);
+                try {
+                    return task.process(item);
+                } finally {
+                    watchdog.cancel(false);
+                    slots.release();
+                }
+            }) {
+                @Override
+                protected void done() {
+                    if (claimed.compareAndSet(false, true)) {
+                        slots.release();
+                    }
+                }
+            };
+            self.set(future);
+            started.add(future);
+            batchWorkers.execute(future);
+        }
+
+        // 3. 시작된 대상의 결과 수집 (전용 풀에서 바로 시작되고 시작 후 제한 시간이 지나면 취소되므로 무한 대기하지 않음)
+        int succeeded = 0;
+        int idle = 0;
+        int failed = 0;
+        int timedOut = 0;
+        for (FutureTask<Boolean> future : started) {
+            try {
+                if (Boolean.TRUE.equals(future.get())) {
+                    succeeded++;
+                } else {
+                    idle++;
+                }
+            } catch (CancellationException e) {
+                timedOut++;
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("{} 대상 처리 실패: batch={}", LOG_PREFIX, batchName, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                started.forEach(remaining -> remaining.cancel(true));
+                break;
+            }
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        ProjectBatchResult result = new ProjectBatchResult(
+                items.size(), succeeded, idle, failed, timedOut, skipped, elapsedMs);
+        record(batchName, result);
+
+        if (timedOut > 0 || skipped > 0) {
+            log.warn("{} 배치 지연: batch={}, 제한시간초과={}, 다음실행으로미룸={}",
+                    LOG_PREFIX, batchName, timedOut, skipped);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.values().forEach(ExecutorService::shutdownNow);
+        timeoutWatcher.shutdownNow();
+    }
+
+    private boolean acquire(Semaphore slots, Instant runDeadline) {
+        long remainingMs = Duration.between(Instant.now(), runDeadline).toMillis();
+        if (remainingMs <= 0) {
+            return false;
+        }
+        try {
+            return slots.tryAcquire(remainingMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String batchName, ProjectBatchResult result) {
+        Timer.builder(DURATION_METRIC)
+                .description("프로젝트 배치 1회 실행 시간")
+                .tag("batch", batchName)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(result.elapsedMs()));
+        increment(batchName, "success", result.succeeded());
+        increment(batchName, "idle", result.idle());
+        increment(batchName, "failure", result.failed());
+        increment(batchName, "timeout", result.timedOut());
+        increment(batchName, "skipped", result.skipped());
+    }
+
+    private void increment(String batchName, String outcome, int amount) {
+        Counter.builder(PROJECTS_METRIC)
+                .description("프로젝트 배치 대상별 처리 결과")
+                .tag("batch", batchName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    /**
+     * 배치 작업 스레드 팩토리 스레드 이름을 "project-batch-{batchName}-{번호}" 형식으로 지정
+     */
+    private static class BatchThreadFactory implements ThreadFactory {
+        private final String batchName;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        BatchThreadFactory(String batchName) {
+            this.batchName = batchName;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, THREAD_NAME_PREFIX + batchName + "-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
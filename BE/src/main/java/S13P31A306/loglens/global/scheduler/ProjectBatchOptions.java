@@ -0,0 +1,25 @@
+package S13P31A306.loglens.global.scheduler;
+
+import java.time.Duration;
+
+/**
+ * 스케줄러별 프로젝트 배치 실행 옵션
+ *
+ * @param concurrency    동시에 처리할 최대 대상 수 (스케줄러 전용 스레드 풀 크기)
+ * @param projectTimeout 대상 하나의 최대 처리 시간 (작업 스레드가 시작한 시점부터, 초과 시 인터럽트)
+ * @param runTimeout     한 번의 실행에서 새 대상 처리를 시작할 수 있는 최대 시간 (초과 시 나머지는 다음 실행으로 미룸)
+ */
+public record ProjectBatchOptions(
+        int concurrency,
+        Duration projectTimeout,
+        Duration runTimeout
+) {
+
+    public static ProjectBatchOptions of(int concurrency, long projectTimeoutSeconds, long runTimeoutSeconds) {
+        return new ProjectBatchOptions(
+                Math.max(1, concurrency),
+                Duration.ofSeconds(projectTimeoutSeconds),
+                Duration.ofSeconds(runTimeoutSeconds)
+        );
+    }
+}
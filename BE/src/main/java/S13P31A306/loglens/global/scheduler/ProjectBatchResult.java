@@ -0,0 +1,23 @@
+package S13P31A306.loglens.global.scheduler;
+
+/**
+ * 프로젝트 배치 실행 결과
+ *
+ * @param total     전체 대상 수
+ * @param succeeded 처리 완료 수
+ * @param idle      처리할 내용이 없어 건너뛴 수
+ * @param failed    예외로 실패한 수
+ * @param timedOut  대상별 제한 시간을 넘겨 중단된 수
+ * @param skipped   실행 제한 시간 안에 시작하지 못해 다음 실행으로 미룬 수
+ * @param elapsedMs 실행 소요 시간 (ms)
+ */
+public record ProjectBatchResult(
+        int total,
+        int succeeded,
+        int idle,
+        int failed,
+        int timedOut,
+        int skipped,
+        long elapsedMs
+) {
+}
@@ -0,0 +1,18 @@
+package S13P31A306.loglens.global.scheduler;
+
+/**
+ * 프로젝트 배치 단위 작업
+ *
+ * @param <T> 처리 대상 (프로젝트 등)
+ */
+@FunctionalInterface
+public interface ProjectBatchTask<T> {
+
+    /**
+     * 대상 하나 처리
+     *
+     * @param item 처리 대상
+     * @return 실제로 처리했으면 true, 처리할 내용이 없어 건너뛰었으면 false
+     */
+    boolean process(T item) throws Exception;
+}
@@ -0,0 +1,137 @@
+package S13P31A306.loglens.global.scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 여러 BE 인스턴스 간 스케줄러 대상 분배기
+ * - 살아 있는 멤버로 만든 일관된 해시 링에서 이 인스턴스가 담당하는 대상만 선택
+ * - 멤버 변경 직후 인스턴스마다 링이 잠시 다를 수 있으므로, 대상별 임대(SET NX PX)를 얻은 경우에만 처리
+ *   · 키: loglens:scheduler:lease:{batchName}:{대상 key}
+ *   · 임대는 처리 후에도 해제하지 않고 만료시켜 같은 주기에 다른 인스턴스가 다시 처리하지 않도록 함
+ *   · 따라서 임대 시간은 스케줄 주기보다 짧아야 함 (스케줄러는 실행 제한 시간을 사용)
+ * - Redis 오류 시에는 링 배정만으로 처리 (임대 없이 진행)
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class ProjectShardCoordinator {
+
+    private static final String LOG_PREFIX = "[ProjectShardCoordinator]";
+    private static final String LEASE_KEY_PREFIX = "loglens:scheduler:lease:";
+
+    private final SchedulerMembership membership;
+    private final StringRedisTemplate redisTemplate;
+    private final int virtualNodes;
+
+    private volatile ConsistentHashRing ring;
+    private volatile long ringVersion = -1;
+
+    public ProjectShardCoordinator(
+            SchedulerMembership membership,
+            StringRedisTemplate redisTemplate,
+            @Value("${scheduler.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.membership = membership;
+        this.redisTemplate = redisTemplate;
+        this.virtualNodes = Math.max(1, virtualNodes);
+    }
+
+    /**
+     * 이번 주기에 이 인스턴스가 처리할 대상 선택 (담당 + 임대 획득)
+     *
+     * @param batchName 스케줄러 이름 (임대 키 구분)
+     * @param items     전체 대상 목록
+     * @param keyMapper 대상 식별 키 (해시 및 임대 키)
+     * @param leaseTtl  임대 시간 (스케줄 주기보다 짧게)
+     * @return 이 인스턴스가 처리할 대상 목록 (입력 순서 유지)
+     */
+    public <T> List<T> claim(String batchName, List<T> items, Function<T, String> keyMapper, Duration leaseTtl) {
+        if (!membership.isEnabled() || items.isEmpty()) {
+            return items;
+        }
+
+        List<T> owned = items.stream()
+                .filter(item -> owns(keyMapper.apply(item)))
+                .toList();
+        if (owned.isEmpty()) {
+            return owned;
+        }
+
+        List<T> claimed;
+        try {
+            claimed = acquireLeases(batchName, owned, keyMapper, leaseTtl);
+        } catch (Exception e) {
+            log.warn("{} 임대 획득 실패 - 담당 대상만으로 진행: batch={}, {}", LOG_PREFIX, batchName, e.getMessage());
+            claimed = owned;
+        }
+
+        log.debug("{} 대상 분배: batch={}, 전체={}, 담당={}, 처리={}, 멤버={}",
+                LOG_PREFIX, batchName, items.size(), owned.size(), claimed.size(), currentRing().getMembers().size());
+        return claimed;
+    }
+
+    /**
+     * 대상 key를 이 인스턴스가 담당하는지 여부
+     */
+    public boolean owns(String key) {
+        if (!membership.isEnabled()) {
+            return true;
+        }
+        return membership.getInstanceId().equals(currentRing().ownerOf(key));
+    }
+
+    /**
+     * 멤버 구성 버전 (바뀌면 담당 대상이 재분배된 것)
+     */
+    public long getMembershipVersion() {
+        return membership.getVersion();
+    }
+
+    private ConsistentHashRing currentRing() {
+        long version = membership.getVersion();
+        if (ring == null || ringVersion != version) {
+            synchronized (this) {
+                if (ring == null || ringVersion != version) {
+                    ring = new ConsistentHashRing(membership.getLiveMembers(), virtualNodes);
+                    ringVersion = version;
+                }
+            }
+        }
+        return ring;
+    }
+
+    /**
+     * 담당 대상의 임대를 파이프라인 한 번으로 요청
+     */
+    private <T> List<T> acquireLeases(String batchName, List<T> owned, Function<T, String> keyMapper, Duration leaseTtl) {
+        byte[] value = membership.getInstanceId().getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.milliseconds(leaseTtl.toMillis());
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (T item : owned) {
+                byte[] key = (LEASE_KEY_PREFIX + batchName + ":" + keyMapper.apply(item)).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().set(key, value, expiration, SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+
+        List<T> claimed = new ArrayList<>(owned.size());
+        for (int i = 0; i < owned.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                claimed.add(owned.get(i));
+            }
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,147 @@
+package S13P31A306.loglens.global.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// @formatter:off
+/**
+ * 스케줄러 클러스터 멤버십 (Redis)
+ * - 각 인스턴스가 주기적으로 Redis sorted set에 (인스턴스 ID, 만료 시각)을 기록
+ * - 만료 시각이 지나지 않은 인스턴스를 살아 있는 멤버로 보고, 멤버가 바뀌면 버전을 올려 재분배를 알림
+ * - 배치 실행이 기본 스케줄러 스레드를 오래 점유하므로 하트비트는 전용 스레드에서 실행
+ * - Redis에 접근할 수 없으면 자기 자신만 멤버로 간주 (중복 처리가 누락보다 낫다고 판단)
+ */
+// @formatter:on
+@Slf4j
+@Component
+public class SchedulerMembership {
+
+    private static final String LOG_PREFIX = "[SchedulerMembership]";
+    private static final String MEMBERS_KEY = "loglens:scheduler:members";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String instanceId;
+    private final long heartbeatIntervalMs;
+    private final long memberTtlMs;
+    private final ScheduledExecutorService heartbeat;
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile List<String> liveMembers;
+
+    public SchedulerMembership(
+            StringRedisTemplate redisTemplate,
+            @Value("${scheduler.cluster.enabled:true}") boolean enabled,
+            @Value("${scheduler.cluster.instance-id:}") String instanceId,
+            @Value("${scheduler.cluster.heartbeat-interval-ms:5000}") long heartbeatIntervalMs,
+            @Value("${scheduler.cluster.member-ttl-ms:15000}") long memberTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.memberTtlMs = memberTtlMs;
+        this.liveMembers = List.of(this.instanceId);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "scheduler-membership");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("{} 클러스터 스케줄링 비활성화: 모든 대상을 이 인스턴스에서 처리합니다", LOG_PREFIX);
+            return;
+        }
+        beat();
+        heartbeat.scheduleWithFixedDelay(this::beat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("{} 클러스터 스케줄링 참여: instanceId={}", LOG_PREFIX, instanceId);
+    }
+
+    /**
+     * 종료 시 멤버에서 즉시 제거하여 남은 인스턴스가 만료를 기다리지 않고 재분배하도록 함
+     */
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        } catch (Exception e) {
+            log.warn("{} 멤버 제거 실패: instanceId={}", LOG_PREFIX, instanceId, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 살아 있는 멤버 목록 (정렬됨, 항상 자기 자신 포함)
+     */
+    public List<String> getLiveMembers() {
+        return liveMembers;
+    }
+
+    /**
+     * 멤버 구성이 바뀔 때마다 증가하는 버전
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    private void beat() {
+        List<String> members;
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, instanceId, now + memberTtlMs);
+            redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, now);
+            Set<String> alive = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now, Double.MAX_VALUE);
+            members = new ArrayList<>(Objects.isNull(alive) ? Set.of() : alive);
+            if (!members.contains(instanceId)) {
+                members.add(instanceId);
+            }
+        } catch (Exception e) {
+            log.warn("{} 하트비트 실패 - 단독 실행으로 전환: {}", LOG_PREFIX, e.getMessage());
+            members = new ArrayList<>(List.of(instanceId));
+        }
+
+        members.sort(null);
+        if (!members.equals(liveMembers)) {
+            log.info("{} 멤버 변경 - 재분배: {} -> {}", LOG_PREFIX, liveMembers, members);
+            liveMembers = List.copyOf(members);
+            version.incrementAndGet();
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,5 +1,6 @@
 package S13P31A306.loglens.domain.alert.controller.impl;
 
+import S13P31A306.loglens.domain.alert.dto.AlertHistoryPageResponse;
 import S13P31A306.loglens.domain.alert.dto.AlertHistoryResponse;
 import S13P31A306.loglens.domain.alert.exception.AlertErrorCode;
 import S13P31A306.loglens.domain.alert.service.AlertHistoryService;
@@ -80,8 +81,8 @@ class AlertHistoryControllerTest {
                     createAlertHistoryResponse(2, "Y", "WARN", "trace-def-456")
             );
 
-            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null)))
-                    .willReturn(responses);
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(null), eq(null)))
+                    .willReturn(new AlertHistoryPageResponse(responses, null, false, 20));
 
             // when & then
             mockMvc.perform(get("/api/alerts/histories")
@@ -89,18 +90,20 @@ class AlertHistoryControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.code").value(ALERT_HISTORIES_RETRIEVED.getCode()))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(2))
-                    .andExpect(jsonPath("$.data[0].id").value(1))
-                    .andExpect(jsonPath("$.data[0].resolvedYN").value("N"))
-                    .andExpect(jsonPath("$.data[0].alertLevel").value("ERROR"))
-                    .andExpect(jsonPath("$.data[0].traceId").value("trace-abc-123"))
-                    .andExpect(jsonPath("$.data[1].id").value(2))
-                    .andExpect(jsonPath("$.data[1].resolvedYN").value("Y"))
-                    .andExpect(jsonPath("$.data[1].alertLevel").value("WARN"))
-                    .andExpect(jsonPath("$.data[1].traceId").value("trace-def-456"));
-
-            verify(alertHistoryService).getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null));
+                    .andExpect(jsonPath("$.data.content").isArray())
+                    .andExpect(jsonPath("$.data.content.length()").value(2))
+                    .andExpect(jsonPath("$.data.content[0].id").value(1))
+                    .andExpect(jsonPath("$.data.content[0].resolvedYN").value("N"))
+                    .andExpect(jsonPath("$.data.content[0].alertLevel").value("ERROR"))
+                    .andExpect(jsonPath("$.data.content[0].traceId").value("trace-abc-123"))
+                    .andExpect(jsonPath("$.data.content[1].id").value(2))
+                    .andExpect(jsonPath("$.data.content[1].resolvedYN").value("Y"))
+                    .andExpect(jsonPath("$.data.content[1].alertLevel").value("WARN"))
+                    .andExpect(jsonPath("$.data.content[1].traceId").value("trace-def-456"))
+                    .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                    .andExpect(jsonPath("$.data.hasNext").value(false));
+
+            verify(alertHistoryService).getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(null), eq(null));
         }
 
         @Test
@@ -111,8 +114,8 @@ class AlertHistoryControllerTest {
                     createAlertHistoryResponse(1, "N", "ERROR", "trace-unread-123")
             );
 
-            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq("N")))
-                    .willReturn(responses);
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq("N"), eq(null), eq(null)))
+                    .willReturn(new AlertHistoryPageResponse(responses, null, false, 20));
 
             // when & then
             mockMvc.perform(get("/api/alerts/histories")
@@ -121,19 +124,51 @@ class AlertHistoryControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.code").value(ALERT_HISTORIES_RETRIEVED.getCode()))
-                    .andExpect(jsonPath("$.data.length()").value(1))
-                    .andExpect(jsonPath("$.data[0].resolvedYN").value("N"))
-                    .andExpect(jsonPath("$.data[0].alertLevel").value("ERROR"));
+                    .andExpect(jsonPath("$.data.content.length()").value(1))
+                    .andExpect(jsonPath("$.data.content[0].resolvedYN").value("N"))
+                    .andExpect(jsonPath("$.data.content[0].alertLevel").value("ERROR"));
 
-            verify(alertHistoryService).getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq("N"));
+            verify(alertHistoryService).getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq("N"), eq(null), eq(null));
+        }
+
+        @Test
+        @DisplayName("GET_/api/alerts/histories_커서와_크기를_서비스에_전달하고_다음_커서를_반환한다")
+        void GET_커서_페이지_조회_성공() throws Exception {
+            // given
+            String cursor = "MjAyNS0xMS0xMlQxMzoyNTowMHwxMg";
+            String nextCursor = "MjAyNS0xMS0xMlQxMzoyMDowMHwxMA";
+            List<AlertHistoryResponse> responses = Arrays.asList(
+                    createAlertHistoryResponse(11, "N", "ERROR", "trace-page-11"),
+                    createAlertHistoryResponse(10, "Y", "WARN", "trace-page-10")
+            );
+
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(cursor), eq(2)))
+                    .willReturn(new AlertHistoryPageResponse(responses, nextCursor, true, 2));
+
+            // when & then
+            mockMvc.perform(get("/api/alerts/histories")
+                            .param("projectUuid", PROJECT_UUID)
+                            .param("cursor", cursor)
+                            .param("size", "2"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value(ALERT_HISTORIES_RETRIEVED.getCode()))
+                    .andExpect(jsonPath("$.data.content.length()").value(2))
+                    .andExpect(jsonPath("$.data.content[0].id").value(11))
+                    .andExpect(jsonPath("$.data.content[1].id").value(10))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.size").value(2));
+
+            verify(alertHistoryService).getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(cursor), eq(2));
         }
 
         @Test
         @DisplayName("GET_/api/alerts/histories_빈_목록_반환_성공")
         void GET_빈_목록_반환_성공() throws Exception {
             // given
-            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null)))
-                    .willReturn(Collections.emptyList());
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(null), eq(null)))
+                    .willReturn(new AlertHistoryPageResponse(Collections.emptyList(), null, false, 20));
 
             // when & then
             mockMvc.perform(get("/api/alerts/histories")
@@ -141,15 +176,17 @@ class AlertHistoryControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.code").value(ALERT_HISTORIES_RETRIEVED.getCode()))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(0));
+                    .andExpect(jsonPath("$.data.content").isArray())
+                    .andExpect(jsonPath("$.data.content.length()").value(0))
+                    .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                    .andExpect(jsonPath("$.data.hasNext").value(false));
         }
 
         @Test
         @DisplayName("GET_/api/alerts/histories_권한_없음_시_403_에러")
         void GET_권한_없음_시_403_에러() throws Exception {
             // given
-            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null)))
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(null), eq(null)))
                     .willThrow(new BusinessException(FORBIDDEN));
 
             // when & then
@@ -168,16 +205,16 @@ class AlertHistoryControllerTest {
                     createAlertHistoryResponse(1, "N", null, null)
             );
 
-            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null)))
-                    .willReturn(responses);
+            given(alertHistoryService.getAlertHistories(eq(PROJECT_UUID), eq(USER_ID), eq(null), eq(null), eq(null)))
+                    .willReturn(new AlertHistoryPageResponse(responses, null, false, 20));
 
             // when & then
             mockMvc.perform(get("/api/alerts/histories")
                             .param("projectUuid", PROJECT_UUID))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.data[0].alertLevel").doesNotExist())
-                    .andExpect(jsonPath("$.data[0].traceId").doesNotExist());
+                    .andExpect(jsonPath("$.data.content[0].alertLevel").doesNotExist())
+                    .andExpect(jsonPath("$.data.content[0].traceId").doesNotExist());
         }
     }
 
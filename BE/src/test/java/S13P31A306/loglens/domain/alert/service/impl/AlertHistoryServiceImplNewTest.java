@@ -1,5 +1,6 @@
 package S13P31A306.loglens.domain.alert.service.impl;
 
+import S13P31A306.loglens.domain.alert.dto.AlertHistoryPageResponse;
 import S13P31A306.loglens.domain.alert.dto.AlertHistoryResponse;
 import S13P31A306.loglens.domain.alert.entity.AlertHistory;
 import S13P31A306.loglens.domain.alert.exception.AlertErrorCode;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -148,7 +150,13 @@ class AlertHistoryServiceImplNewTest {
             given(projectService.getProjectIdByUuid(PROJECT_UUID)).willReturn(PROJECT_ID);
             given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
             given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(true);
-            given(alertHistoryRepository.findByProjectIdOrderByAlertTimeDesc(PROJECT_ID)).willReturn(histories);
+            given(alertHistoryRepository.findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            )).willReturn(histories);
 
             // ObjectMapper stubbing - alert1과 alert2 각각에 대해
             try {
@@ -176,12 +184,11 @@ class AlertHistoryServiceImplNewTest {
             }
 
             // LogRepository stubbing
-            given(logRepository.findErrorLogsByProjectUuidAndTimeRange(
+            given(logRepository.findErrorLogsByTimeRanges(
                     org.mockito.ArgumentMatchers.eq(PROJECT_UUID),
-                    org.mockito.ArgumentMatchers.any(LocalDateTime.class),
-                    org.mockito.ArgumentMatchers.any(LocalDateTime.class),
+                    org.mockito.ArgumentMatchers.anyCollection(),
                     org.mockito.ArgumentMatchers.eq(20)
-            )).willReturn(Collections.emptyList());
+            )).willReturn(Collections.emptyMap());
 
             // AlertHistoryMapper stubbing - 각 alert에 대해 toResponseWithLogs 호출
             given(alertHistoryMapper.toResponseWithLogs(
@@ -199,19 +206,26 @@ class AlertHistoryServiceImplNewTest {
             )).willReturn(response2);
 
             // when
-            List<AlertHistoryResponse> result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null);
+            AlertHistoryPageResponse result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null,
+                    null, null);
 
             // then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).alertLevel()).isEqualTo("ERROR");
-            assertThat(result.get(0).traceId()).isEqualTo("trace-abc-123");
-            assertThat(result.get(1).alertLevel()).isEqualTo("WARN");
-            assertThat(result.get(1).traceId()).isEqualTo("trace-def-456");
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.content().get(0).alertLevel()).isEqualTo("ERROR");
+            assertThat(result.content().get(0).traceId()).isEqualTo("trace-abc-123");
+            assertThat(result.content().get(1).alertLevel()).isEqualTo("WARN");
+            assertThat(result.content().get(1).traceId()).isEqualTo("trace-def-456");
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
 
             verify(projectService).getProjectIdByUuid(PROJECT_UUID);
             verify(projectRepository).findById(PROJECT_ID);
             verify(projectMemberRepository).existsByProjectIdAndUserId(PROJECT_ID, USER_ID);
-            verify(alertHistoryRepository).findByProjectIdOrderByAlertTimeDesc(PROJECT_ID);
+            verify(logRepository, org.mockito.Mockito.times(1)).findErrorLogsByTimeRanges(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_UUID),
+                    org.mockito.ArgumentMatchers.anyCollection(),
+                    org.mockito.ArgumentMatchers.eq(20)
+            );
             verify(alertHistoryMapper, org.mockito.Mockito.times(2)).toResponseWithLogs(
                     org.mockito.ArgumentMatchers.any(AlertHistory.class),
                     org.mockito.ArgumentMatchers.eq(PROJECT_UUID),
@@ -249,8 +263,13 @@ class AlertHistoryServiceImplNewTest {
             given(projectService.getProjectIdByUuid(PROJECT_UUID)).willReturn(PROJECT_ID);
             given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
             given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(true);
-            given(alertHistoryRepository.findByProjectIdAndResolvedYNOrderByAlertTimeDesc(PROJECT_ID, "N"))
-                    .willReturn(histories);
+            given(alertHistoryRepository.findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.eq("N"),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            )).willReturn(histories);
 
             // ObjectMapper stubbing
             try {
@@ -284,14 +303,13 @@ class AlertHistoryServiceImplNewTest {
             )).willReturn(response);
 
             // when
-            List<AlertHistoryResponse> result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, "N");
+            AlertHistoryPageResponse result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, "N",
+                    null, null);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).resolvedYN()).isEqualTo("N");
-            assertThat(result.get(0).alertLevel()).isEqualTo("ERROR");
-
-            verify(alertHistoryRepository).findByProjectIdAndResolvedYNOrderByAlertTimeDesc(PROJECT_ID, "N");
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).resolvedYN()).isEqualTo("N");
+            assertThat(result.content().get(0).alertLevel()).isEqualTo("ERROR");
         }
 
         @Test
@@ -304,14 +322,21 @@ class AlertHistoryServiceImplNewTest {
             given(projectService.getProjectIdByUuid(PROJECT_UUID)).willReturn(PROJECT_ID);
             given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
             given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(true);
-            given(alertHistoryRepository.findByProjectIdOrderByAlertTimeDesc(PROJECT_ID))
-                    .willReturn(Collections.emptyList());
+            given(alertHistoryRepository.findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            )).willReturn(Collections.emptyList());
 
             // when
-            List<AlertHistoryResponse> result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null);
+            AlertHistoryPageResponse result = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null,
+                    null, null);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
         }
 
         @Test
@@ -326,9 +351,82 @@ class AlertHistoryServiceImplNewTest {
             given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null))
+            assertThatThrownBy(() -> alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null, null, null))
                     .isInstanceOf(BusinessException.class);
         }
+
+        @Test
+        @DisplayName("페이지_크기보다_많으면_다음_커서를_반환하고_커서로_다음_페이지를_조회한다")
+        void getAlertHistories_다음페이지커서() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2025, 11, 19, 10, 0);
+            AlertHistory alert1 = AlertHistory.builder()
+                    .id(3).alertMessage("알림1").alertTime(now).logReference("{}").projectId(PROJECT_ID).build();
+            AlertHistory alert2 = AlertHistory.builder()
+                    .id(2).alertMessage("알림2").alertTime(now.minusMinutes(1)).logReference("{}").projectId(PROJECT_ID)
+                    .build();
+
+            Project project = Project.builder().projectUuid(PROJECT_UUID).build();
+            ReflectionTestUtils.setField(project, "id", PROJECT_ID);
+
+            given(projectService.getProjectIdByUuid(PROJECT_UUID)).willReturn(PROJECT_ID);
+            given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
+            given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(true);
+            given(alertHistoryRepository.findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            )).willReturn(Arrays.asList(alert1, alert2));
+            given(alertHistoryRepository.findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.eq(now),
+                    org.mockito.ArgumentMatchers.eq(3),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            )).willReturn(Collections.singletonList(alert2));
+
+            // when
+            AlertHistoryPageResponse first = alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null,
+                    null, 1);
+
+            // then
+            assertThat(first.content()).hasSize(1);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(first.nextCursor()).isNotBlank();
+
+            // when - 다음 페이지는 첫 페이지 마지막 alert 다음부터 조회
+            alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null, first.nextCursor(), 1);
+
+            // then
+            verify(alertHistoryRepository).findPageByProjectId(
+                    org.mockito.ArgumentMatchers.eq(PROJECT_ID),
+                    org.mockito.ArgumentMatchers.isNull(),
+                    org.mockito.ArgumentMatchers.eq(now),
+                    org.mockito.ArgumentMatchers.eq(3),
+                    org.mockito.ArgumentMatchers.any(Pageable.class)
+            );
+        }
+
+        @Test
+        @DisplayName("유효하지_않은_커서면_예외를_던진다")
+        void getAlertHistories_잘못된커서() {
+            // given
+            Project project = Project.builder().projectUuid(PROJECT_UUID).build();
+            ReflectionTestUtils.setField(project, "id", PROJECT_ID);
+
+            given(projectService.getProjectIdByUuid(PROJECT_UUID)).willReturn(PROJECT_ID);
+            given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
+            given(projectMemberRepository.existsByProjectIdAndUserId(PROJECT_ID, USER_ID)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> alertHistoryService.getAlertHistories(PROJECT_UUID, USER_ID, null,
+                    "not-a-cursor", null))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(AlertErrorCode.INVALID_HISTORY_CURSOR);
+        }
     }
 
     @Nested
@@ -106,7 +106,7 @@ class AnalysisServiceImplTest {
 
             // Mock Dashboard Response
             DashboardOverviewResponse.Summary summary = new DashboardOverviewResponse.Summary(
-                    1000, 50, 30, 20, 250
+                    1000L, 50L, 30L, 20L, 250
             );
             DashboardOverviewResponse.Period period = new DashboardOverviewResponse.Period(
                     LocalDateTime.now().minusDays(7).format(FORMATTER),
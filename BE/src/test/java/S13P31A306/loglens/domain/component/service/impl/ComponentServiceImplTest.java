@@ -0,0 +1,153 @@
+package S13P31A306.loglens.domain.component.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import S13P31A306.loglens.domain.component.dto.request.ComponentBatchRequest;
+import S13P31A306.loglens.domain.component.entity.Component;
+import S13P31A306.loglens.domain.component.entity.ComponentLayer;
+import S13P31A306.loglens.domain.component.entity.ComponentType;
+import S13P31A306.loglens.domain.component.mapper.ComponentMapper;
+import S13P31A306.loglens.domain.component.repository.ComponentJdbcRepository;
+import S13P31A306.loglens.domain.component.repository.ComponentRepository;
+import S13P31A306.loglens.domain.dependency.repository.DependencyGraphJdbcRepository;
+import S13P31A306.loglens.domain.dependency.service.ProjectTopologyService;
+import S13P31A306.loglens.domain.dependency.service.impl.TopologyIngestHashStore;
+import S13P31A306.loglens.domain.project.repository.ProjectRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ComponentServiceImpl 테스트")
+class ComponentServiceImplTest {
+
+    private static final Integer PROJECT_ID = 1;
+    private static final ComponentBatchRequest REQUEST = new ComponentBatchRequest(List.of());
+
+    @InjectMocks
+    private ComponentServiceImpl componentService;
+
+    @Mock
+    private ComponentRepository componentRepository;
+
+    @Mock
+    private ComponentJdbcRepository componentJdbcRepository;
+
+    @Mock
+    private DependencyGraphJdbcRepository dependencyGraphJdbcRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ComponentMapper componentMapper;
+
+    @Mock
+    private ProjectTopologyService projectTopologyService;
+
+    @Mock
+    private TopologyIngestHashStore ingestHashStore;
+
+    @Captor
+    private ArgumentCaptor<Collection<Component>> insertCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<Map.Entry<Integer, Component>>> updateCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<Integer>> deleteCaptor;
+
+    @Test
+    void 이름_기준으로_추가_수정_삭제만_반영하고_기존_ID를_유지한다() {
+        // given
+        given(componentMapper.toEntityList(REQUEST.components(), PROJECT_ID)).willReturn(List.of(
+                component(null, "UserService", "com.example.user"),
+                component(null, "OrderService", "com.example.order.v2"),
+                component(null, "PaymentService", "com.example.payment")
+        ));
+        given(componentRepository.findAllByProjectId(PROJECT_ID)).willReturn(List.of(
+                component(10, "UserService", "com.example.user"),
+                component(11, "OrderService", "com.example.order"),
+                component(12, "LegacyService", "com.example.legacy")
+        ));
+
+        // when
+        componentService.saveAll(REQUEST, PROJECT_ID);
+
+        // then
+        verify(projectRepository).findByIdForUpdate(PROJECT_ID);
+        verify(componentJdbcRepository).insertAll(insertCaptor.capture());
+        verify(componentJdbcRepository).updateAll(updateCaptor.capture());
+        verify(componentJdbcRepository).deleteAllById(deleteCaptor.capture());
+
+        assertThat(insertCaptor.getValue()).extracting(Component::getName).containsExactly("PaymentService");
+        assertThat(updateCaptor.getValue()).extracting(Map.Entry::getKey).containsExactly(11);
+        assertThat(deleteCaptor.getValue()).containsExactly(12);
+        verify(dependencyGraphJdbcRepository).deleteAllByComponentIds(PROJECT_ID, List.of(12));
+        verify(projectTopologyService).invalidate(PROJECT_ID);
+        verify(ingestHashStore).rememberAfterCommit(eq(PROJECT_ID), eq(TopologyIngestHashStore.COMPONENTS), anyString());
+    }
+
+    @Test
+    void 직전과_같은_내용이면_DB를_조회하지_않고_건너뛴다() {
+        // given
+        given(componentMapper.toEntityList(REQUEST.components(), PROJECT_ID)).willReturn(List.of(
+                component(null, "UserService", "com.example.user")
+        ));
+        given(ingestHashStore.isUnchanged(eq(PROJECT_ID), eq(TopologyIngestHashStore.COMPONENTS), anyString()))
+                .willReturn(true);
+
+        // when
+        componentService.saveAll(REQUEST, PROJECT_ID);
+
+        // then
+        verifyNoInteractions(projectRepository, componentRepository, componentJdbcRepository, projectTopologyService);
+    }
+
+    @Test
+    void 변경이_없으면_토폴로지를_무효화하지_않는다() {
+        // given
+        given(componentMapper.toEntityList(REQUEST.components(), PROJECT_ID)).willReturn(List.of(
+                component(null, "UserService", "com.example.user")
+        ));
+        given(componentRepository.findAllByProjectId(PROJECT_ID)).willReturn(List.of(
+                component(10, "UserService", "com.example.user")
+        ));
+
+        // when
+        componentService.saveAll(REQUEST, PROJECT_ID);
+
+        // then
+        verify(componentJdbcRepository).insertAll(List.of());
+        verify(projectTopologyService, never()).invalidate(any());
+    }
+
+    private static Component component(Integer id, String name, String packageName) {
+        Component component = Component.builder()
+                .projectId(PROJECT_ID)
+                .name(name)
+                .packageName(packageName)
+                .componentType(ComponentType.BE)
+                .layer(ComponentLayer.SERVICE)
+                .technology("Spring Boot")
+                .build();
+        ReflectionTestUtils.setField(component, "id", id);
+        return component;
+    }
+}
@@ -0,0 +1,65 @@
+package S13P31A306.loglens.domain.component.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import S13P31A306.loglens.domain.component.entity.Component;
+import S13P31A306.loglens.domain.component.entity.ComponentLayer;
+import S13P31A306.loglens.domain.component.entity.ComponentType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ComponentResolver 테스트")
+class ComponentResolverTest {
+
+    private final Component userController = component(1, "com.example.user", "UserController");
+    private final Component userService = component(2, "com.example.user", "UserService");
+    private final Component config = component(3, "com.example", "AppConfig");
+    private final Component noPackage = component(4, null, "Orphan");
+
+    private final ComponentResolver resolver = ComponentResolver.of(
+            List.of(userService, config, userController, noPackage));
+
+    @Test
+    void 로거_이름의_패키지와_클래스가_모두_일치하는_컴포넌트로_해석한다() {
+        assertThat(resolver.resolve("com.example.user.UserService")).contains(userService);
+        assertThat(resolver.resolve("com.example.user", "UserController")).contains(userController);
+    }
+
+    @Test
+    void 패키지나_클래스가_다르면_해석하지_않는다() {
+        assertThat(resolver.resolve("com.example.order.UserService")).isEmpty();
+        assertThat(resolver.resolve("com.example.user.UserServiceImpl")).isEmpty();
+        assertThat(resolver.resolve("com.example.user")).isEmpty();
+        assertThat(resolver.resolve("Orphan")).isEmpty();
+        assertThat(resolver.resolve(null)).isEmpty();
+    }
+
+    @Test
+    void 패키지_단위_접두사가_일치하는_컴포넌트를_ID_순으로_찾는다() {
+        assertThat(resolver.findByLoggerPrefix("com.example.user.UserService"))
+                .containsExactly(userController, userService, config);
+        assertThat(resolver.findByLoggerPrefix("com.example.order.OrderService"))
+                .containsExactly(config);
+    }
+
+    @Test
+    void 패키지_이름의_일부만_같으면_매칭하지_않는다() {
+        assertThat(resolver.findByLoggerPrefix("com.examples.Foo")).isEmpty();
+        assertThat(resolver.findByLoggerPrefix("")).isEmpty();
+    }
+
+    private static Component component(int id, String packageName, String name) {
+        Component component = Component.builder()
+                .projectId(1)
+                .name(name)
+                .packageName(packageName)
+                .componentType(ComponentType.BE)
+                .layer(ComponentLayer.SERVICE)
+                .technology("Spring")
+                .build();
+        ReflectionTestUtils.setField(component, "id", id);
+        return component;
+    }
+}
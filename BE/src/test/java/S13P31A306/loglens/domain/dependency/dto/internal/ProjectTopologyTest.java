@@ -0,0 +1,59 @@
+package S13P31A306.loglens.domain.dependency.dto.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import S13P31A306.loglens.domain.dependency.entity.DependencyGraph;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProjectTopology 테스트")
+class ProjectTopologyTest {
+
+    private static final Integer PROJECT_ID = 1;
+
+    // 1 → 2 → 3, 4 → 2, 5 → 6 (분리된 그래프)
+    private final ProjectTopology topology = ProjectTopology.of(
+            PROJECT_ID,
+            3L,
+            List.of(),
+            List.of(edge(1, 2), edge(2, 3), edge(4, 2), edge(5, 6)),
+            List.of("MySQL", "Redis", "MySQL")
+    );
+
+    @Test
+    void 방향과_무관하게_연결된_컴포넌트를_모두_찾는다() {
+        assertThat(topology.connectedComponentIds(3)).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(topology.connectedComponentIds(6)).containsExactlyInAnyOrder(5, 6);
+    }
+
+    @Test
+    void 간선이_없는_컴포넌트는_자기_자신만_연결된다() {
+        assertThat(topology.connectedComponentIds(7)).containsExactly(7);
+    }
+
+    @Test
+    void 양_끝이_모두_집합에_속하는_간선만_서브그래프에_포함한다() {
+        List<DependencyGraph> edges = topology.edgesWithin(Set.of(1, 2, 3));
+
+        assertThat(edges).extracting(DependencyGraph::getFrom, DependencyGraph::getTo)
+                .containsExactlyInAnyOrder(
+                        tuple(1, 2),
+                        tuple(2, 3));
+    }
+
+    @Test
+    void 데이터베이스_종류는_중복_없이_정렬한다() {
+        assertThat(topology.databaseTypes()).containsExactly("MySQL", "Redis");
+    }
+
+    private static DependencyGraph edge(int from, int to) {
+        return DependencyGraph.builder()
+                .projectId(PROJECT_ID)
+                .from(from)
+                .to(to)
+                .build();
+    }
+}
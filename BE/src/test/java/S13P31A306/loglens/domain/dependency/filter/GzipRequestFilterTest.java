@@ -0,0 +1,75 @@
+package S13P31A306.loglens.domain.dependency.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("GzipRequestFilter 테스트")
+class GzipRequestFilterTest {
+
+    private static final String BODY = "{\"components\":[{\"name\":\"UserService\"}]}";
+
+    @Test
+    void gzip_본문을_해제하고_인코딩_헤더를_숨긴다() throws Exception {
+        GzipRequestFilter filter = new GzipRequestFilter(1024);
+        MockHttpServletRequest request = gzipRequest("/api/components/batch", BODY);
+        AtomicReference<HttpServletRequest> passed = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed.set((HttpServletRequest) req));
+
+        HttpServletRequest wrapped = passed.get();
+        assertThat(new String(wrapped.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(wrapped.getHeader("Content-Encoding")).isNull();
+        assertThat(wrapped.getContentLength()).isEqualTo(-1);
+        assertThat(wrapped.getHeader("X-UUID")).isEqualTo("uuid");
+    }
+
+    @Test
+    void Collector_경로가_아니거나_gzip이_아니면_그대로_전달한다() throws Exception {
+        GzipRequestFilter filter = new GzipRequestFilter(1024);
+        MockHttpServletRequest other = gzipRequest("/api/logs", BODY);
+        MockHttpServletRequest plain = new MockHttpServletRequest("POST", "/api/dependencies/relations");
+        plain.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        AtomicReference<Object> passed = new AtomicReference<>();
+
+        filter.doFilter(other, new MockHttpServletResponse(), (req, res) -> passed.set(req));
+        assertThat(passed.get()).isSameAs(other);
+
+        filter.doFilter(plain, new MockHttpServletResponse(), (req, res) -> passed.set(req));
+        assertThat(passed.get()).isSameAs(plain);
+    }
+
+    @Test
+    void 해제_크기가_제한을_넘으면_읽기를_중단한다() throws Exception {
+        GzipRequestFilter filter = new GzipRequestFilter(8);
+        MockHttpServletRequest request = gzipRequest("/api/dependencies/relations", BODY);
+        AtomicReference<HttpServletRequest> passed = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed.set((HttpServletRequest) req));
+
+        assertThatThrownBy(() -> passed.get().getInputStream().readAllBytes())
+                .isInstanceOf(IOException.class);
+    }
+
+    private MockHttpServletRequest gzipRequest(String uri, String body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader("Content-Encoding", "gzip");
+        request.addHeader("X-UUID", "uuid");
+        request.setContent(compressed.toByteArray());
+        return request;
+    }
+}
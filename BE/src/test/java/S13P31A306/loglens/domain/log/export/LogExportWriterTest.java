@@ -0,0 +1,142 @@
+package S13P31A306.loglens.domain.log.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.entity.LogLevel;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CsvLogExportWriter / NdjsonLogExportWriter 테스트
+ */
+@DisplayName("LogExportWriter 테스트")
+class LogExportWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @Nested
+    @DisplayName("CSV 출력 테스트")
+    class CsvTest {
+
+        @Test
+        @DisplayName("헤더_다음에_로그_한_건당_한_줄을_CRLF로_출력한다")
+        void 헤더와_행_출력() throws IOException {
+            // given
+            StringWriter out = new StringWriter();
+            CsvLogExportWriter writer = new CsvLogExportWriter(out);
+
+            // when
+            writer.writeHeader();
+            writer.write(List.of(log(1L, "first"), log(2L, "second")));
+
+            // then
+            String[] lines = out.toString().split("\r\n");
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).startsWith("timestamp,log_id,trace_id,log_level,");
+            assertThat(lines[0]).endsWith(",message,stacktrace");
+            assertThat(lines[1]).contains(",1,trace-1,ERROR,").endsWith(",first,");
+            assertThat(lines[2]).contains(",2,trace-2,ERROR,").endsWith(",second,");
+        }
+
+        @Test
+        @DisplayName("쉼표_큰따옴표_줄바꿈이_포함된_값은_큰따옴표로_감싸고_내부_큰따옴표는_두_번_쓴다")
+        void RFC4180_이스케이프() throws IOException {
+            // given
+            StringWriter out = new StringWriter();
+            CsvLogExportWriter writer = new CsvLogExportWriter(out);
+            Log logEntity = log(1L, "a,b \"quoted\"");
+            logEntity.setStackTrace("line1\nline2");
+
+            // when
+            writer.write(List.of(logEntity));
+
+            // then
+            assertThat(out.toString()).endsWith(",\"a,b \"\"quoted\"\"\",\"line1\nline2\"\r\n");
+        }
+
+        @Test
+        @DisplayName("중단_표시는_코드와_출력_건수를_담은_주석_줄로_출력한다")
+        void 중단_표시() throws IOException {
+            // given
+            StringWriter out = new StringWriter();
+            CsvLogExportWriter writer = new CsvLogExportWriter(out);
+
+            // when
+            writer.writeError(LogErrorCode.EXPORT_INTERRUPTED, 42);
+
+            // then
+            assertThat(out.toString())
+                    .startsWith("# export_error: code=LG500-01, rows=42, message=")
+                    .endsWith("\r\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 출력 테스트")
+    class NdjsonTest {
+
+        private final ObjectWriter objectWriter = OBJECT_MAPPER.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writer();
+
+        @Test
+        @DisplayName("로그_한_건당_snake_case_필드명의_JSON_한_줄을_출력하고_헤더는_없다")
+        void 행_출력() throws IOException {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            NdjsonLogExportWriter writer = new NdjsonLogExportWriter(out, objectWriter);
+
+            // when
+            writer.writeHeader();
+            writer.write(List.of(log(1L, "first"), log(2L, "second")));
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode first = OBJECT_MAPPER.readTree(lines[0]);
+            assertThat(first.get("log_id").asLong()).isEqualTo(1L);
+            assertThat(first.get("trace_id").asText()).isEqualTo("trace-1");
+            assertThat(first.get("message").asText()).isEqualTo("first");
+            assertThat(first.has("stacktrace")).isFalse();
+        }
+
+        @Test
+        @DisplayName("중단_표시는_export_error_객체_한_줄로_출력한다")
+        void 중단_표시() throws IOException {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            NdjsonLogExportWriter writer = new NdjsonLogExportWriter(out, objectWriter);
+
+            // when
+            writer.writeError(LogErrorCode.EXPORT_INTERRUPTED, 42);
+
+            // then
+            String line = out.toString(StandardCharsets.UTF_8);
+            assertThat(line).endsWith("\n");
+            JsonNode error = OBJECT_MAPPER.readTree(line).get("export_error");
+            assertThat(error.get("code").asText()).isEqualTo("LG500-01");
+            assertThat(error.get("rows").asLong()).isEqualTo(42L);
+        }
+    }
+
+    static Log log(Long logId, String message) {
+        Log logEntity = new Log();
+        logEntity.setLogId(logId);
+        logEntity.setTraceId("trace-" + logId);
+        logEntity.setLogLevel(LogLevel.ERROR);
+        logEntity.setMessage(message);
+        return logEntity;
+    }
+}
@@ -0,0 +1,183 @@
+package S13P31A306.loglens.domain.log.export;
+
+import static S13P31A306.loglens.domain.log.export.LogExportWriterTest.log;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.request.LogExportRequest;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import S13P31A306.loglens.global.constants.GlobalErrorCode;
+import S13P31A306.loglens.global.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * LogExporter 테스트 - LogRepository.scan은 배치를 핸들러에 전달하는 스텁으로 대체
+ */
+@DisplayName("LogExporter 테스트")
+class LogExporterTest {
+
+    private static final String PROJECT_UUID = "test-project-uuid";
+    private static final int BATCH_SIZE = 2;
+
+    private LogRepository logRepository;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = mock(LogRepository.class);
+    }
+
+    @Test
+    @DisplayName("서버_상한을_넘으면_상한까지만_출력하고_조회를_중단한다")
+    void 최대_건수_제한() throws Exception {
+        // given
+        LogExporter exporter = exporter(3, 4);
+        List<Boolean> handlerResults = new ArrayList<>();
+        given(logRepository.scan(eq(PROJECT_UUID), any(), eq(LogProjection.EXPORT), eq(BATCH_SIZE), any()))
+                .willAnswer(invocation -> {
+                    Predicate<List<Log>> handler = invocation.getArgument(4);
+                    for (long start = 1; start <= 9; start += BATCH_SIZE) {
+                        boolean more = handler.test(batch(start, BATCH_SIZE));
+                        handlerResults.add(more);
+                        if (!more) {
+                            break;
+                        }
+                    }
+                    return 0L;
+                });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        exporter.export(request("NDJSON", 100), response);
+
+        // then
+        assertThat(lines(response)).hasSize(3);
+        assertThat(handlerResults).containsExactly(true, false);
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getHeader("Content-Disposition")).endsWith(".ndjson\"");
+    }
+
+    @Test
+    @DisplayName("요청_건수가_서버_상한보다_작으면_요청_건수만큼_출력한다")
+    void 요청_건수_제한() throws Exception {
+        // given
+        LogExporter exporter = exporter(100, 4);
+        given(logRepository.scan(eq(PROJECT_UUID), any(), eq(LogProjection.EXPORT), anyInt(), any()))
+                .willAnswer(invocation -> {
+                    Predicate<List<Log>> handler = invocation.getArgument(4);
+                    handler.test(batch(1, BATCH_SIZE));
+                    return 0L;
+                });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        exporter.export(request("CSV", 1), response);
+
+        // then
+        List<String> lines = lines(response);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("timestamp,");
+        assertThat(lines.get(1)).contains(",1,trace-1,");
+    }
+
+    @Test
+    @DisplayName("동시_내보내기_수를_넘으면_429_예외를_던지고_끝난_내보내기의_슬롯은_반환된다")
+    void 동시_실행_제한() throws Exception {
+        // given
+        LogExporter exporter = exporter(100, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(logRepository.scan(eq(PROJECT_UUID), any(), any(), anyInt(), any()))
+                .willAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return 0L;
+                })
+                .willReturn(0L);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                exporter.export(request("NDJSON", null), new MockHttpServletResponse());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> exporter.export(request("NDJSON", null), new MockHttpServletResponse()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(LogErrorCode.EXPORT_TOO_MANY_REQUESTS);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        exporter.export(request("NDJSON", null), new MockHttpServletResponse());
+    }
+
+    @Test
+    @DisplayName("조회가_도중에_실패하면_출력한_행_뒤에_중단_표시_줄을_남긴다")
+    void 도중_실패_중단_표시() throws Exception {
+        // given
+        LogExporter exporter = exporter(100, 4);
+        given(logRepository.scan(eq(PROJECT_UUID), any(), any(), anyInt(), any()))
+                .willAnswer(invocation -> {
+                    Predicate<List<Log>> handler = invocation.getArgument(4);
+                    handler.test(batch(1, BATCH_SIZE));
+                    throw new BusinessException(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED);
+                });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        exporter.export(request("NDJSON", null), response);
+
+        // then
+        List<String> lines = lines(response);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(2))
+                .contains("\"export_error\"")
+                .contains("\"code\":\"LG500-01\"")
+                .contains("\"rows\":2");
+    }
+
+    private LogExporter exporter(int maxRows, int maxConcurrent) {
+        return new LogExporter(logRepository, new ObjectMapper().findAndRegisterModules(),
+                BATCH_SIZE, maxRows, maxConcurrent);
+    }
+
+    private LogExportRequest request(String format, Integer limit) {
+        return LogExportRequest.builder()
+                .projectUuid(PROJECT_UUID)
+                .format(format)
+                .limit(limit)
+                .build();
+    }
+
+    private List<Log> batch(long startLogId, int size) {
+        return LongStream.range(startLogId, startLogId + size)
+                .mapToObj(logId -> log(logId, "message-" + logId))
+                .toList();
+    }
+
+    private List<String> lines(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString().lines().toList();
+    }
+}
@@ -0,0 +1,97 @@
+package S13P31A306.loglens.domain.log.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import S13P31A306.loglens.domain.log.constants.LogErrorCode;
+import S13P31A306.loglens.global.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LogCursorCodec 테스트
+ */
+@DisplayName("LogCursorCodec 테스트")
+class LogCursorCodecTest {
+
+    private final LogCursorCodec codec = new LogCursorCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("정렬_값과_전체_건수를_인코딩한_뒤_그대로_디코딩한다")
+    void 인코딩_디코딩() {
+        // given
+        LogCursor cursor = new LogCursor(new Object[]{1763042922569L, "doc-id"}, 128734L);
+
+        // when
+        LogCursor decoded = codec.decode(codec.encode(cursor));
+
+        // then
+        assertThat(decoded.sort()).containsExactly(1763042922569L, "doc-id");
+        assertThat(decoded.totalCount()).isEqualTo(128734L);
+    }
+
+    @Test
+    @DisplayName("PIT_ID와_이전_페이지_방향을_유지한다")
+    void PIT_방향_유지() {
+        // given
+        LogCursor cursor = new LogCursor(new Object[]{1763042922569L, "doc-id"}, null, "pit-id",
+                LogCursorDirection.PREV);
+
+        // when
+        LogCursor decoded = codec.decode(codec.encode(cursor));
+
+        // then
+        assertThat(decoded.pitId()).isEqualTo("pit-id");
+        assertThat(decoded.isPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체_건수가_없으면_null로_디코딩된다")
+    void 전체_건수_없음() {
+        // given
+        LogCursor cursor = new LogCursor(new Object[]{1763042922569L, "doc-id"}, null);
+
+        // when
+        LogCursor decoded = codec.decode(codec.encode(cursor));
+
+        // then
+        assertThat(decoded.totalCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬_값_배열만_담긴_이전_형식의_커서도_디코딩한다")
+    void 이전_형식_커서() {
+        // given
+        String legacy = Base64.getEncoder()
+                .encodeToString("[1763042922569,\"doc-id\"]".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        LogCursor decoded = codec.decode(legacy);
+
+        // then
+        assertThat(decoded.sort()).containsExactly(1763042922569L, "doc-id");
+        assertThat(decoded.totalCount()).isNull();
+        assertThat(decoded.direction()).isEqualTo(LogCursorDirection.NEXT);
+    }
+
+    @Test
+    @DisplayName("비어_있는_커서는_null을_반환한다")
+    void 빈_커서() {
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이_잘못된_커서는_INVALID_CURSOR_예외가_발생한다")
+    void 잘못된_커서() {
+        String invalid = Base64.getEncoder().encodeToString("{\"total\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.decode(invalid))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(LogErrorCode.INVALID_CURSOR);
+    }
+}
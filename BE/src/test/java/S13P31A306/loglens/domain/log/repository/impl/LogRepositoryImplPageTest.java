@@ -0,0 +1,152 @@
+package S13P31A306.loglens.domain.log.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.pagination.LogCursor;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.pagination.LogCursorDirection;
+import S13P31A306.loglens.domain.log.pagination.LogPointInTimeManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
+
+/**
+ * LogRepositoryImpl.findPage PIT 생성 시점 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogRepositoryImpl findPage 테스트")
+class LogRepositoryImplPageTest {
+
+    private static final String PROJECT_UUID = "test-project-uuid";
+    private static final String PIT_ID = "pit-1";
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private OpenSearchClient openSearchClient;
+
+    @Mock
+    private LogCursorCodec logCursorCodec;
+
+    @Mock
+    private LogPointInTimeManager logPointInTimeManager;
+
+    private LogRepositoryImpl logRepository;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = new LogRepositoryImpl(openSearchClient, new ObjectMapper(), logCursorCodec,
+                logPointInTimeManager);
+    }
+
+    @Test
+    @DisplayName("첫_페이지에_다음_페이지가_없으면_PIT를_생성하지_않는다")
+    void 한_페이지뿐이면_PIT_미생성() throws IOException {
+        // given
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class))).willReturn(page(PAGE_SIZE));
+
+        // when
+        LogSearchResult result = logRepository.findPage(PROJECT_UUID, searchRequest(), null, LogProjection.LIST, 0);
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.pitId()).isNull();
+        verify(logPointInTimeManager, never()).open(anyString());
+
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchClient).search(request.capture(), eq(Log.class));
+        assertThat(request.getValue().pit()).isNull();
+        assertThat(request.getValue().index()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("첫_페이지에_다음_페이지가_있으면_조회_후_PIT를_생성하여_결과에_담는다")
+    void 다음_페이지가_있으면_PIT_생성() throws IOException {
+        // given
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class))).willReturn(page(PAGE_SIZE + 1));
+        given(logPointInTimeManager.open(PROJECT_UUID)).willReturn(PIT_ID);
+
+        // when
+        LogSearchResult result = logRepository.findPage(PROJECT_UUID, searchRequest(), null, LogProjection.LIST, 0);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.logs()).hasSize(PAGE_SIZE);
+        assertThat(result.pitId()).isEqualTo(PIT_ID);
+        verify(logPointInTimeManager).open(PROJECT_UUID);
+    }
+
+    @Test
+    @DisplayName("커서에_PIT가_있으면_재사용하고_새_PIT를_생성하지_않는다")
+    void 커서의_PIT_재사용() throws IOException {
+        // given
+        SearchResponse<Log> response = page(PAGE_SIZE + 1);
+        given(response.pitId()).willReturn(PIT_ID);
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class))).willReturn(response);
+        LogCursor cursor = new LogCursor(new Object[]{"1000", "0"}, null, PIT_ID, LogCursorDirection.NEXT);
+
+        // when
+        LogSearchResult result = logRepository.findPage(PROJECT_UUID, searchRequest(), cursor, LogProjection.LIST,
+                0);
+
+        // then
+        assertThat(result.pitId()).isEqualTo(PIT_ID);
+        verify(logPointInTimeManager, never()).open(anyString());
+        verify(logPointInTimeManager).renewed(PIT_ID, PIT_ID);
+    }
+
+    private LogSearchRequest searchRequest() {
+        return LogSearchRequest.builder()
+                .projectUuid(PROJECT_UUID)
+                .size(PAGE_SIZE)
+                .sort("TIMESTAMP,DESC")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchResponse<Log> page(int hitCount) {
+        SearchResponse<Log> response = mock(SearchResponse.class);
+        HitsMetadata<Log> metadata = mock(HitsMetadata.class);
+        given(response.hits()).willReturn(metadata);
+        given(metadata.hits()).willReturn(IntStream.rangeClosed(1, hitCount)
+                .mapToObj(this::hit)
+                .toList());
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hit<Log> hit(int id) {
+        // size + 1번째 hit은 다음 페이지 존재 여부 확인용으로만 쓰이므로 스텁을 사용하지 않을 수 있음
+        Hit<Log> hit = mock(Hit.class, withSettings().strictness(Strictness.LENIENT));
+        given(hit.source()).willReturn(new Log());
+        given(hit.id()).willReturn(String.valueOf(id));
+        given(hit.sort()).willReturn(List.of(FieldValue.of(1000L - id), FieldValue.of(String.valueOf(id))));
+        return hit;
+    }
+}
@@ -0,0 +1,158 @@
+package S13P31A306.loglens.domain.log.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.pagination.LogPointInTimeManager;
+import S13P31A306.loglens.global.constants.GlobalErrorCode;
+import S13P31A306.loglens.global.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
+
+/**
+ * LogRepositoryImpl.scan (PIT + search_after 순차 스캔) 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogRepositoryImpl scan 테스트")
+class LogRepositoryImplScanTest {
+
+    private static final String PROJECT_UUID = "test-project-uuid";
+    private static final String PIT_ID = "pit-1";
+    private static final String RENEWED_PIT_ID = "pit-2";
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OpenSearchClient openSearchClient;
+
+    @Mock
+    private LogCursorCodec logCursorCodec;
+
+    @Mock
+    private LogPointInTimeManager logPointInTimeManager;
+
+    private LogRepositoryImpl logRepository;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = new LogRepositoryImpl(openSearchClient, new ObjectMapper(), logCursorCodec,
+                logPointInTimeManager);
+        given(logPointInTimeManager.open(PROJECT_UUID)).willReturn(PIT_ID);
+        given(logPointInTimeManager.keepAliveExpression()).willReturn("2m");
+    }
+
+    @Test
+    @DisplayName("핸들러가_false를_반환하면_다음_배치를_조회하지_않고_갱신된_PIT를_종료한다")
+    void 핸들러_중단() throws IOException {
+        // given
+        SearchResponse<Log> page = page(RENEWED_PIT_ID, List.of(hit("1"), hit("2")));
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class))).willReturn(page);
+
+        // when
+        long scanned = logRepository.scan(PROJECT_UUID, searchRequest(), LogProjection.EXPORT, BATCH_SIZE,
+                batch -> false);
+
+        // then
+        assertThat(scanned).isEqualTo(2);
+        verify(openSearchClient, times(1)).search(any(SearchRequest.class), eq(Log.class));
+        verify(logPointInTimeManager).renewed(PIT_ID, RENEWED_PIT_ID);
+        verify(logPointInTimeManager).release(RENEWED_PIT_ID);
+    }
+
+    @Test
+    @DisplayName("마지막_hit의_sort_값으로_이어서_조회하고_배치_크기보다_작은_배치에서_중단한다")
+    void search_after_이어서_조회() throws IOException {
+        // given
+        List<FieldValue> lastSort = List.of(FieldValue.of(1000L), FieldValue.of("2"));
+        Hit<Log> last = hit("2");
+        given(last.sort()).willReturn(lastSort);
+        SearchResponse<Log> first = page(PIT_ID, List.of(hit("1"), last));
+        SearchResponse<Log> second = page(PIT_ID, List.of(hit("3")));
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class))).willReturn(first, second);
+
+        List<String> ids = new ArrayList<>();
+
+        // when
+        long scanned = logRepository.scan(PROJECT_UUID, searchRequest(), LogProjection.EXPORT, BATCH_SIZE,
+                batch -> {
+                    batch.forEach(logEntity -> ids.add(logEntity.getId()));
+                    return true;
+                });
+
+        // then
+        assertThat(scanned).isEqualTo(3);
+        assertThat(ids).containsExactly("1", "2", "3");
+
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(openSearchClient, times(2)).search(requests.capture(), eq(Log.class));
+        assertThat(requests.getAllValues().get(0).searchAfter()).isEmpty();
+        assertThat(requests.getAllValues().get(1).searchAfter()).isEqualTo(lastSort);
+        assertThat(requests.getAllValues()).allSatisfy(request -> assertThat(request.size()).isEqualTo(BATCH_SIZE));
+        verify(logPointInTimeManager).release(PIT_ID);
+    }
+
+    @Test
+    @DisplayName("조회가_실패하면_BusinessException으로_감싸고_PIT를_종료한다")
+    void 조회_실패() throws IOException {
+        // given
+        given(openSearchClient.search(any(SearchRequest.class), eq(Log.class)))
+                .willThrow(new IOException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> logRepository.scan(PROJECT_UUID, searchRequest(), LogProjection.EXPORT,
+                BATCH_SIZE, batch -> true))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.OPENSEARCH_OPERATION_FAILED);
+        verify(logPointInTimeManager).release(PIT_ID);
+    }
+
+    private LogSearchRequest searchRequest() {
+        return LogSearchRequest.builder()
+                .projectUuid(PROJECT_UUID)
+                .sort("TIMESTAMP,ASC")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchResponse<Log> page(String pitId, List<Hit<Log>> hits) {
+        SearchResponse<Log> response = mock(SearchResponse.class);
+        HitsMetadata<Log> metadata = mock(HitsMetadata.class);
+        given(response.pitId()).willReturn(pitId);
+        given(response.hits()).willReturn(metadata);
+        given(metadata.hits()).willReturn(hits);
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hit<Log> hit(String id) {
+        Hit<Log> hit = mock(Hit.class);
+        given(hit.source()).willReturn(new Log());
+        given(hit.id()).willReturn(id);
+        return hit;
+    }
+}
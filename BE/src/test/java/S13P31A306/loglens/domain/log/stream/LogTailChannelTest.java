@@ -0,0 +1,152 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * LogTailChannel / LogTailKey 테스트
+ */
+@DisplayName("LogTailChannel 테스트")
+class LogTailChannelTest {
+
+    private static final String PROJECT_UUID = "test-project-uuid";
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 11, 12, 20, 0, 0);
+
+    @Nested
+    @DisplayName("LogTailKey 정규화 테스트")
+    class KeyTest {
+
+        @Test
+        @DisplayName("필터_순서와_대소문자가_달라도_같은_키로_정규화된다")
+        void 필터_정규화() {
+            // given
+            LogSearchRequest first = LogSearchRequest.builder()
+                    .projectUuid(PROJECT_UUID)
+                    .logLevel(List.of("warn", "ERROR"))
+                    .sourceType(List.of("BE"))
+                    .keyword(" NullPointerException ")
+                    .build();
+            LogSearchRequest second = LogSearchRequest.builder()
+                    .projectUuid(PROJECT_UUID)
+                    .size(100)
+                    .logLevel(List.of("ERROR", "WARN", "error"))
+                    .sourceType(List.of("be"))
+                    .keyword("NullPointerException")
+                    .build();
+
+            // when & then
+            assertThat(LogTailKey.from(first)).isEqualTo(LogTailKey.from(second));
+        }
+
+        @Test
+        @DisplayName("첫_폴링은_최신_순으로_이후_폴링은_커서부터_오래된_순으로_조회한다")
+        void 폴링_요청() {
+            // given
+            LogTailKey key = key();
+
+            // when
+            LogSearchRequest bootstrap = key.toBootstrapRequest();
+            LogSearchRequest polling = key.toPollingRequest("cursor");
+
+            // then
+            assertThat(bootstrap.getSort()).isEqualTo("TIMESTAMP,DESC");
+            assertThat(bootstrap.getCursor()).isNull();
+            assertThat(polling.getSort()).isEqualTo("TIMESTAMP,ASC");
+            assertThat(polling.getCursor()).isEqualTo("cursor");
+            assertThat(polling.getStartTime()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("backlog 전달 테스트")
+    class BacklogTest {
+
+        @Test
+        @DisplayName("구독자_오프셋_이후의_배치를_최신_순으로_병합하여_반환한다")
+        void backlog_병합() {
+            // given
+            LogTailChannel channel = new LogTailChannel(key(), 10);
+            LogTailSubscriber subscriber = new LogTailSubscriber(new SseEmitter());
+            channel.join(subscriber);
+
+            channel.publish(logs(2, 1), sort(2));
+            channel.publish(logs(4, 3), sort(4));
+
+            // when
+            LogTailChannel.Backlog backlog = channel.backlogSince(subscriber.cursor());
+
+            // then
+            assertThat(backlog.logs()).extracting(LogResponse::getLogId).containsExactly(4L, 3L, 2L, 1L);
+            assertThat(backlog.skipped()).isZero();
+            assertThat(backlog.nextCursor()).isEqualTo(4);
+            assertThat(channel.searchAfter()).containsExactly(sort(4));
+        }
+
+        @Test
+        @DisplayName("보관_한도를_넘긴_느린_구독자는_건너뛴_로그_수를_전달받는다")
+        void backlog_한도_초과() {
+            // given
+            LogTailChannel channel = new LogTailChannel(key(), 2);
+            LogTailSubscriber subscriber = new LogTailSubscriber(new SseEmitter());
+            channel.join(subscriber);
+
+            channel.publish(logs(2, 1), sort(2));
+            channel.publish(logs(3), sort(3));
+            channel.publish(logs(4), sort(4));
+
+            // when
+            LogTailChannel.Backlog backlog = channel.backlogSince(subscriber.cursor());
+
+            // then
+            assertThat(backlog.logs()).extracting(LogResponse::getLogId).containsExactly(4L, 3L);
+            assertThat(backlog.skipped()).isEqualTo(2);
+            assertThat(channel.backlogSince(backlog.nextCursor()).isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("나중에_합류한_구독자는_최신_로그를_초기_데이터로_받고_이후_배치만_전달받는다")
+        void 늦은_합류() {
+            // given
+            LogTailChannel channel = new LogTailChannel(key(), 10);
+            channel.publish(logs(2, 1), sort(2));
+
+            LogTailSubscriber subscriber = new LogTailSubscriber(new SseEmitter());
+
+            // when
+            channel.join(subscriber);
+            channel.publish(logs(3), sort(3));
+
+            // then
+            assertThat(subscriber.takeInitialLogs()).extracting(LogResponse::getLogId).containsExactly(2L, 1L);
+            assertThat(channel.backlogSince(subscriber.cursor()).logs())
+                    .extracting(LogResponse::getLogId)
+                    .containsExactly(3L);
+        }
+    }
+
+    private LogTailKey key() {
+        return LogTailKey.from(LogSearchRequest.builder().projectUuid(PROJECT_UUID).build());
+    }
+
+    private Object[] sort(long logId) {
+        return new Object[]{BASE_TIME.plusSeconds(logId).toString(), "id-" + logId};
+    }
+
+    private List<LogResponse> logs(long... logIds) {
+        return LongStream.of(logIds)
+                .mapToObj(id -> LogResponse.builder()
+                        .logId(id)
+                        .timestamp(BASE_TIME.plusSeconds(id))
+                        .build())
+                .toList();
+    }
+}
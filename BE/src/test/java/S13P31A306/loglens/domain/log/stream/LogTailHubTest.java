@@ -0,0 +1,167 @@
+package S13P31A306.loglens.domain.log.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import S13P31A306.loglens.domain.log.constants.LogProjection;
+import S13P31A306.loglens.domain.log.dto.internal.LogSearchResult;
+import S13P31A306.loglens.domain.log.dto.request.LogSearchRequest;
+import S13P31A306.loglens.domain.log.dto.response.LogResponse;
+import S13P31A306.loglens.domain.log.entity.Log;
+import S13P31A306.loglens.domain.log.mapper.LogMapper;
+import S13P31A306.loglens.domain.log.pagination.LogCursorCodec;
+import S13P31A306.loglens.domain.log.repository.LogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * LogTailHub 폴링 테스트 - 스케줄된 폴링 태스크를 캡처하여 직접 실행
+ */
+@DisplayName("LogTailHub 테스트")
+class LogTailHubTest {
+
+    private static final String PROJECT_UUID = "test-project-uuid";
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_PAGES_PER_POLL = 2;
+
+    private LogRepository logRepository;
+    private LogCursorCodec logCursorCodec;
+    private ScheduledExecutorService sseScheduler;
+    private LogTailHub logTailHub;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = mock(LogRepository.class);
+        logCursorCodec = new LogCursorCodec(new ObjectMapper());
+        sseScheduler = mock(ScheduledExecutorService.class);
+        LogMapper logMapper = mock(LogMapper.class);
+        given(logMapper.toLogResponse(any(Log.class))).willAnswer(invocation -> {
+            Log logEntity = invocation.getArgument(0);
+            return LogResponse.builder().logId(logEntity.getLogId()).build();
+        });
+        logTailHub = new LogTailHub(logRepository, logMapper, logCursorCodec, sseScheduler, 60_000L, 5, 20,
+                MAX_PAGES_PER_POLL);
+    }
+
+    @Test
+    @DisplayName("한_주기에_페이지_크기보다_많이_적재되면_짧은_페이지가_나올_때까지_이어서_조회한다")
+    void 버스트_이어서_조회() {
+        // given
+        Runnable poll = subscribe();
+        given(logRepository.findWithCursor(eq(PROJECT_UUID), any(), eq(LogProjection.LIST), eq(0)))
+                .willReturn(bootstrapResult())
+                .willReturn(page(true, 11, 12), page(false, 13));
+
+        // when
+        poll.run();
+        poll.run();
+
+        // then
+        List<LogSearchRequest> requests = capturedRequests(3);
+        assertThat(requests.get(0).getSort()).isEqualTo("TIMESTAMP,DESC");
+        assertThat(requests.get(1).getSort()).isEqualTo("TIMESTAMP,ASC");
+        assertThat(searchAfter(requests.get(1))).containsExactly("10", "id-10");
+        assertThat(searchAfter(requests.get(2))).containsExactly("12", "id-12");
+    }
+
+    @Test
+    @DisplayName("주기당_페이지_상한에_도달하면_마지막으로_적재한_로그부터_다음_주기에_이어서_조회한다")
+    void 페이지_상한_도달() {
+        // given
+        Runnable poll = subscribe();
+        given(logRepository.findWithCursor(eq(PROJECT_UUID), any(), eq(LogProjection.LIST), eq(0)))
+                .willReturn(bootstrapResult())
+                .willReturn(page(true, 11, 12), page(true, 13, 14), page(false, 15));
+
+        // when
+        poll.run();
+        poll.run();
+        poll.run();
+
+        // then
+        List<LogSearchRequest> requests = capturedRequests(4);
+        assertThat(searchAfter(requests.get(2))).containsExactly("12", "id-12");
+        assertThat(searchAfter(requests.get(3))).containsExactly("14", "id-14");
+    }
+
+    @Test
+    @DisplayName("조회가_실패하면_조회_위치를_유지하고_다음_주기에_같은_위치부터_다시_조회한다")
+    void 조회_실패_위치_유지() {
+        // given
+        Runnable poll = subscribe();
+        given(logRepository.findWithCursor(eq(PROJECT_UUID), any(), eq(LogProjection.LIST), eq(0)))
+                .willReturn(bootstrapResult())
+                .willReturn(page(true, 11, 12))
+                .willThrow(new IllegalStateException("opensearch unavailable"))
+                .willReturn(page(false, 11));
+
+        // when
+        poll.run();
+        poll.run();
+        poll.run();
+
+        // then
+        List<LogSearchRequest> requests = capturedRequests(4);
+        assertThat(searchAfter(requests.get(3))).containsExactly("10", "id-10");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Runnable subscribe() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        given(sseScheduler.scheduleAtFixedRate(task.capture(), anyLong(), anyLong(), any(TimeUnit.class)))
+                .willReturn(mock(ScheduledFuture.class));
+        logTailHub.subscribe(LogSearchRequest.builder()
+                .projectUuid(PROJECT_UUID)
+                .size(PAGE_SIZE)
+                .build());
+        return task.getValue();
+    }
+
+    private List<LogSearchRequest> capturedRequests(int count) {
+        ArgumentCaptor<LogSearchRequest> requests = ArgumentCaptor.forClass(LogSearchRequest.class);
+        verify(logRepository, times(count))
+                .findWithCursor(eq(PROJECT_UUID), requests.capture(), eq(LogProjection.LIST), eq(0));
+        return requests.getAllValues();
+    }
+
+    private Object[] searchAfter(LogSearchRequest request) {
+        return logCursorCodec.decode(request.getCursor()).sort();
+    }
+
+    private LogSearchResult bootstrapResult() {
+        return new LogSearchResult(logs(10, 9), true, sort(9), null, false, false, sort(10), null);
+    }
+
+    private LogSearchResult page(boolean hasNext, long... logIds) {
+        long last = logIds[logIds.length - 1];
+        return new LogSearchResult(logs(logIds), hasNext, sort(last), null, false, false, sort(logIds[0]), null);
+    }
+
+    private Object[] sort(long logId) {
+        return new Object[]{String.valueOf(logId), "id-" + logId};
+    }
+
+    private List<Log> logs(long... logIds) {
+        return LongStream.of(logIds)
+                .mapToObj(logId -> {
+                    Log logEntity = new Log();
+                    logEntity.setLogId(logId);
+                    return logEntity;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,130 @@
+package S13P31A306.loglens.domain.project.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import S13P31A306.loglens.domain.dashboard.dto.opensearch.ApiEndpointStats;
+import S13P31A306.loglens.domain.project.entity.ApiEndpoint;
+import S13P31A306.loglens.global.jdbc.BulkUpsertExecutor;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 엔드포인트 통계 UPSERT를 H2(MODE=MySQL)에서 실제로 실행하여 누적 결과를 검증
+ */
+@DisplayName("ApiEndpointTransactionalServiceImpl 엔드포인트 UPSERT 테스트")
+class ApiEndpointTransactionalServiceImplTest {
+
+    private static final Integer PROJECT_ID = 1;
+    private static final String PATH = "/api/orders";
+    private static final String METHOD = "GET";
+
+    private JdbcTemplate jdbcTemplate;
+    private BulkUpsertExecutor bulkUpsertExecutor;
+    private ApiEndpointTransactionalServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE api_endpoints (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    endpoint_path VARCHAR(255) NOT NULL,
+                    http_method VARCHAR(10) NOT NULL,
+                    total_requests INT NOT NULL,
+                    error_count INT NOT NULL,
+                    avg_response_time DECIMAL(10, 2) NOT NULL,
+                    anomaly_count INT NOT NULL,
+                    last_accessed TIME,
+                    project_id TINYINT NOT NULL,
+                    component_id INT NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL,
+                    UNIQUE (project_id, endpoint_path, http_method)
+                )
+                """);
+        bulkUpsertExecutor = new BulkUpsertExecutor(jdbcTemplate, dataSource, 500);
+        service = new ApiEndpointTransactionalServiceImpl(null, bulkUpsertExecutor, null);
+    }
+
+    @Test
+    void 요청_수로_가중한_평균_응답_시간을_누적한다() {
+        // when
+        service.saveApiEndpointMetrics(PROJECT_ID, stats(100, 10.0));
+        service.saveApiEndpointMetrics(PROJECT_ID, stats(300, 30.0));
+
+        // then
+        assertThat(totalRequests()).isEqualTo(400);
+        assertThat(avgResponseTime()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void 응답_시간_집계가_없으면_기존_평균을_유지한다() {
+        // when
+        service.saveApiEndpointMetrics(PROJECT_ID, stats(100, 10.0));
+        service.saveApiEndpointMetrics(PROJECT_ID, stats(50, null));
+
+        // then
+        assertThat(totalRequests()).isEqualTo(150);
+        assertThat(avgResponseTime()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void 응답_시간_집계가_없는_신규_엔드포인트는_평균_0으로_저장한다() {
+        // when
+        service.saveApiEndpointMetrics(PROJECT_ID, stats(5, null));
+
+        // then
+        assertThat(totalRequests()).isEqualTo(5);
+        assertThat(avgResponseTime()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void 기존과_이번_요청_수가_모두_0이어도_0으로_나누지_않고_평균을_유지한다() {
+        // given
+        bulkUpsertExecutor.upsert(ApiEndpointTransactionalServiceImpl.ENDPOINT_UPSERT, List.of(endpoint(0, "12.50")));
+
+        // when
+        bulkUpsertExecutor.upsert(ApiEndpointTransactionalServiceImpl.ENDPOINT_UPSERT, List.of(endpoint(0, "40.00")));
+
+        // then
+        assertThat(totalRequests()).isZero();
+        assertThat(avgResponseTime()).isEqualByComparingTo("12.50");
+    }
+
+    private static Map<String, ApiEndpointStats> stats(long totalRequests, Double avgResponseTime) {
+        return Map.of(METHOD + " " + PATH, new ApiEndpointStats(
+                PATH, METHOD, totalRequests, 0, avgResponseTime, null, List.of()));
+    }
+
+    private static ApiEndpoint endpoint(int totalRequests, String avgResponseTime) {
+        return ApiEndpoint.builder()
+                .projectId(PROJECT_ID)
+                .endpointPath(PATH)
+                .httpMethod(METHOD)
+                .totalRequests(totalRequests)
+                .errorCount(0)
+                .avgResponseTime(new BigDecimal(avgResponseTime))
+                .anomalyCount(0)
+                .lastAccessed(LocalTime.NOON)
+                .componentId(0)
+                .build();
+    }
+
+    private int totalRequests() {
+        return jdbcTemplate.queryForObject("SELECT total_requests FROM api_endpoints", Integer.class);
+    }
+
+    private BigDecimal avgResponseTime() {
+        return jdbcTemplate.queryForObject("SELECT avg_response_time FROM api_endpoints", BigDecimal.class);
+    }
+}
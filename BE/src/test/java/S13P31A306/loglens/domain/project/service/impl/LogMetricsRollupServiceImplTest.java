@@ -0,0 +1,207 @@
+package S13P31A306.loglens.domain.project.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupBucket;
+import S13P31A306.loglens.domain.project.dto.internal.LogMetricsRollupSummary;
+import S13P31A306.loglens.domain.project.entity.LogMetricsRollup;
+import S13P31A306.loglens.domain.project.entity.RollupGranularity;
+import S13P31A306.loglens.domain.project.repository.LogMetricsRollupRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogMetricsRollupServiceImpl 테스트")
+class LogMetricsRollupServiceImplTest {
+
+    private static final Integer PROJECT_ID = 1;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 11, 1, 0, 0);
+    private static final LocalDateTime END = START.plusHours(24);
+
+    @InjectMocks
+    private LogMetricsRollupServiceImpl logMetricsRollupService;
+
+    @Mock
+    private LogMetricsRollupRepository logMetricsRollupRepository;
+
+    @Test
+    void 서로_다른_단위의_버킷을_요청_간격으로_합산하고_사이의_빈_버킷을_채운다() {
+        // given
+        given(logMetricsRollupRepository.findByProjectIdAndRange(PROJECT_ID, START, END)).willReturn(List.of(
+                rollup(RollupGranularity.HOUR, START.plusHours(1), 100, 10),
+                rollup(RollupGranularity.HOUR, START.plusHours(2), 50, 5),
+                rollup(RollupGranularity.MINUTE, START.plusHours(9).plusMinutes(30), 7, 1)
+        ));
+
+        // when
+        List<LogMetricsRollupBucket> buckets = logMetricsRollupService.aggregateBuckets(
+                PROJECT_ID, START, END, Duration.ofHours(3));
+
+        // then
+        assertThat(buckets).extracting(LogMetricsRollupBucket::bucketStart)
+                .containsExactly(START, START.plusHours(3), START.plusHours(6), START.plusHours(9));
+        assertThat(buckets).extracting(LogMetricsRollupBucket::totalLogs)
+                .containsExactly(150L, 0L, 0L, 7L);
+        assertThat(buckets.getFirst().errorLogs()).isEqualTo(15L);
+    }
+
+    @Test
+    void 버킷은_요청_시작이_아닌_자정_기준으로_정렬된다() {
+        // given
+        LocalDateTime start = START.plusHours(1);
+        given(logMetricsRollupRepository.findByProjectIdAndRange(PROJECT_ID, start, END)).willReturn(List.of(
+                rollup(RollupGranularity.MINUTE, START.plusHours(2).plusMinutes(59), 3, 0),
+                rollup(RollupGranularity.MINUTE, START.plusHours(3), 4, 0)
+        ));
+
+        // when
+        List<LogMetricsRollupBucket> buckets = logMetricsRollupService.aggregateBuckets(
+                PROJECT_ID, start, END, Duration.ofHours(3));
+
+        // then
+        assertThat(buckets).extracting(LogMetricsRollupBucket::bucketStart)
+                .containsExactly(START, START.plusHours(3));
+        assertThat(buckets).extracting(LogMetricsRollupBucket::totalLogs)
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 롤업이_없으면_빈_목록을_반환한다() {
+        // given
+        given(logMetricsRollupRepository.findByProjectIdAndRange(PROJECT_ID, START, END)).willReturn(List.of());
+
+        // when
+        List<LogMetricsRollupBucket> buckets = logMetricsRollupService.aggregateBuckets(
+                PROJECT_ID, START, END, Duration.ofHours(3));
+
+        // then
+        assertThat(buckets).isEmpty();
+    }
+
+    @Test
+    void 첫_롤업_버킷_이후부터_조회하면_롤업으로_계산할_수_있다() {
+        // given
+        given(logMetricsRollupRepository.findFirstBucketStart(PROJECT_ID)).willReturn(START);
+
+        // when & then
+        assertThat(logMetricsRollupService.covers(PROJECT_ID, START)).isTrue();
+        assertThat(logMetricsRollupService.covers(PROJECT_ID, START.plusHours(1))).isTrue();
+    }
+
+    @Test
+    void 첫_롤업_버킷보다_이전부터_조회하거나_롤업이_없으면_롤업으로_계산할_수_없다() {
+        // given
+        given(logMetricsRollupRepository.findFirstBucketStart(PROJECT_ID)).willReturn(START, (LocalDateTime) null);
+
+        // when & then
+        assertThat(logMetricsRollupService.covers(PROJECT_ID, START.minusMinutes(1))).isFalse();
+        assertThat(logMetricsRollupService.covers(PROJECT_ID, START)).isFalse();
+    }
+
+    @Test
+    void 경계가_압축_버킷에_걸치지_않으면_롤업_합계만_사용한다() {
+        // given
+        given(logMetricsRollupRepository.findByProjectIdAndGranularitiesStartedBetween(
+                eq(PROJECT_ID), anyList(), any(), any())).willReturn(List.of());
+        given(logMetricsRollupRepository.summarizeByProjectIdAndRange(PROJECT_ID, START, END))
+                .willReturn(summary(30));
+        List<LocalDateTime> edges = new ArrayList<>();
+
+        // when
+        LogMetricsRollupSummary result = logMetricsRollupService.summarize(PROJECT_ID, START, END,
+                edgeSummarizer(edges, 1));
+
+        // then
+        assertThat(result.totalLogs()).isEqualTo(30L);
+        assertThat(edges).isEmpty();
+    }
+
+    @Test
+    void 경계가_압축_버킷에_걸치면_안쪽만_롤업으로_합산하고_바깥_조각은_보충_집계한다() {
+        // given
+        LocalDateTime start = START.plusHours(1).plusMinutes(20);
+        LocalDateTime end = START.plusDays(1).plusHours(5);
+        given(logMetricsRollupRepository.findByProjectIdAndGranularitiesStartedBetween(
+                PROJECT_ID, List.of(RollupGranularity.HOUR, RollupGranularity.DAY), start.minusDays(1), start))
+                .willReturn(List.of(rollup(RollupGranularity.HOUR, START.plusHours(1), 100, 0)));
+        given(logMetricsRollupRepository.findByProjectIdAndGranularitiesStartedBetween(
+                PROJECT_ID, List.of(RollupGranularity.HOUR, RollupGranularity.DAY), end.minusDays(1), end))
+                .willReturn(List.of(rollup(RollupGranularity.DAY, START.plusDays(1), 500, 0)));
+        given(logMetricsRollupRepository.summarizeByProjectIdAndRange(
+                PROJECT_ID, START.plusHours(2), START.plusDays(1))).willReturn(summary(30));
+        List<LocalDateTime> edges = new ArrayList<>();
+
+        // when
+        LogMetricsRollupSummary result = logMetricsRollupService.summarize(PROJECT_ID, start, end,
+                edgeSummarizer(edges, 5));
+
+        // then
+        assertThat(result.totalLogs()).isEqualTo(40L);
+        assertThat(edges).containsExactly(
+                start, START.plusHours(2),
+                START.plusDays(1), end
+        );
+    }
+
+    @Test
+    void 두_경계가_같은_압축_버킷_안에_있으면_전체를_보충_집계한다() {
+        // given
+        LocalDateTime start = START.plusHours(3);
+        LocalDateTime end = START.plusHours(7);
+        given(logMetricsRollupRepository.findByProjectIdAndGranularitiesStartedBetween(
+                eq(PROJECT_ID), anyList(), any(), any()))
+                .willReturn(List.of(rollup(RollupGranularity.DAY, START, 500, 0)));
+        List<LocalDateTime> edges = new ArrayList<>();
+
+        // when
+        LogMetricsRollupSummary result = logMetricsRollupService.summarize(PROJECT_ID, start, end,
+                edgeSummarizer(edges, 7));
+
+        // then
+        assertThat(result.totalLogs()).isEqualTo(7L);
+        assertThat(edges).containsExactly(start, end);
+        verify(logMetricsRollupRepository, never()).summarizeByProjectIdAndRange(any(), any(), any());
+    }
+
+    private BiFunction<LocalDateTime, LocalDateTime, LogMetricsRollupSummary> edgeSummarizer(
+            List<LocalDateTime> edges, long totalLogs) {
+        return (from, to) -> {
+            edges.add(from);
+            edges.add(to);
+            return summary(totalLogs);
+        };
+    }
+
+    private LogMetricsRollupSummary summary(long totalLogs) {
+        return new LogMetricsRollupSummary(totalLogs, 0L, 0L, totalLogs, 0L, totalLogs, 0L);
+    }
+
+    private LogMetricsRollup rollup(RollupGranularity granularity, LocalDateTime bucketStart, long total, long errors) {
+        return LogMetricsRollup.builder()
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .totalLogs(total)
+                .errorLogs(errors)
+                .warnLogs(0L)
+                .infoLogs(total - errors)
+                .feLogs(0L)
+                .beLogs(total)
+                .sumResponseTime(0L)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package S13P31A306.loglens.domain.project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencySketch 테스트")
+class LatencySketchTest {
+
+    @Test
+    void 분위수는_상대_오차_1퍼센트_이내이다() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+        for (int ms = 1; ms <= 10_000; ms++) {
+            sketch.add(ms, 1);
+        }
+
+        // then
+        assertThat(sketch.getCount()).isEqualTo(10_000L);
+        assertThat(sketch.quantile(0.50)).isCloseTo(5_000.0, within(5_000.0 * 0.01));
+        assertThat(sketch.quantile(0.95)).isCloseTo(9_500.0, within(9_500.0 * 0.01));
+        assertThat(sketch.quantile(0.99)).isCloseTo(9_900.0, within(9_900.0 * 0.01));
+    }
+
+    @Test
+    void 나누어_기록한_스케치를_병합하면_한_번에_기록한_것과_같다() {
+        // given
+        LatencySketch whole = new LatencySketch();
+        LatencySketch first = new LatencySketch();
+        LatencySketch second = new LatencySketch();
+        for (int ms = 0; ms < 2_000; ms++) {
+            whole.add(ms * 1.5, 1);
+            (ms % 2 == 0 ? first : second).add(ms * 1.5, 1);
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.getCount()).isEqualTo(whole.getCount());
+        assertThat(first.toBytes()).isEqualTo(whole.toBytes());
+    }
+
+    @Test
+    void 직렬화_후_복원해도_분포가_유지된다() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+        sketch.add(0, 3);
+        sketch.add(12.5, 10);
+        sketch.add(480, 5);
+        sketch.add(30_000, 1);
+
+        // when
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        // then
+        assertThat(restored.getCount()).isEqualTo(19L);
+        assertThat(restored.quantile(0.0)).isEqualTo(0.0);
+        assertThat(restored.quantile(1.0)).isEqualTo(sketch.quantile(1.0));
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        assertThat(sketch.toBytes().length).isLessThan(32);
+    }
+
+    @Test
+    void 백분위_응답으로_전체_건수를_보존하며_분포를_근사한다() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+        Map<Double, Double> percentiles = Map.of(
+                0.0, 10.0,
+                50.0, 100.0,
+                90.0, 300.0,
+                99.0, 900.0,
+                100.0, 1_000.0);
+
+        // when
+        sketch.addPercentiles(percentiles, 1_000);
+
+        // then
+        assertThat(sketch.getCount()).isEqualTo(1_000L);
+        assertThat(sketch.quantile(0.5)).isBetween(10.0, 100.0 * 1.01);
+        assertThat(sketch.quantile(0.95)).isBetween(300.0 * 0.99, 900.0 * 1.01);
+        assertThat(sketch.quantile(0.995)).isBetween(900.0 * 0.99, 1_000.0 * 1.01);
+    }
+
+    @Test
+    void 비어_있으면_분위수는_null이다() {
+        assertThat(new LatencySketch().quantile(0.99)).isNull();
+        assertThat(LatencySketch.fromBytes(new byte[0]).isEmpty()).isTrue();
+    }
+}
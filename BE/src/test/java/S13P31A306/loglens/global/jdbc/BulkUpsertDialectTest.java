@@ -0,0 +1,55 @@
+package S13P31A306.loglens.global.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BulkUpsertDialect 테스트")
+class BulkUpsertDialectTest {
+
+    private record Row(int projectId, String path, int count, double avg, String note) {
+    }
+
+    private static final BulkUpsertSpec<Row> SPEC = BulkUpsertSpec.<Row>builder("endpoints")
+            .key("project_id", Row::projectId)
+            .key("path", Row::path)
+            .expression("avg", Row::avg, "({avg} * {count} + {new.avg} * {new.count}) / ({count} + {new.count})")
+            .add("count", Row::count)
+            .replace("note", Row::note)
+            .build();
+
+    @Test
+    void MySQL은_ON_DUPLICATE_KEY_UPDATE로_누적하고_갱신식을_먼저_적용한다() {
+        String sql = BulkUpsertDialect.MYSQL.render(SPEC);
+
+        assertThat(sql).isEqualTo(
+                "INSERT INTO endpoints (project_id, path, avg, count, note) VALUES (?, ?, ?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE"
+                        + " avg = (avg * count + VALUES(avg) * VALUES(count)) / (count + VALUES(count)),"
+                        + " count = count + VALUES(count),"
+                        + " note = VALUES(note)");
+    }
+
+    @Test
+    void H2는_MERGE로_자연_키를_비교한다() {
+        String sql = BulkUpsertDialect.H2.render(SPEC);
+
+        assertThat(sql).isEqualTo(
+                "MERGE INTO endpoints t USING (VALUES (?, ?, ?, ?, ?)) s (project_id, path, avg, count, note)"
+                        + " ON t.project_id = s.project_id AND t.path = s.path"
+                        + " WHEN MATCHED THEN UPDATE SET"
+                        + " avg = (t.avg * t.count + s.avg * s.count) / (t.count + s.count),"
+                        + " count = t.count + s.count,"
+                        + " note = s.note"
+                        + " WHEN NOT MATCHED THEN INSERT (project_id, path, avg, count, note)"
+                        + " VALUES (s.project_id, s.path, s.avg, s.count, s.note)");
+    }
+
+    @Test
+    void 제품명으로_방언을_결정한다() {
+        assertThat(BulkUpsertDialect.fromProductName("MySQL")).isEqualTo(BulkUpsertDialect.MYSQL);
+        assertThat(BulkUpsertDialect.fromProductName("MariaDB")).isEqualTo(BulkUpsertDialect.MYSQL);
+        assertThat(BulkUpsertDialect.fromProductName("H2")).isEqualTo(BulkUpsertDialect.H2);
+    }
+}
@@ -0,0 +1,66 @@
+package S13P31A306.loglens.global.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConsistentHashRing 테스트
+ */
+@DisplayName("ConsistentHashRing 테스트")
+class ConsistentHashRingTest {
+
+    private static final List<String> KEYS = IntStream.rangeClosed(1, 3_000).mapToObj(String::valueOf).toList();
+
+    @Test
+    @DisplayName("멤버_순서와_관계없이_같은_배정을_만든다")
+    void 결정적_배정() {
+        // given
+        ConsistentHashRing first = new ConsistentHashRing(List.of("be-1", "be-2", "be-3"), 128);
+        ConsistentHashRing second = new ConsistentHashRing(List.of("be-3", "be-1", "be-2"), 128);
+
+        // then
+        assertThat(KEYS).allSatisfy(key -> assertThat(first.ownerOf(key)).isEqualTo(second.ownerOf(key)));
+    }
+
+    @Test
+    @DisplayName("대상을_멤버들에게_고르게_분배한다")
+    void 균등_분배() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("be-1", "be-2", "be-3"), 128);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        KEYS.forEach(key -> counts.merge(ring.ownerOf(key), 1, Integer::sum));
+
+        // then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(700, 1_300));
+    }
+
+    @Test
+    @DisplayName("멤버가_빠지면_해당_멤버의_대상만_이동한다")
+    void 최소_이동() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("be-1", "be-2", "be-3"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("be-1", "be-3"), 128);
+
+        // then
+        assertThat(KEYS).allSatisfy(key -> {
+            if (!"be-2".equals(before.ownerOf(key))) {
+                assertThat(after.ownerOf(key)).isEqualTo(before.ownerOf(key));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("멤버가_없으면_담당자가_없다")
+    void 빈_링() {
+        assertThat(new ConsistentHashRing(List.of(), 128).ownerOf("1")).isNull();
+    }
+}
@@ -0,0 +1,199 @@
+package S13P31A306.loglens.global.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProjectBatchExecutor 테스트
+ */
+@DisplayName("ProjectBatchExecutor 테스트")
+class ProjectBatchExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProjectBatchExecutor executor = new ProjectBatchExecutor(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시_실행_수를_옵션의_concurrency_이하로_제한한다")
+    void 동시_실행_제한() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ProjectBatchOptions options = new ProjectBatchOptions(2, Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        // when
+        ProjectBatchResult result = executor.run("test", List.of(1, 2, 3, 4, 5, 6), String::valueOf, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return true;
+        }, options);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(6);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한_시간을_넘긴_대상은_중단하고_나머지는_정상_처리한다")
+    void 대상별_제한_시간() {
+        // given
+        ProjectBatchOptions options = new ProjectBatchOptions(2, Duration.ofMillis(200), Duration.ofSeconds(10));
+
+        // when
+        ProjectBatchResult result = executor.run("test", List.of("slow", "a", "b", "c"), Function.identity(), item -> {
+            if ("slow".equals(item)) {
+                Thread.sleep(10_000);
+            }
+            return true;
+        }, options);
+
+        // then
+        assertThat(result.timedOut()).isEqualTo(1);
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(meterRegistry.get("loglens.scheduler.batch.projects")
+                .tag("batch", "test").tag("outcome", "timeout").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패와_처리할_내용_없음을_구분하여_집계한다")
+    void 결과_집계() {
+        // given
+        ProjectBatchOptions options = new ProjectBatchOptions(4, Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        // when
+        ProjectBatchResult result = executor.run("test", List.of(1, 2, 3), String::valueOf, item -> {
+            if (item == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return item == 2;
+        }, options);
+
+        // then
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.idle()).isEqualTo(1);
+        assertThat(result.skipped()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행_제한_시간에_시작하지_못한_대상은_다음_실행에서_먼저_처리한다")
+    void 공정_순서() {
+        // given - 동시 1개, 첫 대상이 슬롯을 잡고 있는 동안 실행 제한 시간이 지나 나머지는 시작하지 못함
+        //         (첫 대상은 대상별 제한 시간의 인터럽트로만 끝나고, 대상별 제한 시간 > 실행 제한 시간)
+        ProjectBatchOptions options = new ProjectBatchOptions(1, Duration.ofMillis(300), Duration.ofMillis(50));
+        List<String> items = List.of("a", "b", "c", "d");
+        List<String> secondRunOrder = new CopyOnWriteArrayList<>();
+        CountDownLatch never = new CountDownLatch(1);
+
+        ProjectBatchResult first = executor.run("fair", items, Function.identity(), item -> {
+            never.await();
+            return true;
+        }, options);
+
+        // when
+        executor.run("fair", items, Function.identity(), item -> {
+            secondRunOrder.add(item);
+            return true;
+        }, new ProjectBatchOptions(1, Duration.ofSeconds(5), Duration.ofSeconds(10)));
+
+        // then
+        assertThat(first.timedOut()).isEqualTo(1);
+        assertThat(first.skipped()).isEqualTo(3);
+        assertThat(secondRunOrder).containsExactly("b", "c", "d", "a");
+    }
+
+    @Test
+    @DisplayName("인터럽트를_무시하는_대상이_끝날_때까지_슬롯을_반환하지_않는다")
+    void 인터럽트_무시_대상() throws InterruptedException {
+        // given - 동시 1개, 첫 대상은 제한 시간에 취소되어도 finish 신호까지 계속 실행
+        ProjectBatchOptions options = new ProjectBatchOptions(1, Duration.ofMillis(50), Duration.ofMillis(300));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch finish = new CountDownLatch(1);
+        CountDownLatch stubbornDone = new CountDownLatch(1);
+
+        // when
+        ProjectBatchResult result;
+        try {
+            result = executor.run("stubborn", List.of("stubborn", "next"), Function.identity(), item -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    if ("stubborn".equals(item)) {
+                        awaitIgnoringInterrupts(finish);
+                        stubbornDone.countDown();
+                    }
+                    return true;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, options);
+        } finally {
+            finish.countDown();
+        }
+
+        // then - 취소된 대상이 슬롯을 잡고 있으므로 다음 대상은 시작하지 못하고 다음 실행으로 미룸
+        assertThat(result.timedOut()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(stubbornDone.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른_스케줄러가_작업_스레드를_모두_점유해도_대기_없이_시작하여_제한_시간에_걸리지_않는다")
+    void 스케줄러별_작업_스레드() throws Exception {
+        // given - 다른 스케줄러가 동시 실행 수만큼 긴 작업을 실행 중
+        CountDownLatch busyStarted = new CountDownLatch(4);
+        CountDownLatch releaseBusy = new CountDownLatch(1);
+        CompletableFuture<ProjectBatchResult> busy = CompletableFuture.supplyAsync(() ->
+                executor.run("busy", List.of(1, 2, 3, 4), String::valueOf, item -> {
+                    busyStarted.countDown();
+                    releaseBusy.await();
+                    return true;
+                }, new ProjectBatchOptions(4, Duration.ofSeconds(5), Duration.ofSeconds(10))));
+        assertThat(busyStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        ProjectBatchResult result;
+        try {
+            result = executor.run("quick", List.of("a", "b", "c", "d"), Function.identity(), item -> {
+                Thread.sleep(20);
+                return true;
+            }, new ProjectBatchOptions(2, Duration.ofMillis(200), Duration.ofSeconds(5)));
+        } finally {
+            releaseBusy.countDown();
+        }
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(4);
+        assertThat(result.timedOut()).isZero();
+        assertThat(busy.get(5, TimeUnit.SECONDS).succeeded()).isEqualTo(4);
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // 인터럽트에 반응하지 않는 작업 흉내
+            }
+        }
+    }
+}
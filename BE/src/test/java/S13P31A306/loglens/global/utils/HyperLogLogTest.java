@@ -0,0 +1,78 @@
+package S13P31A306.loglens.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @Test
+    void 적은_수의_고유값은_거의_정확히_센다() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.add("trace-" + i);
+            sketch.add("trace-" + i);
+        }
+
+        // when & then
+        assertThat(sketch.estimate()).isBetween(98L, 102L);
+    }
+
+    @Test
+    void 많은_수의_고유값은_상대_오차_5퍼센트_이내로_추정한다() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 200_000; i++) {
+            sketch.add("trace-" + i);
+        }
+
+        // when & then
+        assertThat((double) sketch.estimate()).isCloseTo(200_000.0, within(10_000.0));
+    }
+
+    @Test
+    void 구간별_스케치를_병합하면_전체_스케치와_같고_겹치는_트레이스는_한_번만_센다() {
+        // given
+        HyperLogLog whole = new HyperLogLog();
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            whole.add("trace-" + i);
+            (i < 30_000 ? first : second).add("trace-" + i);
+        }
+        // 두 구간에 걸친 트레이스
+        for (int i = 25_000; i < 30_000; i++) {
+            second.add("trace-" + i);
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first).isEqualTo(whole);
+        assertThat(first.estimate()).isEqualTo(whole.estimate());
+    }
+
+    @Test
+    void 직렬화_후_복원하면_같은_스케치가_된다() {
+        // given
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            sparse.add("trace-" + i);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            dense.add("trace-" + i);
+        }
+
+        // when & then
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes())).isEqualTo(sparse);
+        assertThat(HyperLogLog.fromBytes(dense.toBytes())).isEqualTo(dense);
+        assertThat(HyperLogLog.fromBytes(new HyperLogLog().toBytes()).isEmpty()).isTrue();
+        assertThat(HyperLogLog.fromBytes(null).isEmpty()).isTrue();
+    }
+}
@@ -62,9 +62,7 @@ const NotificationList = ({ projectUuid }: NotificationListProps) => {
           resolvedYN: 'N',
         });
 
-        console.log('getAlertHistory 응답:', response);
-
-        setAlerts(response);
+        setAlerts(response.content);
       } catch (err) {
         console.error('알림 이력 조회 실패:', err);
         setError(err instanceof Error ? err : new Error('An error occurred'));
@@ -125,7 +125,6 @@ export const getRecentAlerts = async (
   projectUuid: string,
   limit: number = 5,
 ): Promise<Alert[]> => {
-  const response = await getAlertHistory({ projectUuid });
-  const alerts = response.slice(0, limit).map(convertToAlert);
-  return alerts;
+  const response = await getAlertHistory({ projectUuid, size: limit });
+  return response.content.map(convertToAlert);
 };
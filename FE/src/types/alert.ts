@@ -93,6 +93,8 @@ export interface AlertSseEventData {
 export interface AlertHistoryParams {
   projectUuid: string;
   resolvedYN?: 'Y' | 'N';
+  cursor?: string;
+  size?: number;
 }
 
 export interface AlertHistoryItem {
@@ -107,4 +109,9 @@ export interface AlertHistoryItem {
 }
 
 // 알림 이력 조회 응답
-export type AlertHistoryResponse = AlertHistoryItem[];
+export interface AlertHistoryResponse {
+  content: AlertHistoryItem[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  size: number;
+}
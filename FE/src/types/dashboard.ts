@@ -43,6 +43,9 @@ export interface ApiEndpointStats {
   errorCount: number;
   errorRate: number;
   avgResponseTime: number;
+  p50ResponseTime: number | null;
+  p95ResponseTime: number | null;
+  p99ResponseTime: number | null;
   anomalyCount: number;
   lastAccessed: string;
 }
@@ -54,6 +57,8 @@ export interface ApiStatsSummary {
   totalErrors: number;
   overallErrorRate: number;
   avgResponseTime: number;
+  p95ResponseTime: number | null;
+  p99ResponseTime: number | null;
   criticalEndpoints: number;
 }
 
@@ -0,0 +1,348 @@
+package a306.dependency_logger_starter.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 컴파일 시점 컴포넌트 매니페스트 생성기
+ *
+ * DependencyCollector가 시작 시 리플렉션으로 찾던 정보를 컴파일 시점에 META-INF/loglens/component-manifest.json 으로 기록합니다.
+ * - 컴포넌트: @RestController / @Service / @Repository 클래스 (메타 어노테이션 포함), Spring Data Repository 인터페이스
+ * - 레이어: LayerDetector와 같은 규칙 (어노테이션 우선 → Repository 인터페이스 상속)
+ * - 의존성: 생성자 파라미터 중 Service/Repository 타입 (이름, 어노테이션, Repository 인터페이스 상속으로 판단)
+ *
+ * Spring을 의존하지 않도록 어노테이션과 타입은 이름으로 비교합니다.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentManifestProcessor extends AbstractProcessor {
+
+    static final String MANIFEST_LOCATION = "META-INF/loglens/component-manifest.json";
+    static final int MANIFEST_VERSION = 1;
+
+    private static final String REST_CONTROLLER = "org.springframework.web.bind.annotation.RestController";
+    private static final String SERVICE = "org.springframework.stereotype.Service";
+    private static final String REPOSITORY = "org.springframework.stereotype.Repository";
+    private static final String COMPONENT = "org.springframework.stereotype.Component";
+    private static final String DATA_REPOSITORY = "org.springframework.data.repository.Repository";
+    private static final String NO_REPOSITORY_BEAN = "org.springframework.data.repository.NoRepositoryBean";
+
+    private final Map<String, ManifestEntry> entries = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!entries.isEmpty()) {
+                writeManifest();
+            }
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            scan(element);
+        }
+        // 다른 프로세서(Lombok 등)도 같은 어노테이션을 처리할 수 있도록 점유하지 않음
+        return false;
+    }
+
+    private void scan(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        inspect(type);
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            scan(nested);
+        }
+    }
+
+    private void inspect(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (hasAnnotation(type, REST_CONTROLLER) || hasAnnotation(type, SERVICE) || hasAnnotation(type, REPOSITORY))) {
+            entries.put(type.getQualifiedName().toString(), new ManifestEntry(
+                    type.getQualifiedName().toString(),
+                    type.getSimpleName().toString(),
+                    packageOf(type),
+                    detectLayer(type),
+                    implementedInterfaces(type),
+                    constructorDependencies(type)
+            ));
+            originatingElements.add(type);
+            return;
+        }
+
+        if (type.getKind() == ElementKind.INTERFACE
+                && !type.getQualifiedName().toString().startsWith("org.springframework")
+                && extendsType(type, DATA_REPOSITORY, new HashSet<>())
+                && !hasDirectAnnotation(type, NO_REPOSITORY_BEAN)) {
+            entries.put(type.getQualifiedName().toString(), new ManifestEntry(
+                    type.getQualifiedName().toString(),
+                    type.getSimpleName().toString(),
+                    packageOf(type),
+                    detectLayer(type),
+                    List.of(),
+                    List.of()  // 인터페이스는 생성자 없음
+            ));
+            originatingElements.add(type);
+        }
+    }
+
+    /**
+     * 생성자 파라미터 중 Service/Repository 타입 (선언 순서, 중복 제거)
+     */
+    private List<DependencyType> constructorDependencies(TypeElement type) {
+        Map<String, DependencyType> dependencies = new LinkedHashMap<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            for (VariableElement parameter : constructor.getParameters()) {
+                TypeElement paramType = asTypeElement(parameter.asType());
+                if (paramType == null || !isServiceOrRepositoryType(paramType)) {
+                    continue;
+                }
+                String qualifiedName = paramType.getQualifiedName().toString();
+                dependencies.putIfAbsent(qualifiedName, new DependencyType(
+                        qualifiedName,
+                        paramType.getSimpleName().toString(),
+                        packageOf(paramType),
+                        detectLayer(paramType)
+                ));
+            }
+        }
+        return List.copyOf(dependencies.values());
+    }
+
+    /**
+     * 클래스와 상위 클래스가 구현한 인터페이스 (인터페이스 타입 의존성을 구현 클래스로 해석할 때 사용)
+     */
+    private List<String> implementedInterfaces(TypeElement type) {
+        Set<String> interfaces = new LinkedHashSet<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (TypeMirror intf : current.getInterfaces()) {
+                TypeElement element = asTypeElement(intf);
+                if (element != null) {
+                    interfaces.add(element.getQualifiedName().toString());
+                }
+            }
+            current = asTypeElement(current.getSuperclass());
+        }
+        return List.copyOf(interfaces);
+    }
+
+    /**
+     * Service/Repository 체크 (DependencyCollector.isServiceOrRepositoryType 과 같은 규칙)
+     */
+    private boolean isServiceOrRepositoryType(TypeElement type) {
+        String simpleName = type.getSimpleName().toString();
+        if (simpleName.contains("Service") || simpleName.contains("Repository")) {
+            return true;
+        }
+        if (hasAnnotation(type, SERVICE) || hasAnnotation(type, REPOSITORY)) {
+            return true;
+        }
+        return inheritsRepositoryInterface(type);
+    }
+
+    /**
+     * Layer 감지 (LayerDetector 와 같은 규칙)
+     */
+    private String detectLayer(TypeElement type) {
+        if (hasDirectAnnotation(type, REST_CONTROLLER)) {
+            return "CONTROLLER";
+        }
+        if (hasDirectAnnotation(type, SERVICE)) {
+            return "SERVICE";
+        }
+        if (hasDirectAnnotation(type, REPOSITORY)) {
+            return "REPOSITORY";
+        }
+        if (hasDirectAnnotation(type, COMPONENT)) {
+            return "COMPONENT";
+        }
+        return inheritsRepositoryInterface(type) ? "REPOSITORY" : "UNKNOWN";
+    }
+
+    /**
+     * 이름에 Repository가 들어간 인터페이스를 (간접) 상속하는지 여부
+     */
+    private boolean inheritsRepositoryInterface(TypeElement type) {
+        for (TypeMirror intf : type.getInterfaces()) {
+            TypeElement element = asTypeElement(intf);
+            if (element == null) {
+                continue;
+            }
+            if (element.getQualifiedName().toString().contains("Repository") || inheritsRepositoryInterface(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean extendsType(TypeElement type, String qualifiedName, Set<String> visited) {
+        for (TypeMirror intf : type.getInterfaces()) {
+            TypeElement element = asTypeElement(intf);
+            if (element == null || !visited.add(element.getQualifiedName().toString())) {
+                continue;
+            }
+            if (element.getQualifiedName().contentEquals(qualifiedName) || extendsType(element, qualifiedName, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasDirectAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotationTypeOf(mirror).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메타 어노테이션까지 포함한 어노테이션 존재 여부 (getBeansWithAnnotation 과 같은 범위)
+     */
+    private boolean hasAnnotation(Element element, String annotationName) {
+        return hasAnnotation(element, annotationName, new HashSet<>());
+    }
+
+    private boolean hasAnnotation(Element element, String annotationName, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = annotationTypeOf(mirror);
+            String name = annotationType.getQualifiedName().toString();
+            if (name.equals(annotationName)) {
+                return true;
+            }
+            if (name.startsWith("java.lang.annotation") || !visited.add(name)) {
+                continue;
+            }
+            if (hasAnnotation(annotationType, annotationName, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TypeElement annotationTypeOf(AnnotationMirror mirror) {
+        return (TypeElement) mirror.getAnnotationType().asElement();
+    }
+
+    private static TypeElement asTypeElement(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        return element instanceof TypeElement typeElement ? typeElement : null;
+    }
+
+    private String packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private void writeManifest() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", MANIFEST_LOCATION,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(toJson());
+            }
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "LogLens component manifest: " + entries.size() + " components");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "LogLens component manifest 생성 실패 (시작 시 리플렉션으로 수집): " + e.getMessage());
+        }
+    }
+
+    private String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"version\": ").append(MANIFEST_VERSION).append(",\n  \"components\": [");
+        boolean first = true;
+        for (ManifestEntry entry : entries.values()) {
+            sb.append(first ? "\n" : ",\n");
+            first = false;
+            sb.append("    {\"type\": ").append(quote(entry.type()))
+                    .append(", \"name\": ").append(quote(entry.name()))
+                    .append(", \"packageName\": ").append(quote(entry.packageName()))
+                    .append(", \"layer\": ").append(quote(entry.layer()))
+                    .append(", \"interfaces\": [");
+            for (int i = 0; i < entry.interfaces().size(); i++) {
+                sb.append(i > 0 ? ", " : "").append(quote(entry.interfaces().get(i)));
+            }
+            sb.append("], \"dependencies\": [");
+            for (int i = 0; i < entry.dependencies().size(); i++) {
+                DependencyType dep = entry.dependencies().get(i);
+                sb.append(i > 0 ? ", " : "")
+                        .append("{\"type\": ").append(quote(dep.type()))
+                        .append(", \"name\": ").append(quote(dep.name()))
+                        .append(", \"packageName\": ").append(quote(dep.packageName()))
+                        .append(", \"layer\": ").append(quote(dep.layer()))
+                        .append("}");
+            }
+            sb.append("]}");
+        }
+        sb.append(first ? "]\n}\n" : "\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private record ManifestEntry(String type, String name, String packageName, String layer,
+                                 List<String> interfaces, List<DependencyType> dependencies) {
+    }
+
+    private record DependencyType(String type, String name, String packageName, String layer) {
+    }
+}
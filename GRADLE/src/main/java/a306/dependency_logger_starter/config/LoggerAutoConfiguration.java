@@ -3,25 +3,44 @@ package a306.dependency_logger_starter.config;
 import a306.dependency_logger_starter.dependency.DatabaseDetector;
 import a306.dependency_logger_starter.dependency.DependencyCollector;
 import a306.dependency_logger_starter.dependency.client.DependencyLogSender;
+import a306.dependency_logger_starter.dependency.client.DependencyReportState;
 import a306.dependency_logger_starter.logging.aspect.ExceptionHandlerLoggingAspect;
 import a306.dependency_logger_starter.logging.aspect.MethodLoggingAspect;
 import a306.dependency_logger_starter.logging.async.AsyncExecutor;
 import a306.dependency_logger_starter.logging.async.MDCTaskDecorator;
+import a306.dependency_logger_starter.logging.dispatch.AsyncLogDispatcher;
+import a306.dependency_logger_starter.logging.dispatch.AsyncLogDispatcherMetrics;
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.dispatch.OverflowPolicy;
+import a306.dependency_logger_starter.logging.dispatch.SyncLogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEventEncoder;
 import a306.dependency_logger_starter.logging.filter.FrontendLogFilter;
 import a306.dependency_logger_starter.logging.filter.TraceIdFilter;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadataEndpoint;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadataRegistry;
+import a306.dependency_logger_starter.logging.sampling.LogSampler;
+import a306.dependency_logger_starter.logging.sampling.SamplingLogDispatcher;
+import a306.dependency_logger_starter.logging.sampling.SamplingProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 /**
  * 자동 설정
  */
@@ -74,13 +93,32 @@ public class LoggerAutoConfiguration {
 
     /**
      * Collector로 의존성 정보를 전송하는 클라이언트
+     *
+     * - dependency.logger.sender.gzip: 요청 본문 gzip 압축 (기본값 true)
+     * - dependency.logger.sender.max-attempts: 요청당 최대 시도 횟수 (기본값 3)
+     * - dependency.logger.sender.timeout-ms: 요청 타임아웃 (기본값 10000)
+     * - dependency.logger.sender.backoff-ms: 첫 재시도 대기 시간, 이후 2배씩 증가 (기본값 1000)
+     * - dependency.logger.sender.state-file: 마지막 수신 확인 해시 파일
+     *   (기본값 ${java.io.tmpdir}/loglens/{spring.application.name}-dependency-graph.sha256)
      */
     @Bean
     public DependencyLogSender dependencyLogSender(
+            ObjectMapper objectMapper,
             @Value("${dependency.logger.collector.url:http://localhost:8081}") String collectorUrl,
             @Value("${dependency.logger.api-key}") String apiKey,
-            @Value("${dependency.logger.sender.enabled:true}") boolean enabled) {
-        return new DependencyLogSender(collectorUrl, apiKey, enabled);
+            @Value("${dependency.logger.sender.enabled:true}") boolean enabled,
+            @Value("${dependency.logger.sender.gzip:true}") boolean gzip,
+            @Value("${dependency.logger.sender.max-attempts:3}") int maxAttempts,
+            @Value("${dependency.logger.sender.timeout-ms:10000}") long timeoutMillis,
+            @Value("${dependency.logger.sender.backoff-ms:1000}") long backoffMillis,
+            @Value("${dependency.logger.sender.state-file:}") String stateFile,
+            @Value("${spring.application.name:unknown-project}") String projectName) {
+        Path statePath = stateFile.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "loglens", projectName + "-dependency-graph.sha256")
+                : Path.of(stateFile);
+        return new DependencyLogSender(collectorUrl, apiKey, enabled, objectMapper,
+                new DependencyReportState(statePath), gzip, maxAttempts,
+                Duration.ofMillis(timeoutMillis), Duration.ofMillis(backoffMillis));
     }
 
     /**
@@ -93,7 +131,11 @@ public class LoggerAutoConfiguration {
     }
 
     /**
-     * 의존성 수집기 (ApplicationReadyEvent 사용)
+     * 의존성 수집기 (ApplicationReadyEvent 이후 백그라운드 스레드에서 수집/전송)
+     *
+     * - dependency.logger.manifest.enabled: 컴파일 시점 컴포넌트 매니페스트 사용 (기본값 true)
+     *   * annotationProcessor 'com.loglens:loglens-component-manifest-processor' 를 추가하면 생성
+     *   * 매니페스트가 없으면 Bean 리플렉션으로 수집
      */
     @Bean
     public DependencyCollector dependencyCollector(
@@ -104,6 +146,79 @@ public class LoggerAutoConfiguration {
         return new DependencyCollector(applicationContext, objectMapper, sender, databaseDetector);
     }
 
+    /**
+     * 로그 이벤트 JSON 인코더 (스레드별 버퍼 재사용, 스트리밍 직렬화)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogEventEncoder logEventEncoder(ObjectMapper objectMapper) {
+        return new LogEventEncoder(objectMapper);
+    }
+
+    /**
+     * 비동기 로그 Dispatcher (dependency.logger.dispatch.mode=async 일 때만)
+     *
+     * - dependency.logger.dispatch.buffer-size: 링 버퍼 크기 (기본값 8192)
+     * - dependency.logger.dispatch.batch-size: 소비자 스레드 배치 크기 (기본값 256)
+     * - dependency.logger.dispatch.overflow-policy: drop-oldest (기본값) / drop-debug-first / block
+     */
+    @Bean
+    @ConditionalOnMissingBean(LogDispatcher.class)
+    @ConditionalOnProperty(
+            prefix = "dependency.logger.dispatch",
+            name = "mode",
+            havingValue = "async"
+    )
+    public AsyncLogDispatcher asyncLogDispatcher(
+            LogEventEncoder logEventEncoder,
+            @Value("${dependency.logger.dispatch.buffer-size:8192}") int bufferSize,
+            @Value("${dependency.logger.dispatch.batch-size:256}") int batchSize,
+            @Value("${dependency.logger.dispatch.overflow-policy:drop-oldest}") String overflowPolicy) {
+        return new AsyncLogDispatcher(logEventEncoder, bufferSize, batchSize, OverflowPolicy.from(overflowPolicy));
+    }
+
+    /**
+     * 동기 로그 Dispatcher (기본값, 호출 스레드에서 바로 출력)
+     */
+    @Bean
+    @ConditionalOnMissingBean(LogDispatcher.class)
+    public LogDispatcher syncLogDispatcher(LogEventEncoder logEventEncoder) {
+        return new SyncLogDispatcher(logEventEncoder);
+    }
+
+    /**
+     * 샘플링 설정 (dependency.logger.sampling.*)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "dependency.logger.sampling")
+    public SamplingProperties samplingProperties() {
+        return new SamplingProperties();
+    }
+
+    /**
+     * 메서드 로그 샘플링 엔진 (dependency.logger.sampling.enabled=true 일 때만)
+     * 실패가 발생한 trace 의 보관 이벤트는 전부 출력
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "dependency.logger.sampling",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public LogSampler logSampler(SamplingProperties samplingProperties) {
+        return new LogSampler(samplingProperties);
+    }
+
+    /**
+     * 메서드 메타데이터 레지스트리 (레이어/Repository 이름/파라미터 정보 캐싱)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MethodMetadataRegistry methodMetadataRegistry() {
+        return new MethodMetadataRegistry();
+    }
+
     /**
      * 메서드 로깅 Aspect
      *
@@ -112,6 +227,12 @@ public class LoggerAutoConfiguration {
      *   * -1: 전체 스택트레이스 (개발 환경 권장)
      *   * 0: 스택트레이스 출력 안함
      *   * N: 상위 N줄만 출력 (운영 환경)
+     *
+     * 값 수집 예산 설정 (크기는 직렬화 문자 수 근사치):
+     * - dependency.logger.capture.max-value-size: 인자/응답 하나당 최대 크기 (기본값 2048)
+     * - dependency.logger.capture.max-event-size: 이벤트 하나의 인자 합계 최대 크기 (기본값 8192)
+     * - dependency.logger.capture.max-depth: 최대 중첩 깊이 (기본값 4)
+     *   * 초과 시 "... [truncated]" / "X[nested]" 표시
      */
     @Bean
     @ConditionalOnProperty(
@@ -120,8 +241,10 @@ public class LoggerAutoConfiguration {
             havingValue = "true",
             matchIfMissing = true
     )
-    public MethodLoggingAspect methodLoggingAspect(ObjectMapper objectMapper) {
-        return new MethodLoggingAspect(objectMapper);
+    public MethodLoggingAspect methodLoggingAspect(LogDispatcher logDispatcher,
+                                                   ObjectProvider<LogSampler> logSampler,
+                                                   MethodMetadataRegistry methodMetadataRegistry) {
+        return new MethodLoggingAspect(withSampling(logDispatcher, logSampler), methodMetadataRegistry);
     }
 
     /**
@@ -141,8 +264,17 @@ public class LoggerAutoConfiguration {
             havingValue = "true",
             matchIfMissing = true
     )
-    public ExceptionHandlerLoggingAspect exceptionHandlerLoggingAspect(ObjectMapper objectMapper) {
-        return new ExceptionHandlerLoggingAspect(objectMapper);
+    public ExceptionHandlerLoggingAspect exceptionHandlerLoggingAspect(LogDispatcher logDispatcher,
+                                                                       ObjectProvider<LogSampler> logSampler) {
+        return new ExceptionHandlerLoggingAspect(withSampling(logDispatcher, logSampler));
+    }
+
+    /**
+     * 샘플링이 활성화된 경우 Dispatcher 앞단에 샘플링 적용
+     */
+    private static LogDispatcher withSampling(LogDispatcher logDispatcher, ObjectProvider<LogSampler> logSampler) {
+        LogSampler sampler = logSampler.getIfAvailable();
+        return (sampler != null) ? new SamplingLogDispatcher(logDispatcher, sampler) : logDispatcher;
     }
 
     /**
@@ -172,4 +304,34 @@ public class LoggerAutoConfiguration {
 
         return registration;
     }
+
+    /**
+     * 비동기 Dispatcher 지표 (Micrometer가 클래스패스에 있을 때만)
+     * loglens.dispatch.enqueued / written / dropped / queued
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class AsyncLogDispatcherMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AsyncLogDispatcherMetrics asyncLogDispatcherMetrics(ObjectProvider<AsyncLogDispatcher> asyncLogDispatcher) {
+            return new AsyncLogDispatcherMetrics(asyncLogDispatcher);
+        }
+    }
+
+    /**
+     * 메서드 메타데이터 조회 엔드포인트 (Actuator가 클래스패스에 있을 때만)
+     * GET /actuator/methodmetadata
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class MethodMetadataEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MethodMetadataEndpoint methodMetadataEndpoint(MethodMetadataRegistry methodMetadataRegistry) {
+            return new MethodMetadataEndpoint(methodMetadataRegistry);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package a306.dependency_logger_starter.dependency;
 
 import a306.dependency_logger_starter.dependency.client.DependencyLogSender;
 import a306.dependency_logger_starter.dependency.dto.*;
+import a306.dependency_logger_starter.dependency.manifest.ComponentManifest;
+import a306.dependency_logger_starter.dependency.manifest.ComponentManifestLoader;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,34 +17,116 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 애플리케이션 시작 완료 후 의존성 수집 (Batch 방식)
+ * 수집과 전송은 별도 데몬 스레드에서 실행하여 애플리케이션 시작을 지연시키지 않습니다.
+ * 컴파일 시점 매니페스트(loglens-component-manifest-processor)가 있으면 Bean 스캔 대신 매니페스트를 사용합니다.
+ * 매니페스트는 Bean 이름/타입(인스턴스 생성 없음)과 대조하여 실제 Bean 인 항목만 사용하고,
+ * 매니페스트에 없는 Bean(프로세서 없이 빌드된 모듈 등)은 해당 Bean 만 이름으로 조회하여 리플렉션으로 보충합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class DependencyCollector {
 
+    private static final String REPORTER_THREAD_NAME = "loglens-dependency-reporter";
+
     private final ApplicationContext applicationContext;
     private final ObjectMapper objectMapper;
     private final DependencyLogSender sender;
     private final DatabaseDetector databaseDetector;
+    private final AtomicBoolean started = new AtomicBoolean(false);
 
     @Value("${spring.application.name:unknown-project}")
     private String projectName;
 
+    @Value("${dependency.logger.manifest.enabled:true}")
+    private boolean manifestEnabled;
+
     /**
-     * 애플리케이션 준비 완료 후 실행
+     * 애플리케이션 준비 완료 후 실행 (수집/전송은 백그라운드 스레드에서 1회만)
      */
     @EventListener(ApplicationReadyEvent.class)
     public void collectDependencies() {
-        log.info("🚀 의존성 수집 시작...");
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread reporter = new Thread(this::collectAndReport, REPORTER_THREAD_NAME);
+        reporter.setDaemon(true);
+        reporter.start();
+    }
+
+    /**
+     * 의존성 수집 후 Collector로 전송
+     */
+    void collectAndReport() {
+        try {
+            log.info("🚀 의존성 수집 시작...");
+
+            Map<String, Component> componentMap = new LinkedHashMap<>();
+            Set<DependencyRelation> relations = new LinkedHashSet<>();
+
+            // 0. 컴파일 시점 매니페스트가 있으면 사용 (없으면 리플렉션으로 수집)
+            ComponentManifest manifest = manifestEnabled ? loadManifest() : null;
+
+            if (manifest != null) {
+                Map<String, BeanTarget> beanTargets = collectBeanTargets();
+                Set<String> coveredTypes = collectFromManifest(manifest, beanTargets.keySet(), componentMap, relations);
+
+                // 매니페스트에 없는 Bean만 이름으로 조회하여 리플렉션으로 보충 (전체 어노테이션 스캔 없음)
+                List<BeanTarget> uncovered = beanTargets.entrySet().stream()
+                        .filter(entry -> !coveredTypes.contains(entry.getKey()))
+                        .map(Map.Entry::getValue)
+                        .toList();
+                if (!uncovered.isEmpty()) {
+                    log.info("🔍 매니페스트에 없는 Bean 리플렉션 수집: {} 개", uncovered.size());
+                    collectBeanTargets(uncovered, componentMap, relations);
+                }
+            } else {
+                collectByReflection(componentMap, relations);
+            }
 
-        Map<String, Component> componentMap = new LinkedHashMap<>();
-        List<DependencyRelation> relations = new ArrayList<>();
+            // 4. 데이터베이스 감지
+            List<String> databases = databaseDetector.detectAllDatabases();
+
+            log.info("✅ 수집 완료! (컴포넌트: {}, 관계: {}, DB: {})",
+                    componentMap.size(), relations.size(), databases.size());
+
+            List<ComponentRequest> componentRequests = componentMap.values().stream()
+                    .map(this::convertToComponentRequest)
+                    .toList();
+
+            // 컴포넌트 → 의존성 관계 순서로 전송 (그래프가 바뀐 경우에만)
+            if (sender.report(projectName, componentRequests, new ArrayList<>(relations), databases)) {
+                log.info("🎉 전송 완료!");
+            }
+        } catch (Exception e) {
+            log.error("의존성 수집/전송 중 예외 발생 (무시됨)", e);
+        }
+    }
+
+    /**
+     * 클래스패스의 컴포넌트 매니페스트 로드
+     */
+    private ComponentManifest loadManifest() {
+        ClassLoader classLoader = applicationContext.getClassLoader() != null
+                ? applicationContext.getClassLoader()
+                : ClassUtils.getDefaultClassLoader();
+        return new ComponentManifestLoader(objectMapper).load(classLoader);
+    }
+
+    /**
+     * 리플렉션 기반 수집 (매니페스트가 없을 때)
+     */
+    private void collectByReflection(
+            Map<String, Component> componentMap,
+            Set<DependencyRelation> relations) {
 
         // 1. Controller (어노테이션 기반)
         collectBeansWithAnnotation(RestController.class, componentMap, relations);
@@ -55,81 +139,201 @@ public class DependencyCollector {
 
         // 3-2. Class-based Repository (JDBC, Custom 등)
         collectClassBasedRepositories(componentMap, relations);
+    }
 
-        // 4. 데이터베이스 감지
-        List<String> databases = databaseDetector.detectAllDatabases();
+    /**
+     * 수집 대상 Bean 목록 (Bean 이름/타입만 조회, 인스턴스 생성 없음)
+     * 리플렉션 수집과 같은 대상: @RestController, @Service, @Repository, Spring Data Repository
+     *
+     * @return 타입 이름({@link #getTypeName(Class)}) → 수집 대상 Bean
+     */
+    private Map<String, BeanTarget> collectBeanTargets() {
+        Map<String, BeanTarget> beanTargets = new LinkedHashMap<>();
+
+        for (Class<? extends Annotation> annotation : List.of(RestController.class, Service.class, Repository.class)) {
+            for (String beanName : applicationContext.getBeanNamesForAnnotation(annotation)) {
+                Class<?> beanType = applicationContext.getType(beanName);
+                if (beanType != null) {
+                    Class<?> userClass = ClassUtils.getUserClass(beanType);
+                    beanTargets.putIfAbsent(getTypeName(userClass), new BeanTarget(beanName, userClass, false));
+                }
+            }
+        }
 
-        log.info("✅ 수집 완료! (컴포넌트: {}, 관계: {}, DB: {})",
-                componentMap.size(), relations.size(), databases.size());
+        try {
+            Class<?> repositoryClass = Class.forName("org.springframework.data.repository.Repository");
+            for (String beanName : applicationContext.getBeanNamesForType(repositoryClass)) {
+                // FactoryBean 은 Repository 인터페이스 자체를, 생성된 Bean 은 프록시 클래스를 반환
+                Class<?> beanType = applicationContext.getType(beanName);
+                if (beanType == null) {
+                    continue;
+                }
+                Class<?> repositoryInterface = beanType.isInterface() && !beanType.getName().startsWith("org.springframework")
+                        ? beanType
+                        : extractRepositoryInterface(beanType);
+                if (repositoryInterface != null) {
+                    beanTargets.putIfAbsent(getTypeName(repositoryInterface),
+                            new BeanTarget(beanName, repositoryInterface, true));
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            log.debug("ℹ️ Spring Data Repository를 찾을 수 없음. JDBC 전용 프로젝트인 것으로 판단.");
+        }
 
-        // ✅ 1단계: 컴포넌트만 먼저 전송
-        log.info("📤 [1단계] 컴포넌트 정보 전송...");
-        List<ComponentRequest> componentRequests = componentMap.values().stream()
-                .map(this::convertToComponentRequest)
-                .toList();
+        return beanTargets;
+    }
 
-        // ComponentBatchRequest로 전송
-        ComponentBatchRequest batchRequest = new ComponentBatchRequest(componentRequests);
-        sender.sendComponents(batchRequest);
-        // ✅ 2단계: 의존성 관계 나중에 전송
-        log.info("📤 [2단계] 의존성 관계 정보 전송...");
-        sender.sendDependencies(projectName, relations, databases);
+    /**
+     * 지정한 Bean 만 이름으로 조회하여 수집 (매니페스트에 없는 Bean 보충용)
+     * Spring Data Repository 는 인터페이스만 컴포넌트로 등록하고, 나머지는 생성자 의존성까지 분석합니다.
+     */
+    private void collectBeanTargets(
+            List<BeanTarget> targets,
+            Map<String, Component> componentMap,
+            Set<DependencyRelation> relations) {
 
-        log.info("🎉 전송 완료!");
+        for (BeanTarget target : targets) {
+            if (target.repositoryInterface()) {
+                collectRepositoryInterface(target.type(), componentMap);
+                continue;
+            }
+            try {
+                collectBean(applicationContext.getBean(target.beanName()), componentMap, relations);
+            } catch (Exception e) {
+                log.debug("⚠️ Bean 조회 실패: {} - {}", target.beanName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 매니페스트 기반 수집 (Bean 인스턴스 조회/리플렉션 없음)
+     * 실제 Bean 이 아닌 항목(@Profile, @Conditional, 스캔 필터로 제외된 클래스)은 버립니다.
+     * 인터페이스 타입 의존성은 구현 클래스가 하나뿐이면 그 클래스로 해석합니다.
+     * (리플렉션 수집에서 getBean 결과의 실제 클래스를 사용하는 것과 같은 결과)
+     *
+     * @param beanTypes 컨텍스트에 등록된 수집 대상 Bean 타입
+     * @return 매니페스트로 수집한 Bean 타입
+     */
+    private Set<String> collectFromManifest(
+            ComponentManifest manifest,
+            Set<String> beanTypes,
+            Map<String, Component> componentMap,
+            Set<DependencyRelation> relations) {
+
+        Map<String, ComponentManifest.Entry> entriesByType = new LinkedHashMap<>();
+        Map<String, List<ComponentManifest.Entry>> implementations = new HashMap<>();
+        Set<String> skippedTypes = new HashSet<>();
+        for (ComponentManifest.Entry entry : manifest.components()) {
+            if (!beanTypes.contains(entry.type())) {
+                skippedTypes.add(entry.type());
+                log.debug("⭐️ Bean 이 아닌 매니페스트 항목 제외: {}", entry.type());
+                continue;
+            }
+            if (entriesByType.putIfAbsent(entry.type(), entry) != null) {
+                continue;
+            }
+            if (entry.interfaces() != null) {
+                for (String intf : entry.interfaces()) {
+                    implementations.computeIfAbsent(intf, key -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+
+        log.info("📄 컴포넌트 매니페스트 사용: {} 개 (Bean 아님 제외: {} 개)", entriesByType.size(), skippedTypes.size());
+
+        for (ComponentManifest.Entry entry : entriesByType.values()) {
+            Component component = new Component(entry.name(), entry.name(), entry.packageName(), entry.layer());
+            componentMap.putIfAbsent(getComponentKey(entry.packageName(), entry.name()), component);
+        }
+
+        for (ComponentManifest.Entry entry : entriesByType.values()) {
+            if (entry.dependencies() == null) {
+                continue;
+            }
+            for (ComponentManifest.Dependency dep : entry.dependencies()) {
+                ComponentManifest.Entry target = entriesByType.get(dep.type());
+                if (target == null) {
+                    List<ComponentManifest.Entry> candidates = implementations.getOrDefault(dep.type(), List.of());
+                    target = candidates.size() == 1 ? candidates.get(0) : null;
+                }
+                if (target == null && skippedTypes.contains(dep.type())) {
+                    continue;  // Bean 이 아닌 컴포넌트 (리플렉션 수집에서 getBean 실패와 같은 결과)
+                }
+
+                Component depComponent = target != null
+                        ? new Component(target.name(), target.name(), target.packageName(), target.layer())
+                        : new Component(dep.name(), dep.name(), dep.packageName(), dep.layer());
+                componentMap.putIfAbsent(getComponentKey(depComponent.packageName(), depComponent.name()), depComponent);
+
+                if (relations.add(new DependencyRelation(entry.name(), depComponent.name()))) {
+                    log.debug("  ➡️ {} → {}", entry.name(), depComponent.name());
+                }
+            }
+        }
+
+        return entriesByType.keySet();
     }
 
     /**
      * 특정 어노테이션이 붙은 Bean들 수집
      */
     private void collectBeansWithAnnotation(
-            Class<? extends java.lang.annotation.Annotation> annotationClass,
+            Class<? extends Annotation> annotationClass,
             Map<String, Component> componentMap,
-            List<DependencyRelation> relations) {
+            Set<DependencyRelation> relations) {
 
         Map<String, Object> beans = applicationContext.getBeansWithAnnotation(annotationClass);
 
         log.debug("🔍 {} Bean 수집: {} 개", annotationClass.getSimpleName(), beans.size());
 
-        for (Map.Entry<String, Object> entry : beans.entrySet()) {
-            Object bean = entry.getValue();
-            Class<?> targetClass = ClassUtils.getUserClass(bean.getClass());
+        for (Object bean : beans.values()) {
+            collectBean(bean, componentMap, relations);
+        }
+    }
 
-            String componentKey = getComponentKey(targetClass);
+    /**
+     * Bean 하나를 컴포넌트로 등록하고 생성자 의존성 관계 수집
+     */
+    private void collectBean(
+            Object bean,
+            Map<String, Component> componentMap,
+            Set<DependencyRelation> relations) {
 
-            // ✅ 컴포넌트가 이미 있더라도 의존성은 수집해야 함
-            boolean isNewComponent = !componentMap.containsKey(componentKey);
+        Class<?> targetClass = ClassUtils.getUserClass(bean.getClass());
+        String componentKey = getComponentKey(targetClass);
 
-            if (isNewComponent) {
-                // 컴포넌트 생성
-                Component component = new Component(
-                        targetClass.getSimpleName(),
-                        targetClass.getSimpleName(),
-                        targetClass.getPackage().getName(),
-                        LayerDetector.detectLayer(targetClass)
-                );
+        // ✅ 컴포넌트가 이미 있더라도 의존성은 수집해야 함
+        boolean isNewComponent = !componentMap.containsKey(componentKey);
 
-                componentMap.put(componentKey, component);
-                log.debug("📦 수집: {}", component.name());
-            } else {
-                log.debug("⭐️ 이미 수집됨 (의존성은 계속 분석): {}", targetClass.getSimpleName());
-            }
+        if (isNewComponent) {
+            // 컴포넌트 생성
+            Component component = new Component(
+                    targetClass.getSimpleName(),
+                    targetClass.getSimpleName(),
+                    targetClass.getPackage().getName(),
+                    LayerDetector.detectLayer(targetClass)
+            );
 
-            // ✅ 의존성은 항상 수집
-            List<Component> dependencies = collectDependenciesForBean(
-                    bean, targetClass, componentMap);
-
-            // 관계 추가
-            Component component = componentMap.get(componentKey);
-            for (Component dep : dependencies) {
-                DependencyRelation relation = new DependencyRelation(
-                        component.name(),
-                        dep.name()
-                );
-
-                if (!relationExists(relations, relation)) {
-                    relations.add(relation);
-                    log.debug("  ➡️ {} → {}", component.name(), dep.name());
-                }
+            componentMap.put(componentKey, component);
+            log.debug("📦 수집: {}", component.name());
+        } else {
+            log.debug("⭐️ 이미 수집됨 (의존성은 계속 분석): {}", targetClass.getSimpleName());
+        }
+
+        // ✅ 의존성은 항상 수집
+        List<Component> dependencies = collectDependenciesForBean(
+                bean, targetClass, componentMap);
+
+        // 관계 추가
+        Component component = componentMap.get(componentKey);
+        for (Component dep : dependencies) {
+            DependencyRelation relation = new DependencyRelation(
+                    component.name(),
+                    dep.name()
+            );
+
+            if (relations.add(relation)) {
+                log.debug("  ➡️ {} → {}", component.name(), dep.name());
             }
         }
     }
@@ -140,7 +344,7 @@ public class DependencyCollector {
      */
     private void collectInterfaceBasedRepositories(
             Map<String, Component> componentMap,
-            List<DependencyRelation> relations) {
+            Set<DependencyRelation> relations) {
 
         try {
             // Spring Data Repository 마커 인터페이스로 Bean 찾기
@@ -154,36 +358,14 @@ public class DependencyCollector {
                 Object bean = entry.getValue();
 
                 // 프록시에서 실제 인터페이스 추출
-                Class<?> repositoryInterface = extractRepositoryInterface(bean);
+                Class<?> repositoryInterface = extractRepositoryInterface(bean.getClass());
 
                 if (repositoryInterface == null) {
                     log.warn("⚠️ Repository 인터페이스를 찾지 못함: {}", beanName);
                     continue;
                 }
 
-                log.debug("📦 Repository 발견: {}", repositoryInterface.getSimpleName());
-
-                String componentKey = getComponentKey(repositoryInterface);
-
-                // 중복 체크 (Class-based Repository와 겹칠 수 있음)
-                if (componentMap.containsKey(componentKey)) {
-                    log.debug("⭐️ 이미 수집된 Repository: {}", repositoryInterface.getSimpleName());
-                    continue;
-                }
-
-                // 컴포넌트 생성
-                Component component = new Component(
-                        repositoryInterface.getSimpleName(),
-                        repositoryInterface.getSimpleName(),
-                        repositoryInterface.getPackage().getName(),
-                        LayerDetector.detectLayer(repositoryInterface)
-                );
-
-                componentMap.put(componentKey, component);
-                log.debug("  ✅ Interface-based Repository 수집: {}", component.name());
-
-                // ⚠️ 의존성 수집 스킵 - 인터페이스는 생성자 없음
-                log.debug("  ⭐️ 의존성 수집 스킵 (인터페이스)");
+                collectRepositoryInterface(repositoryInterface, componentMap);
             }
 
         } catch (ClassNotFoundException e) {
@@ -192,18 +374,49 @@ public class DependencyCollector {
         }
     }
 
+    /**
+     * Repository 인터페이스를 컴포넌트로 등록 (인터페이스는 생성자가 없으므로 의존성 수집 없음)
+     */
+    private void collectRepositoryInterface(
+            Class<?> repositoryInterface,
+            Map<String, Component> componentMap) {
+
+        log.debug("📦 Repository 발견: {}", repositoryInterface.getSimpleName());
+
+        String componentKey = getComponentKey(repositoryInterface);
+
+        // 중복 체크 (Class-based Repository와 겹칠 수 있음)
+        if (componentMap.containsKey(componentKey)) {
+            log.debug("⭐️ 이미 수집된 Repository: {}", repositoryInterface.getSimpleName());
+            return;
+        }
+
+        // 컴포넌트 생성
+        Component component = new Component(
+                repositoryInterface.getSimpleName(),
+                repositoryInterface.getSimpleName(),
+                repositoryInterface.getPackage().getName(),
+                LayerDetector.detectLayer(repositoryInterface)
+        );
+
+        componentMap.put(componentKey, component);
+        log.debug("  ✅ Interface-based Repository 수집: {}", component.name());
+
+        // ⚠️ 의존성 수집 스킵 - 인터페이스는 생성자 없음
+        log.debug("  ⭐️ 의존성 수집 스킵 (인터페이스)");
+    }
+
     private void collectClassBasedRepositories(
             Map<String, Component> componentMap,
-            List<DependencyRelation> relations) {
+            Set<DependencyRelation> relations) {
 
         collectBeansWithAnnotation(Repository.class, componentMap, relations);
     }
 
     /**
-     * 프록시 Bean에서 실제 Repository 인터페이스 추출
+     * 프록시 Bean 클래스에서 실제 Repository 인터페이스 추출
      */
-    private Class<?> extractRepositoryInterface(Object bean) {
-        Class<?> beanClass = bean.getClass();
+    private Class<?> extractRepositoryInterface(Class<?> beanClass) {
         Class<?>[] interfaces = beanClass.getInterfaces();
 
         log.debug("  🔍 인터페이스 탐색 중...");
@@ -248,14 +461,6 @@ public class DependencyCollector {
         return null;
     }
 
-    // 헬퍼 메서드
-    private boolean relationExists(List<DependencyRelation> relations,
-                                   DependencyRelation relation) {
-        return relations.stream()
-                .anyMatch(r -> r.from().equals(relation.from())
-                        && r.to().equals(relation.to()));
-    }
-
     /**
      * 개별 Bean의 의존성 수집
      */
@@ -364,7 +569,19 @@ public class DependencyCollector {
      * 컴포넌트 고유 키 생성
      */
     private String getComponentKey(Class<?> clazz) {
-        return clazz.getPackage().getName() + "." + clazz.getSimpleName();
+        return getComponentKey(clazz.getPackage().getName(), clazz.getSimpleName());
+    }
+
+    private String getComponentKey(String packageName, String simpleName) {
+        return packageName + "." + simpleName;
+    }
+
+    /**
+     * 매니페스트와 같은 형식의 타입 이름 (중첩 클래스는 '.' 구분)
+     */
+    private String getTypeName(Class<?> clazz) {
+        String canonicalName = clazz.getCanonicalName();
+        return canonicalName != null ? canonicalName : clazz.getName();
     }
 
     /**
@@ -490,4 +707,14 @@ public class DependencyCollector {
             default -> null;  // COMPONENT, UNKNOWN 등은 null로
         };
     }
+
+    /**
+     * 수집 대상 Bean
+     *
+     * @param beanName            Bean 이름
+     * @param type                Bean 클래스 (Spring Data Repository 는 선언한 인터페이스)
+     * @param repositoryInterface Spring Data Repository 여부
+     */
+    private record BeanTarget(String beanName, Class<?> type, boolean repositoryInterface) {
+    }
 }
@@ -1,40 +1,84 @@
 package a306.dependency_logger_starter.dependency.client;
 
-import a306.dependency_logger_starter.dependency.dto.Component;
 import a306.dependency_logger_starter.dependency.dto.ComponentBatchRequest;
+import a306.dependency_logger_starter.dependency.dto.ComponentRequest;
 import a306.dependency_logger_starter.dependency.dto.DependencyRelation;
 import a306.dependency_logger_starter.dependency.dto.ProjectDependencyInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Collector로 의존성 정보를 전송하는 클라이언트
+ *
+ * - 컴포넌트/의존성/DB 목록의 내용 해시가 마지막으로 수신 확인된 해시와 같으면 전송 생략
+ * - 요청 본문은 gzip 압축 (dependency.logger.sender.gzip=false 로 끌 수 있음)
+ * - 연결 오류, 408/429/5xx 응답은 지수 백오프로 제한 횟수만큼 재시도
+ * - 호출 스레드에서 블로킹 전송하므로 시작 스레드가 아닌 곳에서 호출 (DependencyCollector 참고)
  */
 @Slf4j
 public class DependencyLogSender {
 
     private static final String UUID_HEADER = "X-UUID";
-    private final WebClient webClient;
+    private static final String COMPONENTS_PATH = "/api/components/batch";
+    private static final String DEPENDENCIES_PATH = "/api/dependencies/relations";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final DependencyReportState reportState;
+    private final String collectorUrl;
+    private final String apiKey;
     private final boolean enabled;
+    private final boolean gzip;
+    private final int maxAttempts;
+    private final Duration timeout;
+    private final Duration initialBackoff;
 
     /**
      * 생성자
      *
-     * @param collectorUrl Collector 서버 URL
-     * @param enabled 전송 활성화 여부
+     * @param collectorUrl   Collector 서버 URL
+     * @param apiKey         프로젝트 UUID
+     * @param enabled        전송 활성화 여부
+     * @param objectMapper   요청 본문 직렬화
+     * @param reportState    마지막 수신 확인 해시 저장소
+     * @param gzip           요청 본문 gzip 압축 여부
+     * @param maxAttempts    요청당 최대 시도 횟수
+     * @param timeout        요청 타임아웃
+     * @param initialBackoff 첫 재시도 대기 시간 (이후 2배씩 증가)
      */
-    public DependencyLogSender(String collectorUrl, String apiKey, boolean enabled) {
-        this.webClient = WebClient.builder()
-                .baseUrl(collectorUrl)
-                .defaultHeader("Content-Type", "application/json")
-                .defaultHeader(UUID_HEADER, apiKey)
-                .build();
-
+    public DependencyLogSender(String collectorUrl, String apiKey, boolean enabled,
+                               ObjectMapper objectMapper, DependencyReportState reportState,
+                               boolean gzip, int maxAttempts, Duration timeout, Duration initialBackoff) {
+        this.collectorUrl = stripTrailingSlash(collectorUrl);
+        this.apiKey = apiKey;
         this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.reportState = reportState;
+        this.gzip = gzip;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.timeout = timeout;
+        this.initialBackoff = initialBackoff;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
 
         log.info("DependencyLogSender 초기화 완료");
         log.info("  - Collector URL: {}", collectorUrl);
@@ -42,92 +86,198 @@ public class DependencyLogSender {
                 apiKey != null && apiKey.length() > 8 ? apiKey.substring(0, 8) : "****",
                 apiKey != null && apiKey.length() > 12 ? apiKey.substring(apiKey.length() - 4) : "****");
         log.info("  - 전송 활성화: {}", enabled);
+        log.info("  - gzip: {}, 최대 시도: {}, 상태 파일: {}", gzip, this.maxAttempts, reportState.getStateFile());
     }
 
-
     /**
-     * 컴포넌트만 Collector에 전송
+     * 컴포넌트 → 의존성 관계 순서로 전송 (그래프가 바뀐 경우에만)
+     * 두 요청이 모두 성공해야 해시를 저장하므로, 일부 실패 시 다음 시작 때 다시 전송합니다.
+     *
+     * @param projectName 프로젝트명
+     * @param components  컴포넌트 목록
+     * @param relations   의존성 관계 목록
+     * @param databases   감지된 DB 목록
+     * @return 전송했거나 변경이 없어 생략했으면 true
      */
-    public void sendComponents(ComponentBatchRequest request) {
+    public boolean report(String projectName,
+                          List<ComponentRequest> components,
+                          List<DependencyRelation> relations,
+                          List<String> databases) {
         if (!enabled) {
             log.debug("의존성 전송이 비활성화되어 있습니다.");
-            return;
+            return false;
+        }
+
+        String hash = contentHash(projectName, components, relations, databases);
+        if (hash.equals(reportState.readAcknowledgedHash())) {
+            log.info("⏭️ 의존성 그래프 변경 없음 - 전송 생략 (컴포넌트: {}, 관계: {})",
+                    components.size(), relations.size());
+            return true;
+        }
+
+        log.info("📤 [1단계] 컴포넌트 정보 전송: {} 개", components.size());
+        if (!post(COMPONENTS_PATH, new ComponentBatchRequest(components), "컴포넌트")) {
+            return false;
+        }
+
+        log.info("📤 [2단계] 의존성 관계 정보 전송: {} 개", relations.size());
+        ProjectDependencyInfo dependencyInfo = new ProjectDependencyInfo(
+                projectName,
+                List.of(),  // 컴포넌트는 1단계에서 전송
+                relations,
+                databases
+        );
+        if (!post(DEPENDENCIES_PATH, dependencyInfo, "의존성 관계")) {
+            return false;
+        }
+
+        reportState.writeAcknowledgedHash(hash);
+        return true;
+    }
+
+    /**
+     * 그래프 내용 해시 (SHA-256)
+     * 수집 순서와 무관하도록 정렬한 정규 형태로 계산하며, 전송 대상(Collector URL, API Key)도 포함합니다.
+     */
+    String contentHash(String projectName,
+                       List<ComponentRequest> components,
+                       List<DependencyRelation> relations,
+                       List<String> databases) {
+        List<String> componentLines = new ArrayList<>(components.size());
+        for (ComponentRequest c : components) {
+            componentLines.add(join(c.name(), c.classType(), c.componentType(), c.packageName(), c.layer(), c.technology()));
+        }
+        List<String> relationLines = new ArrayList<>(relations.size());
+        for (DependencyRelation r : relations) {
+            relationLines.add(join(r.from(), r.to()));
         }
+        List<String> databaseLines = new ArrayList<>(databases);
 
-        log.info("📤 컴포넌트 정보 전송 시작");
-        log.info("  - 컴포넌트: {} 개", request.components().size());
+        componentLines.sort(null);
+        relationLines.sort(null);
+        databaseLines.sort(null);
 
         try {
-            webClient.post()
-                    .uri("/api/components/batch")
-                    .body(Mono.just(request), ComponentBatchRequest.class)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .doOnSuccess(response ->
-                            log.info("✅ 컴포넌트 정보 전송 성공")
-                    )
-                    .doOnError(error ->
-                            log.warn("⚠️ 컴포넌트 정보 전송 실패: {}",
-                                    error.getMessage())
-                    )
-                    .onErrorResume(e -> {
-                        log.error("컴포넌트 전송 중 예외 발생 (무시됨): {}", e.getMessage());
-                        return Mono.empty();
-                    })
-                    .block();
-
-        } catch (Exception e) {
-            log.error("컴포넌트 전송 중 예외 발생", e);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, join(collectorUrl, apiKey, projectName));
+            updateSection(digest, "components", componentLines);
+            updateSection(digest, "relations", relationLines);
+            updateSection(digest, "databases", databaseLines);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
 
     /**
-     * 의존성 관계만 Collector에 전송
+     * 요청 하나를 재시도 포함 전송
      *
-     * @param projectName 프로젝트명
-     * @param dependencies 의존성 관계 목록
+     * @return 2xx 응답을 받으면 true
      */
-    public void sendDependencies(String projectName, List<DependencyRelation> dependencies, List<String> databases) {
-        if (!enabled) {
-            log.debug("의존성 전송이 비활성화되어 있습니다.");
-            return;
+    private boolean post(String path, Object payload, String label) {
+        byte[] body;
+        try {
+            body = encode(payload);
+        } catch (IOException e) {
+            log.error("{} 정보 직렬화 실패", label, e);
+            return false;
         }
 
-        log.info("📤 의존성 관계 정보 전송 시작: {}", projectName);
-        log.info("  - 의존성 관계: {} 개", dependencies.size());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(collectorUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (apiKey != null) {
+            builder.header(UUID_HEADER, apiKey);
+        }
+        if (gzip) {
+            builder.header("Content-Encoding", "gzip");
+        }
+        HttpRequest request = builder.build();
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            boolean retryable;
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                int status = response.statusCode();
+                if (status >= 200 && status < 300) {
+                    log.info("✅ {} 정보 전송 성공 ({} bytes)", label, body.length);
+                    return true;
+                }
+                retryable = status == 408 || status == 429 || status >= 500;
+                log.warn("⚠️ {} 정보 전송 실패: status={}, 시도 {}/{}", label, status, attempt, maxAttempts);
+            } catch (IOException e) {
+                retryable = true;
+                log.warn("⚠️ {} 정보 전송 실패: {}, 시도 {}/{}", label, e.getMessage(), attempt, maxAttempts);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("⚠️ {} 정보 전송 중단 (인터럽트)", label);
+                return false;
+            }
+
+            if (!retryable || attempt == maxAttempts) {
+                break;
+            }
+            if (!sleep(backoff(attempt))) {
+                return false;
+            }
+        }
+
+        log.error("{} 정보 전송 포기 (다음 시작 시 다시 전송)", label);
+        return false;
+    }
+
+    private byte[] encode(Object payload) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        if (!gzip) {
+            return json;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        }
+        return out.toByteArray();
+    }
 
+    private Duration backoff(int attempt) {
+        long millis = initialBackoff.toMillis() << Math.min(attempt - 1, 10);
+        return Duration.ofMillis(Math.min(millis, MAX_BACKOFF_MILLIS));
+    }
+
+    private static boolean sleep(Duration duration) {
         try {
-            // DTO 생성 (의존성만 포함, 컴포넌트는 빈 리스트)
-            ProjectDependencyInfo dependencyInfo = new ProjectDependencyInfo(
-                    projectName,
-                    List.of(),  // 빈 컴포넌트 리스트
-                    dependencies,
-                    databases
-            );
-
-            webClient.post()
-                    .uri("/api/dependencies/relations")
-                    .body(Mono.just(dependencyInfo), ProjectDependencyInfo.class)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .doOnSuccess(response ->
-                            log.info("✅ 의존성 관계 정보 전송 성공: {}", projectName)
-                    )
-                    .doOnError(error ->
-                            log.warn("⚠️ 의존성 관계 정보 전송 실패: {} - {}",
-                                    projectName,
-                                    error.getMessage())
-                    )
-                    .onErrorResume(e -> {
-                        log.error("의존성 관계 전송 중 예외 발생 (무시됨): {}", e.getMessage());
-                        return Mono.empty();
-                    })
-                    .block();
-
-        } catch (Exception e) {
-            log.error("의존성 관계 전송 중 예외 발생", e);
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void updateSection(MessageDigest digest, String name, List<String> lines) {
+        update(digest, name + ":" + lines.size());
+        for (String line : lines) {
+            update(digest, line);
         }
     }
+
+    private static void update(MessageDigest digest, String line) {
+        digest.update(line.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static String join(String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append(FIELD_SEPARATOR);
+            }
+            sb.append(Objects.requireNonNullElse(fields[i], "\u0000"));
+        }
+        return sb.toString();
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
 }
@@ -0,0 +1,65 @@
+package a306.dependency_logger_starter.dependency.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Collector가 마지막으로 수신 확인한 의존성 그래프 해시 (로컬 파일)
+ * 파일을 읽거나 쓸 수 없으면 매번 전송하는 것으로 동작합니다.
+ */
+@Slf4j
+public class DependencyReportState {
+
+    private final Path stateFile;
+
+    public DependencyReportState(Path stateFile) {
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * 마지막으로 수신 확인된 해시 (없으면 null)
+     */
+    public String readAcknowledgedHash() {
+        try {
+            if (!Files.isRegularFile(stateFile)) {
+                return null;
+            }
+            String hash = Files.readString(stateFile, StandardCharsets.UTF_8).trim();
+            return hash.isEmpty() ? null : hash;
+        } catch (IOException e) {
+            log.debug("의존성 전송 상태 파일 읽기 실패: {} - {}", stateFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 수신 확인된 해시 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public void writeAcknowledgedHash(String hash) {
+        try {
+            Path parent = stateFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            Files.writeString(temp, hash, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 의존성 전송 상태 파일 저장 실패 (다음 시작 시 다시 전송): {} - {}", stateFile, e.getMessage());
+        }
+    }
+
+    public Path getStateFile() {
+        return stateFile;
+    }
+}
@@ -0,0 +1,42 @@
+package a306.dependency_logger_starter.dependency.manifest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * 컴파일 시점에 생성된 컴포넌트 매니페스트 (META-INF/loglens/component-manifest.json)
+ * loglens-component-manifest-processor 가 생성합니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ComponentManifest(
+        int version,
+        List<Entry> components
+) {
+
+    /**
+     * 컴포넌트 (클래스 또는 Spring Data Repository 인터페이스)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Entry(
+            String type,               // 전체 클래스명
+            String name,
+            String packageName,
+            String layer,              // CONTROLLER, SERVICE, REPOSITORY, COMPONENT, UNKNOWN
+            List<String> interfaces,   // 구현한 인터페이스 (전체 이름)
+            List<Dependency> dependencies
+    ) {
+    }
+
+    /**
+     * 생성자 파라미터로 선언된 Service/Repository 타입
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Dependency(
+            String type,
+            String name,
+            String packageName,
+            String layer
+    ) {
+    }
+}
@@ -0,0 +1,66 @@
+package a306.dependency_logger_starter.dependency.manifest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * 클래스패스의 컴포넌트 매니페스트 로더
+ * 모듈(jar)마다 매니페스트가 있을 수 있으므로 모두 읽어 합칩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ComponentManifestLoader {
+
+    public static final String MANIFEST_LOCATION = "META-INF/loglens/component-manifest.json";
+    private static final int SUPPORTED_VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 매니페스트 로드
+     *
+     * @param classLoader 애플리케이션 클래스로더
+     * @return 합친 매니페스트 (없거나 읽을 수 없으면 null → 리플렉션 수집)
+     */
+    public ComponentManifest load(ClassLoader classLoader) {
+        List<ComponentManifest.Entry> components = new ArrayList<>();
+        int manifestCount = 0;
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(MANIFEST_LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                ComponentManifest manifest;
+                try (InputStream in = url.openStream()) {
+                    manifest = objectMapper.readValue(in, ComponentManifest.class);
+                }
+
+                if (manifest.version() > SUPPORTED_VERSION) {
+                    log.warn("⚠️ 지원하지 않는 컴포넌트 매니페스트 버전: {} ({})", manifest.version(), url);
+                    return null;
+                }
+                if (manifest.components() != null) {
+                    components.addAll(manifest.components());
+                }
+                manifestCount++;
+                log.debug("📄 컴포넌트 매니페스트 로드: {}", url);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 컴포넌트 매니페스트 읽기 실패 (리플렉션으로 수집): {}", e.getMessage());
+            return null;
+        }
+
+        if (manifestCount == 0) {
+            return null;
+        }
+        return new ComponentManifest(SUPPORTED_VERSION, components);
+    }
+}
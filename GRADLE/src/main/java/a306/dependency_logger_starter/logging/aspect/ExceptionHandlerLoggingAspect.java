@@ -1,6 +1,7 @@
 package a306.dependency_logger_starter.logging.aspect;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,10 +16,6 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -35,13 +32,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ExceptionHandlerLoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final LogDispatcher logDispatcher;
 
     @Value("${dependency.logger.stacktrace.max-lines:-1}")
     private int maxStackTraceLines;
 
-    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
-
     @Around("@annotation(org.springframework.web.bind.annotation.ExceptionHandler)")
     public Object logExceptionHandler(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
@@ -71,48 +66,41 @@ public class ExceptionHandlerLoggingAspect {
 
     private void logException(Exception ex, long startTime, String componentName) {
         try {
-            Map<String, Object> logEntry = createBaseLogEntry(ex, startTime, componentName);
-            Map<String, Object> exceptionInfo = createExceptionInfo(ex);
+            String httpMethod = null;
+            String endpoint = null;
+            String queryString = null;
+
+            try {
+                ServletRequestAttributes attributes =
+                        (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+
+                if (attributes != null) {
+                    HttpServletRequest request = attributes.getRequest();
+                    httpMethod = request.getMethod();
+                    endpoint = request.getRequestURI();
+                    queryString = request.getQueryString();
+                }
+            } catch (Exception e) {
+                log.debug("HTTP 정보 추출 실패: {}", e.getMessage());
+            }
 
-            logEntry.put("exception", exceptionInfo);
-            log.error("{}", objectMapper.writeValueAsString(logEntry));
+            Map<String, String> validationErrors = (ex instanceof MethodArgumentNotValidException validEx)
+                    ? collectValidationErrors(validEx)
+                    : null;
+
+            long now = System.currentTimeMillis();
+            LogEvent event = LogEvent.handledException(now, MDC.get("traceId"), MDC.get("client_ip"),
+                    ex.getClass().getName(), componentName, buildMessage(ex), now - startTime,
+                    ex.getClass().getName(), validationErrors, httpMethod, endpoint, queryString,
+                    getStackTrace(ex));
+
+            logDispatcher.dispatch(log, event);
 
         } catch (Exception e) {
             log.error("예외 로깅 실패", e);
         }
     }
 
-    private Map<String, Object> createBaseLogEntry(Exception ex, long startTime, String componentName) {
-        Map<String, Object> logEntry = new LinkedHashMap<>();
-        logEntry.put("@timestamp", LocalDateTime.now().atZone(ZoneOffset.UTC).format(ISO_FORMATTER));
-        logEntry.put("trace_id", MDC.get("traceId"));
-        logEntry.put("client_ip", MDC.get("client_ip"));
-        logEntry.put("level", "ERROR");
-        logEntry.put("package", ex.getClass().getName());
-        logEntry.put("component_name", componentName);
-        logEntry.put("layer", "CONTROLLER");
-        logEntry.put("message", buildMessage(ex));
-        logEntry.put("execution_time_ms", System.currentTimeMillis() - startTime);
-        logEntry.put("request", null);
-        logEntry.put("response", null);
-        return logEntry;
-    }
-
-    private Map<String, Object> createExceptionInfo(Exception ex) {
-        Map<String, Object> exceptionInfo = new LinkedHashMap<>();
-        exceptionInfo.put("type", ex.getClass().getName());
-        exceptionInfo.put("message", buildMessage(ex));
-
-        if (ex instanceof MethodArgumentNotValidException) {
-            addValidationErrors(exceptionInfo, (MethodArgumentNotValidException) ex);
-        }
-
-        addHttpInfo(exceptionInfo);
-        exceptionInfo.put("stacktrace", getStackTrace(ex));
-
-        return exceptionInfo;
-    }
-
     private String buildMessage(Exception ex) {
         if (ex instanceof MethodArgumentNotValidException validEx) {
             return "Validation failed: " + validEx.getBindingResult().getErrorCount() + " error(s)";
@@ -120,8 +108,8 @@ public class ExceptionHandlerLoggingAspect {
         return ex.getMessage();
     }
 
-    private void addValidationErrors(Map<String, Object> exceptionInfo, MethodArgumentNotValidException ex) {
-        Map<String, String> validationErrors = ex.getBindingResult()
+    private Map<String, String> collectValidationErrors(MethodArgumentNotValidException ex) {
+        return ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
                 .collect(Collectors.toMap(
@@ -133,29 +121,6 @@ public class ExceptionHandlerLoggingAspect {
                                 fieldError.getRejectedValue()),
                         (existing, replacement) -> existing
                 ));
-        exceptionInfo.put("validationErrors", validationErrors);
-    }
-
-    private void addHttpInfo(Map<String, Object> exceptionInfo) {
-        try {
-            ServletRequestAttributes attributes =
-                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                Map<String, Object> httpInfo = new LinkedHashMap<>();
-                httpInfo.put("method", request.getMethod());
-                httpInfo.put("endpoint", request.getRequestURI());
-
-                if (request.getQueryString() != null) {
-                    httpInfo.put("queryString", request.getQueryString());
-                }
-
-                exceptionInfo.put("http", httpInfo);
-            }
-        } catch (Exception e) {
-            log.debug("HTTP 정보 추출 실패: {}", e.getMessage());
-        }
     }
 
     private String getStackTrace(Throwable e) {
@@ -1,17 +1,16 @@
 package a306.dependency_logger_starter.logging.aspect;
 
-import a306.dependency_logger_starter.logging.annotation.ExcludeValue;
-import a306.dependency_logger_starter.logging.annotation.Sensitive;
-import a306.dependency_logger_starter.logging.util.TypeChecker;
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadata;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadata.ParameterMetadata;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadataRegistry;
+import a306.dependency_logger_starter.logging.util.CaptureBudget;
 import a306.dependency_logger_starter.logging.util.ValueProcessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +20,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.util.ClassUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -36,12 +34,20 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @RequiredArgsConstructor
 public class MethodLoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final LogDispatcher logDispatcher;
+    private final MethodMetadataRegistry methodMetadataRegistry;
 
     @Value("${dependency.logger.stacktrace.max-lines:-1}")
     private int maxStackTraceLines;
 
-    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
+    @Value("${dependency.logger.capture.max-value-size:2048}")
+    private int maxValueSize;
+
+    @Value("${dependency.logger.capture.max-event-size:8192}")
+    private int maxEventSize;
+
+    @Value("${dependency.logger.capture.max-depth:4}")
+    private int maxDepth;
 
     @Around("within(@org.springframework.web.bind.annotation.RestController *) && execution(public * *(..)) " +
             "&& !@annotation(a306.dependency_logger_starter.logging.annotation.NoLogging) " +
@@ -86,25 +92,19 @@ public class MethodLoggingAspect {
     private Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Class<?> targetClass = ClassUtils.getUserClass(joinPoint.getTarget().getClass());
-
-        String methodName = signature.getMethod().getName();
-        String packageName = targetClass.getName();
-        String componentName = targetClass.getSimpleName();
-        String layer = detectLayer(targetClass);
-
-        String actualRepositoryName = null;
-        if ("REPOSITORY".equals(layer)) {
-            actualRepositoryName = extractActualRepositoryName(joinPoint.getTarget());
-            if (actualRepositoryName != null) {
-                MDC.put("actual_repository_name", actualRepositoryName);
-                componentName = actualRepositoryName;
-                packageName = extractRepositoryPackage(joinPoint.getTarget());
-            }
+        MethodMetadata metadata = methodMetadataRegistry.resolve(signature, joinPoint.getTarget().getClass());
+
+        String methodName = metadata.methodName();
+        String packageName = metadata.packageName();
+        String componentName = metadata.componentName();
+        String layer = metadata.layer();
+
+        if (metadata.actualRepositoryName() != null) {
+            MDC.put("actual_repository_name", metadata.actualRepositoryName());
         }
 
         HttpInfo httpInfo = extractHttpInfo();
-        Map<String, Object> parameters = collectParameters(signature, joinPoint.getArgs());
+        Map<String, Object> parameters = collectParameters(metadata, joinPoint.getArgs());
 
         logRequest(packageName, componentName, layer, methodName, parameters, httpInfo);
 
@@ -131,79 +131,6 @@ public class MethodLoggingAspect {
         return result;
     }
 
-    /**
-     * Repository의 실제 패키지명 추출
-     */
-    private String extractRepositoryPackage(Object target) {
-        try {
-            Class<?>[] interfaces = target.getClass().getInterfaces();
-            for (Class<?> iface : interfaces) {
-                String name = iface.getSimpleName();
-                if (name.endsWith("Repository") &&
-                        !name.equals("Repository") &&
-                        !name.equals("JpaRepository")) {
-                    return iface.getName();
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Repository 패키지 추출 실패: {}", e.getMessage());
-        }
-        return target.getClass().getName();
-    }
-
-    /**
-     * JPA Repository Proxy에서 실제 Repository 인터페이스 이름 추출
-     */
-    private String extractActualRepositoryName(Object target) {
-        if (target == null) {
-            return null;
-        }
-
-        try {
-            Class<?>[] interfaces = target.getClass().getInterfaces();
-
-            for (Class<?> iface : interfaces) {
-                String name = iface.getSimpleName();
-                if (name.endsWith("Repository") &&
-                        !name.equals("Repository") &&
-                        !name.equals("JpaRepository") &&
-                        !name.equals("CrudRepository") &&
-                        !name.equals("PagingAndSortingRepository") &&
-                        !name.equals("QueryByExampleExecutor") &&
-                        !name.equals("JpaSpecificationExecutor")) {
-
-                    log.debug("실제 Repository 발견: {}", name);
-                    return name;
-                }
-            }
-
-        } catch (Exception e) {
-            log.debug("Repository 이름 추출 실패: {}", e.getMessage());
-        }
-
-        return null;
-    }
-
-    private String detectLayer(Class<?> targetClass) {
-        if (targetClass.isAnnotationPresent(org.springframework.web.bind.annotation.RestController.class)) {
-            return "CONTROLLER";
-        }
-        if (targetClass.isAnnotationPresent(org.springframework.stereotype.Service.class)) {
-            return "SERVICE";
-        }
-        if (targetClass.isAnnotationPresent(org.springframework.stereotype.Repository.class)) {
-            return "REPOSITORY";
-        }
-
-        for (Class<?> interfaceClass : targetClass.getInterfaces()) {
-            if (interfaceClass.getName().contains("Repository")) {
-                return "REPOSITORY";
-            }
-        }
-
-        return "UNKNOWN";
-    }
-
     private HttpInfo extractHttpInfo() {
         try {
             ServletRequestAttributes attributes =
@@ -227,22 +154,14 @@ public class MethodLoggingAspect {
     private void logRequest(String packageName, String componentName, String layer, String methodName,
                             Map<String, Object> parameters, HttpInfo httpInfo) {
         try {
-            Map<String, Object> logEntry = createBaseLogEntry(packageName, componentName, layer);
-            logEntry.put("message", "Request received: " + methodName);
-            logEntry.put("execution_time_ms", null);
-
-            Map<String, Object> request = new LinkedHashMap<>();
-            if (httpInfo != null) {
-                request.put("http", createHttpInfoMap(httpInfo, false));
-            }
-            request.put("method", methodName);
-            request.put("parameters", parameters);
-
-            logEntry.put("request", request);
-            logEntry.put("response", null);
-            logEntry.put("exception", null);
+            LogEvent event = LogEvent.request(System.currentTimeMillis(), MDC.get("traceId"), MDC.get("client_ip"),
+                    packageName, componentName, layer, methodName,
+                    httpInfo != null ? httpInfo.method : null,
+                    httpInfo != null ? httpInfo.uri : null,
+                    httpInfo != null ? httpInfo.queryString : null,
+                    parameters);
 
-            log.info("{}", objectMapper.writeValueAsString(logEntry));
+            logDispatcher.dispatch(log, event);
 
         } catch (Exception e) {
             log.error("REQUEST 로그 출력 실패", e);
@@ -253,33 +172,27 @@ public class MethodLoggingAspect {
                              Object responseData, Long executionTime, Throwable exception,
                              HttpInfo httpInfo) {
         try {
-            Map<String, Object> logEntry = createBaseLogEntry(packageName, componentName, layer);
-            logEntry.put("execution_time_ms", executionTime);
-            logEntry.put("request", null);
+            long timestamp = System.currentTimeMillis();
+            String traceId = MDC.get("traceId");
+            String clientIp = MDC.get("client_ip");
 
             if (exception != null) {
-                logEntry.put("level", "ERROR");
-                logEntry.put("message", "Failed to execute " + methodName + ": " + exception.getMessage());
-                logEntry.put("response", null);
-                logEntry.put("exception", createExceptionInfo(exception));
+                LogEvent event = LogEvent.failure(timestamp, traceId, clientIp,
+                        packageName, componentName, layer, methodName, executionTime,
+                        exception.getClass().getName(), exception.getMessage(), getStackTrace(exception));
 
-                log.error("{}", objectMapper.writeValueAsString(logEntry));
+                logDispatcher.dispatch(log, event);
 
             } else {
-                logEntry.put("level", "INFO");
-                logEntry.put("message", "Response completed: " + methodName);
-
-                Map<String, Object> response = new LinkedHashMap<>();
-                if (httpInfo != null) {
-                    response.put("http", createHttpInfoMap(httpInfo, true));
-                }
-                response.put("method", methodName);
-                response.put("result", responseData);
-
-                logEntry.put("response", response);
-                logEntry.put("exception", null);
-
-                log.info("{}", objectMapper.writeValueAsString(logEntry));
+                LogEvent event = LogEvent.response(timestamp, traceId, clientIp,
+                        packageName, componentName, layer, methodName, executionTime,
+                        httpInfo != null ? httpInfo.method : null,
+                        httpInfo != null ? httpInfo.uri : null,
+                        httpInfo != null ? httpInfo.queryString : null,
+                        httpInfo != null ? httpInfo.statusCode : null,
+                        responseData);
+
+                logDispatcher.dispatch(log, event);
             }
 
         } catch (Exception e) {
@@ -287,74 +200,35 @@ public class MethodLoggingAspect {
         }
     }
 
-    private Map<String, Object> createBaseLogEntry(String packageName, String componentName, String layer) {
-        Map<String, Object> logEntry = new LinkedHashMap<>();
-        logEntry.put("@timestamp", LocalDateTime.now().atZone(ZoneOffset.UTC).format(ISO_FORMATTER));
-        logEntry.put("trace_id", MDC.get("traceId"));
-        logEntry.put("client_ip", MDC.get("client_ip"));
-        logEntry.put("level", "INFO");
-        logEntry.put("package", packageName);
-        logEntry.put("component_name", componentName);
-        logEntry.put("layer", layer);
-        return logEntry;
-    }
-
-    private Map<String, Object> createHttpInfoMap(HttpInfo httpInfo, boolean includeStatusCode) {
-        Map<String, Object> http = new LinkedHashMap<>();
-        http.put("method", httpInfo.method);
-        http.put("endpoint", httpInfo.uri);
-
-        if (includeStatusCode && httpInfo.statusCode != null) {
-            http.put("statusCode", httpInfo.statusCode);
-        }
-        if (httpInfo.queryString != null) {
-            http.put("queryString", httpInfo.queryString);
-        }
-
-        return http;
-    }
-
-    private Map<String, Object> createExceptionInfo(Throwable exception) {
-        Map<String, Object> exceptionInfo = new LinkedHashMap<>();
-        exceptionInfo.put("type", exception.getClass().getName());
-        exceptionInfo.put("message", exception.getMessage());
-        exceptionInfo.put("stacktrace", getStackTrace(exception));
-        return exceptionInfo;
-    }
-
-    private Map<String, Object> collectParameters(MethodSignature signature, Object[] args) {
+    private Map<String, Object> collectParameters(MethodMetadata metadata, Object[] args) {
         Map<String, Object> parameters = new LinkedHashMap<>();
 
         if (args == null || args.length == 0) {
             return parameters;
         }
 
-        String[] parameterNames = signature.getParameterNames();
-        Class<?>[] parameterTypes = signature.getParameterTypes();
-        Annotation[][] parameterAnnotations = signature.getMethod().getParameterAnnotations();
-
-        for (int i = 0; i < args.length; i++) {
-            String paramName = (parameterNames != null && i < parameterNames.length)
-                    ? parameterNames[i]
-                    : "arg" + i;
-
-            if (TypeChecker.isFrameworkClass(parameterTypes[i])) {
-                continue;
-            }
-
-            Annotation[] annotations = parameterAnnotations[i];
+        List<ParameterMetadata> parameterMetadata = metadata.parameters();
+        int count = Math.min(args.length, parameterMetadata.size());
+        CaptureBudget eventBudget = CaptureBudget.of(maxEventSize, maxDepth);
 
-            if (hasAnnotation(annotations, ExcludeValue.class)) {
-                parameters.put(paramName, ValueProcessor.getExcludedValue());
-                continue;
-            }
+        for (int i = 0; i < count; i++) {
+            ParameterMetadata parameter = parameterMetadata.get(i);
 
-            if (hasAnnotation(annotations, Sensitive.class)) {
-                parameters.put(paramName, ValueProcessor.getMaskedValue());
-                continue;
+            switch (parameter.mode()) {
+                case SKIPPED -> {
+                }
+                case EXCLUDED -> parameters.put(parameter.name(), ValueProcessor.getExcludedValue());
+                case SENSITIVE -> parameters.put(parameter.name(), ValueProcessor.getMaskedValue());
+                case CAPTURE -> {
+                    if (eventBudget.isExhausted()) {
+                        parameters.put(parameter.name(), ValueProcessor.getTruncatedValue());
+                        continue;
+                    }
+                    CaptureBudget argumentBudget = eventBudget.slice(maxValueSize);
+                    parameters.put(parameter.name(), ValueProcessor.processValue(args[i], argumentBudget));
+                    eventBudget.consume(argumentBudget);
+                }
             }
-
-            parameters.put(paramName, ValueProcessor.processValue(args[i]));
         }
 
         return parameters;
@@ -378,21 +252,8 @@ public class MethodLoggingAspect {
             }
         }
 
-        String resultStr = result.toString();
-        if (resultStr.length() > 1000) {
-            return result.getClass().getSimpleName() + " [truncated]";
-        }
-
-        return ValueProcessor.processValue(result);
-    }
-
-    private boolean hasAnnotation(Annotation[] annotations, Class<? extends Annotation> annotationClass) {
-        for (Annotation annotation : annotations) {
-            if (annotation.annotationType() == annotationClass) {
-                return true;
-            }
-        }
-        return false;
+        // 전체 문자열을 만들지 않고 예산 안에서만 변환
+        return ValueProcessor.processValue(result, CaptureBudget.of(Math.min(maxValueSize, maxEventSize), maxDepth));
     }
 
     private String getStackTrace(Throwable e) {
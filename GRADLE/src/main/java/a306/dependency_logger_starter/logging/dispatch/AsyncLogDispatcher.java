@@ -0,0 +1,257 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import a306.dependency_logger_starter.logging.encoder.LogEventEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 배치 Dispatcher (dependency.logger.dispatch.mode=async)
+ * <p>
+ * 요청 스레드는 불변 {@link LogEvent}를 링 버퍼에 적재만 하고,
+ * 전용 소비자 스레드가 batch-size 단위로 꺼내 JSON 인코딩 및 출력을 수행한다.
+ * <p>
+ * 설정:
+ * - dependency.logger.dispatch.buffer-size: 버퍼 크기 (2의 거듭제곱으로 올림, 기본값 8192)
+ * - dependency.logger.dispatch.batch-size: 한 번에 처리할 최대 이벤트 수 (기본값 256)
+ * - dependency.logger.dispatch.overflow-policy: drop-oldest (기본값) / drop-debug-first / block
+ * <p>
+ * drop-debug-first 는 심각도(INFO / ERROR)별 레인을 두고, 가득 차면 새 이벤트보다 낮은 심각도 중
+ * 가장 낮은 심각도의 가장 오래된 이벤트를 버린다. 더 낮은 이벤트가 없을 때만 새 이벤트를 버린다.
+ */
+@Slf4j
+public class AsyncLogDispatcher implements LogDispatcher, AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+    private static final int DROP_OLDEST_MAX_ATTEMPTS = 16;
+    private static final int SEVERITY_INFO = 0;
+    private static final int SEVERITY_ERROR = 1;
+
+    private static final String MDC_TRACE_ID_KEY = "traceId";
+    private static final String MDC_CLIENT_IP_KEY = "client_ip";
+
+    private final LogEventEncoder logEventEncoder;
+    private final SeverityRingBuffer<PendingLog> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final Thread consumer;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+
+    public AsyncLogDispatcher(LogEventEncoder logEventEncoder, int bufferSize, int batchSize,
+                              OverflowPolicy overflowPolicy) {
+        this.logEventEncoder = logEventEncoder;
+        this.buffer = new SeverityRingBuffer<>(bufferSize,
+                overflowPolicy == OverflowPolicy.DROP_DEBUG_FIRST ? SEVERITY_ERROR + 1 : 1);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+
+        this.consumer = new Thread(this::consumeLoop, "loglens-log-dispatcher");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+
+        log.info("AsyncLogDispatcher 초기화 완료 (buffer: {}, batch: {}, overflow: {})",
+                buffer.capacity(), this.batchSize, overflowPolicy);
+    }
+
+    @Override
+    public void dispatch(Logger logger, LogEvent event) {
+        PendingLog pending = new PendingLog(logger, event);
+
+        if (!running) {
+            // 종료 이후에는 호출 스레드에서 바로 출력
+            LogEventWriter.write(logEventEncoder, logger, event);
+            return;
+        }
+
+        int severity = severityOf(event);
+        if (buffer.offer(pending, severity)) {
+            enqueuedCount.increment();
+            signalConsumer();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> offerDroppingOldest(pending, severity);
+            case DROP_DEBUG_FIRST -> offerDroppingLowerSeverity(pending, severity);
+            case BLOCK -> offerBlocking(pending, severity);
+        }
+    }
+
+    /**
+     * 현재 버퍼에 대기 중인 이벤트 수
+     */
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼 초과로 버려진 이벤트 누적 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 버퍼에 적재된 이벤트 누적 수
+     */
+    public long getEnqueuedCount() {
+        return enqueuedCount.sum();
+    }
+
+    /**
+     * 소비자 스레드가 출력한 이벤트 누적 수
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * 남은 이벤트를 모두 출력한 뒤 소비자 스레드 종료
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(consumer);
+
+        try {
+            consumer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("AsyncLogDispatcher 종료 (enqueued: {}, written: {}, dropped: {}, remaining: {})",
+                getEnqueuedCount(), getWrittenCount(), getDroppedCount(), getQueuedCount());
+    }
+
+    private void offerDroppingOldest(PendingLog pending, int severity) {
+        for (int attempt = 0; attempt < DROP_OLDEST_MAX_ATTEMPTS; attempt++) {
+            if (buffer.poll() != null) {
+                droppedCount.increment();
+            }
+            if (buffer.offer(pending, severity)) {
+                enqueuedCount.increment();
+                signalConsumer();
+                return;
+            }
+        }
+        droppedCount.increment();
+    }
+
+    /**
+     * 새 이벤트보다 낮은 심각도의 가장 오래된 이벤트를 버리고 적재 (없으면 새 이벤트를 버림)
+     */
+    private void offerDroppingLowerSeverity(PendingLog pending, int severity) {
+        for (int attempt = 0; attempt < DROP_OLDEST_MAX_ATTEMPTS; attempt++) {
+            if (!buffer.evictBelow(severity)) {
+                // 더 낮은 심각도가 없어도 소비자가 그 사이 공간을 만들었을 수 있음
+                if (buffer.offer(pending, severity)) {
+                    enqueuedCount.increment();
+                    signalConsumer();
+                } else {
+                    droppedCount.increment();
+                }
+                return;
+            }
+            droppedCount.increment();
+            if (buffer.offer(pending, severity)) {
+                enqueuedCount.increment();
+                signalConsumer();
+                return;
+            }
+        }
+        droppedCount.increment();
+    }
+
+    private void offerBlocking(PendingLog pending, int severity) {
+        while (running) {
+            signalConsumer();
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+
+            if (buffer.offer(pending, severity)) {
+                enqueuedCount.increment();
+                return;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                droppedCount.increment();
+                return;
+            }
+        }
+        LogEventWriter.write(logEventEncoder, pending.logger(), pending.event());
+    }
+
+    private void signalConsumer() {
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consumeLoop() {
+        while (running || !buffer.isEmpty()) {
+            int written = drainBatch();
+
+            if (written == 0) {
+                consumerParked = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                consumerParked = false;
+            }
+        }
+    }
+
+    private int drainBatch() {
+        int count = 0;
+
+        try {
+            PendingLog pending;
+            while (count < batchSize && (pending = buffer.poll()) != null) {
+                LogEvent event = pending.event();
+                putMdc(MDC_TRACE_ID_KEY, event.traceId());
+                putMdc(MDC_CLIENT_IP_KEY, event.clientIp());
+
+                LogEventWriter.write(logEventEncoder, pending.logger(), event);
+                count++;
+            }
+        } catch (Throwable t) {
+            log.error("비동기 로그 출력 실패", t);
+        } finally {
+            MDC.remove(MDC_TRACE_ID_KEY);
+            MDC.remove(MDC_CLIENT_IP_KEY);
+        }
+
+        writtenCount.add(count);
+        return count;
+    }
+
+    private static int severityOf(LogEvent event) {
+        return event.isError() ? SEVERITY_ERROR : SEVERITY_INFO;
+    }
+
+    private static void putMdc(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+
+    private record PendingLog(Logger logger, LogEvent event) {
+    }
+}
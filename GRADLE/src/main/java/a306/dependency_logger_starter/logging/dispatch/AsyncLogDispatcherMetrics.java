@@ -0,0 +1,47 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 비동기 Dispatcher 지표 (Micrometer가 클래스패스에 있을 때만 등록)
+ * <p>
+ * - loglens.dispatch.enqueued: 버퍼에 적재된 이벤트 누적 수
+ * - loglens.dispatch.written: 소비자 스레드가 출력한 이벤트 누적 수
+ * - loglens.dispatch.dropped: 버퍼 초과로 버려진 이벤트 누적 수
+ * - loglens.dispatch.queued: 현재 버퍼에 대기 중인 이벤트 수
+ * <p>
+ * Dispatcher가 동기 모드(AsyncLogDispatcher 없음)이면 아무것도 등록하지 않는다.
+ */
+public class AsyncLogDispatcherMetrics implements MeterBinder {
+
+    private final ObjectProvider<AsyncLogDispatcher> dispatcherProvider;
+
+    public AsyncLogDispatcherMetrics(ObjectProvider<AsyncLogDispatcher> dispatcherProvider) {
+        this.dispatcherProvider = dispatcherProvider;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        AsyncLogDispatcher dispatcher = dispatcherProvider.getIfAvailable();
+        if (dispatcher == null) {
+            return;
+        }
+
+        FunctionCounter.builder("loglens.dispatch.enqueued", dispatcher, AsyncLogDispatcher::getEnqueuedCount)
+                .description("Log events enqueued to the async dispatch buffer")
+                .register(registry);
+        FunctionCounter.builder("loglens.dispatch.written", dispatcher, AsyncLogDispatcher::getWrittenCount)
+                .description("Log events written by the async dispatch consumer")
+                .register(registry);
+        FunctionCounter.builder("loglens.dispatch.dropped", dispatcher, AsyncLogDispatcher::getDroppedCount)
+                .description("Log events dropped because the async dispatch buffer was full")
+                .register(registry);
+        Gauge.builder("loglens.dispatch.queued", dispatcher, AsyncLogDispatcher::getQueuedCount)
+                .description("Log events waiting in the async dispatch buffer")
+                .register(registry);
+    }
+}
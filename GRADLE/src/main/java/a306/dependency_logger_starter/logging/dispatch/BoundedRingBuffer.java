@@ -0,0 +1,116 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 다중 소비자)
+ * <p>
+ * 슬롯별 시퀀스 번호로 적재/소비 가능 여부를 판단하므로 락 없이 CAS만 사용한다.
+ * 생산자도 poll 할 수 있어야 DROP_OLDEST 정책을 구현할 수 있으므로 다중 소비자를 허용한다.
+ */
+final class BoundedRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();  // 다음 소비 위치
+    private final AtomicLong tail = new AtomicLong();  // 다음 적재 위치
+
+    BoundedRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상이어야 합니다: " + requestedCapacity);
+        }
+
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 가득 차 있으면 false
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return 비어 있으면 null
+     */
+    E poll() {
+        long position = head.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, position + capacity);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 다음에 소비될 원소 (꺼내지 않음)
+     * 동시에 다른 소비자가 꺼낼 수 있으므로 순서 판단용 힌트로만 사용한다.
+     *
+     * @return 비어 있으면 null
+     */
+    E peek() {
+        long position = head.get();
+        int index = (int) (position & mask);
+
+        if (sequences.get(index) - (position + 1) == 0) {
+            return slots.get(index);
+        }
+        return null;
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
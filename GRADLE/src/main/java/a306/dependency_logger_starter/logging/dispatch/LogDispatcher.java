@@ -0,0 +1,20 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import org.slf4j.Logger;
+
+/**
+ * 로그 이벤트 출력기
+ * <p>
+ * dependency.logger.dispatch.mode
+ * - sync (기본값): 호출 스레드에서 바로 인코딩/출력 ({@link SyncLogDispatcher})
+ * - async: 링 버퍼에 적재 후 전용 스레드에서 배치 출력 ({@link AsyncLogDispatcher})
+ */
+public interface LogDispatcher {
+
+    /**
+     * @param logger 출력에 사용할 로거 (Aspect 로거 이름 유지)
+     * @param event  출력할 이벤트
+     */
+    void dispatch(Logger logger, LogEvent event);
+}
@@ -0,0 +1,29 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import a306.dependency_logger_starter.logging.encoder.LogEventEncoder;
+import org.slf4j.Logger;
+
+/**
+ * 이벤트 인코딩 후 레벨에 맞춰 로거로 출력
+ */
+final class LogEventWriter {
+
+    private LogEventWriter() {
+        throw new IllegalStateException();
+    }
+
+    static void write(LogEventEncoder encoder, Logger logger, LogEvent event) {
+        try {
+            String json = encoder.encode(event);
+
+            if (event.isError()) {
+                logger.error("{}", json);
+            } else {
+                logger.info("{}", json);
+            }
+        } catch (Exception e) {
+            logger.error("{} 로그 출력 실패", event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import java.util.Locale;
+
+/**
+ * 비동기 버퍼가 가득 찼을 때의 처리 정책
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 가장 오래된 이벤트를 버리고 새 이벤트를 적재
+     */
+    DROP_OLDEST,
+
+    /**
+     * 새 이벤트보다 낮은 심각도 중 가장 낮은 심각도의 가장 오래된 이벤트를 밀어내고 적재
+     * (INFO 가 남아 있으면 INFO 부터 버림, 더 낮은 이벤트가 없으면 새 이벤트를 버림)
+     */
+    DROP_DEBUG_FIRST,
+
+    /**
+     * 공간이 생길 때까지 호출 스레드 대기
+     */
+    BLOCK;
+
+    /**
+     * "drop-oldest", "DROP_OLDEST" 형식 모두 허용
+     */
+    public static OverflowPolicy from(String value) {
+        if (value == null || value.isBlank()) {
+            return DROP_OLDEST;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,127 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 심각도별 레인으로 나눈 고정 크기 버퍼
+ * <p>
+ * 레인마다 {@link BoundedRingBuffer}를 두고 전체 적재 수는 하나의 capacity로 제한한다.
+ * 적재 순번을 함께 기록하여 poll 은 레인 간 가장 먼저 적재된 이벤트를 꺼내므로 출력 순서가 유지된다.
+ * 가득 찼을 때는 {@link #evictBelow(int)} 로 더 낮은 심각도의 가장 오래된 이벤트만 밀어낼 수 있다.
+ * <p>
+ * 레인이 하나면 {@link BoundedRingBuffer}와 같은 FIFO 버퍼로 동작한다.
+ */
+final class SeverityRingBuffer<E> {
+
+    private final BoundedRingBuffer<Sequenced<E>>[] lanes;
+    private final int capacity;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    SeverityRingBuffer(int requestedCapacity, int levels) {
+        if (levels < 1) {
+            throw new IllegalArgumentException("레인 수는 1 이상이어야 합니다: " + levels);
+        }
+
+        this.lanes = new BoundedRingBuffer[levels];
+        for (int i = 0; i < levels; i++) {
+            lanes[i] = new BoundedRingBuffer<>(requestedCapacity);
+        }
+        // 레인마다 전체 capacity를 잡아 두므로 전체 적재 수 제한 안에서는 레인 offer가 실패하지 않음
+        this.capacity = lanes[0].capacity();
+    }
+
+    /**
+     * @param severity 0 (가장 낮음) ~ levels - 1
+     * @return 가득 차 있으면 false
+     */
+    boolean offer(E element, int severity) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        if (!lanes[laneOf(severity)].offer(new Sequenced<>(sequence.getAndIncrement(), element))) {
+            queued.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 레인 간 가장 먼저 적재된 이벤트
+     *
+     * @return 비어 있으면 null
+     */
+    E poll() {
+        if (lanes.length == 1) {
+            return unwrap(lanes[0].poll());
+        }
+
+        while (true) {
+            int oldestLane = -1;
+            long oldestSequence = Long.MAX_VALUE;
+            for (int i = 0; i < lanes.length; i++) {
+                Sequenced<E> head = lanes[i].peek();
+                if (head != null && head.sequence() < oldestSequence) {
+                    oldestSequence = head.sequence();
+                    oldestLane = i;
+                }
+            }
+            if (oldestLane < 0) {
+                return null;
+            }
+
+            // peek 이후 다른 스레드가 밀어냈으면 다시 선택
+            Sequenced<E> polled = lanes[oldestLane].poll();
+            if (polled != null) {
+                queued.decrementAndGet();
+                return polled.element();
+            }
+        }
+    }
+
+    /**
+     * severity 보다 낮은 레인 중 가장 낮은 레인의 가장 오래된 이벤트를 버림
+     *
+     * @return 버린 이벤트가 있으면 true (낮은 심각도 이벤트가 없으면 false)
+     */
+    boolean evictBelow(int severity) {
+        int upper = Math.min(laneOf(severity), lanes.length);
+        for (int i = 0; i < upper; i++) {
+            if (lanes[i].poll() != null) {
+                queued.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return Math.max(0, Math.min(capacity, queued.get()));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private int laneOf(int severity) {
+        return Math.max(0, Math.min(lanes.length - 1, severity));
+    }
+
+    private E unwrap(Sequenced<E> sequenced) {
+        if (sequenced == null) {
+            return null;
+        }
+        queued.decrementAndGet();
+        return sequenced.element();
+    }
+
+    private record Sequenced<E>(long sequence, E element) {
+    }
+}
@@ -0,0 +1,20 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import a306.dependency_logger_starter.logging.encoder.LogEventEncoder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+/**
+ * 호출 스레드에서 바로 인코딩/출력하는 기본 Dispatcher
+ */
+@RequiredArgsConstructor
+public class SyncLogDispatcher implements LogDispatcher {
+
+    private final LogEventEncoder logEventEncoder;
+
+    @Override
+    public void dispatch(Logger logger, LogEvent event) {
+        LogEventWriter.write(logEventEncoder, logger, event);
+    }
+}
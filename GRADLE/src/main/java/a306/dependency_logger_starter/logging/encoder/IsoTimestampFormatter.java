@@ -0,0 +1,73 @@
+package a306.dependency_logger_starter.logging.encoder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * epoch millis → ISO-8601 문자열 변환기
+ * <p>
+ * 기존 {@code LocalDateTime.now().atZone(UTC).format(ISO_INSTANT)} 와 동일한 값을 만든다.
+ * (시스템 기본 타임존의 벽시계 시각에 'Z'를 붙이는 기존 포맷을 그대로 유지)
+ * <p>
+ * 초 단위 접두어("yyyy-MM-ddTHH:mm:ss")를 캐싱하여 같은 초 안의 호출은 밀리초만 덧붙인다.
+ */
+public final class IsoTimestampFormatter {
+
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    private final ZoneId zoneId;
+    private volatile CachedSecond cached = new CachedSecond(Long.MIN_VALUE, null);
+
+    public IsoTimestampFormatter() {
+        this(ZoneId.systemDefault());
+    }
+
+    public IsoTimestampFormatter(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    public String format(long epochMillis) {
+        StringBuilder sb = new StringBuilder(24);
+        appendTo(sb, epochMillis);
+        return sb.toString();
+    }
+
+    /**
+     * ISO_INSTANT 규칙과 동일하게 밀리초가 0이면 소수부를 생략한다.
+     */
+    public void appendTo(StringBuilder sb, long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+
+        CachedSecond current = cached;
+        if (current.epochSecond != epochSecond) {
+            current = new CachedSecond(epochSecond, formatSecond(epochSecond));
+            cached = current;
+        }
+
+        sb.append(current.prefix);
+        if (millis != 0) {
+            sb.append('.');
+            if (millis < 100) {
+                sb.append('0');
+            }
+            if (millis < 10) {
+                sb.append('0');
+            }
+            sb.append(millis);
+        }
+        sb.append('Z');
+    }
+
+    private String formatSecond(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = zoneId.getRules().getOffset(instant);
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, offset).format(SECOND_FORMATTER);
+    }
+
+    private record CachedSecond(long epochSecond, String prefix) {
+    }
+}
@@ -0,0 +1,74 @@
+package a306.dependency_logger_starter.logging.encoder;
+
+/**
+ * 메서드 실행 로그 이벤트 (불변 스냅샷)
+ * <p>
+ * Aspect가 호출 스레드에서 수집한 값만 담으며, JSON 변환은 {@link LogEventEncoder}가 담당
+ */
+public record LogEvent(
+        Type type,
+        long timestamp,           // epoch millis
+        String traceId,
+        String clientIp,
+        String packageName,
+        String componentName,
+        String layer,
+        String methodName,
+        Long executionTimeMs,
+        String httpMethod,        // HTTP 요청이 아니면 null
+        String endpoint,
+        String queryString,
+        Integer statusCode,
+        Object payload,           // REQUEST: parameters, RESPONSE: result, HANDLED_EXCEPTION: validationErrors
+        String exceptionType,
+        String exceptionMessage,
+        String stacktrace
+) {
+
+    public enum Type {
+        REQUEST, RESPONSE, FAILURE, HANDLED_EXCEPTION
+    }
+
+    public static LogEvent request(long timestamp, String traceId, String clientIp,
+                                   String packageName, String componentName, String layer, String methodName,
+                                   String httpMethod, String endpoint, String queryString,
+                                   Object parameters) {
+        return new LogEvent(Type.REQUEST, timestamp, traceId, clientIp, packageName, componentName, layer,
+                methodName, null, httpMethod, endpoint, queryString, null, parameters, null, null, null);
+    }
+
+    public static LogEvent response(long timestamp, String traceId, String clientIp,
+                                    String packageName, String componentName, String layer, String methodName,
+                                    long executionTimeMs, String httpMethod, String endpoint, String queryString,
+                                    Integer statusCode, Object result) {
+        return new LogEvent(Type.RESPONSE, timestamp, traceId, clientIp, packageName, componentName, layer,
+                methodName, executionTimeMs, httpMethod, endpoint, queryString, statusCode, result,
+                null, null, null);
+    }
+
+    public static LogEvent failure(long timestamp, String traceId, String clientIp,
+                                   String packageName, String componentName, String layer, String methodName,
+                                   long executionTimeMs, String exceptionType, String exceptionMessage,
+                                   String stacktrace) {
+        return new LogEvent(Type.FAILURE, timestamp, traceId, clientIp, packageName, componentName, layer,
+                methodName, executionTimeMs, null, null, null, null, null,
+                exceptionType, exceptionMessage, stacktrace);
+    }
+
+    /**
+     * {@code @ExceptionHandler} 에서 처리된 예외 (ExceptionHandlerLoggingAspect)
+     */
+    public static LogEvent handledException(long timestamp, String traceId, String clientIp,
+                                            String packageName, String componentName, String message,
+                                            long executionTimeMs, String exceptionType,
+                                            Object validationErrors, String httpMethod, String endpoint,
+                                            String queryString, String stacktrace) {
+        return new LogEvent(Type.HANDLED_EXCEPTION, timestamp, traceId, clientIp, packageName, componentName,
+                "CONTROLLER", null, executionTimeMs, httpMethod, endpoint, queryString, null, validationErrors,
+                exceptionType, message, stacktrace);
+    }
+
+    public boolean isError() {
+        return type == Type.FAILURE || type == Type.HANDLED_EXCEPTION;
+    }
+}
@@ -0,0 +1,227 @@
+package a306.dependency_logger_starter.logging.encoder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 로그 이벤트 JSON 인코더
+ * <p>
+ * 필드별 LinkedHashMap을 만들지 않고 스트리밍 {@link JsonGenerator}로 스레드별 재사용 버퍼에 바로 기록한다.
+ * 출력 필드 순서/값은 기존 MethodLoggingAspect 스키마와 동일하다.
+ * <ul>
+ *     <li>REQUEST: @timestamp, trace_id, client_ip, level, package, component_name, layer,
+ *     message, execution_time_ms, request, response, exception</li>
+ *     <li>RESPONSE / FAILURE: @timestamp, trace_id, client_ip, level, package, component_name, layer,
+ *     execution_time_ms, request, message, response, exception</li>
+ *     <li>HANDLED_EXCEPTION: @timestamp, trace_id, client_ip, level, package, component_name, layer,
+ *     message, execution_time_ms, request, response, exception (ExceptionHandlerLoggingAspect 스키마)</li>
+ * </ul>
+ * 파라미터/응답 값은 설정된 ObjectMapper로 그대로 직렬화한다.
+ */
+public class LogEventEncoder {
+
+    /**
+     * 이보다 커진 버퍼는 재사용하지 않고 줄인다 (큰 응답 한 번으로 메모리가 계속 점유되는 것 방지)
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final IsoTimestampFormatter timestampFormatter;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    public LogEventEncoder(ObjectMapper objectMapper) {
+        this(objectMapper, new IsoTimestampFormatter());
+    }
+
+    public LogEventEncoder(ObjectMapper objectMapper, IsoTimestampFormatter timestampFormatter) {
+        this.objectMapper = objectMapper;
+        this.timestampFormatter = timestampFormatter;
+    }
+
+    /**
+     * 이벤트를 JSON 문자열로 변환
+     */
+    public String encode(LogEvent event) throws IOException {
+        Buffer buffer = buffers.get();
+        buffer.reset();
+
+        try (JsonGenerator gen = objectMapper.createGenerator(buffer)) {
+            gen.writeStartObject();
+            writeHeader(gen, buffer, event);
+
+            if (event.type() == LogEvent.Type.REQUEST) {
+                gen.writeStringField("message", "Request received: " + event.methodName());
+                gen.writeNullField("execution_time_ms");
+                writeBody(gen, "request", event, false);
+                gen.writeNullField("response");
+                gen.writeNullField("exception");
+            } else if (event.type() == LogEvent.Type.RESPONSE) {
+                writeExecutionTime(gen, event);
+                gen.writeNullField("request");
+                gen.writeStringField("message", "Response completed: " + event.methodName());
+                writeBody(gen, "response", event, true);
+                gen.writeNullField("exception");
+            } else if (event.type() == LogEvent.Type.HANDLED_EXCEPTION) {
+                gen.writeStringField("message", event.exceptionMessage());
+                writeExecutionTime(gen, event);
+                gen.writeNullField("request");
+                gen.writeNullField("response");
+                writeHandledException(gen, event);
+            } else {
+                writeExecutionTime(gen, event);
+                gen.writeNullField("request");
+                gen.writeStringField("message",
+                        "Failed to execute " + event.methodName() + ": " + event.exceptionMessage());
+                gen.writeNullField("response");
+                gen.writeObjectFieldStart("exception");
+                gen.writeStringField("type", event.exceptionType());
+                gen.writeStringField("message", event.exceptionMessage());
+                gen.writeStringField("stacktrace", event.stacktrace());
+                gen.writeEndObject();
+            }
+
+            gen.writeEndObject();
+        }
+
+        return buffer.toString();
+    }
+
+    private void writeHeader(JsonGenerator gen, Buffer buffer, LogEvent event) throws IOException {
+        gen.writeFieldName("@timestamp");
+        buffer.writeTimestamp(gen, timestampFormatter, event.timestamp());
+        gen.writeStringField("trace_id", event.traceId());
+        gen.writeStringField("client_ip", event.clientIp());
+        gen.writeStringField("level", event.isError() ? "ERROR" : "INFO");
+        gen.writeStringField("package", event.packageName());
+        gen.writeStringField("component_name", event.componentName());
+        gen.writeStringField("layer", event.layer());
+    }
+
+    private void writeExecutionTime(JsonGenerator gen, LogEvent event) throws IOException {
+        if (event.executionTimeMs() == null) {
+            gen.writeNullField("execution_time_ms");
+        } else {
+            gen.writeNumberField("execution_time_ms", event.executionTimeMs());
+        }
+    }
+
+    /**
+     * request / response 본문 기록
+     */
+    private void writeBody(JsonGenerator gen, String fieldName, LogEvent event, boolean isResponse)
+            throws IOException {
+        gen.writeObjectFieldStart(fieldName);
+
+        if (event.httpMethod() != null) {
+            gen.writeObjectFieldStart("http");
+            gen.writeStringField("method", event.httpMethod());
+            gen.writeStringField("endpoint", event.endpoint());
+            if (isResponse && event.statusCode() != null) {
+                gen.writeNumberField("statusCode", event.statusCode());
+            }
+            if (event.queryString() != null) {
+                gen.writeStringField("queryString", event.queryString());
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeStringField("method", event.methodName());
+        gen.writeFieldName(isResponse ? "result" : "parameters");
+        writeValue(gen, event.payload());
+
+        gen.writeEndObject();
+    }
+
+    private void writeHandledException(JsonGenerator gen, LogEvent event) throws IOException {
+        gen.writeObjectFieldStart("exception");
+        gen.writeStringField("type", event.exceptionType());
+        gen.writeStringField("message", event.exceptionMessage());
+
+        if (event.payload() != null) {
+            gen.writeFieldName("validationErrors");
+            writeValue(gen, event.payload());
+        }
+
+        if (event.httpMethod() != null) {
+            gen.writeObjectFieldStart("http");
+            gen.writeStringField("method", event.httpMethod());
+            gen.writeStringField("endpoint", event.endpoint());
+            if (event.queryString() != null) {
+                gen.writeStringField("queryString", event.queryString());
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeStringField("stacktrace", event.stacktrace());
+        gen.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator gen, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String str) {
+            gen.writeString(str);
+        } else {
+            objectMapper.writeValue(gen, value);
+        }
+    }
+
+    /**
+     * 스레드별 재사용 출력 버퍼
+     */
+    private static final class Buffer extends Writer {
+
+        private StringBuilder sb = new StringBuilder(INITIAL_CAPACITY);
+        private final StringBuilder timestamp = new StringBuilder(32);
+        private final char[] timestampChars = new char[32];
+
+        void reset() {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+                sb = new StringBuilder(INITIAL_CAPACITY);
+            } else {
+                sb.setLength(0);
+            }
+        }
+
+        void writeTimestamp(JsonGenerator gen, IsoTimestampFormatter formatter, long epochMillis)
+                throws IOException {
+            timestamp.setLength(0);
+            formatter.appendTo(timestamp, epochMillis);
+            int length = timestamp.length();
+            timestamp.getChars(0, length, timestampChars, 0);
+            gen.writeString(timestampChars, 0, length);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            sb.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            sb.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(int c) {
+            sb.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package a306.dependency_logger_starter.logging.metadata;
+
+import java.util.List;
+
+/**
+ * 메서드별 로깅 메타데이터 (기동 이후 변하지 않는 값)
+ */
+public record MethodMetadata(
+        String methodName,
+        String packageName,
+        String componentName,
+        String layer,
+        String actualRepositoryName,     // REPOSITORY 레이어에서 실제 Repository 인터페이스명, 없으면 null
+        List<ParameterMetadata> parameters
+) {
+
+    /**
+     * 파라미터 수집 방식
+     */
+    public enum ParameterMode {
+        CAPTURE,    // ValueProcessor로 변환
+        SENSITIVE,  // @Sensitive → 마스킹
+        EXCLUDED,   // @ExcludeValue → 제외 표시
+        SKIPPED     // 프레임워크 타입 (HttpServletRequest 등) → 수집 안함
+    }
+
+    public record ParameterMetadata(String name, ParameterMode mode) {
+    }
+}
@@ -0,0 +1,32 @@
+package a306.dependency_logger_starter.logging.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메서드 메타데이터 조회 Actuator 엔드포인트
+ * <p>
+ * GET /actuator/methodmetadata
+ * (management.endpoints.web.exposure.include 에 methodmetadata 추가 필요)
+ */
+@Endpoint(id = "methodmetadata")
+@RequiredArgsConstructor
+public class MethodMetadataEndpoint {
+
+    private final MethodMetadataRegistry methodMetadataRegistry;
+
+    @ReadOperation
+    public Map<String, Object> methodMetadata() {
+        List<MethodMetadata> methods = methodMetadataRegistry.snapshot();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", methods.size());
+        result.put("methods", methods);
+        return result;
+    }
+}
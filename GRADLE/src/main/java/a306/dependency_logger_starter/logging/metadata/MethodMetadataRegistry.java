@@ -0,0 +1,194 @@
+package a306.dependency_logger_starter.logging.metadata;
+
+import a306.dependency_logger_starter.logging.annotation.ExcludeValue;
+import a306.dependency_logger_starter.logging.annotation.Sensitive;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadata.ParameterMetadata;
+import a306.dependency_logger_starter.logging.metadata.MethodMetadata.ParameterMode;
+import a306.dependency_logger_starter.logging.util.TypeChecker;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드 메타데이터 레지스트리
+ * <p>
+ * 레이어 판별, 실제 Repository 이름/패키지 추출, 파라미터 이름 및 어노테이션 판별을
+ * (Method, 대상 클래스) 조합당 한 번만 수행하고 캐싱한다.
+ * 이후 호출은 ConcurrentHashMap 조회만 수행한다.
+ */
+@Slf4j
+public class MethodMetadataRegistry {
+
+    private final Map<MethodKey, MethodMetadata> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 메타데이터 조회 (최초 호출 시 계산)
+     *
+     * @param signature   AOP 메서드 시그니처
+     * @param targetClass 실제 대상 객체의 클래스 (프록시 포함)
+     */
+    public MethodMetadata resolve(MethodSignature signature, Class<?> targetClass) {
+        MethodKey key = new MethodKey(signature.getMethod(), targetClass);
+        MethodMetadata metadata = cache.get(key);
+
+        if (metadata == null) {
+            metadata = cache.computeIfAbsent(key, k -> create(signature, targetClass));
+        }
+        return metadata;
+    }
+
+    /**
+     * 등록된 메타데이터 수
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 등록된 메타데이터 전체 (패키지, 메서드명 순 정렬)
+     */
+    public List<MethodMetadata> snapshot() {
+        List<MethodMetadata> result = new ArrayList<>(cache.values());
+        result.sort(Comparator.comparing(MethodMetadata::packageName)
+                .thenComparing(MethodMetadata::methodName));
+        return result;
+    }
+
+    private MethodMetadata create(MethodSignature signature, Class<?> targetClass) {
+        Class<?> userClass = ClassUtils.getUserClass(targetClass);
+
+        String methodName = signature.getMethod().getName();
+        String packageName = userClass.getName();
+        String componentName = userClass.getSimpleName();
+        String layer = detectLayer(userClass);
+
+        String actualRepositoryName = null;
+        if ("REPOSITORY".equals(layer)) {
+            actualRepositoryName = extractActualRepositoryName(targetClass);
+            if (actualRepositoryName != null) {
+                componentName = actualRepositoryName;
+                packageName = extractRepositoryPackage(targetClass);
+            }
+        }
+
+        return new MethodMetadata(methodName, packageName, componentName, layer, actualRepositoryName,
+                resolveParameters(signature));
+    }
+
+    private List<ParameterMetadata> resolveParameters(MethodSignature signature) {
+        String[] parameterNames = signature.getParameterNames();
+        Class<?>[] parameterTypes = signature.getParameterTypes();
+        Annotation[][] parameterAnnotations = signature.getMethod().getParameterAnnotations();
+
+        List<ParameterMetadata> parameters = new ArrayList<>(parameterTypes.length);
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            String paramName = (parameterNames != null && i < parameterNames.length)
+                    ? parameterNames[i]
+                    : "arg" + i;
+
+            ParameterMode mode;
+            if (TypeChecker.isFrameworkClass(parameterTypes[i])) {
+                mode = ParameterMode.SKIPPED;
+            } else if (hasAnnotation(parameterAnnotations[i], ExcludeValue.class)) {
+                mode = ParameterMode.EXCLUDED;
+            } else if (hasAnnotation(parameterAnnotations[i], Sensitive.class)) {
+                mode = ParameterMode.SENSITIVE;
+            } else {
+                mode = ParameterMode.CAPTURE;
+            }
+
+            parameters.add(new ParameterMetadata(paramName, mode));
+        }
+
+        return List.copyOf(parameters);
+    }
+
+    /**
+     * Repository의 실제 패키지명 추출
+     */
+    private String extractRepositoryPackage(Class<?> targetClass) {
+        try {
+            for (Class<?> iface : targetClass.getInterfaces()) {
+                String name = iface.getSimpleName();
+                if (name.endsWith("Repository") &&
+                        !name.equals("Repository") &&
+                        !name.equals("JpaRepository")) {
+                    return iface.getName();
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Repository 패키지 추출 실패: {}", e.getMessage());
+        }
+        return targetClass.getName();
+    }
+
+    /**
+     * JPA Repository Proxy에서 실제 Repository 인터페이스 이름 추출
+     */
+    private String extractActualRepositoryName(Class<?> targetClass) {
+        try {
+            for (Class<?> iface : targetClass.getInterfaces()) {
+                String name = iface.getSimpleName();
+                if (name.endsWith("Repository") &&
+                        !name.equals("Repository") &&
+                        !name.equals("JpaRepository") &&
+                        !name.equals("CrudRepository") &&
+                        !name.equals("PagingAndSortingRepository") &&
+                        !name.equals("QueryByExampleExecutor") &&
+                        !name.equals("JpaSpecificationExecutor")) {
+
+                    log.debug("실제 Repository 발견: {}", name);
+                    return name;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Repository 이름 추출 실패: {}", e.getMessage());
+        }
+
+        return null;
+    }
+
+    private String detectLayer(Class<?> targetClass) {
+        if (targetClass.isAnnotationPresent(RestController.class)) {
+            return "CONTROLLER";
+        }
+        if (targetClass.isAnnotationPresent(Service.class)) {
+            return "SERVICE";
+        }
+        if (targetClass.isAnnotationPresent(Repository.class)) {
+            return "REPOSITORY";
+        }
+
+        for (Class<?> interfaceClass : targetClass.getInterfaces()) {
+            if (interfaceClass.getName().contains("Repository")) {
+                return "REPOSITORY";
+            }
+        }
+
+        return "UNKNOWN";
+    }
+
+    private boolean hasAnnotation(Annotation[] annotations, Class<? extends Annotation> annotationClass) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType() == annotationClass) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record MethodKey(Method method, Class<?> targetClass) {
+    }
+}
@@ -0,0 +1,58 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트 → 샘플링 비율 캐시 (크기 제한, 근사 LRU)
+ * <p>
+ * 현재 세대(hot)와 이전 세대(cold) 두 개의 맵을 사용한다.
+ * - 조회는 hot → cold 순서이며, cold 에서 찾은 값은 hot 으로 올린다.
+ * - hot 이 세대 크기에 도달하면 hot 을 cold 로 내리고 새 hot 을 만든다 (이전 cold 는 버림).
+ * 따라서 최근에 사용된 엔드포인트는 계속 남고, 전체 크기는 maxSize 를 넘지 않는다.
+ * 조회 경로에는 락이 없고, 세대 교체 시에만 동기화한다.
+ */
+final class EndpointRateCache {
+
+    private final int generationSize;
+    private volatile Map<String, Double> hot = new ConcurrentHashMap<>();
+    private volatile Map<String, Double> cold = Map.of();
+
+    EndpointRateCache(int maxSize) {
+        this.generationSize = Math.max(1, maxSize / 2);
+    }
+
+    /**
+     * @return 캐시된 비율, 없으면 null
+     */
+    Double get(String endpoint) {
+        Double rate = hot.get(endpoint);
+        if (rate != null) {
+            return rate;
+        }
+
+        rate = cold.get(endpoint);
+        if (rate != null) {
+            put(endpoint, rate);
+        }
+        return rate;
+    }
+
+    void put(String endpoint, Double rate) {
+        Map<String, Double> current = hot;
+        if (current.size() >= generationSize) {
+            synchronized (this) {
+                if (hot.size() >= generationSize) {
+                    cold = hot;
+                    hot = new ConcurrentHashMap<>();
+                }
+                current = hot;
+            }
+        }
+        current.put(endpoint, rate);
+    }
+
+    int size() {
+        return hot.size() + cold.size();
+    }
+}
@@ -0,0 +1,300 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메서드 로그 샘플링 엔진
+ * <p>
+ * - 비율: 엔드포인트(Ant 패턴) → 레이어 → default-rate 순으로 결정
+ * - trace 일관성: trace_id 해시로 판단하므로 같은 trace 의 같은 레이어 호출은 모두 같은 결정을 받는다.
+ *   REQUEST/RESPONSE 는 호출 스택으로 짝을 맞춘다.
+ * - 실패 우선: 샘플링되지 않은 이벤트는 스레드의 trace 구간(최상위 호출 종료까지) 동안 버퍼에 보관하고,
+ *   구간 안에서 실패(FAILURE / HANDLED_EXCEPTION)가 발생하면 보관된 이벤트를 모두 출력한 뒤
+ *   이후 이벤트도 전부 출력한다. 실패 없이 구간이 끝나면 버퍼를 버린다.
+ * - adaptive: 비율을 통과한 호출도 컴포넌트별 초당 상한을 넘으면 버퍼로 보낸다.
+ * <p>
+ * trace 구간은 스레드 단위로 관리하므로, 다른 스레드로 넘어간 비동기 호출은 별도 구간으로 취급된다.
+ */
+@Slf4j
+public class LogSampler {
+
+    private static final int MAX_ENDPOINT_CACHE_SIZE = 1024;
+
+    private final double defaultRate;
+    private final Map<String, Double> layerRates;
+    private final Map<String, Double> endpointRates;
+    private final boolean adaptiveEnabled;
+    private final int maxEventsPerSecond;
+    private final int maxBufferedEvents;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final EndpointRateCache endpointRateCache = new EndpointRateCache(MAX_ENDPOINT_CACHE_SIZE);
+    private final Map<String, RateWindow> componentWindows = new ConcurrentHashMap<>();
+    private final ThreadLocal<TraceState> traceStates = ThreadLocal.withInitial(TraceState::new);
+
+    private final LongAdder emittedCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+
+    public LogSampler(SamplingProperties properties) {
+        this.defaultRate = clamp(properties.getDefaultRate());
+        this.layerRates = new ConcurrentHashMap<>();
+        properties.getLayerRates().forEach((layer, rate) ->
+                layerRates.put(layer.toUpperCase(Locale.ROOT), clamp(rate)));
+        this.endpointRates = Map.copyOf(properties.getEndpointRates());
+        this.adaptiveEnabled = properties.getAdaptive().isEnabled();
+        this.maxEventsPerSecond = Math.max(1, properties.getAdaptive().getMaxEventsPerSecond());
+        this.maxBufferedEvents = Math.max(0, properties.getMaxBufferedEvents());
+
+        log.info("LogSampler 초기화 완료 (default: {}, layers: {}, endpoints: {}, adaptive: {})",
+                defaultRate, layerRates, endpointRates.keySet(),
+                adaptiveEnabled ? maxEventsPerSecond + "/s" : "off");
+    }
+
+    /**
+     * 샘플링 판단 후 출력 또는 보관
+     */
+    public void dispatch(LogDispatcher delegate, Logger logger, LogEvent event) {
+        TraceState state = traceStates.get();
+
+        switch (event.type()) {
+            case REQUEST -> {
+                if (state.depth == 0 || !Objects.equals(state.traceId, event.traceId())) {
+                    state.begin(event.traceId());
+                }
+                if (state.endpoint == null && event.endpoint() != null) {
+                    state.endpoint = event.endpoint();
+                }
+
+                boolean sampled = state.failed || isSampled(state, event);
+                state.push(sampled);
+                emitOrBuffer(state, sampled, delegate, logger, event);
+            }
+            case RESPONSE -> {
+                boolean sampled = state.failed || (state.depth > 0 ? state.pop() : isSampled(state, event));
+                emitOrBuffer(state, sampled, delegate, logger, event);
+                endSegmentIfDone(state);
+            }
+            case FAILURE, HANDLED_EXCEPTION -> {
+                state.failed = true;
+                flush(state, delegate);
+                if (event.type() == LogEvent.Type.FAILURE && state.depth > 0) {
+                    state.pop();
+                }
+                emit(delegate, logger, event);
+                endSegmentIfDone(state);
+            }
+        }
+    }
+
+    /**
+     * 샘플링되어 출력된 이벤트 누적 수
+     */
+    public long getEmittedCount() {
+        return emittedCount.sum();
+    }
+
+    /**
+     * 샘플링되지 않아 최종적으로 버려진 이벤트 누적 수
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    /**
+     * 실패로 인해 버퍼에서 출력된 이벤트 누적 수
+     */
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    private boolean isSampled(TraceState state, LogEvent event) {
+        double rate = resolveRate(event.layer(), state.endpoint);
+
+        if (state.sampleKey >= rate) {
+            return false;
+        }
+
+        return !adaptiveEnabled || tryAcquire(event.componentName());
+    }
+
+    private double resolveRate(String layer, String endpoint) {
+        if (endpoint != null && !endpointRates.isEmpty()) {
+            Double endpointRate = endpointRateCache.get(endpoint);
+            if (endpointRate == null) {
+                endpointRate = matchEndpointRate(endpoint);
+                endpointRateCache.put(endpoint, endpointRate);
+            }
+            if (endpointRate >= 0) {
+                return endpointRate;
+            }
+        }
+
+        if (layer != null) {
+            Double layerRate = layerRates.get(layer);
+            if (layerRate != null) {
+                return layerRate;
+            }
+        }
+
+        return defaultRate;
+    }
+
+    /**
+     * @return 일치하는 패턴의 비율, 없으면 -1
+     */
+    private double matchEndpointRate(String endpoint) {
+        for (Map.Entry<String, Double> entry : endpointRates.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), endpoint)) {
+                return clamp(entry.getValue());
+            }
+        }
+        return -1;
+    }
+
+    private boolean tryAcquire(String componentName) {
+        String key = componentName != null ? componentName : "";
+        return componentWindows.computeIfAbsent(key, k -> new RateWindow())
+                .tryAcquire(System.currentTimeMillis() / 1000, maxEventsPerSecond);
+    }
+
+    private void emitOrBuffer(TraceState state, boolean sampled, LogDispatcher delegate, Logger logger,
+                              LogEvent event) {
+        if (sampled) {
+            emit(delegate, logger, event);
+            return;
+        }
+
+        if (maxBufferedEvents == 0) {
+            suppressedCount.increment();
+            return;
+        }
+
+        if (state.buffer.size() >= maxBufferedEvents) {
+            state.buffer.pollFirst();
+            suppressedCount.increment();
+        }
+        state.buffer.addLast(new BufferedLog(logger, event));
+    }
+
+    private void emit(LogDispatcher delegate, Logger logger, LogEvent event) {
+        delegate.dispatch(logger, event);
+        emittedCount.increment();
+    }
+
+    private void flush(TraceState state, LogDispatcher delegate) {
+        BufferedLog buffered;
+        while ((buffered = state.buffer.pollFirst()) != null) {
+            delegate.dispatch(buffered.logger(), buffered.event());
+            flushedCount.increment();
+        }
+    }
+
+    private void endSegmentIfDone(TraceState state) {
+        if (state.depth == 0) {
+            suppressedCount.add(state.buffer.size());
+            state.clear();
+        }
+    }
+
+    private static double clamp(Double rate) {
+        if (rate == null) {
+            return 1.0;
+        }
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    /**
+     * trace_id → [0, 1) 구간 값 (같은 trace 는 항상 같은 값)
+     */
+    private static double sampleKey(String traceId) {
+        if (traceId == null) {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+
+        int h = traceId.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h >>> 1) / (double) (1L << 31);
+    }
+
+    /**
+     * 스레드별 trace 구간 상태
+     */
+    private static final class TraceState {
+
+        String traceId;
+        String endpoint;
+        double sampleKey;
+        boolean failed;
+        int depth;
+        boolean[] decisions = new boolean[16];
+        final ArrayDeque<BufferedLog> buffer = new ArrayDeque<>();
+
+        void begin(String traceId) {
+            clear();
+            this.traceId = traceId;
+            this.sampleKey = LogSampler.sampleKey(traceId);
+        }
+
+        void push(boolean sampled) {
+            if (depth == decisions.length) {
+                decisions = Arrays.copyOf(decisions, depth * 2);
+            }
+            decisions[depth++] = sampled;
+        }
+
+        boolean pop() {
+            return decisions[--depth];
+        }
+
+        void clear() {
+            traceId = null;
+            endpoint = null;
+            failed = false;
+            depth = 0;
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 컴포넌트별 1초 고정 윈도우 카운터
+     */
+    private static final class RateWindow {
+
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                synchronized (this) {
+                    if (second != now) {
+                        second = now;
+                        count.set(0);
+                    }
+                }
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+
+    private record BufferedLog(Logger logger, LogEvent event) {
+    }
+}
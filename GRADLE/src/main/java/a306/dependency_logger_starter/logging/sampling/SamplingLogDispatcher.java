@@ -0,0 +1,21 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+/**
+ * 샘플링을 거쳐 실제 Dispatcher로 전달하는 Dispatcher
+ */
+@RequiredArgsConstructor
+public class SamplingLogDispatcher implements LogDispatcher {
+
+    private final LogDispatcher delegate;
+    private final LogSampler logSampler;
+
+    @Override
+    public void dispatch(Logger logger, LogEvent event) {
+        logSampler.dispatch(delegate, logger, event);
+    }
+}
@@ -0,0 +1,75 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메서드 로그 샘플링 설정 (dependency.logger.sampling.*)
+ *
+ * <pre>
+ * dependency:
+ *   logger:
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 0.1
+ *       layer-rates:
+ *         CONTROLLER: 1.0
+ *         REPOSITORY: 0.05
+ *       endpoint-rates:
+ *         "[/api/health]": 0.0
+ *         "[/api/orders/**]": 0.5
+ *       adaptive:
+ *         enabled: true
+ *         max-events-per-second: 200
+ *       max-buffered-events: 256
+ * </pre>
+ */
+@Getter
+@Setter
+public class SamplingProperties {
+
+    /**
+     * 샘플링 사용 여부 (false면 모든 이벤트 출력)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 레이어/엔드포인트 설정이 없을 때의 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double defaultRate = 1.0;
+
+    /**
+     * 레이어별 샘플링 비율 (CONTROLLER, SERVICE, REPOSITORY, UNKNOWN)
+     */
+    private Map<String, Double> layerRates = new LinkedHashMap<>();
+
+    /**
+     * 엔드포인트(Ant 패턴)별 샘플링 비율, 레이어 비율보다 우선
+     */
+    private Map<String, Double> endpointRates = new LinkedHashMap<>();
+
+    /**
+     * 샘플링되지 않은 이벤트를 trace 단위로 보관하는 최대 개수 (실패 시 함께 출력)
+     */
+    private int maxBufferedEvents = 256;
+
+    private Adaptive adaptive = new Adaptive();
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        /**
+         * 컴포넌트별 초당 출력 상한 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 컴포넌트별 초당 최대 출력 호출 수
+         */
+        private int maxEventsPerSecond = 100;
+    }
+}
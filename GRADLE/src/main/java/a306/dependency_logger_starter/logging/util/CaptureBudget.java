@@ -0,0 +1,83 @@
+package a306.dependency_logger_starter.logging.util;
+
+/**
+ * 값 수집 예산 (크기 / 깊이)
+ * <p>
+ * ValueProcessor가 값을 변환하면서 문자열/키 길이만큼 예산을 차감하고,
+ * 예산이 소진되면 나머지는 변환하지 않고 잘림 표시만 남긴다.
+ * 크기는 직렬화된 JSON 문자 수의 근사치이다.
+ * <p>
+ * 한 번의 로그 이벤트 수집에만 사용하며 스레드 안전하지 않다.
+ */
+public final class CaptureBudget {
+
+    /**
+     * 요소당 구분자/따옴표 등 부가 비용 근사치
+     */
+    static final int ELEMENT_OVERHEAD = 4;
+
+    private final int limit;
+    private final int maxDepth;
+    private int remaining;
+    private int depth;
+
+    private CaptureBudget(int limit, int maxDepth) {
+        this.limit = Math.max(0, limit);
+        this.maxDepth = Math.max(0, maxDepth);
+        this.remaining = this.limit;
+    }
+
+    /**
+     * @param maxSize  최대 크기 (문자 수 근사치)
+     * @param maxDepth 최대 중첩 깊이 (Collection/Map/Array/DTO 단위)
+     */
+    public static CaptureBudget of(int maxSize, int maxDepth) {
+        return new CaptureBudget(maxSize, maxDepth);
+    }
+
+    public static CaptureBudget unlimited() {
+        return new CaptureBudget(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 이 예산 안에서 최대 maxSize 만큼만 쓰는 하위 예산 (인자 단위 예산)
+     * 사용 후 {@link #consume(CaptureBudget)}로 사용량을 반영한다.
+     */
+    public CaptureBudget slice(int maxSize) {
+        CaptureBudget slice = new CaptureBudget(Math.min(maxSize, Math.max(0, remaining)), maxDepth);
+        slice.depth = depth;
+        return slice;
+    }
+
+    public void consume(CaptureBudget slice) {
+        charge(slice.used());
+    }
+
+    public boolean isExhausted() {
+        return remaining <= 0;
+    }
+
+    public int remaining() {
+        return Math.max(0, remaining);
+    }
+
+    public int used() {
+        return limit - remaining();
+    }
+
+    void charge(int size) {
+        remaining -= size + ELEMENT_OVERHEAD;
+    }
+
+    boolean canDescend() {
+        return depth < maxDepth;
+    }
+
+    void enter() {
+        depth++;
+    }
+
+    void exit() {
+        depth--;
+    }
+}
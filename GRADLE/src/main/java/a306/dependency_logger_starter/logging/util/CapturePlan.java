@@ -0,0 +1,175 @@
+package a306.dependency_logger_starter.logging.util;
+
+import a306.dependency_logger_starter.logging.annotation.ExcludeValue;
+import a306.dependency_logger_starter.logging.annotation.Sensitive;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 클래스별 값 수집 계획
+ * <p>
+ * 타입 분류(TypeChecker), 필드 목록, @Sensitive / @ExcludeValue 판별, 접근자(MethodHandle) 생성을
+ * 클래스당 한 번만 수행하고 {@link ClassValue}에 캐싱한다.
+ */
+@Slf4j
+final class CapturePlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<CapturePlan> PLANS = new ClassValue<>() {
+        @Override
+        protected CapturePlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    enum Kind {
+        SCALAR, ENUM, COLLECTION, MAP, ARRAY, ENTITY, DTO, OTHER
+    }
+
+    enum FieldMode {
+        INCLUDE, MASK, EXCLUDE
+    }
+
+    /**
+     * DTO 필드 접근 계획
+     */
+    record FieldPlan(String name, FieldMode mode, MethodHandle getter) {
+
+        Object read(Object target) throws Throwable {
+            return (Object) getter.invokeExact(target);
+        }
+    }
+
+    private final Kind kind;
+    private final String simpleName;
+    private final FieldPlan[] fields;      // DTO 전용, 접근 불가 시 null
+    private final MethodHandle idGetter;   // ENTITY 전용, getId() 없으면 null
+
+    private CapturePlan(Kind kind, String simpleName, FieldPlan[] fields, MethodHandle idGetter) {
+        this.kind = kind;
+        this.simpleName = simpleName;
+        this.fields = fields;
+        this.idGetter = idGetter;
+    }
+
+    static CapturePlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    String simpleName() {
+        return simpleName;
+    }
+
+    /**
+     * @return DTO 필드 계획, 리플렉션 접근이 불가능한 클래스면 null
+     */
+    FieldPlan[] fields() {
+        return fields;
+    }
+
+    MethodHandle idGetter() {
+        return idGetter;
+    }
+
+    private static CapturePlan create(Class<?> type) {
+        Kind kind = classify(type);
+        String simpleName = type.getSimpleName();
+
+        return switch (kind) {
+            case ENTITY -> new CapturePlan(kind, simpleName, null, resolveIdGetter(type));
+            case DTO -> new CapturePlan(kind, simpleName, resolveFields(type), null);
+            default -> new CapturePlan(kind, simpleName, null, null);
+        };
+    }
+
+    /**
+     * ValueProcessor.processValue 의 분기 순서와 동일
+     */
+    private static Kind classify(Class<?> type) {
+        if (TypeChecker.isPrimitiveOrWrapper(type) || type == String.class) {
+            return Kind.SCALAR;
+        }
+        if (Enum.class.isAssignableFrom(type)) {
+            return Kind.ENUM;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return Kind.COLLECTION;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Kind.MAP;
+        }
+        if (type.isArray()) {
+            return Kind.ARRAY;
+        }
+        if (TypeChecker.isEntity(type)) {
+            return Kind.ENTITY;
+        }
+        if (TypeChecker.isDto(type)) {
+            return Kind.DTO;
+        }
+        return Kind.OTHER;
+    }
+
+    private static FieldPlan[] resolveFields(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Field[] declaredFields = type.getDeclaredFields();
+            FieldPlan[] plans = new FieldPlan[declaredFields.length];
+
+            for (int i = 0; i < declaredFields.length; i++) {
+                Field field = declaredFields[i];
+                field.setAccessible(true);
+
+                FieldMode mode;
+                if (field.isAnnotationPresent(ExcludeValue.class)) {
+                    mode = FieldMode.EXCLUDE;
+                } else if (field.isAnnotationPresent(Sensitive.class)) {
+                    mode = FieldMode.MASK;
+                } else {
+                    mode = FieldMode.INCLUDE;
+                }
+
+                MethodHandle getter = (mode == FieldMode.INCLUDE) ? toGetter(lookup, field) : null;
+                plans[i] = new FieldPlan(field.getName(), mode, getter);
+            }
+
+            return plans;
+
+        } catch (Exception e) {
+            log.debug("DTO 수집 계획 생성 실패: {}", type.getName(), e);
+            return null;
+        }
+    }
+
+    private static MethodHandle toGetter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+        MethodHandle getter = lookup.unreflectGetter(field);
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        }
+
+        return getter.asType(GETTER_TYPE);
+    }
+
+    private static MethodHandle resolveIdGetter(Class<?> type) {
+        try {
+            Method getIdMethod = type.getMethod("getId");
+            return MethodHandles.publicLookup().unreflect(getIdMethod).asType(GETTER_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
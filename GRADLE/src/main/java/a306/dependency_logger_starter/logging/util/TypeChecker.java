@@ -1,10 +1,16 @@
 package a306.dependency_logger_starter.logging.util;
 
+import java.lang.annotation.Annotation;
+
 /**
  * 타입 체크 유틸리티
  */
 public final class TypeChecker {
 
+    // Entity 어노테이션 클래스는 한 번만 조회 (클래스패스에 없으면 null)
+    private static final Class<? extends Annotation> JAKARTA_ENTITY = loadAnnotation("jakarta.persistence.Entity");
+    private static final Class<? extends Annotation> JAVAX_ENTITY = loadAnnotation("javax.persistence.Entity");
+
     private TypeChecker() {
         throw new IllegalStateException();
     }
@@ -46,27 +52,22 @@ public final class TypeChecker {
      * Entity 체크 (JPA)
      */
     public static boolean isEntity(Class<?> clazz) {
-        try {
-            // Jakarta (Spring Boot 3.x)
-            Class<?> entityAnnotation = Class.forName("jakarta.persistence.Entity");
-            if (clazz.isAnnotationPresent((Class) entityAnnotation)) {
-                return true;
-            }
-        } catch (ClassNotFoundException e) {
-            // Jakarta 없음
+        // Jakarta (Spring Boot 3.x)
+        if (JAKARTA_ENTITY != null && clazz.isAnnotationPresent(JAKARTA_ENTITY)) {
+            return true;
         }
 
+        // Javax (Spring Boot 2.x)
+        return JAVAX_ENTITY != null && clazz.isAnnotationPresent(JAVAX_ENTITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> loadAnnotation(String className) {
         try {
-            // Javax (Spring Boot 2.x)
-            Class<?> entityAnnotation = Class.forName("javax.persistence.Entity");
-            if (clazz.isAnnotationPresent((Class) entityAnnotation)) {
-                return true;
-            }
+            return (Class<? extends Annotation>) Class.forName(className);
         } catch (ClassNotFoundException e) {
-            // Javax 없음
+            return null;
         }
-
-        return false;
     }
 
     /**
@@ -1,19 +1,12 @@
 package a306.dependency_logger_starter.logging.util;
 
-import a306.dependency_logger_starter.logging.annotation.ExcludeValue;
-import a306.dependency_logger_starter.logging.annotation.Sensitive;
-import lombok.extern.slf4j.Slf4j;
-
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.*;
 
 /**
  * 값 처리 및 변환 유틸리티
  * 로깅을 위한 값 변환, 마스킹, 트렁케이션 처리
  */
-@Slf4j
 public final class ValueProcessor {
 
     private static final int MAX_STRING_LENGTH = 500;
@@ -21,58 +14,48 @@ public final class ValueProcessor {
 
     private static final String MASKED_VALUE = "****";
     private static final String EXCLUDED_VALUE = "<excluded>";
+    private static final String TRUNCATED_VALUE = "... [truncated]";
 
     private ValueProcessor() {
         throw new IllegalStateException();
     }
 
     /**
-     * 값 처리 (타입별 분기)
+     * 값 처리 (타입별 분기, 크기/깊이 제한 없음)
      */
     public static Object processValue(Object value) {
+        return processValue(value, CaptureBudget.unlimited());
+    }
+
+    /**
+     * 값 처리 (타입별 분기)
+     * 예산이 소진되면 이후 요소는 변환하지 않고 잘림 표시로 대체한다.
+     */
+    public static Object processValue(Object value, CaptureBudget budget) {
         if (value == null) {
             return null;
         }
 
-        Class<?> valueClass = value.getClass();
-
-        // 1. Primitive/Wrapper/String
-        if (TypeChecker.isPrimitiveOrWrapper(valueClass) || value instanceof String) {
-            return truncateString(String.valueOf(value), MAX_STRING_LENGTH);
-        }
-
-        // 2. Enum
-        if (value instanceof Enum) {
-            return ((Enum<?>) value).name();
-        }
-
-        // 3. Collection
-        if (value instanceof Collection) {
-            return processCollection((Collection<?>) value);
-        }
-
-        // 4. Map
-        if (value instanceof Map) {
-            return processMap((Map<?, ?>) value);
-        }
-
-        // 5. Array
-        if (valueClass.isArray()) {
-            return processArray(value);
-        }
-
-        // 6. Entity
-        if (TypeChecker.isEntity(valueClass)) {
-            return processEntity(value);
-        }
-
-        // 7. DTO/POJO
-        if (TypeChecker.isDto(valueClass)) {
-            return processDtoWithAnnotations(value);
-        }
-
-        // 8. 기타
-        return truncateString(value.toString(), MAX_FIELD_LENGTH);
+        CapturePlan plan = CapturePlan.of(value.getClass());
+
+        return switch (plan.kind()) {
+            // 1. Primitive/Wrapper/String
+            case SCALAR -> truncateString(String.valueOf(value), MAX_STRING_LENGTH, budget);
+            // 2. Enum
+            case ENUM -> charged(((Enum<?>) value).name(), budget);
+            // 3. Collection
+            case COLLECTION -> processCollection((Collection<?>) value, budget);
+            // 4. Map
+            case MAP -> processMap((Map<?, ?>) value, budget);
+            // 5. Array
+            case ARRAY -> processArray(value, budget);
+            // 6. Entity
+            case ENTITY -> charged(processEntity(value, plan), budget);
+            // 7. DTO/POJO
+            case DTO -> processDtoWithAnnotations(value, plan, budget);
+            // 8. 기타
+            case OTHER -> boundedToString(value, MAX_FIELD_LENGTH, budget);
+        };
     }
 
     /**
@@ -80,37 +63,24 @@ public final class ValueProcessor {
      * 3개 미만: 전부 표시
      * 3개 이상: 앞 3개만 표시 + "... (N more items)"
      */
-    private static Object processCollection(Collection<?> collection) {
+    private static Object processCollection(Collection<?> collection, CaptureBudget budget) {
         if (collection.isEmpty()) {
             return List.of();
         }
 
         int size = collection.size();
 
-        // 3개 미만이면 전부 표시
-        if (size < 3) {
-            List<Object> processed = new ArrayList<>();
-            for (Object item : collection) {
-                processed.add(processValue(item));
-            }
-            return processed;
+        if (!budget.canDescend()) {
+            return charged(collection.getClass().getSimpleName() + "[" + size + " items]", budget);
         }
 
-        // 3개 이상이면 앞 3개만 표시
-        List<Object> processed = new ArrayList<>();
-        int count = 0;
+        List<Object> processed = collectItems(collection, Math.min(size, 3), budget);
 
-        for (Object item : collection) {
-            if (count >= 3) {
-                break;
-            }
-            processed.add(processValue(item));
-            count++;
+        // 3개 이상이면 나머지 개수 표시
+        if (size >= 3) {
+            processed.add(charged("... (" + (size - 3) + " more items)", budget));
         }
 
-        // 나머지 개수 표시
-        processed.add("... (" + (size - 3) + " more items)");
-
         return processed;
     }
 
@@ -119,41 +89,24 @@ public final class ValueProcessor {
      * 3개 미만: 전부 표시
      * 3개 이상: 앞 3개만 표시 + "... (N more entries)"
      */
-    private static Object processMap(Map<?, ?> map) {
+    private static Object processMap(Map<?, ?> map, CaptureBudget budget) {
         if (map.isEmpty()) {
             return Map.of();
         }
 
         int size = map.size();
 
-        // 3개 미만이면 전부 표시
-        if (size < 3) {
-            Map<String, Object> processed = new LinkedHashMap<>();
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                String key = String.valueOf(entry.getKey());
-                Object value = entry.getValue();
-                processed.put(key, processValue(value));
-            }
-            return processed;
+        if (!budget.canDescend()) {
+            return charged("Map[" + size + " entries]", budget);
         }
 
-        // 3개 이상이면 앞 3개만 표시
-        Map<String, Object> processed = new LinkedHashMap<>();
-        int count = 0;
+        Map<String, Object> processed = collectEntries(map, Math.min(size, 3), budget);
 
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (count >= 3) {
-                break;
-            }
-            String key = String.valueOf(entry.getKey());
-            Object value = entry.getValue();
-            processed.put(key, processValue(value));
-            count++;
+        // 3개 이상이면 나머지 개수 표시
+        if (size >= 3) {
+            processed.put("...", charged("(" + (size - 3) + " more entries)", budget));
         }
 
-        // 나머지 개수 표시
-        processed.put("...", "(" + (size - 3) + " more entries)");
-
         return processed;
     }
 
@@ -162,32 +115,92 @@ public final class ValueProcessor {
      * 3개 미만: 전부 표시
      * 3개 이상: 앞 3개만 표시 + "... (N more items)"
      */
-    private static Object processArray(Object array) {
+    private static Object processArray(Object array, CaptureBudget budget) {
         int length = Array.getLength(array);
 
         if (length == 0) {
             return List.of();
         }
 
-        List<Object> processed = new ArrayList<>();
+        if (!budget.canDescend()) {
+            return charged(array.getClass().getComponentType().getSimpleName() + "[" + length + " items]", budget);
+        }
+
+        int limit = Math.min(length, 3);
+        List<Object> processed = new ArrayList<>(limit + 1);
 
-        // 3개 미만이면 전부 표시
-        if (length < 3) {
-            for (int i = 0; i < length; i++) {
-                Object item = Array.get(array, i);
-                processed.add(processValue(item));
+        budget.enter();
+        try {
+            for (int i = 0; i < limit; i++) {
+                if (budget.isExhausted()) {
+                    processed.add(TRUNCATED_VALUE);
+                    return processed;
+                }
+                processed.add(processValue(Array.get(array, i), budget));
             }
-            return processed;
+        } finally {
+            budget.exit();
         }
 
-        // 3개 이상이면 앞 3개만 표시
-        for (int i = 0; i < 3; i++) {
-            Object item = Array.get(array, i);
-            processed.add(processValue(item));
+        // 3개 이상이면 나머지 개수 표시
+        if (length >= 3) {
+            processed.add(charged("... (" + (length - 3) + " more items)", budget));
         }
 
-        // 나머지 개수 표시
-        processed.add("... (" + (length - 3) + " more items)");
+        return processed;
+    }
+
+    /**
+     * 앞에서부터 limit 개 요소 변환 (예산 소진 시 잘림 표시 후 중단)
+     */
+    private static List<Object> collectItems(Collection<?> collection, int limit, CaptureBudget budget) {
+        List<Object> processed = new ArrayList<>(limit + 1);
+        int count = 0;
+
+        budget.enter();
+        try {
+            for (Object item : collection) {
+                if (count >= limit) {
+                    break;
+                }
+                if (budget.isExhausted()) {
+                    processed.add(TRUNCATED_VALUE);
+                    break;
+                }
+                processed.add(processValue(item, budget));
+                count++;
+            }
+        } finally {
+            budget.exit();
+        }
+
+        return processed;
+    }
+
+    /**
+     * 앞에서부터 limit 개 엔트리 변환 (예산 소진 시 잘림 표시 후 중단)
+     */
+    private static Map<String, Object> collectEntries(Map<?, ?> map, int limit, CaptureBudget budget) {
+        Map<String, Object> processed = new LinkedHashMap<>();
+        int count = 0;
+
+        budget.enter();
+        try {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (count >= limit) {
+                    break;
+                }
+                if (budget.isExhausted()) {
+                    processed.put("...", TRUNCATED_VALUE);
+                    break;
+                }
+                String key = charged(String.valueOf(entry.getKey()), budget);
+                processed.put(key, processValue(entry.getValue(), budget));
+                count++;
+            }
+        } finally {
+            budget.exit();
+        }
 
         return processed;
     }
@@ -195,92 +208,136 @@ public final class ValueProcessor {
     /**
      * Entity 처리 (ID만 표시)
      */
-    private static Object processEntity(Object entity) {
+    private static String processEntity(Object entity, CapturePlan plan) {
+        if (plan.idGetter() == null) {
+            return plan.simpleName() + "(?)";
+        }
+
         try {
-            Method getIdMethod = entity.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(entity);
-            return entity.getClass().getSimpleName() + "(id=" + id + ")";
-        } catch (Exception e) {
-            return entity.getClass().getSimpleName() + "(?)";
+            Object id = (Object) plan.idGetter().invokeExact(entity);
+            return plan.simpleName() + "(id=" + id + ")";
+        } catch (Throwable e) {
+            return plan.simpleName() + "(?)";
         }
     }
 
     /**
      * DTO를 Map으로 변환 (필드 어노테이션 체크)
-     * @Sensitive, @ExcludeValue 어노테이션 처리
+     * @Sensitive, @ExcludeValue 판별과 필드 접근자는 CapturePlan에 캐싱된 것을 사용
      */
-    private static Object processDtoWithAnnotations(Object dto) {
-        try {
-            Map<String, Object> sanitized = new LinkedHashMap<>();
-            Class<?> clazz = dto.getClass();
-            Field[] fields = clazz.getDeclaredFields();
-
-            for (Field field : fields) {
-                field.setAccessible(true);
-                String fieldName = field.getName();
-
-                // @ExcludeValue 체크
-                if (field.isAnnotationPresent(ExcludeValue.class)) {
-                    sanitized.put(fieldName, EXCLUDED_VALUE);
-                    continue;
-                }
+    private static Object processDtoWithAnnotations(Object dto, CapturePlan plan, CaptureBudget budget) {
+        CapturePlan.FieldPlan[] fields = plan.fields();
+
+        if (fields == null) {
+            return boundedToString(dto, MAX_FIELD_LENGTH, budget);
+        }
+
+        if (!budget.canDescend()) {
+            return charged(plan.simpleName() + "[nested]", budget);
+        }
 
-                // @Sensitive 체크
-                if (field.isAnnotationPresent(Sensitive.class)) {
-                    sanitized.put(fieldName, MASKED_VALUE);
-                    continue;
+        Map<String, Object> sanitized = new LinkedHashMap<>(Math.max(16, fields.length * 2));
+
+        budget.enter();
+        try {
+            for (CapturePlan.FieldPlan field : fields) {
+                if (budget.isExhausted()) {
+                    sanitized.put("...", TRUNCATED_VALUE);
+                    break;
                 }
 
-                // 일반 필드
-                try {
-                    Object fieldValue = field.get(dto);
-                    sanitized.put(fieldName, sanitizeFieldValue(fieldValue));
-                } catch (IllegalAccessException e) {
-                    sanitized.put(fieldName, "<error>");
+                budget.charge(field.name().length());
+
+                switch (field.mode()) {
+                    case EXCLUDE -> sanitized.put(field.name(), charged(EXCLUDED_VALUE, budget));
+                    case MASK -> sanitized.put(field.name(), charged(MASKED_VALUE, budget));
+                    case INCLUDE -> {
+                        try {
+                            sanitized.put(field.name(), sanitizeFieldValue(field.read(dto), budget));
+                        } catch (Throwable e) {
+                            sanitized.put(field.name(), "<error>");
+                        }
+                    }
                 }
             }
-
-            return sanitized;
-
-        } catch (Exception e) {
-            log.debug("DTO 변환 실패: {}", dto.getClass().getName(), e);
-            return truncateString(dto.toString(), MAX_FIELD_LENGTH);
+        } finally {
+            budget.exit();
         }
+
+        return sanitized;
     }
 
     /**
      * 필드 값 정리 (중첩 객체 간략화)
+     * 10개 이하의 Collection/Map은 요소를 모두 변환, 초과 시 크기만 표시
      */
-    private static Object sanitizeFieldValue(Object value) {
+    private static Object sanitizeFieldValue(Object value, CaptureBudget budget) {
         if (value == null) {
             return null;
         }
 
         // Primitive/Wrapper/String
-        if (TypeChecker.isPrimitiveOrWrapper(value.getClass()) || value instanceof String) {
-            return truncateString(String.valueOf(value), MAX_STRING_LENGTH);
+        if (CapturePlan.of(value.getClass()).kind() == CapturePlan.Kind.SCALAR) {
+            return truncateString(String.valueOf(value), MAX_STRING_LENGTH, budget);
         }
 
         // Collection
-        if (value instanceof Collection) {
-            Collection<?> collection = (Collection<?>) value;
-            if (collection.size() > 10) {
-                return collection.getClass().getSimpleName() + "[" + collection.size() + " items]";
+        if (value instanceof Collection<?> collection) {
+            if (collection.size() > 10 || !budget.canDescend()) {
+                return charged(collection.getClass().getSimpleName() + "[" + collection.size() + " items]", budget);
             }
-            return value;
+            return collectItems(collection, collection.size(), budget);
         }
 
         // Map
-        if (value instanceof Map) {
-            Map<?, ?> map = (Map<?, ?>) value;
-            if (map.size() > 10) {
-                return "Map[" + map.size() + " entries]";
+        if (value instanceof Map<?, ?> map) {
+            if (map.size() > 10 || !budget.canDescend()) {
+                return charged("Map[" + map.size() + " entries]", budget);
             }
-            return value;
+            return collectEntries(map, map.size(), budget);
         }
 
         // 중첩 DTO
-        return value.getClass().getSimpleName() + "[nested]";
+        return charged(value.getClass().getSimpleName() + "[nested]", budget);
+    }
+
+    /**
+     * 예산 안에서 문자열 자르기
+     * 남은 예산이 maxLength보다 작으면 남은 예산만큼만 남긴다.
+     */
+    private static String truncateString(String str, int maxLength, CaptureBudget budget) {
+        String truncated = truncateString(str, Math.min(maxLength, budget.remaining()));
+        budget.charge(truncated.length());
+        return truncated;
+    }
+
+    /**
+     * 예산 안에서 문자열 변환
+     * 남은 예산이 없으면 toString()을 호출하지 않고, CharSequence는 필요한 앞부분만 복사한다.
+     */
+    static String boundedToString(Object value, int maxLength, CaptureBudget budget) {
+        int limit = Math.min(maxLength, budget.remaining());
+        if (limit <= 0) {
+            return charged(TRUNCATED_VALUE, budget);
+        }
+
+        if (value instanceof CharSequence sequence) {
+            int length = sequence.length();
+            if (length <= limit) {
+                return charged(sequence.toString(), budget);
+            }
+            return charged(new StringBuilder(limit + TRUNCATED_VALUE.length())
+                    .append(sequence, 0, limit)
+                    .append(TRUNCATED_VALUE)
+                    .toString(), budget);
+        }
+
+        return truncateString(String.valueOf(value), maxLength, budget);
+    }
+
+    private static String charged(String value, CaptureBudget budget) {
+        budget.charge(value.length());
+        return value;
     }
 
     /**
@@ -305,6 +362,13 @@ public final class ValueProcessor {
         return MASKED_VALUE;
     }
 
+    /**
+     * 잘림 표시 값 반환
+     */
+    public static String getTruncatedValue() {
+        return TRUNCATED_VALUE;
+    }
+
     /**
      * 제외 값 반환
      */
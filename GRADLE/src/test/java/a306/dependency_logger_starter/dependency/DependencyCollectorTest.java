@@ -0,0 +1,130 @@
+package a306.dependency_logger_starter.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import a306.dependency_logger_starter.dependency.client.DependencyLogSender;
+import a306.dependency_logger_starter.dependency.dto.ComponentRequest;
+import a306.dependency_logger_starter.dependency.dto.DependencyRelation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+@DisplayName("DependencyCollector 매니페스트 수집 테스트")
+class DependencyCollectorTest {
+
+    @Test
+    void Bean이_아닌_매니페스트_항목은_버리고_매니페스트에_없는_Bean은_리플렉션으로_수집한다() {
+        DependencyLogSender sender = mock(DependencyLogSender.class);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            URL fixture = getClass().getResource("/manifest/collector/");
+            context.setClassLoader(new URLClassLoader(new URL[]{fixture}, getClass().getClassLoader()));
+            context.registerBean(ObjectMapper.class, ObjectMapper::new);
+            context.registerBean(DependencyLogSender.class, () -> sender);
+            context.registerBean(DatabaseDetector.class, () -> mock(DatabaseDetector.class));
+            // LegacyService 는 매니페스트에만 있고 Bean 으로 등록되지 않음 (@Profile 등으로 제외된 경우)
+            context.register(OrderController.class, OrderService.class, PaymentService.class, DependencyCollector.class);
+            context.refresh();
+
+            context.getBean(DependencyCollector.class).collectAndReport();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ComponentRequest>> components = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DependencyRelation>> relations = ArgumentCaptor.forClass(List.class);
+        verify(sender).report(any(), components.capture(), relations.capture(), anyList());
+
+        assertThat(components.getValue())
+                .extracting(ComponentRequest::name)
+                .containsExactlyInAnyOrder("OrderController", "OrderService", "PaymentService");
+        assertThat(relations.getValue()).containsExactlyInAnyOrder(
+                new DependencyRelation("OrderController", "OrderService"),
+                new DependencyRelation("PaymentService", "OrderService"));
+    }
+
+    @Test
+    void 매니페스트에_없는_Bean만_이름으로_조회하고_매니페스트로_수집한_Bean은_생성하지_않는다() {
+        DependencyLogSender sender = mock(DependencyLogSender.class);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            URL fixture = getClass().getResource("/manifest/collector/");
+            context.setClassLoader(new URLClassLoader(new URL[]{fixture}, getClass().getClassLoader()));
+            context.registerBean(ObjectMapper.class, ObjectMapper::new);
+            context.registerBean(DependencyLogSender.class, () -> sender);
+            context.registerBean(DatabaseDetector.class, () -> mock(DatabaseDetector.class));
+            context.register(OrderController.class, OrderService.class, PaymentService.class, DependencyCollector.class);
+            // 매니페스트에 있는 지연 초기화 Bean: 보충 수집이 어노테이션 전체 스캔을 하면 이 Bean 이 생성됨
+            context.registerBean("reportService", ReportService.class, definition -> definition.setLazyInit(true));
+            context.refresh();
+
+            context.getBean(DependencyCollector.class).collectAndReport();
+
+            assertThat(context.getBeanFactory().containsSingleton("reportService")).isFalse();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ComponentRequest>> components = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DependencyRelation>> relations = ArgumentCaptor.forClass(List.class);
+        verify(sender).report(any(), components.capture(), relations.capture(), anyList());
+
+        assertThat(components.getValue())
+                .extracting(ComponentRequest::name)
+                .containsExactlyInAnyOrder("OrderController", "OrderService", "PaymentService", "ReportService");
+        assertThat(relations.getValue()).contains(
+                new DependencyRelation("ReportService", "OrderService"),
+                new DependencyRelation("PaymentService", "OrderService"));
+    }
+
+    @RestController
+    static class OrderController {
+
+        private final OrderService orderService;
+
+        OrderController(OrderService orderService) {
+            this.orderService = orderService;
+        }
+    }
+
+    @Service
+    static class OrderService {
+    }
+
+    static class LegacyService {
+    }
+
+    /**
+     * 매니페스트 프로세서 없이 빌드된 모듈의 Bean
+     */
+    @Service
+    static class PaymentService {
+
+        private final OrderService orderService;
+
+        PaymentService(OrderService orderService) {
+            this.orderService = orderService;
+        }
+    }
+
+    @Service
+    static class ReportService {
+
+        private final OrderService orderService;
+
+        ReportService(OrderService orderService) {
+            this.orderService = orderService;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package a306.dependency_logger_starter.dependency.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ComponentManifestLoader 테스트")
+class ComponentManifestLoaderTest {
+
+    private final ComponentManifestLoader loader = new ComponentManifestLoader(new ObjectMapper());
+
+    @Test
+    void 매니페스트를_읽어_컴포넌트와_의존성을_반환한다() {
+        ComponentManifest manifest = loader.load(fixtures("module-a"));
+
+        assertThat(manifest).isNotNull();
+        assertThat(manifest.version()).isEqualTo(1);
+        assertThat(manifest.components())
+                .extracting(ComponentManifest.Entry::name)
+                .containsExactly("OrderController", "OrderServiceImpl");
+
+        ComponentManifest.Entry controller = manifest.components().get(0);
+        assertThat(controller.type()).isEqualTo("com.example.order.OrderController");
+        assertThat(controller.layer()).isEqualTo("CONTROLLER");
+        assertThat(controller.dependencies())
+                .extracting(ComponentManifest.Dependency::type)
+                .containsExactly("com.example.order.OrderService");
+        assertThat(manifest.components().get(1).interfaces()).containsExactly("com.example.order.OrderService");
+    }
+
+    @Test
+    void 여러_모듈의_매니페스트를_합친다() {
+        ComponentManifest manifest = loader.load(fixtures("module-a", "module-b"));
+
+        assertThat(manifest).isNotNull();
+        assertThat(manifest.components())
+                .extracting(ComponentManifest.Entry::name)
+                .containsExactly("OrderController", "OrderServiceImpl", "PaymentRepository");
+    }
+
+    @Test
+    void 매니페스트가_없으면_null을_반환한다() {
+        assertThat(loader.load(fixtures())).isNull();
+    }
+
+    @Test
+    void 지원하지_않는_버전이_있으면_null을_반환한다() {
+        assertThat(loader.load(fixtures("module-a", "unsupported"))).isNull();
+    }
+
+    @Test
+    void 읽을_수_없는_매니페스트가_있으면_null을_반환한다() {
+        assertThat(loader.load(fixtures("module-a", "malformed"))).isNull();
+    }
+
+    /**
+     * 지정한 fixture 디렉터리만 클래스패스로 가지는 클래스로더
+     */
+    private static ClassLoader fixtures(String... modules) {
+        URL[] urls = Arrays.stream(modules)
+                .map(module -> ComponentManifestLoaderTest.class.getResource("/manifest/" + module + "/"))
+                .toArray(URL[]::new);
+        return new URLClassLoader(urls, null);
+    }
+}
@@ -0,0 +1,41 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import a306.dependency_logger_starter.logging.encoder.LogEventEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+@DisplayName("AsyncLogDispatcherMetrics 테스트")
+class AsyncLogDispatcherMetricsTest {
+
+    @Test
+    void 비동기_Dispatcher_카운터를_지표로_등록한다() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        try (AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(
+                new LogEventEncoder(new ObjectMapper()), 16, 4, OverflowPolicy.DROP_DEBUG_FIRST)) {
+            beanFactory.registerSingleton("asyncLogDispatcher", dispatcher);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            new AsyncLogDispatcherMetrics(beanFactory.getBeanProvider(AsyncLogDispatcher.class)).bindTo(registry);
+
+            assertThat(registry.find("loglens.dispatch.enqueued").functionCounter()).isNotNull();
+            assertThat(registry.find("loglens.dispatch.written").functionCounter()).isNotNull();
+            assertThat(registry.find("loglens.dispatch.dropped").functionCounter()).isNotNull();
+            assertThat(registry.find("loglens.dispatch.queued").gauge()).isNotNull();
+        }
+    }
+
+    @Test
+    void 동기_모드면_아무것도_등록하지_않는다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new AsyncLogDispatcherMetrics(new DefaultListableBeanFactory().getBeanProvider(AsyncLogDispatcher.class))
+                .bindTo(registry);
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package a306.dependency_logger_starter.logging.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SeverityRingBuffer 테스트")
+class SeverityRingBufferTest {
+
+    private static final int INFO = 0;
+    private static final int ERROR = 1;
+
+    @Test
+    void 레인이_달라도_적재_순서대로_꺼낸다() {
+        SeverityRingBuffer<String> buffer = new SeverityRingBuffer<>(8, 2);
+
+        buffer.offer("info-1", INFO);
+        buffer.offer("error-1", ERROR);
+        buffer.offer("info-2", INFO);
+        buffer.offer("error-2", ERROR);
+
+        assertThat(drain(buffer)).containsExactly("info-1", "error-1", "info-2", "error-2");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 전체_적재_수는_capacity로_제한된다() {
+        SeverityRingBuffer<String> buffer = new SeverityRingBuffer<>(4, 2);
+
+        assertThat(buffer.offer("info-1", INFO)).isTrue();
+        assertThat(buffer.offer("error-1", ERROR)).isTrue();
+        assertThat(buffer.offer("info-2", INFO)).isTrue();
+        assertThat(buffer.offer("error-2", ERROR)).isTrue();
+
+        assertThat(buffer.offer("error-3", ERROR)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 더_낮은_심각도의_가장_오래된_이벤트만_밀어낸다() {
+        SeverityRingBuffer<String> buffer = new SeverityRingBuffer<>(4, 2);
+        buffer.offer("error-1", ERROR);
+        buffer.offer("info-1", INFO);
+        buffer.offer("info-2", INFO);
+        buffer.offer("error-2", ERROR);
+
+        assertThat(buffer.evictBelow(ERROR)).isTrue();
+        assertThat(buffer.offer("error-3", ERROR)).isTrue();
+
+        assertThat(drain(buffer)).containsExactly("error-1", "info-2", "error-2", "error-3");
+    }
+
+    @Test
+    void 더_낮은_심각도가_없으면_밀어내지_않는다() {
+        SeverityRingBuffer<String> buffer = new SeverityRingBuffer<>(2, 2);
+        buffer.offer("error-1", ERROR);
+        buffer.offer("info-1", INFO);
+
+        assertThat(buffer.evictBelow(INFO)).isFalse();
+
+        buffer.poll();
+        buffer.poll();
+        buffer.offer("error-2", ERROR);
+        buffer.offer("error-3", ERROR);
+
+        assertThat(buffer.evictBelow(ERROR)).isFalse();
+        assertThat(drain(buffer)).containsExactly("error-2", "error-3");
+    }
+
+    @Test
+    void 레인이_하나면_FIFO로_동작한다() {
+        SeverityRingBuffer<String> buffer = new SeverityRingBuffer<>(2, 1);
+        buffer.offer("a", ERROR);
+        buffer.offer("b", INFO);
+
+        assertThat(buffer.offer("c", INFO)).isFalse();
+        assertThat(buffer.poll()).isEqualTo("a");
+        assertThat(buffer.offer("c", INFO)).isTrue();
+        assertThat(drain(buffer)).containsExactly("b", "c");
+    }
+
+    private static List<String> drain(SeverityRingBuffer<String> buffer) {
+        List<String> drained = new ArrayList<>();
+        String element;
+        while ((element = buffer.poll()) != null) {
+            drained.add(element);
+        }
+        return drained;
+    }
+}
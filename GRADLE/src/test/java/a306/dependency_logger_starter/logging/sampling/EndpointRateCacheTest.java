@@ -0,0 +1,56 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EndpointRateCache 테스트")
+class EndpointRateCacheTest {
+
+    @Test
+    void 저장한_비율을_조회한다() {
+        EndpointRateCache cache = new EndpointRateCache(8);
+
+        cache.put("/api/users", 0.5);
+
+        assertThat(cache.get("/api/users")).isEqualTo(0.5);
+        assertThat(cache.get("/api/orders")).isNull();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래된_엔드포인트부터_밀려난다() {
+        EndpointRateCache cache = new EndpointRateCache(8);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("/api/items/" + i, 1.0);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+        assertThat(cache.get("/api/items/0")).isNull();
+        assertThat(cache.get("/api/items/99")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 가득_찬_뒤에도_새_엔드포인트는_캐시된다() {
+        EndpointRateCache cache = new EndpointRateCache(8);
+        for (int i = 0; i < 8; i++) {
+            cache.put("/api/items/" + i, 1.0);
+        }
+
+        cache.put("/api/new", 0.1);
+
+        assertThat(cache.get("/api/new")).isEqualTo(0.1);
+    }
+
+    @Test
+    void 최근에_조회된_엔드포인트는_세대가_바뀌어도_남는다() {
+        EndpointRateCache cache = new EndpointRateCache(8);
+        cache.put("/api/hot", 0.3);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("/api/items/" + i, 1.0);
+            assertThat(cache.get("/api/hot")).isEqualTo(0.3);
+        }
+    }
+}
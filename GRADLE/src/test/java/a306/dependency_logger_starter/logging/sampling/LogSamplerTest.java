@@ -0,0 +1,152 @@
+package a306.dependency_logger_starter.logging.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import a306.dependency_logger_starter.logging.dispatch.LogDispatcher;
+import a306.dependency_logger_starter.logging.encoder.LogEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@DisplayName("LogSampler 테스트")
+class LogSamplerTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogSamplerTest.class);
+
+    private final RecordingDispatcher dispatcher = new RecordingDispatcher();
+
+    @Test
+    void 엔드포인트_비율이_레이어_비율보다_우선한다() {
+        SamplingProperties properties = properties(0.0);
+        properties.setLayerRates(Map.of("controller", 0.0));
+        properties.setEndpointRates(Map.of("/api/health/**", 1.0));
+        LogSampler sampler = new LogSampler(properties);
+
+        call(sampler, "trace-1", "/api/health/live");
+        call(sampler, "trace-2", "/api/users");
+
+        assertThat(dispatcher.traceIds()).containsExactly("trace-1", "trace-1");
+        assertThat(sampler.getEmittedCount()).isEqualTo(2);
+        assertThat(sampler.getSuppressedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 레이어_비율은_대소문자를_구분하지_않는다() {
+        SamplingProperties properties = properties(0.0);
+        properties.setLayerRates(Map.of("controller", 1.0));
+        LogSampler sampler = new LogSampler(properties);
+
+        call(sampler, "trace-1", "/api/users");
+
+        assertThat(dispatcher.events).hasSize(2);
+    }
+
+    @Test
+    void 같은_trace는_항상_같은_샘플링_결과를_가진다() {
+        LogSampler sampler = new LogSampler(properties(0.5));
+
+        for (int i = 0; i < 50; i++) {
+            String traceId = "trace-" + i;
+            dispatcher.events.clear();
+
+            call(sampler, traceId, "/api/users");
+            boolean firstSampled = !dispatcher.events.isEmpty();
+            dispatcher.events.clear();
+
+            call(sampler, traceId, "/api/users");
+            assertThat(!dispatcher.events.isEmpty()).isEqualTo(firstSampled);
+        }
+    }
+
+    @Test
+    void 실패하면_보관된_이벤트를_함께_출력한다() {
+        LogSampler sampler = new LogSampler(properties(0.0));
+
+        sampler.dispatch(dispatcher, LOGGER, request("trace-1", "/api/orders"));
+        sampler.dispatch(dispatcher, LOGGER, failure("trace-1"));
+
+        assertThat(dispatcher.events)
+                .extracting(LogEvent::type)
+                .containsExactly(LogEvent.Type.REQUEST, LogEvent.Type.FAILURE);
+        assertThat(sampler.getFlushedCount()).isEqualTo(1);
+        assertThat(sampler.getSuppressedCount()).isZero();
+    }
+
+    @Test
+    void 초당_최대_이벤트_수를_넘으면_샘플링하지_않는다() {
+        SamplingProperties properties = properties(1.0);
+        properties.setMaxBufferedEvents(0);
+        properties.getAdaptive().setEnabled(true);
+        properties.getAdaptive().setMaxEventsPerSecond(3);
+        LogSampler sampler = new LogSampler(properties);
+
+        for (int i = 0; i < 10; i++) {
+            sampler.dispatch(dispatcher, LOGGER, request("trace-" + i, "/api/users"));
+            sampler.dispatch(dispatcher, LOGGER, response("trace-" + i, "/api/users"));
+        }
+
+        // 같은 초 안에서는 3번만 허용 (초 경계를 넘으면 조금 더 허용될 수 있음)
+        assertThat(sampler.getEmittedCount()).isBetween(6L, 12L);
+        assertThat(sampler.getSuppressedCount()).isEqualTo(20 - sampler.getEmittedCount());
+    }
+
+    @Test
+    void 캐시_크기를_넘는_엔드포인트도_올바른_비율로_판단한다() {
+        SamplingProperties properties = properties(1.0);
+        properties.setEndpointRates(Map.of("/api/internal/**", 0.0));
+        LogSampler sampler = new LogSampler(properties);
+
+        for (int i = 0; i < 3000; i++) {
+            call(sampler, "trace-" + i, "/api/items/" + i);
+            call(sampler, "internal-" + i, "/api/internal/" + i);
+        }
+
+        assertThat(dispatcher.traceIds()).allMatch(traceId -> traceId.startsWith("trace-"));
+        assertThat(dispatcher.events).hasSize(6000);
+    }
+
+    private static SamplingProperties properties(double defaultRate) {
+        SamplingProperties properties = new SamplingProperties();
+        properties.setEnabled(true);
+        properties.setDefaultRate(defaultRate);
+        return properties;
+    }
+
+    private void call(LogSampler sampler, String traceId, String endpoint) {
+        sampler.dispatch(dispatcher, LOGGER, request(traceId, endpoint));
+        sampler.dispatch(dispatcher, LOGGER, response(traceId, endpoint));
+    }
+
+    private static LogEvent request(String traceId, String endpoint) {
+        return LogEvent.request(System.currentTimeMillis(), traceId, "127.0.0.1", "com.example",
+                "OrderController", "CONTROLLER", "handle", "GET", endpoint, null, null);
+    }
+
+    private static LogEvent response(String traceId, String endpoint) {
+        return LogEvent.response(System.currentTimeMillis(), traceId, "127.0.0.1", "com.example",
+                "OrderController", "CONTROLLER", "handle", 5, "GET", endpoint, null, 200, null);
+    }
+
+    private static LogEvent failure(String traceId) {
+        return LogEvent.failure(System.currentTimeMillis(), traceId, "127.0.0.1", "com.example",
+                "OrderController", "CONTROLLER", "handle", 5, "IllegalStateException", "boom", null);
+    }
+
+    private static final class RecordingDispatcher implements LogDispatcher {
+
+        private final List<LogEvent> events = new ArrayList<>();
+
+        @Override
+        public void dispatch(Logger logger, LogEvent event) {
+            events.add(event);
+        }
+
+        List<String> traceIds() {
+            return events.stream().map(LogEvent::traceId).toList();
+        }
+    }
+}
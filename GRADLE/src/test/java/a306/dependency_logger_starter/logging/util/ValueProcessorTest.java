@@ -0,0 +1,62 @@
+package a306.dependency_logger_starter.logging.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ValueProcessor 테스트")
+class ValueProcessorTest {
+
+    @Test
+    void 예산이_소진되면_toString을_호출하지_않는다() {
+        CountingValue value = new CountingValue();
+        CaptureBudget budget = CaptureBudget.of(10, 4);
+        budget.charge(100);
+
+        String processed = ValueProcessor.boundedToString(value, 200, budget);
+
+        assertThat(processed).isEqualTo(ValueProcessor.getTruncatedValue());
+        assertThat(value.toStringCalls.get()).isZero();
+    }
+
+    @Test
+    void 예산이_남아_있으면_toString_결과를_최대_길이로_자른다() {
+        CountingValue value = new CountingValue();
+
+        String processed = ValueProcessor.boundedToString(value, 5, CaptureBudget.of(1000, 4));
+
+        assertThat(processed).isEqualTo("count" + ValueProcessor.getTruncatedValue());
+        assertThat(value.toStringCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void CharSequence는_필요한_앞부분만_복사한다() {
+        StringBuilder large = new StringBuilder("x".repeat(100_000));
+
+        Object processed = ValueProcessor.processValue(large, CaptureBudget.of(50, 4));
+
+        assertThat(processed).isEqualTo("x".repeat(50) + ValueProcessor.getTruncatedValue());
+    }
+
+    @Test
+    void CharSequence는_최대_필드_길이를_넘지_않는다() {
+        StringBuilder large = new StringBuilder("y".repeat(10_000));
+
+        Object processed = ValueProcessor.processValue(large, CaptureBudget.unlimited());
+
+        assertThat((String) processed).startsWith("y".repeat(200)).hasSize(200 + ValueProcessor.getTruncatedValue().length());
+    }
+
+    private static final class CountingValue {
+
+        private final AtomicInteger toStringCalls = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            toStringCalls.incrementAndGet();
+            return "counting-value";
+        }
+    }
+}